@@ -128,7 +128,15 @@
         return data;
     };
 
+    /** Revoca el token en el backend y limpia la sesion local aunque la revocacion falle. */
     const logout = () => {
+        if (obtenerToken()) {
+            fetch(`${API_BASE_URL}/api/auth/logout`, {
+                method: 'POST',
+                headers: construirHeaders(),
+                keepalive: true,
+            }).catch(() => {});
+        }
         limpiarSesion();
     };
 
@@ -60,6 +60,8 @@
         return wrapper;
     };
 
+    const STREAM_RETRY_MS = 5000;
+
     class InterestedDeck {
         constructor() {
             this.projectId = Number(document.body.dataset.projectId);
@@ -107,6 +109,9 @@
             this.users = [];
             this.currentIndex = 0;
             this.totalInterested = 0;
+            this.nextCursor = null;
+            this.isLoadingMore = false;
+            this.streamController = null;
             this.acceptedCount = 0;
             this.summaryCallback = null;
             this.isDragging = false;
@@ -142,7 +147,7 @@
                 (user) => (user.status || '').toUpperCase() === 'DISPONIBLE',
             ).length;
             const detail = {
-                total: users.length,
+                total: Math.max(Number(this.totalInterested || 0), users.length),
                 available,
                 accepted: Number(this.acceptedCount || 0),
             };
@@ -182,9 +187,11 @@
                 const users = Array.isArray(response?.interestedUsers) ? response.interestedUsers : [];
                 this.users = users;
                 this.currentIndex = 0;
+                this.nextCursor = response?.nextCursor || null;
                 this.totalInterested = Number(response?.totalInterested ?? users.length);
                 await this.loadProjectInfo(response?.project);
                 this.renderCurrentUser();
+                this.openStream();
             } catch (error) {
                 console.error('Error al cargar interesados:', error);
                 this.showEmptyState('No se pudo cargar la lista de interesados. Intenta mas tarde.');
@@ -192,6 +199,110 @@
             }
         }
 
+        // La lista llega paginada: se pide la pagina siguiente cuando quedan pocas postulaciones.
+        async loadMoreUsers() {
+            if (!this.nextCursor || this.isLoadingMore || !window.apiClient) {
+                return;
+            }
+            this.isLoadingMore = true;
+            try {
+                const cursor = encodeURIComponent(this.nextCursor);
+                const response = await window.apiClient.get(
+                    `/api/projects/${this.projectId}/interested?cursor=${cursor}`,
+                );
+                const users = Array.isArray(response?.interestedUsers) ? response.interestedUsers : [];
+                const known = new Set(this.users.map((user) => user.id));
+                this.users.push(...users.filter((user) => !known.has(user.id)));
+                this.nextCursor = response?.nextCursor || null;
+            } catch (error) {
+                console.error('Error al cargar mas interesados:', error);
+            } finally {
+                this.isLoadingMore = false;
+            }
+        }
+
+        // Escucha nuevos interesados por SSE. Se usa fetch en lugar de EventSource para poder
+        // enviar el token en el encabezado Authorization.
+        async openStream() {
+            const token = window.apiClient?.auth?.getToken();
+            if (this.streamController || !token) {
+                return;
+            }
+            const controller = new AbortController();
+            this.streamController = controller;
+            window.addEventListener('beforeunload', () => controller.abort(), { once: true });
+            try {
+                const response = await fetch(
+                    `${window.apiClient.baseUrl}/api/projects/${this.projectId}/interested/stream`,
+                    {
+                        headers: { Accept: 'text/event-stream', Authorization: `Bearer ${token}` },
+                        signal: controller.signal,
+                    },
+                );
+                if (!response.ok || !response.body) {
+                    throw new Error(`HTTP ${response.status}`);
+                }
+                const reader = response.body.getReader();
+                const decoder = new TextDecoder();
+                let buffer = '';
+                for (;;) {
+                    const { value, done } = await reader.read();
+                    if (done) {
+                        break;
+                    }
+                    buffer += decoder.decode(value, { stream: true }).replace(/\r\n/g, '\n');
+                    let boundary = buffer.indexOf('\n\n');
+                    while (boundary >= 0) {
+                        this.handleStreamEvent(buffer.slice(0, boundary));
+                        buffer = buffer.slice(boundary + 2);
+                        boundary = buffer.indexOf('\n\n');
+                    }
+                }
+            } catch (error) {
+                if (!controller.signal.aborted) {
+                    console.warn('Stream de interesados interrumpido:', error);
+                }
+            } finally {
+                this.streamController = null;
+            }
+            if (!controller.signal.aborted) {
+                setTimeout(() => this.openStream(), STREAM_RETRY_MS);
+            }
+        }
+
+        handleStreamEvent(raw) {
+            let eventName = 'message';
+            const data = [];
+            raw.split('\n').forEach((line) => {
+                if (line.startsWith('event:')) {
+                    eventName = line.slice(6).trim();
+                } else if (line.startsWith('data:')) {
+                    data.push(line.slice(5).trimStart());
+                }
+            });
+            if (eventName !== 'interested' || data.length === 0) {
+                return;
+            }
+            let user;
+            try {
+                user = JSON.parse(data.join('\n'));
+            } catch (error) {
+                return;
+            }
+            if (!user?.id || this.users.some((known) => known.id === user.id)) {
+                return;
+            }
+            TOAST(`${getFullName(user)} se intereso en tu proyecto.`, 'info');
+            if (this.users.length === 0) {
+                // La vista vacia reemplazo la tarjeta; se vuelve a armar desde cero
+                window.location.reload();
+                return;
+            }
+            this.users.push(user);
+            this.totalInterested += 1;
+            this.notifySummary();
+        }
+
         async loadProjectInfo(projectFromResponse) {
             try {
                 let projectData = projectFromResponse;
@@ -534,7 +645,7 @@
                         : `${getFullName(user)} fue rechazado.`;
                 TOAST(message, 'exito');
                 await this.loadProjectInfo();
-                this.removeCurrentUser();
+                await this.removeCurrentUser();
             } catch (error) {
                 const message =
                     error?.data?.message || error?.data?.detail || error?.message || 'Operacion no disponible.';
@@ -545,12 +656,15 @@
             }
         }
 
-        removeCurrentUser() {
+        async removeCurrentUser() {
             if (this.users.length === 0) {
                 return;
             }
             this.users.splice(this.currentIndex, 1);
             this.totalInterested = Math.max(0, this.totalInterested - 1);
+            if (this.users.length < 3) {
+                await this.loadMoreUsers();
+            }
             if (this.currentIndex >= this.users.length) {
                 this.currentIndex = 0;
             }
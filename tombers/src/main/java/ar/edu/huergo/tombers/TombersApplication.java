@@ -4,15 +4,34 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.retry.annotation.EnableRetry;
 
+import ar.edu.huergo.tombers.config.FeedExclusionCacheProperties;
 import ar.edu.huergo.tombers.config.FileStorageProperties;
+import ar.edu.huergo.tombers.config.InterestedStreamProperties;
+import ar.edu.huergo.tombers.config.LoginThrottleProperties;
+import ar.edu.huergo.tombers.config.OutboxProperties;
+import ar.edu.huergo.tombers.config.PasswordHashingProperties;
+import ar.edu.huergo.tombers.config.ProjectCacheProperties;
+import ar.edu.huergo.tombers.config.ProjectChangesProperties;
+import ar.edu.huergo.tombers.config.ProjectCounterProperties;
+import ar.edu.huergo.tombers.config.SchedulingProperties;
+import ar.edu.huergo.tombers.config.SearchIndexProperties;
+import ar.edu.huergo.tombers.config.SwipeBufferProperties;
+import ar.edu.huergo.tombers.config.TrendingProperties;
+import ar.edu.huergo.tombers.config.UserDetailsCacheProperties;
 
 /**
  * Aplicacion principal de Tombers.
  */
 @SpringBootApplication
 @EnableJpaAuditing
-@EnableConfigurationProperties(FileStorageProperties.class)
+@EnableRetry
+@EnableConfigurationProperties({FileStorageProperties.class, SwipeBufferProperties.class, SearchIndexProperties.class,
+        ProjectChangesProperties.class, ProjectCacheProperties.class, ProjectCounterProperties.class,
+        TrendingProperties.class, InterestedStreamProperties.class, OutboxProperties.class,
+        UserDetailsCacheProperties.class, PasswordHashingProperties.class, LoginThrottleProperties.class,
+        FeedExclusionCacheProperties.class, SchedulingProperties.class})
 public class TombersApplication {
 
     /**
@@ -10,8 +10,9 @@ import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
-import ar.edu.huergo.tombers.repository.UserRepository;
-import jakarta.persistence.EntityNotFoundException;
+import ar.edu.huergo.tombers.security.BoundedPasswordEncoder;
+import ar.edu.huergo.tombers.security.UserDetailsCache;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 
 /**
@@ -22,16 +23,18 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class ApplicationConfig {
 
-    private final UserRepository userRepository;
+    private final UserDetailsCache userDetailsCache;
+    private final PasswordHashingProperties passwordHashingProperties;
+    private final MeterRegistry meterRegistry;
 
     /**
-     * Crea un servicio de detalles de usuario que busca usuarios por email.
-     * @return Una implementación de UserDetailsService que utiliza el repositorio de usuarios.
+     * Crea un servicio de detalles de usuario que busca usuarios por email, pasando por una cache
+     * con TTL para no consultar la base en cada request autenticado.
+     * @return Una implementación de UserDetailsService respaldada por UserDetailsCache.
      */
     @Bean
     public UserDetailsService userDetailsService() {
-        return username -> userRepository.findByEmail(username)
-                .orElseThrow(() -> new EntityNotFoundException("Usuario no encontrado: " + username));
+        return userDetailsCache::load;
     }
 
     /**
@@ -58,11 +61,17 @@ public class ApplicationConfig {
     }
 
     /**
-     * Crea un codificador de contraseñas utilizando BCrypt.
+     * Crea un codificador de contraseñas utilizando BCrypt con el factor de trabajo configurado.
+     * Los hashes se calculan en un pool acotado (un hilo por núcleo, salvo otra configuración)
+     * para no ocupar los hilos de Tomcat con trabajo de CPU.
      * @return Un PasswordEncoder para encriptar y verificar contraseñas.
      */
-    @Bean
+    @Bean(destroyMethod = "shutdown")
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        int threads = passwordHashingProperties.getThreads() > 0
+                ? passwordHashingProperties.getThreads()
+                : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(passwordHashingProperties.getStrength()),
+                threads, passwordHashingProperties.getQueueCapacity(), meterRegistry);
     }
 }
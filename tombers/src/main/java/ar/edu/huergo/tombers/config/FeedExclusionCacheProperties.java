@@ -0,0 +1,34 @@
+package ar.edu.huergo.tombers.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Propiedades de configuracion de la cache de proyectos excluidos del feed de cada usuario.
+ */
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "projects.feed-exclusion-cache")
+public class FeedExclusionCacheProperties {
+
+    /**
+     * Cantidad maxima de usuarios guardados.
+     */
+    @Min(1)
+    private long maximumSize = 10_000;
+
+    /**
+     * Tiempo maximo que se reutilizan las exclusiones de un usuario desde que se cargaron.
+     * Acota cuanto dura un recorrido del feed sin volver a consultar la base.
+     */
+    @NotNull
+    private Duration ttl = Duration.ofMinutes(10);
+}
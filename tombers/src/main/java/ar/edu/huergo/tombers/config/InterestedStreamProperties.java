@@ -0,0 +1,39 @@
+package ar.edu.huergo.tombers.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Propiedades de configuracion del stream (SSE) de nuevos interesados en un proyecto.
+ */
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "projects.interested-stream")
+public class InterestedStreamProperties {
+
+    /**
+     * Cantidad maxima de conexiones abiertas en este nodo, sumando todos los proyectos.
+     */
+    @Min(1)
+    private int maxConnections = 500;
+
+    /**
+     * Intervalo entre heartbeats; mantiene viva la conexion a traves de proxies y detecta clientes desconectados.
+     */
+    @NotNull
+    private Duration heartbeatInterval = Duration.ofSeconds(15);
+
+    /**
+     * Duracion maxima de una conexion; al vencer el cliente debe reconectarse.
+     */
+    @NotNull
+    private Duration timeout = Duration.ofMinutes(30);
+}
@@ -0,0 +1,137 @@
+package ar.edu.huergo.tombers.config;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import ar.edu.huergo.tombers.entity.ProjectInteraction.InteractionType;
+import ar.edu.huergo.tombers.service.counter.ProjectCounterReconciler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Migracion unica de los likes y dislikes guardados en las tablas anteriores a
+ * project_interactions (user_liked_projects, user_disliked_projects y project_like_ids).
+ *
+ * En una sola transaccion copia los pares usuario/proyecto que todavia existen con INSERT ... SELECT,
+ * sin pisar las interacciones que ya tengan fila (si un par figura como like y como dislike queda el
+ * like), aumenta las versiones de los usuarios y proyectos afectados y vacia las tablas anteriores.
+ * Con esa transaccion confirmada recalcula los contadores de los proyectos, y recien despues borra
+ * las tablas, por lo que en los siguientes inicios no hace nada. Si el proceso se corta antes del
+ * borrado, volver a correrla es seguro: las tablas vacias no copian nada ni reviven likes quitados
+ * despues de la copia, y los contadores se vuelven a conciliar.
+ */
+@Slf4j
+@Component
+@Order(0)
+@RequiredArgsConstructor
+public class LegacyInteractionMigration implements ApplicationRunner {
+
+    static final String USER_LIKED_TABLE = "user_liked_projects";
+    static final String USER_DISLIKED_TABLE = "user_disliked_projects";
+    static final String PROJECT_LIKES_TABLE = "project_like_ids";
+
+    private static final String TABLE_EXISTS_SQL =
+            "SELECT COUNT(*) FROM information_schema.tables WHERE LOWER(table_name) = ?";
+
+    // Solo pares con usuario y proyecto existentes y que aun no tengan interaccion
+    private static final String INSERT_SQL =
+            "INSERT INTO project_interactions (user_id, project_id, type, interacted_at)"
+            + " SELECT l.user_id, l.project_id, ?, ? FROM (%s) l"
+            + " WHERE EXISTS (SELECT 1 FROM users u WHERE u.id = l.user_id)"
+            + " AND EXISTS (SELECT 1 FROM projects p WHERE p.id = l.project_id)"
+            + " AND NOT EXISTS (SELECT 1 FROM project_interactions i"
+            + " WHERE i.user_id = l.user_id AND i.project_id = l.project_id)";
+
+    // Los likes migrados forman parte del perfil de los usuarios y de la respuesta de los proyectos
+    private static final String USER_VERSION_SQL =
+            "UPDATE users SET activity_version = activity_version + 1 WHERE id IN (SELECT user_id FROM (%s) l)";
+    private static final String PROJECT_VERSION_SQL =
+            "UPDATE projects SET activity_version = activity_version + 1 WHERE id IN (SELECT project_id FROM (%s) l)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ProjectCounterReconciler counterReconciler;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        migrate();
+    }
+
+    /**
+     * Copia las interacciones de las tablas anteriores, concilia los contadores y luego borra las tablas.
+     *
+     * @return la cantidad de interacciones copiadas
+     */
+    public int migrate() {
+        List<String> tables = new ArrayList<>();
+        List<String> likeSources = new ArrayList<>();
+        List<String> dislikeSources = new ArrayList<>();
+        if (tableExists(USER_LIKED_TABLE)) {
+            tables.add(USER_LIKED_TABLE);
+            likeSources.add("SELECT user_id, project_id FROM " + USER_LIKED_TABLE);
+        }
+        if (tableExists(PROJECT_LIKES_TABLE)) {
+            tables.add(PROJECT_LIKES_TABLE);
+            likeSources.add("SELECT like_id AS user_id, project_id FROM " + PROJECT_LIKES_TABLE);
+        }
+        if (tableExists(USER_DISLIKED_TABLE)) {
+            tables.add(USER_DISLIKED_TABLE);
+            dislikeSources.add("SELECT user_id, project_id FROM " + USER_DISLIKED_TABLE);
+        }
+        if (tables.isEmpty()) {
+            return 0;
+        }
+
+        Timestamp migratedAt = Timestamp.valueOf(LocalDateTime.now());
+        Integer copied = transactionTemplate.execute(status -> {
+            // Primero los likes: el NOT EXISTS hace que un par que tambien figura como dislike quede como like
+            int rows = copy(likeSources, InteractionType.LIKE, migratedAt)
+                    + copy(dislikeSources, InteractionType.DISLIKE, migratedAt);
+            List<String> allSources = new ArrayList<>(likeSources);
+            allSources.addAll(dislikeSources);
+            jdbcTemplate.update(USER_VERSION_SQL.formatted(union(allSources)));
+            jdbcTemplate.update(PROJECT_VERSION_SQL.formatted(union(allSources)));
+            // Vaciarlas junto con la copia: un reintento no vuelve a copiar likes quitados despues
+            for (String table : tables) {
+                jdbcTemplate.update("DELETE FROM " + table);
+            }
+            return rows;
+        });
+
+        // Los contadores se recalculan antes del borrado: si esto falla, el proximo inicio lo reintenta
+        counterReconciler.reconcile();
+        // Recien con la copia y los contadores confirmados se borran las tablas anteriores
+        for (String table : tables) {
+            jdbcTemplate.execute("DROP TABLE IF EXISTS " + table);
+        }
+        log.info("Se migraron {} interacciones de las tablas anteriores a project_interactions", copied);
+        return copied != null ? copied : 0;
+    }
+
+    private int copy(List<String> sources, InteractionType type, Timestamp migratedAt) {
+        if (sources.isEmpty()) {
+            return 0;
+        }
+        // UNION descarta los pares repetidos entre las tablas y dentro de cada una
+        return jdbcTemplate.update(INSERT_SQL.formatted(union(sources)), type.name(), migratedAt);
+    }
+
+    private static String union(List<String> sources) {
+        String union = String.join(" UNION ", sources);
+        return sources.size() > 1 ? union : "SELECT DISTINCT user_id, project_id FROM (" + union + ") s";
+    }
+
+    private boolean tableExists(String table) {
+        Integer count = jdbcTemplate.queryForObject(TABLE_EXISTS_SQL, Integer.class, table);
+        return count != null && count > 0;
+    }
+}
@@ -0,0 +1,52 @@
+package ar.edu.huergo.tombers.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Propiedades de configuracion del limite de intentos de inicio de sesion por IP y por cuenta e IP.
+ * Cada limite es un token bucket: admite rafagas de hasta capacity intentos y recupera
+ * capacity intentos cada refill-period.
+ */
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "security.login-throttle")
+public class LoginThrottleProperties {
+
+    /**
+     * Activa el limite de intentos.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Intentos seguidos admitidos desde una misma IP.
+     */
+    @Min(1)
+    private int ipCapacity = 20;
+
+    /**
+     * Tiempo en el que una IP recupera todos sus intentos.
+     */
+    @NotNull
+    private Duration ipRefillPeriod = Duration.ofMinutes(1);
+
+    /**
+     * Contrasenas incorrectas seguidas admitidas sobre una misma cuenta desde una misma IP.
+     */
+    @Min(1)
+    private int accountCapacity = 5;
+
+    /**
+     * Tiempo en el que una cuenta recupera todos sus intentos desde una IP.
+     */
+    @NotNull
+    private Duration accountRefillPeriod = Duration.ofMinutes(5);
+}
@@ -0,0 +1,52 @@
+package ar.edu.huergo.tombers.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Propiedades de configuracion del outbox de eventos de dominio y de su dispatcher.
+ */
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "events.outbox")
+public class OutboxProperties {
+
+    /**
+     * Intervalo entre consultas de eventos pendientes cuando el outbox queda vacio.
+     */
+    @NotNull
+    private Duration pollInterval = Duration.ofMillis(500);
+
+    /**
+     * Cantidad maxima de eventos que se leen y entregan por lote.
+     */
+    @Min(1)
+    private int batchSize = 100;
+
+    /**
+     * Intentos de entrega de un evento antes de descartarlo. Mientras se reintenta, los eventos
+     * siguientes del mismo agregado esperan.
+     */
+    @Min(1)
+    private int maxAttempts = 10;
+
+    /**
+     * Tiempo durante el que se conservan los eventos entregados.
+     */
+    @NotNull
+    private Duration retention = Duration.ofDays(7);
+
+    /**
+     * Intervalo entre limpiezas de eventos entregados vencidos.
+     */
+    @NotNull
+    private Duration purgeInterval = Duration.ofHours(1);
+}
@@ -0,0 +1,39 @@
+package ar.edu.huergo.tombers.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Propiedades de configuracion del hash de contrasenas con BCrypt.
+ */
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "security.password-hashing")
+public class PasswordHashingProperties {
+
+    /**
+     * Factor de trabajo de BCrypt (log2 de las rondas). Cada punto duplica el costo de un hash.
+     * Los hashes guardados con otro factor se siguen verificando con el suyo.
+     */
+    @Min(4)
+    @Max(31)
+    private int strength = 10;
+
+    /**
+     * Hilos que calculan hashes. 0 usa un hilo por nucleo disponible.
+     */
+    @Min(0)
+    private int threads = 0;
+
+    /**
+     * Hashes que pueden esperar un hilo libre. Con la cola llena se responde 503.
+     */
+    @Min(1)
+    private int queueCapacity = 32;
+}
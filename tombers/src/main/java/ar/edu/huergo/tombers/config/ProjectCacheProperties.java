@@ -0,0 +1,33 @@
+package ar.edu.huergo.tombers.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Propiedades de configuracion de la cache de respuestas de proyectos.
+ */
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "projects.cache")
+public class ProjectCacheProperties {
+
+    /**
+     * Tamano maximo aproximado de la cache, en bytes estimados de las respuestas guardadas.
+     */
+    @Min(1)
+    private long maximumWeight = 32L * 1024 * 1024;
+
+    /**
+     * Tiempo maximo que una respuesta permanece en la cache desde que se armo.
+     */
+    @NotNull
+    private Duration ttl = Duration.ofMinutes(10);
+}
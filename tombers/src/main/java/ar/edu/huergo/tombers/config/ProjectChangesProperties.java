@@ -0,0 +1,40 @@
+package ar.edu.huergo.tombers.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Propiedades de configuracion de la sincronizacion incremental de proyectos.
+ */
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "projects.changes")
+public class ProjectChangesProperties {
+
+    /**
+     * Antiguedad minima de un cambio para entregarlo. Da tiempo a que confirmen las
+     * transacciones que tomaron su marca de tiempo antes que otras ya confirmadas.
+     */
+    @NotNull
+    private Duration settleDelay = Duration.ofSeconds(2);
+
+    /**
+     * Tiempo durante el que se conservan las bajas. Un token mas viejo obliga al cliente
+     * a recargar todo.
+     */
+    @NotNull
+    private Duration tombstoneRetention = Duration.ofDays(30);
+
+    /**
+     * Intervalo entre limpiezas de bajas vencidas.
+     */
+    @NotNull
+    private Duration purgeInterval = Duration.ofHours(1);
+}
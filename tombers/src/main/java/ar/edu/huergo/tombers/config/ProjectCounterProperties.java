@@ -0,0 +1,33 @@
+package ar.edu.huergo.tombers.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Propiedades de configuracion de la conciliacion de contadores de proyectos.
+ */
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "projects.counters")
+public class ProjectCounterProperties {
+
+    /**
+     * Intervalo entre conciliaciones de los contadores con las interacciones guardadas.
+     */
+    @NotNull
+    private Duration reconcileInterval = Duration.ofMinutes(15);
+
+    /**
+     * Cantidad maxima de proyectos que se recalculan en cada UPDATE.
+     */
+    @Min(1)
+    private int batchSize = 500;
+}
@@ -0,0 +1,40 @@
+package ar.edu.huergo.tombers.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * Tareas periodicas de la aplicacion: entrega del outbox, flush de buffers, commits del indice de
+ * busqueda, limpiezas y conciliaciones. Todas corren en un unico ThreadPoolTaskScheduler
+ * compartido en lugar de un hilo propio por componente. Con scheduling.enabled=false el
+ * scheduler sigue disponible para ejecuciones puntuales, pero no se programa ningun @Scheduled.
+ */
+@Configuration
+public class SchedulingConfig {
+
+    /**
+     * Scheduler compartido; Spring lo usa para los metodos @Scheduled por llamarse taskScheduler.
+     * Al cerrar la aplicacion espera a que terminen las tareas en curso.
+     */
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(SchedulingProperties properties) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(properties.getPoolSize());
+        scheduler.setThreadNamePrefix("tombers-scheduling-");
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(5);
+        return scheduler;
+    }
+
+    /**
+     * Activa los metodos @Scheduled salvo que scheduling.enabled sea false.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @EnableScheduling
+    @ConditionalOnProperty(prefix = "scheduling", name = "enabled", havingValue = "true", matchIfMissing = true)
+    static class ScheduledTasksConfig {
+    }
+}
@@ -0,0 +1,29 @@
+package ar.edu.huergo.tombers.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Propiedades de configuracion de las tareas periodicas de la aplicacion.
+ */
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "scheduling")
+public class SchedulingProperties {
+
+    /**
+     * Programa las tareas periodicas (@Scheduled). Los tests lo desactivan y las ejecutan a mano.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Cantidad de hilos compartidos por todas las tareas periodicas.
+     */
+    @Min(1)
+    private int poolSize = 4;
+}
@@ -0,0 +1,41 @@
+package ar.edu.huergo.tombers.config;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Propiedades de configuracion del indice de busqueda de proyectos.
+ */
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "search.index")
+public class SearchIndexProperties {
+
+    /**
+     * Directorio local donde se guarda el indice.
+     */
+    @NotNull
+    private Path directory = Paths.get("data/search-index");
+
+    /**
+     * Intervalo entre commits a disco de los cambios ya visibles en las busquedas.
+     */
+    @NotNull
+    private Duration commitInterval = Duration.ofSeconds(5);
+
+    /**
+     * Devuelve el directorio del indice normalizado.
+     */
+    public Path getDirectory() {
+        return directory.toAbsolutePath().normalize();
+    }
+}
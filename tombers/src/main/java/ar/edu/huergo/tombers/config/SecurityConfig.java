@@ -19,6 +19,7 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import ar.edu.huergo.tombers.security.JwtAuthenticationEntryPoint;
 import ar.edu.huergo.tombers.security.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 
 /**
@@ -49,11 +50,15 @@ public class SecurityConfig {
             .csrf(AbstractHttpConfigurer::disable)
             .cors(cors -> cors.configurationSource(corsConfigurationSource()))
             .authorizeHttpRequests(auth -> auth
+                // El despacho asincronico (streams SSE) continua un request que ya fue autorizado
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                 .requestMatchers("/uploads/**").permitAll()
                 .requestMatchers("/api/auth/**").permitAll()
                 .requestMatchers("/error").permitAll()
                 .requestMatchers("/").permitAll()
                 .requestMatchers("/h2-console/**").permitAll()
+                .requestMatchers("/actuator/health").permitAll()
+                .requestMatchers("/actuator/**").hasRole("ADMIN")
                 .requestMatchers("/api/projects/**").hasAnyRole("CLIENTE", "ADMIN")
                 .requestMatchers("/api/users/**").hasAnyRole("CLIENTE", "ADMIN")
                 .requestMatchers("/api/users/CreateProfile").hasRole("ADMIN")
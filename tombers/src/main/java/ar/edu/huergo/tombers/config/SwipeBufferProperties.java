@@ -0,0 +1,69 @@
+package ar.edu.huergo.tombers.config;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Propiedades de configuracion del buffer de escritura diferida de swipes.
+ */
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "swipes.write-behind")
+public class SwipeBufferProperties {
+
+    /**
+     * Activa el modo de escritura diferida. Si esta desactivado los swipes se guardan en el request.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Cantidad maxima de pares usuario/proyecto pendientes en memoria.
+     */
+    @Min(1)
+    private int capacity = 10_000;
+
+    /**
+     * Cantidad de cambios pendientes que dispara un flush inmediato.
+     */
+    @Min(1)
+    private int batchSize = 500;
+
+    /**
+     * Intervalo maximo entre flushes.
+     */
+    @NotNull
+    private Duration flushInterval = Duration.ofSeconds(1);
+
+    /**
+     * Guarda cada swipe aceptado en un journal local para recuperarlo tras un reinicio.
+     */
+    private boolean journalEnabled = false;
+
+    /**
+     * Directorio donde se guardan los segmentos del journal.
+     */
+    @NotNull
+    private Path journalDirectory = Paths.get("data/swipes-journal");
+
+    /**
+     * Fuerza la escritura a disco (fsync) de cada entrada del journal.
+     */
+    private boolean journalFsync = false;
+
+    /**
+     * Devuelve el directorio del journal normalizado.
+     */
+    public Path getJournalDirectory() {
+        return journalDirectory.toAbsolutePath().normalize();
+    }
+}
@@ -0,0 +1,45 @@
+package ar.edu.huergo.tombers.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Propiedades de configuracion del ranking de proyectos en tendencia.
+ */
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "projects.trending")
+public class TrendingProperties {
+
+    /**
+     * Tiempo en que el aporte de un like al puntaje se reduce a la mitad.
+     */
+    @NotNull
+    private Duration halfLife = Duration.ofHours(6);
+
+    /**
+     * Ventana de puntuacion: un proyecto sin likes durante este tiempo deja de estar en tendencia.
+     */
+    @NotNull
+    private Duration window = Duration.ofDays(7);
+
+    /**
+     * Cantidad de proyectos que se mantienen en el ranking (K).
+     */
+    @Min(1)
+    private int topSize = 100;
+
+    /**
+     * Intervalo entre guardados de los puntajes en la base.
+     */
+    @NotNull
+    private Duration checkpointInterval = Duration.ofMinutes(5);
+}
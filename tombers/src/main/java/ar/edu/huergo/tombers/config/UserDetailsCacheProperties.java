@@ -0,0 +1,34 @@
+package ar.edu.huergo.tombers.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Propiedades de configuracion de la cache de usuarios autenticados usada por el UserDetailsService.
+ */
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "security.user-details-cache")
+public class UserDetailsCacheProperties {
+
+    /**
+     * Cantidad maxima de usuarios guardados.
+     */
+    @Min(1)
+    private long maximumSize = 10_000;
+
+    /**
+     * Tiempo maximo que un usuario permanece en la cache desde que se cargo. Acota cuanto tarda
+     * en verse un cambio de roles que no paso por UserService.
+     */
+    @NotNull
+    private Duration ttl = Duration.ofMinutes(5);
+}
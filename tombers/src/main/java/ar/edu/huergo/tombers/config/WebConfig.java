@@ -2,15 +2,20 @@ package ar.edu.huergo.tombers.config;
 
 import java.time.Duration;
 
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.CacheControl;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewFilter;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 import lombok.RequiredArgsConstructor;
 
 /**
- * Expone los directorios de almacenamiento como recursos publicos para que el frontend acceda a ellos.
+ * Expone los directorios de almacenamiento como recursos publicos para que el frontend acceda a ellos
+ * y abre el EntityManager de cada request de la API.
  */
 @Configuration
 @RequiredArgsConstructor
@@ -32,4 +37,18 @@ public class WebConfig implements WebMvcConfigurer {
                 .addResourceLocations(location)
                 .setCacheControl(CacheControl.maxAge(Duration.ofHours(1)).cachePublic());
     }
+
+    /**
+     * Abre el EntityManager del request antes de la cadena de seguridad, en lugar de hacerlo en el
+     * interceptor de Spring MVC, para que el usuario que carga el filtro JWT siga administrado en
+     * los servicios y CurrentUserProvider lo reutilice sin volver a consultarlo.
+     */
+    @Bean
+    public FilterRegistrationBean<OpenEntityManagerInViewFilter> openEntityManagerInViewFilter() {
+        FilterRegistrationBean<OpenEntityManagerInViewFilter> registration =
+                new FilterRegistrationBean<>(new OpenEntityManagerInViewFilter());
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 1);
+        return registration;
+    }
 }
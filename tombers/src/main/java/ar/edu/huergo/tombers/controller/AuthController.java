@@ -4,6 +4,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -11,6 +12,7 @@ import ar.edu.huergo.tombers.dto.auth.AuthResponse;
 import ar.edu.huergo.tombers.dto.auth.LoginRequest;
 import ar.edu.huergo.tombers.dto.auth.RegisterRequest;
 import ar.edu.huergo.tombers.service.AuthService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
@@ -40,11 +42,26 @@ public class AuthController {
     /**
      * Endpoint para iniciar sesión de un usuario existente.
      * @param request Los datos de login del usuario.
+     * @param httpRequest El request HTTP, del que se toma la IP del cliente.
      * @return Una respuesta con el token de autenticación y datos del usuario.
      */
     @PostMapping("/login")
-    public ResponseEntity<AuthResponse> login(@Valid @RequestBody LoginRequest request) {
-        AuthResponse response = authService.login(request);
+    public ResponseEntity<AuthResponse> login(@Valid @RequestBody LoginRequest request, HttpServletRequest httpRequest) {
+        AuthResponse response = authService.login(request, httpRequest.getRemoteAddr());
         return ResponseEntity.ok(response);
     }
+
+    /**
+     * Endpoint para cerrar la sesión: revoca el token enviado hasta su vencimiento.
+     * @param authorization El header Authorization con el token a revocar.
+     * @return Una respuesta sin contenido.
+     */
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@RequestHeader(value = "Authorization", required = false) String authorization) {
+        if (authorization == null || !authorization.startsWith("Bearer ")) {
+            throw new IllegalArgumentException("Falta el token de autenticación");
+        }
+        authService.logout(authorization.substring(7));
+        return ResponseEntity.noContent().build();
+    }
 }
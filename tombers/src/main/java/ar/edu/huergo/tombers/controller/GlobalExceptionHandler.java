@@ -4,8 +4,11 @@ import java.net.URI;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.HttpRequestMethodNotSupportedException;
@@ -14,6 +17,11 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.servlet.resource.NoResourceFoundException;
 
+import ar.edu.huergo.tombers.security.LoginThrottledException;
+import ar.edu.huergo.tombers.security.PasswordHashingBusyException;
+import ar.edu.huergo.tombers.service.ProjectFullException;
+import ar.edu.huergo.tombers.service.interested.InterestedStreamLimitException;
+import ar.edu.huergo.tombers.service.swipe.SwipeBufferFullException;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
@@ -147,6 +155,100 @@ public class GlobalExceptionHandler {
         return problem;
     }
 
+    /**
+     * Maneja el rechazo de swipes cuando el buffer de escritura diferida esta lleno.
+     * Devuelve 503 con Retry-After para que el cliente reintente en unos segundos.
+     */
+    @ExceptionHandler(SwipeBufferFullException.class)
+    public ResponseEntity<ProblemDetail> handleSwipeBufferFull(SwipeBufferFullException ex) {
+        ProblemDetail problem = ProblemDetail.forStatus(HttpStatus.SERVICE_UNAVAILABLE);
+        problem.setTitle("Servicio saturado");
+        problem.setDetail(ex.getMessage());
+        problem.setType(URI.create("https://http.dev/problems/service-unavailable"));
+        log.warn("Swipe rechazado: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(problem);
+    }
+
+    /**
+     * Maneja el rechazo de un stream de interesados cuando el nodo alcanzo el maximo de conexiones.
+     * Devuelve 503 con Retry-After para que el cliente reconecte mas tarde.
+     */
+    @ExceptionHandler(InterestedStreamLimitException.class)
+    public ResponseEntity<ProblemDetail> handleInterestedStreamLimit(InterestedStreamLimitException ex) {
+        ProblemDetail problem = ProblemDetail.forStatus(HttpStatus.SERVICE_UNAVAILABLE);
+        problem.setTitle("Servicio saturado");
+        problem.setDetail(ex.getMessage());
+        problem.setType(URI.create("https://http.dev/problems/service-unavailable"));
+        log.warn("Stream de interesados rechazado: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "5")
+                .body(problem);
+    }
+
+    /**
+     * Maneja el rechazo de un hash de contraseña cuando el pool y su cola estan llenos.
+     * Devuelve 503 con Retry-After para que el cliente reintente en unos segundos.
+     */
+    @ExceptionHandler(PasswordHashingBusyException.class)
+    public ResponseEntity<ProblemDetail> handlePasswordHashingBusy(PasswordHashingBusyException ex) {
+        ProblemDetail problem = ProblemDetail.forStatus(HttpStatus.SERVICE_UNAVAILABLE);
+        problem.setTitle("Servicio saturado");
+        problem.setDetail(ex.getMessage());
+        problem.setType(URI.create("https://http.dev/problems/service-unavailable"));
+        log.warn("Hash de contraseña rechazado: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(problem);
+    }
+
+    /**
+     * Maneja los inicios de sesion de una IP o cuenta que agoto sus intentos.
+     * Devuelve 429 con Retry-After hasta que se recupere el siguiente intento.
+     */
+    @ExceptionHandler(LoginThrottledException.class)
+    public ResponseEntity<ProblemDetail> handleLoginThrottled(LoginThrottledException ex) {
+        ProblemDetail problem = ProblemDetail.forStatus(HttpStatus.TOO_MANY_REQUESTS);
+        problem.setTitle("Demasiados intentos");
+        problem.setDetail(ex.getMessage() + ". Intente nuevamente mas tarde.");
+        problem.setType(URI.create("https://http.dev/problems/too-many-requests"));
+        log.info("Inicio de sesion limitado: {}", ex.getMessage());
+        long seconds = Math.max(1, (ex.getRetryAfter().toMillis() + 999) / 1000);
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(seconds))
+                .body(problem);
+    }
+
+    /**
+     * Maneja la aceptacion de un integrante en un proyecto que ya completo su equipo.
+     * Devuelve 409 porque la solicitud es valida pero choca con el estado actual del proyecto.
+     */
+    @ExceptionHandler(ProjectFullException.class)
+    public ProblemDetail handleProjectFull(ProjectFullException ex) {
+        ProblemDetail problem = ProblemDetail.forStatus(HttpStatus.CONFLICT);
+        problem.setTitle("Equipo completo");
+        problem.setDetail(ex.getMessage());
+        problem.setType(URI.create("https://http.dev/problems/conflict"));
+        log.info("Aceptacion rechazada: {}", ex.getMessage());
+        return problem;
+    }
+
+    /**
+     * Maneja los conflictos de concurrencia que siguen fallando despues de los reintentos
+     * (por ejemplo, el recurso fue modificado por otra solicitud entre la lectura y el guardado).
+     * Devuelve 409 para que el cliente vuelva a leer el recurso y reintente.
+     */
+    @ExceptionHandler(ConcurrencyFailureException.class)
+    public ProblemDetail handleConcurrencyFailure(ConcurrencyFailureException ex) {
+        ProblemDetail problem = ProblemDetail.forStatus(HttpStatus.CONFLICT);
+        problem.setTitle("Conflicto de concurrencia");
+        problem.setDetail("El recurso fue modificado por otra solicitud. Intente nuevamente.");
+        problem.setType(URI.create("https://http.dev/problems/conflict"));
+        log.warn("Conflicto de concurrencia: {}", ex.getMessage());
+        return problem;
+    }
+
     /**
      * Maneja excepciones genéricas no controladas.
      * @param ex La excepción Exception lanzada.
@@ -183,10 +285,15 @@ public class GlobalExceptionHandler {
     /**
      * Maneja excepciones de servicio de autenticación interno.
      * @param ex La excepción InternalAuthenticationServiceException lanzada.
-     * @return Un ProblemDetail con detalles del error de autenticación.
+     * @return Una respuesta con un ProblemDetail con detalles del error de autenticación.
      */
     @ExceptionHandler(org.springframework.security.authentication.InternalAuthenticationServiceException.class)
-    public ProblemDetail handleInternalAuthenticationServiceException(org.springframework.security.authentication.InternalAuthenticationServiceException ex) {
+    public ResponseEntity<ProblemDetail> handleInternalAuthenticationServiceException(org.springframework.security.authentication.InternalAuthenticationServiceException ex) {
+        // El hash señuelo que calcula el proveedor al buscar el usuario tambien pasa por el pool acotado
+        if (ex.getCause() instanceof PasswordHashingBusyException busy) {
+            return handlePasswordHashingBusy(busy);
+        }
+
         // Verificar si la causa es EntityNotFoundException (usuario no encontrado)
         if (ex.getCause() instanceof jakarta.persistence.EntityNotFoundException) {
             ProblemDetail problem = ProblemDetail.forStatus(HttpStatus.NOT_FOUND);
@@ -194,7 +301,7 @@ public class GlobalExceptionHandler {
             problem.setDetail(ex.getCause().getMessage());
             problem.setType(URI.create("https://http.dev/problems/not-found"));
             log.info("Usuario no encontrado durante autenticación: {}", ex.getCause().getMessage());
-            return problem;
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(problem);
         }
 
         // Para otros errores de autenticación interna
@@ -203,7 +310,7 @@ public class GlobalExceptionHandler {
         problem.setDetail("Error interno en el proceso de autenticación");
         problem.setType(URI.create("https://http.dev/problems/unauthorized"));
         log.error("Error interno de autenticación", ex);
-        return problem;
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(problem);
     }
 
     /**
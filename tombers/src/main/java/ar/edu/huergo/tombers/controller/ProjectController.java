@@ -3,6 +3,7 @@ package ar.edu.huergo.tombers.controller;
 import java.util.List;
 import java.util.Map;
 
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -12,16 +13,29 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.http.MediaType;
 import ar.edu.huergo.tombers.dto.project.InterestedUsersResponse;
+import ar.edu.huergo.tombers.dto.project.ManageInterestedBatchRequest;
+import ar.edu.huergo.tombers.dto.project.ManageInterestedBatchResponse;
 import ar.edu.huergo.tombers.dto.project.ManageInterestedRequest;
+import ar.edu.huergo.tombers.dto.project.ProjectChangesResponse;
 import ar.edu.huergo.tombers.dto.project.ProjectCreateRequest;
+import ar.edu.huergo.tombers.dto.project.ProjectFeedResponse;
+import ar.edu.huergo.tombers.dto.project.ProjectListView;
 import ar.edu.huergo.tombers.dto.project.ProjectResponse;
+import ar.edu.huergo.tombers.dto.project.ProjectSearchResponse;
+import ar.edu.huergo.tombers.dto.project.ProjectTrendingResponse;
+import ar.edu.huergo.tombers.dto.project.SwipeBatchRequest;
+import ar.edu.huergo.tombers.dto.project.SwipeBatchResponse;
 import ar.edu.huergo.tombers.service.ProjectService;
+import ar.edu.huergo.tombers.service.facet.ProjectFacetFilter;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
@@ -39,23 +53,130 @@ public class ProjectController {
 
     /**
      * Obtiene la lista completa de proyectos.
+     * @param view Formato de cada proyecto: full (por defecto) o card.
      * @return Lista de proyectos en la respuesta HTTP.
      */
     @GetMapping
-    public ResponseEntity<List<ProjectResponse>> getAllProjects() {
+    public ResponseEntity<List<?>> getAllProjects(@RequestParam(required = false) String view) {
+        if (ProjectListView.from(view) == ProjectListView.CARD) {
+            return ResponseEntity.ok(projectService.getAllProjectCards());
+        }
         List<ProjectResponse> projects = projectService.getAllProjects();
         return ResponseEntity.ok(projects);
     }
 
+    /**
+     * Obtiene una pagina del feed del usuario autenticado.
+     * Excluye los proyectos que el usuario ya likeo, dislikeo o creo.
+     * @param cursor Cursor devuelto por la pagina anterior (opcional).
+     * @param sort Orden de la primera pagina: relevance (por defecto) o chronological.
+     * @param view Formato de cada proyecto: full (por defecto) o card.
+     * @param technology Tecnologias aceptadas (opcional; alcanza con una).
+     * @param language Idiomas aceptados (opcional).
+     * @param type Tipos de proyecto aceptados (opcional).
+     * @param status Estados aceptados (opcional).
+     * @return Pagina de proyectos junto con el cursor para la pagina siguiente y, en la primera pagina, los conteos por faceta.
+     */
+    @GetMapping("/feed")
+    public ResponseEntity<ProjectFeedResponse<?>> getFeed(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String view,
+            @RequestParam(required = false) List<String> technology,
+            @RequestParam(required = false) List<String> language,
+            @RequestParam(required = false) List<String> type,
+            @RequestParam(required = false) List<String> status) {
+        ProjectFacetFilter filter = ProjectFacetFilter.of(technology, language, type, status);
+        if (ProjectListView.from(view) == ProjectListView.CARD) {
+            return ResponseEntity.ok(projectService.getFeedCards(cursor, sort, filter));
+        }
+        ProjectFeedResponse<ProjectResponse> feed = projectService.getFeed(cursor, sort, filter);
+        return ResponseEntity.ok(feed);
+    }
+
+    /**
+     * Busca proyectos por texto en titulo, descripcion, tecnologias, objetivos y habilidades.
+     * @param q Texto buscado. Admite frases entre comillas y exclusion con -.
+     * @param page Numero de pagina, desde 0.
+     * @param size Cantidad de resultados por pagina.
+     * @param view Formato de cada proyecto: full (por defecto) o card.
+     * @param technology Tecnologias aceptadas (opcional; alcanza con una).
+     * @param language Idiomas aceptados (opcional).
+     * @param type Tipos de proyecto aceptados (opcional).
+     * @param status Estados aceptados (opcional).
+     * @return Pagina de proyectos ordenados por relevancia, con los conteos por faceta.
+     */
+    @GetMapping("/search")
+    public ResponseEntity<ProjectSearchResponse<?>> searchProjects(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String view,
+            @RequestParam(required = false) List<String> technology,
+            @RequestParam(required = false) List<String> language,
+            @RequestParam(required = false) List<String> type,
+            @RequestParam(required = false) List<String> status) {
+        ProjectFacetFilter filter = ProjectFacetFilter.of(technology, language, type, status);
+        if (ProjectListView.from(view) == ProjectListView.CARD) {
+            return ResponseEntity.ok(projectService.searchProjectCards(q, page, size, filter));
+        }
+        ProjectSearchResponse<ProjectResponse> response = projectService.searchProjects(q, page, size, filter);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Obtiene los cambios de proyectos posteriores a un token, para refrescar el listado sin
+     * volver a descargarlo completo.
+     * @param since Token devuelto por el pedido anterior (opcional; sin token empieza desde el inicio).
+     * @param view Formato de cada proyecto: full (por defecto) o card.
+     * @return Altas, modificaciones y bajas en orden, junto con el token siguiente.
+     */
+    @GetMapping("/changes")
+    public ResponseEntity<ProjectChangesResponse<?>> getProjectChanges(
+            @RequestParam(required = false) String since,
+            @RequestParam(required = false) String view) {
+        if (ProjectListView.from(view) == ProjectListView.CARD) {
+            return ResponseEntity.ok(projectService.getProjectChangeCards(since));
+        }
+        ProjectChangesResponse<ProjectResponse> changes = projectService.getProjectChanges(since);
+        return ResponseEntity.ok(changes);
+    }
+
+    /**
+     * Obtiene los proyectos en tendencia, ordenados por la cantidad de likes recientes.
+     * @param limit Cantidad de proyectos a devolver (opcional).
+     * @param view Formato de cada proyecto: full (por defecto) o card.
+     * @return Proyectos en tendencia con su puntaje, de mayor a menor.
+     */
+    @GetMapping("/trending")
+    public ResponseEntity<ProjectTrendingResponse<?>> getTrendingProjects(
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String view) {
+        if (ProjectListView.from(view) == ProjectListView.CARD) {
+            return ResponseEntity.ok(projectService.getTrendingProjectCards(limit));
+        }
+        ProjectTrendingResponse<ProjectResponse> trending = projectService.getTrendingProjects(limit);
+        return ResponseEntity.ok(trending);
+    }
+
     /**
      * Obtiene un proyecto por su ID.
+     * Responde 304 sin armar el proyecto cuando el If-None-Match coincide con su version actual.
      * @param id Identificador del proyecto.
-     * @return Proyecto encontrado en la respuesta HTTP.
+     * @param webRequest Request usado para evaluar el If-None-Match.
+     * @return Proyecto encontrado en la respuesta HTTP, con su ETag.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<ProjectResponse> getProjectById(@PathVariable Long id) {
-        ProjectResponse project = projectService.getProjectById(id);
-        return ResponseEntity.ok(project);
+    public ResponseEntity<ProjectResponse> getProjectById(@PathVariable Long id, WebRequest webRequest) {
+        String etag = projectService.getProjectETag(id);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        ProjectResponse project = projectService.getProjectById(id, etag);
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(project);
     }
 
     /**
@@ -144,18 +265,49 @@ public class ProjectController {
         return ResponseEntity.ok(Map.of("message", "Dislike removido correctamente del proyecto"));
     }
 
+    /**
+     * Aplica varios swipes del usuario autenticado en un solo request.
+     * @param request DTO con las decisiones en el orden en que se tomaron.
+     * @return Resultado de cada decision en el mismo orden.
+     */
+    @PostMapping("/swipes")
+    public ResponseEntity<SwipeBatchResponse> applySwipes(@Valid @RequestBody SwipeBatchRequest request) {
+        SwipeBatchResponse response = projectService.applySwipes(request);
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * Permite al creador de un proyecto ver la lista de usuarios interesados.
      * Los interesados son usuarios que dieron like al proyecto pero no son miembros.
      * @param projectId ID del proyecto.
-     * @return Lista de usuarios interesados en el proyecto.
+     * @param cursor Cursor devuelto por la pagina anterior (opcional).
+     * @param sort Orden de la primera pagina: applied (por defecto), skills o rating.
+     * @param size Cantidad de interesados por pagina.
+     * @return Pagina de usuarios interesados en el proyecto y el cursor siguiente.
      */
     @GetMapping("/{projectId}/interested")
-    public ResponseEntity<InterestedUsersResponse> getInterestedUsers(@PathVariable Long projectId) {
-        InterestedUsersResponse response = projectService.getInterestedUsers(projectId);
+    public ResponseEntity<InterestedUsersResponse> getInterestedUsers(
+            @PathVariable Long projectId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) String sort,
+            @RequestParam(defaultValue = "20") int size) {
+        InterestedUsersResponse response = projectService.getInterestedUsers(projectId, cursor, sort, size);
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Abre un stream de Server-Sent Events que avisa al creador del proyecto cada vez que un
+     * usuario nuevo se interesa en el (evento "interested" con el resumen del usuario), cuando
+     * cambia la calificacion de un interesado ("interested-updated"), cuando uno es aceptado
+     * ("accepted" con su ID) y cuando se actualiza el proyecto ("project-updated").
+     * @param projectId ID del proyecto.
+     * @return Emisor del stream; la conexion queda abierta hasta que el cliente la cierra o vence.
+     */
+    @GetMapping(path = "/{projectId}/interested/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamInterestedUsers(@PathVariable Long projectId) {
+        return projectService.openInterestedStream(projectId);
+    }
+
     /**
      * Permite al creador de un proyecto aceptar o rechazar a un usuario interesado.
      * Si acepta, el usuario se convierte en miembro del proyecto.
@@ -172,4 +324,19 @@ public class ProjectController {
         return ResponseEntity.ok(Map.of("message", "Usuario procesado correctamente"));
     }
 
+    /**
+     * Permite al creador de un proyecto aceptar o rechazar varios usuarios interesados a la vez.
+     * Cada decision se informa por separado: las invalidas no impiden aplicar las demas.
+     * @param projectId ID del proyecto.
+     * @param request DTO con la lista de decisiones (ID del usuario y ACCEPT/REJECT).
+     * @return Resultado de cada decision en el orden recibido.
+     */
+    @PostMapping("/{projectId}/manage-interested/batch")
+    public ResponseEntity<ManageInterestedBatchResponse> manageInterestedUsers(
+            @PathVariable Long projectId,
+            @Valid @RequestBody ManageInterestedBatchRequest request) {
+        ManageInterestedBatchResponse response = projectService.manageInterestedUsers(projectId, request);
+        return ResponseEntity.ok(response);
+    }
+
 }
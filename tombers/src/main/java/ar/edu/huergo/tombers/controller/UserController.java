@@ -1,5 +1,6 @@
 package ar.edu.huergo.tombers.controller;
 
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.RequestPart;
@@ -13,6 +14,7 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import ar.edu.huergo.tombers.dto.user.CreateProfileRequest;
 import ar.edu.huergo.tombers.dto.user.UserResponse;
@@ -35,14 +37,22 @@ public class UserController {
 
     /**
      * Obtiene el perfil del usuario autenticado.
+     * Responde 304 sin armar el perfil cuando el If-None-Match coincide con su version actual.
      * @param authentication Información de autenticación del usuario.
-     * @return Perfil del usuario en la respuesta HTTP.
+     * @param webRequest Request usado para evaluar el If-None-Match.
+     * @return Perfil del usuario en la respuesta HTTP, con su ETag.
      */
     @GetMapping("/profile")
-    public ResponseEntity<UserResponse> getUserProfile(Authentication authentication) {
-        String email = authentication.getName();
-        UserResponse response = userService.getUserProfile(email);
-        return ResponseEntity.ok(response);
+    public ResponseEntity<UserResponse> getUserProfile(Authentication authentication, WebRequest webRequest) {
+        String etag = userService.getUserProfileETag(authentication.getName());
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        UserResponse response = userService.getUserProfile();
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(response);
     }
 
     // ver todos los usuarios
@@ -54,18 +64,15 @@ public class UserController {
 
         /**
      * Actualiza el perfil del usuario autenticado.
-     * @param authentication Informacion de autenticacion del usuario.
      * @param request Datos para actualizar el perfil.
      * @param profilePicture Archivo opcional con la nueva fotografia de perfil.
      * @return Perfil actualizado en la respuesta HTTP.
      */
     @PutMapping(value = "/profile", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<UserResponse> updateUserProfile(
-            Authentication authentication,
             @Valid @RequestPart("data") UserUpdateRequest request,
             @RequestPart(value = "profilePicture", required = false) MultipartFile profilePicture) {
-        String email = authentication.getName();
-        UserResponse response = userService.updateUserProfile(email, request, profilePicture);
+        UserResponse response = userService.updateUserProfile(request, profilePicture);
         return ResponseEntity.ok(response);
     }
 
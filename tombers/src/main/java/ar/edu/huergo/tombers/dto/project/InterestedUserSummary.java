@@ -0,0 +1,59 @@
+package ar.edu.huergo.tombers.dto.project;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import ar.edu.huergo.tombers.entity.Skill;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Resumen de un usuario interesado en un proyecto, con solo los datos que muestra la vista
+ * de interesados (tarjeta, detalle y enlaces de contacto).
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class InterestedUserSummary {
+
+    private Long id;
+    private String firstName;
+    private String lastName;
+    private String username;
+    private String email;
+    private String phone;
+    private Integer age;
+    private String status;
+    private String specialization;
+    private String languages;
+    private String bio;
+    private String profilePictureUrl;
+    private String linkedin;
+    private String github;
+    private String portfolio;
+
+    @Builder.Default
+    private List<Skill> skills = new ArrayList<>();
+
+    @Builder.Default
+    private List<String> interests = new ArrayList<>();
+
+    /**
+     * Momento en que el usuario dio like al proyecto.
+     */
+    private LocalDateTime appliedAt;
+
+    /**
+     * Cantidad de habilidades del usuario que el proyecto necesita.
+     */
+    private long skillMatches;
+
+    /**
+     * Calificacion promedio recibida, o null si nadie lo califico.
+     */
+    private Double averageRating;
+}
@@ -2,7 +2,6 @@ package ar.edu.huergo.tombers.dto.project;
 
 import java.util.List;
 
-import ar.edu.huergo.tombers.dto.user.UserResponse;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -11,7 +10,7 @@ import lombok.NoArgsConstructor;
 /**
  * DTO para la respuesta de usuarios interesados en un proyecto.
  * Contiene la lista de usuarios que han mostrado interés (dado like)
- * pero aún no son miembros del proyecto.
+ * pero aún no son miembros del proyecto, paginada por cursor.
  */
 @Data
 @Builder
@@ -30,12 +29,27 @@ public class InterestedUsersResponse {
     private String projectTitle;
 
     /**
-     * Lista de usuarios interesados en el proyecto.
+     * Usuarios interesados de la pagina actual, en el orden pedido.
      */
-    private List<UserResponse> interestedUsers;
+    private List<InterestedUserSummary> interestedUsers;
 
     /**
      * Cantidad total de usuarios interesados.
      */
     private Integer totalInterested;
+
+    /**
+     * Orden de la lista: applied, skills o rating.
+     */
+    private String sort;
+
+    /**
+     * Cursor opaco para solicitar la pagina siguiente. Es null cuando no hay mas interesados.
+     */
+    private String nextCursor;
+
+    /**
+     * Indica si existen mas interesados despues de esta pagina.
+     */
+    private boolean hasMore;
 }
@@ -0,0 +1,28 @@
+package ar.edu.huergo.tombers.dto.project;
+
+import java.util.Locale;
+
+/**
+ * Orden de la lista de usuarios interesados en un proyecto.
+ */
+public enum InterestedUsersSort {
+    APPLIED,  // por fecha del like, primero los mas antiguos
+    SKILLS,   // por cantidad de habilidades en comun con las que necesita el proyecto
+    RATING;   // por calificacion promedio recibida, los no calificados al final
+
+    /**
+     * Interpreta el parametro sort del request. Un valor vacio equivale a APPLIED.
+     *
+     * @throws IllegalArgumentException si el valor no corresponde a ningun orden
+     */
+    public static InterestedUsersSort from(String value) {
+        if (value == null || value.isBlank()) {
+            return APPLIED;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Orden invalido: use applied, skills o rating");
+        }
+    }
+}
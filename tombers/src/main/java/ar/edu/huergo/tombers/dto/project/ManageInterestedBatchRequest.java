@@ -0,0 +1,33 @@
+package ar.edu.huergo.tombers.dto.project;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO para aceptar o rechazar varios usuarios interesados de un proyecto en un solo request.
+ * Las decisiones se aplican en el orden recibido.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ManageInterestedBatchRequest {
+
+    /**
+     * Decisiones del creador, cada una con el ID del usuario y la accion (ACCEPT/REJECT).
+     * Este campo es obligatorio y admite hasta 100 elementos.
+     */
+    @Valid
+    @NotEmpty(message = "Debe enviar al menos una decision")
+    @Size(max = 100, message = "No se pueden enviar mas de 100 decisiones por request")
+    @Builder.Default
+    private List<ManageInterestedRequest> decisions = new ArrayList<>();
+}
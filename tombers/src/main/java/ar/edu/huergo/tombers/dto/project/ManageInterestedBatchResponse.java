@@ -0,0 +1,50 @@
+package ar.edu.huergo.tombers.dto.project;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO de respuesta para la gestion en lote de usuarios interesados.
+ * Contiene un resultado por cada decision, en el mismo orden del request.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ManageInterestedBatchResponse {
+
+    private Long projectId;
+
+    @Builder.Default
+    private List<DecisionResult> results = new ArrayList<>();
+
+    /**
+     * Cantidad de decisiones aplicadas.
+     */
+    private int applied;
+
+    /**
+     * Cantidad de decisiones que no se pudieron aplicar (ver el error de cada resultado).
+     */
+    private int failed;
+
+    /**
+     * Resultado de una decision individual.
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class DecisionResult {
+        private int index;
+        private Long userId;
+        private ManageInterestedRequest.Action action;
+        private boolean success;
+        private String error;
+    }
+}
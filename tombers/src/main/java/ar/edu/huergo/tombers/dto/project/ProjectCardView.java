@@ -0,0 +1,49 @@
+package ar.edu.huergo.tombers.dto.project;
+
+import java.time.LocalDate;
+
+import ar.edu.huergo.tombers.entity.Project;
+
+/**
+ * Vista liviana de un proyecto para listados (tarjetas del feed, busqueda).
+ * Se arma directamente desde una consulta de proyeccion, sin cargar la entidad ni sus
+ * colecciones; en lugar de las listas de likes e integrantes trae solo sus cantidades.
+ * Los contadores de interacciones se leen de columnas del proyecto, sin agregar filas.
+ *
+ * @param id el ID del proyecto
+ * @param title el titulo
+ * @param description la descripcion
+ * @param bannerUrl la URL publica del banner
+ * @param status el estado del proyecto
+ * @param progress el progreso en porcentaje
+ * @param teamCurrent integrantes actuales declarados
+ * @param teamMax cupo maximo del equipo
+ * @param duration la duracion estimada
+ * @param language el idioma de trabajo
+ * @param type el tipo de proyecto
+ * @param creatorId el ID del creador, si esta guardado
+ * @param createdAt la fecha de creacion
+ * @param likeCount cantidad de usuarios que dieron like
+ * @param dislikeCount cantidad de usuarios que dieron dislike
+ * @param interestedCount cantidad de usuarios que dieron like sin ser integrantes
+ * @param memberCount cantidad de integrantes
+ */
+public record ProjectCardView(
+        Long id,
+        String title,
+        String description,
+        String bannerUrl,
+        Project.ProjectStatus status,
+        Integer progress,
+        Integer teamCurrent,
+        Integer teamMax,
+        String duration,
+        String language,
+        String type,
+        Long creatorId,
+        LocalDate createdAt,
+        long likeCount,
+        long dislikeCount,
+        long interestedCount,
+        Integer memberCount) {
+}
@@ -0,0 +1,65 @@
+package ar.edu.huergo.tombers.dto.project;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO con los cambios de proyectos posteriores a un token de sincronizacion.
+ * Los cambios vienen en el orden en que ocurrieron; aplicar la lista en orden deja
+ * al cliente en el estado correspondiente a nextToken.
+ *
+ * @param <T> ProjectResponse para la vista completa o ProjectCardView para la vista de tarjeta
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectChangesResponse<T> {
+
+    /**
+     * Altas, modificaciones y bajas, ordenadas por momento de cambio e ID de proyecto.
+     */
+    @Builder.Default
+    private List<ProjectChange<T>> changes = new ArrayList<>();
+
+    /**
+     * Token opaco para pedir los cambios siguientes.
+     */
+    private String nextToken;
+
+    /**
+     * Indica si quedan cambios ya disponibles para pedir con nextToken.
+     */
+    private boolean hasMore;
+
+    /**
+     * Indica que el token recibido es anterior al periodo de retencion de bajas; el cliente
+     * debe recargar todos los proyectos y continuar desde nextToken.
+     */
+    private boolean resyncRequired;
+
+    /**
+     * Un cambio de proyecto: alta o modificacion (con el proyecto actual) o baja.
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ProjectChange<T> {
+        private ChangeType type;
+        private Long projectId;
+        private Instant changedAt;
+        private T project;
+    }
+
+    public enum ChangeType {
+        UPSERT,  // alta o modificacion; project trae el estado actual
+        DELETE   // baja; project es null
+    }
+}
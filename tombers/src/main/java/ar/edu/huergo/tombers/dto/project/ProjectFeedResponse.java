@@ -0,0 +1,49 @@
+package ar.edu.huergo.tombers.dto.project;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO para una pagina del feed de proyectos.
+ * Contiene los proyectos que el usuario todavia no evaluo y el cursor
+ * necesario para pedir la pagina siguiente.
+ *
+ * @param <T> ProjectResponse para la vista completa o ProjectCardView para la vista de tarjeta
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectFeedResponse<T> {
+
+    /**
+     * Proyectos de la pagina actual, en el orden del feed (relevancia o ID ascendente).
+     */
+    @Builder.Default
+    private List<T> projects = new ArrayList<>();
+
+    /**
+     * Cursor opaco para solicitar la pagina siguiente. Es null cuando no hay mas proyectos.
+     */
+    private String nextCursor;
+
+    /**
+     * Indica si existen mas proyectos despues de esta pagina.
+     */
+    private boolean hasMore;
+
+    /**
+     * Conteos por faceta (technology, language, type, status): cuantos proyectos hay con cada
+     * valor, ignorando lo elegido en esa misma faceta y aplicando los filtros de las demas.
+     * Solo se calculan en la primera pagina; en las siguientes llega vacio.
+     */
+    @Builder.Default
+    private Map<String, Map<String, Long>> facets = new LinkedHashMap<>();
+}
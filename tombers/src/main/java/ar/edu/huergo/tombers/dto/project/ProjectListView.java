@@ -0,0 +1,27 @@
+package ar.edu.huergo.tombers.dto.project;
+
+import java.util.Locale;
+
+/**
+ * Formato en que los endpoints de listados devuelven cada proyecto.
+ */
+public enum ProjectListView {
+    FULL,  // ProjectResponse completo, con colecciones e integrantes
+    CARD;  // ProjectCardView, solo columnas de la tarjeta y contadores
+
+    /**
+     * Interpreta el parametro view del request. Un valor vacio equivale a FULL.
+     *
+     * @throws IllegalArgumentException si el valor no corresponde a ninguna vista
+     */
+    public static ProjectListView from(String value) {
+        if (value == null || value.isBlank()) {
+            return FULL;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Vista invalida: use full o card");
+        }
+    }
+}
@@ -33,6 +33,9 @@ public class ProjectResponse {
     private List<Long> memberIds;
     private Long creatorId;
     private List<Long> likeIds;
+    private long likeCount;
+    private long dislikeCount;
+    private long interestedCount;
     @Builder.Default
     private List<ProjectMemberSummary> members = new ArrayList<>();
     private Integer progress;
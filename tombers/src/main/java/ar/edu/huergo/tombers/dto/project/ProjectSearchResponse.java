@@ -0,0 +1,56 @@
+package ar.edu.huergo.tombers.dto.project;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO para una pagina de resultados de la busqueda de proyectos.
+ *
+ * @param <T> ProjectResponse para la vista completa o ProjectCardView para la vista de tarjeta
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectSearchResponse<T> {
+
+    /**
+     * Proyectos de la pagina, ordenados por relevancia.
+     */
+    @Builder.Default
+    private List<T> projects = new ArrayList<>();
+
+    /**
+     * Cantidad total de proyectos que coinciden con la busqueda.
+     */
+    private long total;
+
+    /**
+     * Numero de pagina devuelto, desde 0.
+     */
+    private int page;
+
+    /**
+     * Tamaño de pagina usado.
+     */
+    private int size;
+
+    /**
+     * Indica si existen mas resultados despues de esta pagina.
+     */
+    private boolean hasMore;
+
+    /**
+     * Conteos por faceta (technology, language, type, status): cuantos proyectos hay con cada
+     * valor, ignorando lo elegido en esa misma faceta y aplicando los filtros de las demas.
+     */
+    @Builder.Default
+    private Map<String, Map<String, Long>> facets = new LinkedHashMap<>();
+}
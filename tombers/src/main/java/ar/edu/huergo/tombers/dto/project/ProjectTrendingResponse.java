@@ -0,0 +1,40 @@
+package ar.edu.huergo.tombers.dto.project;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO con los proyectos en tendencia, ordenados por velocidad reciente de likes.
+ *
+ * @param <T> ProjectResponse para la vista completa o ProjectCardView para la vista de tarjeta
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectTrendingResponse<T> {
+
+    /**
+     * Proyectos en tendencia, de mayor a menor puntaje.
+     */
+    @Builder.Default
+    private List<TrendingProject<T>> projects = new ArrayList<>();
+
+    /**
+     * Un proyecto en tendencia con su puntaje.
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class TrendingProject<T> {
+        // Suma de los likes, cada uno con un peso que se reduce a la mitad cada half-life
+        private double score;
+        private T project;
+    }
+}
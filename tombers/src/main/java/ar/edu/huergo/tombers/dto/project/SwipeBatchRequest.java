@@ -0,0 +1,57 @@
+package ar.edu.huergo.tombers.dto.project;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import ar.edu.huergo.tombers.service.swipe.SwipeAction;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO para enviar varios swipes en un solo request.
+ * Las decisiones se aplican en el orden recibido.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SwipeBatchRequest {
+
+    /**
+     * Decisiones del usuario, en el orden en que las tomo.
+     * Este campo es obligatorio y admite hasta 100 elementos.
+     */
+    @Valid
+    @NotEmpty(message = "Debe enviar al menos un swipe")
+    @Size(max = 100, message = "No se pueden enviar mas de 100 swipes por request")
+    @Builder.Default
+    private List<SwipeDecision> swipes = new ArrayList<>();
+
+    /**
+     * Decision sobre un proyecto del feed.
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SwipeDecision {
+
+        /**
+         * ID del proyecto evaluado.
+         */
+        @NotNull(message = "El ID del proyecto es obligatorio")
+        private Long projectId;
+
+        /**
+         * Accion realizada: LIKE, UNLIKE, DISLIKE o UNDISLIKE.
+         */
+        @NotNull(message = "La acción es obligatoria")
+        private SwipeAction action;
+    }
+}
@@ -0,0 +1,42 @@
+package ar.edu.huergo.tombers.dto.project;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import ar.edu.huergo.tombers.service.swipe.SwipeAction;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO de respuesta para un envio de swipes en lote.
+ * Contiene un resultado por cada decision, en el mismo orden del request.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SwipeBatchResponse {
+
+    @Builder.Default
+    private List<SwipeResult> results = new ArrayList<>();
+
+    private int applied;
+    private int rejected;
+
+    /**
+     * Resultado de una decision individual.
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SwipeResult {
+        private int index;
+        private Long projectId;
+        private SwipeAction action;
+        private boolean success;
+        private String error;
+    }
+}
@@ -0,0 +1,61 @@
+package ar.edu.huergo.tombers.entity;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Evento de dominio guardado en la misma transaccion que el cambio que lo origina (outbox).
+ * Queda pendiente hasta que el dispatcher lo entrega a los listeners; los entregados se
+ * conservan durante un periodo limitado. Las filas se insertan con JDBC desde OutboxWriter.
+ */
+@Entity
+@Table(name = "outbox_events",
+        indexes = @Index(name = "idx_outbox_published_id", columnList = "published_at, id"))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxEvent {
+
+    // El orden de los IDs es el orden de entrega
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "aggregate_type", nullable = false, length = 20)
+    private String aggregateType;
+
+    @Column(name = "aggregate_id", nullable = false)
+    private Long aggregateId;
+
+    @Column(name = "event_type", nullable = false, length = 40)
+    private String eventType;
+
+    // Evento serializado como JSON
+    @Column(nullable = false, length = 2000)
+    private String payload;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    // Null mientras el evento esta pendiente
+    @Column(name = "published_at")
+    private Instant publishedAt;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+}
@@ -1,8 +1,12 @@
 package ar.edu.huergo.tombers.entity;
 
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -16,14 +20,19 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "projects")
+@Table(name = "projects",
+        indexes = @Index(name = "idx_projects_changed_at_id", columnList = "changed_at, id"))
 @Data
 @Builder
 @NoArgsConstructor
@@ -51,26 +60,26 @@ public class Project {
     private String type;
 
     @ElementCollection
+    @BatchSize(size = 100)
     private List<String> technologies;
 
     @ElementCollection
+    @BatchSize(size = 100)
     private List<String> objectives;
 
     @ElementCollection
+    @BatchSize(size = 100)
     @Column(name = "skill")
     private List<Skill> skillsNeeded;
 
     @ElementCollection
+    @BatchSize(size = 100)
     @Column(name = "member_id")
     private List<Long> memberIds;
 
     @Column(name = "creator_id")
     private Long creatorId;
 
-    @ElementCollection
-    @Column(name = "like_id")
-    private List<Long> likeIds;
-
     private Integer progress;
 
     @Enumerated(EnumType.STRING)
@@ -84,6 +93,85 @@ public class Project {
     @Column(name = "updated_at")
     private LocalDate updatedAt;
 
+    /**
+     * Version para el bloqueo optimista. Hibernate la aumenta con cada guardado de la fila o de
+     * sus colecciones y rechaza el guardado de una copia leida antes de otro cambio, asi dos
+     * ediciones concurrentes no se pisan.
+     */
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long version;
+
+    /**
+     * Version de los cambios que se escriben con UPDATE atomicos por fuera de la entidad (likes,
+     * dislikes y contadores). Esta separada de version para que esa actividad no haga fallar las
+     * ediciones concurrentes; el ETag del proyecto usa la suma de ambas.
+     */
+    @ColumnDefault("0")
+    @Column(name = "activity_version", nullable = false, updatable = false)
+    private long activityVersion;
+
+    /**
+     * Momento del ultimo cambio visible del proyecto (fila, colecciones o likes), con
+     * resolucion de microsegundos. Ordena la sincronizacion incremental de los clientes.
+     */
+    @ColumnDefault("CURRENT_TIMESTAMP")
+    @Column(name = "changed_at", nullable = false)
+    private Instant changedAt;
+
+    /**
+     * Cantidad de likes del proyecto. Solo la modifican sentencias UPDATE atomicas
+     * (x = x + delta), nunca el guardado de la entidad, para no pisar incrementos concurrentes.
+     */
+    @ColumnDefault("0")
+    @Column(name = "like_count", nullable = false, updatable = false)
+    private long likeCount;
+
+    /**
+     * Cantidad de dislikes del proyecto. Se mantiene igual que likeCount.
+     */
+    @ColumnDefault("0")
+    @Column(name = "dislike_count", nullable = false, updatable = false)
+    private long dislikeCount;
+
+    /**
+     * Cantidad de interesados: likes de usuarios que no son integrantes. Se mantiene igual que likeCount.
+     */
+    @ColumnDefault("0")
+    @Column(name = "interested_count", nullable = false, updatable = false)
+    private long interestedCount;
+
+    @PrePersist
+    void beforeInsert() {
+        changedAt = currentChangeInstant();
+    }
+
+    /**
+     * Registra el momento del cambio en cada UPDATE de la fila.
+     */
+    @PreUpdate
+    void beforeUpdate() {
+        changedAt = currentChangeInstant();
+    }
+
+    /**
+     * Instante actual truncado a la precision con que se guarda changedAt.
+     */
+    public static Instant currentChangeInstant() {
+        return Instant.now().truncatedTo(ChronoUnit.MICROS);
+    }
+
+    /**
+     * Registra el cambio en changedAt cuando solo se modificaron colecciones del proyecto. Hibernate
+     * ya aumenta la version en ese caso (las colecciones son propias de la entidad), pero ese
+     * UPDATE solo toca la version; changedAt, que ordena la sincronizacion de cambios, se asigna a
+     * mano para no depender de que @PreUpdate corra en el.
+     */
+    public void markModified() {
+        changedAt = currentChangeInstant();
+    }
+
     public enum ProjectStatus {
         ACTIVE, INACTIVE, COMPLETED, ON_HOLD
     }
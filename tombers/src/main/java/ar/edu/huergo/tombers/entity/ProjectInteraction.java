@@ -0,0 +1,71 @@
+package ar.edu.huergo.tombers.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Entidad que registra la decision de un usuario sobre un proyecto (like o dislike).
+ * Un usuario tiene como maximo una interaccion por proyecto; cambiar de like a dislike
+ * actualiza la fila existente en lugar de crear otra.
+ */
+@Entity
+@Table(name = "project_interactions",
+        uniqueConstraints = @UniqueConstraint(name = "uk_interaction_user_project", columnNames = {"user_id", "project_id"}),
+        indexes = {
+            @Index(name = "idx_interaction_user_type_project", columnList = "user_id, type, project_id"),
+            @Index(name = "idx_interaction_project_type_user", columnList = "project_id, type, user_id"),
+            @Index(name = "idx_interaction_project_type_time", columnList = "project_id, type, interacted_at, user_id")
+        })
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectInteraction {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private InteractionType type;
+
+    @Column(name = "interacted_at", nullable = false)
+    private LocalDateTime interactedAt;
+
+    public enum InteractionType {
+        LIKE, DISLIKE;
+
+        /**
+         * Variacion del contador de este tipo al pasar una interaccion de un estado a otro.
+         * Un estado null representa que no hay interaccion.
+         *
+         * @param previous el estado anterior
+         * @param target el estado nuevo
+         * @return 1 si la interaccion pasa a ser de este tipo, -1 si deja de serlo, 0 si no cambia
+         */
+        public int deltaBetween(InteractionType previous, InteractionType target) {
+            return (target == this ? 1 : 0) - (previous == this ? 1 : 0);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package ar.edu.huergo.tombers.entity;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Marca que un proyecto fue eliminado, para informar la baja a los clientes que
+ * sincronizan cambios de forma incremental. Se conserva durante un periodo limitado.
+ */
+@Entity
+@Table(name = "project_tombstones",
+        indexes = @Index(name = "idx_tombstones_deleted_at_project", columnList = "deleted_at, project_id"))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectTombstone {
+
+    // Los IDs de proyecto no se reutilizan, asi que identifican la baja
+    @Id
+    @Column(name = "project_id")
+    private Long projectId;
+
+    @Column(name = "deleted_at", nullable = false)
+    private Instant deletedAt;
+}
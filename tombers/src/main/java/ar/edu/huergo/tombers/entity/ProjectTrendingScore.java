@@ -0,0 +1,41 @@
+package ar.edu.huergo.tombers.entity;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Ultimo puntaje de tendencia guardado de un proyecto. Permite recuperar el ranking al
+ * reiniciar la aplicacion; el puntaje vigente se mantiene en memoria.
+ */
+@Entity
+@Table(name = "project_trending_scores")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectTrendingScore {
+
+    @Id
+    @Column(name = "project_id")
+    private Long projectId;
+
+    /**
+     * Puntaje ya decaido al momento scoredAt.
+     */
+    @Column(nullable = false)
+    private double score;
+
+    @Column(name = "last_liked_at", nullable = false)
+    private Instant lastLikedAt;
+
+    @Column(name = "scored_at", nullable = false)
+    private Instant scoredAt;
+}
@@ -7,6 +7,8 @@ import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -29,6 +31,7 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -167,6 +170,7 @@ public class User implements UserDetails {
      * Conjunto de roles asignados al usuario.
      */
     @ManyToMany(fetch = FetchType.EAGER)
+    @BatchSize(size = 100)
     @JoinTable(
         name = "usuario_roles",
         joinColumns = @JoinColumn(name = "usuario_id"),
@@ -184,30 +188,30 @@ public class User implements UserDetails {
     private List<Long> createdProjectIds;
 
     /**
-     * Lista de IDs de proyectos que le gustan al usuario (likeados).
+     * Lista de IDs de proyectos en los que el usuario participa.
      */
     @ElementCollection
-    @CollectionTable(name = "user_liked_projects", joinColumns = @JoinColumn(name = "user_id"))
+    @CollectionTable(name = "user_participating_projects", joinColumns = @JoinColumn(name = "user_id"))
     @Column(name = "project_id")
-    private List<Long> likedProjectIds;
+    private List<Long> participatingProjectIds;
 
     /**
-     * Lista de IDs de proyectos que no le gustan al usuario (dislikeados).
+     * Version para el bloqueo optimista. Hibernate la aumenta con cada guardado del usuario o de
+     * sus listas y rechaza el guardado de una copia leida antes de otro cambio.
      */
-    @ElementCollection
-    @CollectionTable(name = "user_disliked_projects", joinColumns = @JoinColumn(name = "user_id"))
-    @Column(name = "project_id")
-    private List<Long> dislikedProjectIds;
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long version;
 
     /**
-     * Lista de IDs de proyectos en los que el usuario participa.
+     * Version de los cambios del perfil que se escriben por fuera de la entidad (likes/dislikes
+     * y calificaciones recibidas). No participa del bloqueo optimista; el ETag del perfil usa la
+     * suma de ambas versiones.
      */
-    @ElementCollection
-    @CollectionTable(name = "user_participating_projects", joinColumns = @JoinColumn(name = "user_id"))
-    @Column(name = "project_id")
-    private List<Long> participatingProjectIds;
-
-
+    @ColumnDefault("0")
+    @Column(name = "activity_version", nullable = false, updatable = false)
+    private long activityVersion;
 
     /**
      * Fecha de creación del usuario.
@@ -230,6 +234,15 @@ public class User implements UserDetails {
         DISPONIBLE, OCUPADO, INACTIVO
     }
 
+    /**
+     * Registra el cambio en updatedAt cuando solo se modificaron colecciones del usuario. Hibernate
+     * ya aumenta la version en ese caso; updatedAt se asigna a mano para no depender de que la
+     * auditoria corra en ese UPDATE de version.
+     */
+    public void markModified() {
+        updatedAt = LocalDateTime.now();
+    }
+
     /**
      * Obtiene el nombre de usuario para autenticación, que es el correo electrónico.
      * @return El correo electrónico del usuario.
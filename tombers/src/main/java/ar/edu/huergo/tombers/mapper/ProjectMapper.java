@@ -20,39 +20,38 @@ public interface ProjectMapper {
 
     /**
      * Convierte un ProjectCreateRequest a una entidad Project.
-     * Ignora campos id, createdAt, updatedAt, memberIds, likeIds y establece status como ACTIVE.
+     * Ignora campos id, createdAt, updatedAt y memberIds y establece status como ACTIVE.
      *
      * @param request el DTO de creación de proyecto
      * @return la entidad Project correspondiente
      */
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "memberIds", ignore = true)
-    @Mapping(target = "likeIds", ignore = true)
     @Mapping(target = "creatorId", ignore = true)
     Project toEntity(ProjectCreateRequest request);
 
     /**
      * Convierte una entidad Project a un DTO ProjectResponse.
+     * Los likeIds no forman parte de la entidad y se completan al armar la respuesta.
      *
      * @param project la entidad Project
      * @return el DTO ProjectResponse correspondiente
      */
     @Mapping(target = "memberIds", source = "memberIds")
-    @Mapping(target = "likeIds", source = "likeIds")
+    @Mapping(target = "likeIds", ignore = true)
     @Mapping(target = "members", ignore = true)
     ProjectResponse toResponse(Project project);
 
     /**
      * Actualiza una entidad Project con los valores de un ProjectCreateRequest.
      * Ignora valores nulos en el DTO para no sobrescribir campos existentes.
-     * También ignora memberIds y likeIds ya que no están en el request.
+     * También ignora memberIds ya que no está en el request.
      *
      * @param project la entidad Project a actualizar
      * @param request el DTO con los nuevos valores
      */
     @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
     @Mapping(target = "memberIds", ignore = true)
-    @Mapping(target = "likeIds", ignore = true)
     @Mapping(target = "creatorId", ignore = true)
     void updateEntity(@MappingTarget Project project, ProjectCreateRequest request);
 }
@@ -25,8 +25,8 @@ public interface UserMapper {
      */
     @Mapping(target = "username", source = "usernameField")
     @Mapping(target = "createdProjectsIds", source = "createdProjectIds")
-    @Mapping(target = "likedProjectsIds", source = "likedProjectIds")
-    @Mapping(target = "dislikedProjectsIds", source = "dislikedProjectIds")
+    @Mapping(target = "likedProjectsIds", ignore = true) // Se obtiene de las interacciones en el servicio
+    @Mapping(target = "dislikedProjectsIds", ignore = true) // Se obtiene de las interacciones en el servicio
     @Mapping(target = "participatingProjectsIds", source = "participatingProjectIds")
     @Mapping(target = "averageRating", ignore = true) // Se calcula en el servicio
     UserResponse toDto(User user);
@@ -0,0 +1,82 @@
+package ar.edu.huergo.tombers.repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import ar.edu.huergo.tombers.entity.OutboxEvent;
+
+/**
+ * Repositorio de los eventos de dominio del outbox.
+ */
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * Obtiene los eventos pendientes de entrega en el orden en que se guardaron.
+     */
+    @Query("SELECT e FROM OutboxEvent e WHERE e.publishedAt IS NULL ORDER BY e.id ASC")
+    List<OutboxEvent> findPending(Pageable pageable);
+
+    /**
+     * Obtiene la cantidad de eventos pendientes y el momento de creacion del mas antiguo.
+     */
+    @Query("SELECT COUNT(e) AS pending, MIN(e.createdAt) AS oldestCreatedAt"
+            + " FROM OutboxEvent e WHERE e.publishedAt IS NULL")
+    PendingStats findPendingStats();
+
+    /**
+     * Marca los eventos como entregados.
+     *
+     * @return la cantidad de eventos marcados
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.publishedAt = :publishedAt WHERE e.id IN :ids")
+    int markPublished(@Param("ids") Collection<Long> ids, @Param("publishedAt") Instant publishedAt);
+
+    /**
+     * Registra un intento de entrega fallido; el evento sigue pendiente.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.attempts = e.attempts + 1, e.lastError = :error WHERE e.id = :id")
+    int recordFailure(@Param("id") Long id, @Param("error") String error);
+
+    /**
+     * Registra el ultimo intento fallido y deja de entregar el evento. Se conserva con su error
+     * como los entregados.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.attempts = e.attempts + 1, e.lastError = :error,"
+            + " e.publishedAt = :abandonedAt WHERE e.id = :id")
+    int abandon(@Param("id") Long id, @Param("error") String error, @Param("abandonedAt") Instant abandonedAt);
+
+    /**
+     * Elimina los eventos entregados antes del limite de retencion.
+     *
+     * @return la cantidad de eventos eliminados
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.publishedAt < :limit")
+    int deletePublishedBefore(@Param("limit") Instant limit);
+
+    /**
+     * Estado de los eventos pendientes.
+     */
+    interface PendingStats {
+        long getPending();
+
+        Instant getOldestCreatedAt();
+    }
+}
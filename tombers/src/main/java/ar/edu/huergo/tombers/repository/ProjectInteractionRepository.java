@@ -0,0 +1,220 @@
+package ar.edu.huergo.tombers.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import ar.edu.huergo.tombers.entity.ProjectInteraction;
+import ar.edu.huergo.tombers.entity.ProjectInteraction.InteractionType;
+import ar.edu.huergo.tombers.entity.User;
+
+/**
+ * Repositorio para las interacciones (likes y dislikes) entre usuarios y proyectos.
+ * Todas las operaciones trabajan sobre una unica fila por usuario y proyecto,
+ * por lo que su costo no depende de cuantos proyectos evaluo el usuario.
+ */
+@Repository
+public interface ProjectInteractionRepository extends JpaRepository<ProjectInteraction, Long> {
+
+    /**
+     * Cantidad de habilidades del usuario de la interaccion que necesita el proyecto (sin
+     * distinguir mayusculas ni espacios en los extremos).
+     */
+    String INTERESTED_SKILL_MATCHES = "(SELECT COUNT(s.nombre) FROM User su JOIN su.skills s WHERE su.id = i.userId"
+            + " AND LOWER(TRIM(s.nombre)) IN (SELECT LOWER(TRIM(n.nombre)) FROM Project sp JOIN sp.skillsNeeded n"
+            + " WHERE sp.id = i.projectId))";
+
+    /**
+     * Calificacion promedio recibida por el usuario de la interaccion; 0 si no tiene calificaciones.
+     */
+    String INTERESTED_RATING = "(SELECT COALESCE(AVG(r.rating), 0.0) FROM UserRating r WHERE r.ratedUserId = i.userId)";
+
+    /**
+     * Interesados de un proyecto: likes de usuarios que no son integrantes, resueltos con un
+     * anti-join contra los integrantes. Solo lee las columnas que muestra la vista de interesados.
+     */
+    String INTERESTED_SELECT = "SELECT u.id AS id, u.firstName AS firstName, u.lastName AS lastName,"
+            + " u.username AS username, u.email AS email, u.phone AS phone, u.age AS age, u.status AS status,"
+            + " u.specialization AS specialization, u.languages AS languages, u.bio AS bio,"
+            + " u.profilePictureUrl AS profilePictureUrl, u.linkedin AS linkedin, u.github AS github,"
+            + " u.portfolio AS portfolio, i.interactedAt AS appliedAt,"
+            + " " + INTERESTED_SKILL_MATCHES + " AS skillMatches, " + INTERESTED_RATING + " AS averageRating"
+            + " FROM ProjectInteraction i JOIN User u ON u.id = i.userId"
+            + " WHERE i.projectId = :projectId AND i.type = :type"
+            + " AND NOT EXISTS (SELECT 1 FROM Project p JOIN p.memberIds m WHERE p.id = i.projectId AND m = i.userId)";
+
+    /**
+     * Busca la interaccion de un usuario con un proyecto.
+     *
+     * @param userId el ID del usuario
+     * @param projectId el ID del proyecto
+     * @return un Optional con la interaccion si existe
+     */
+    Optional<ProjectInteraction> findByUserIdAndProjectId(Long userId, Long projectId);
+
+    /**
+     * Obtiene las interacciones de un usuario con varios proyectos en una sola consulta.
+     */
+    List<ProjectInteraction> findByUserIdAndProjectIdIn(Long userId, Collection<Long> projectIds);
+
+    /**
+     * Verifica si un usuario tiene una interaccion de cierto tipo con un proyecto.
+     */
+    boolean existsByUserIdAndProjectIdAndType(Long userId, Long projectId, InteractionType type);
+
+    /**
+     * Elimina la interaccion de un tipo dado con una unica sentencia DELETE.
+     *
+     * @return la cantidad de filas eliminadas (0 si el usuario no tenia esa interaccion)
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM ProjectInteraction i WHERE i.userId = :userId AND i.projectId = :projectId AND i.type = :type")
+    int deleteByUserIdAndProjectIdAndType(@Param("userId") Long userId, @Param("projectId") Long projectId,
+            @Param("type") InteractionType type);
+
+    /**
+     * Elimina todas las interacciones de un proyecto.
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM ProjectInteraction i WHERE i.projectId = :projectId")
+    int deleteByProjectId(@Param("projectId") Long projectId);
+
+    /**
+     * Obtiene los IDs de los proyectos con los que el usuario tiene una interaccion del tipo dado.
+     */
+    @Query("SELECT i.projectId FROM ProjectInteraction i WHERE i.userId = :userId AND i.type = :type ORDER BY i.interactedAt, i.id")
+    List<Long> findProjectIdsByUserIdAndType(@Param("userId") Long userId, @Param("type") InteractionType type);
+
+    /**
+     * Obtiene los IDs de los usuarios que tienen una interaccion del tipo dado con el proyecto.
+     */
+    @Query("SELECT i.userId FROM ProjectInteraction i WHERE i.projectId = :projectId AND i.type = :type ORDER BY i.interactedAt, i.id")
+    List<Long> findUserIdsByProjectIdAndType(@Param("projectId") Long projectId, @Param("type") InteractionType type);
+
+    /**
+     * Devuelve, de los usuarios recibidos, los que tienen una interaccion del tipo dado con el proyecto.
+     */
+    @Query("SELECT i.userId FROM ProjectInteraction i WHERE i.projectId = :projectId AND i.type = :type"
+            + " AND i.userId IN :userIds")
+    Set<Long> findUserIdsByProjectIdAndTypeAndUserIdIn(@Param("projectId") Long projectId,
+            @Param("type") InteractionType type, @Param("userIds") Collection<Long> userIds);
+
+    /**
+     * Obtiene en una sola consulta los pares proyecto/usuario de un tipo para varios proyectos.
+     */
+    @Query("SELECT i.projectId AS projectId, i.userId AS userId FROM ProjectInteraction i"
+            + " WHERE i.projectId IN :projectIds AND i.type = :type ORDER BY i.interactedAt, i.id")
+    List<InteractionRef> findRefsByProjectIdsAndType(@Param("projectIds") Collection<Long> projectIds,
+            @Param("type") InteractionType type);
+
+    /**
+     * Obtiene los datos de un interesado, si el usuario dio like al proyecto y no es integrante.
+     */
+    @Query(INTERESTED_SELECT + " AND i.userId = :userId")
+    Optional<InterestedUserRef> findInterestedByUserId(@Param("projectId") Long projectId,
+            @Param("type") InteractionType type, @Param("userId") Long userId);
+
+    /**
+     * Obtiene una pagina de interesados ordenada por fecha del like, a continuacion de la
+     * posicion (afterAt, afterUserId) de la pagina anterior.
+     *
+     * @param projectId el ID del proyecto
+     * @param type el tipo de interaccion de los interesados (LIKE)
+     * @param afterAt fecha del like del ultimo interesado de la pagina anterior
+     * @param afterUserId ID del ultimo interesado de la pagina anterior
+     * @param pageable limite de resultados a devolver
+     * @return los interesados siguientes, primero los mas antiguos
+     */
+    @Query(INTERESTED_SELECT
+            + " AND (i.interactedAt > :afterAt OR (i.interactedAt = :afterAt AND i.userId > :afterUserId))"
+            + " ORDER BY i.interactedAt ASC, i.userId ASC")
+    List<InterestedUserRef> findInterestedByAppliedAt(@Param("projectId") Long projectId,
+            @Param("type") InteractionType type, @Param("afterAt") LocalDateTime afterAt,
+            @Param("afterUserId") Long afterUserId, Pageable pageable);
+
+    /**
+     * Obtiene una pagina de interesados ordenada por habilidades en comun con el proyecto, de
+     * mayor a menor, a continuacion de la posicion (afterMatches, afterUserId).
+     */
+    @Query(INTERESTED_SELECT
+            + " AND (" + INTERESTED_SKILL_MATCHES + " < :afterMatches"
+            + " OR (" + INTERESTED_SKILL_MATCHES + " = :afterMatches AND i.userId > :afterUserId))"
+            + " ORDER BY skillMatches DESC, i.userId ASC")
+    List<InterestedUserRef> findInterestedBySkillMatches(@Param("projectId") Long projectId,
+            @Param("type") InteractionType type, @Param("afterMatches") long afterMatches,
+            @Param("afterUserId") Long afterUserId, Pageable pageable);
+
+    /**
+     * Obtiene una pagina de interesados ordenada por calificacion promedio, de mayor a menor,
+     * a continuacion de la posicion (afterRating, afterUserId).
+     */
+    @Query(INTERESTED_SELECT
+            + " AND (" + INTERESTED_RATING + " < :afterRating"
+            + " OR (" + INTERESTED_RATING + " = :afterRating AND i.userId > :afterUserId))"
+            + " ORDER BY averageRating DESC, i.userId ASC")
+    List<InterestedUserRef> findInterestedByRating(@Param("projectId") Long projectId,
+            @Param("type") InteractionType type, @Param("afterRating") double afterRating,
+            @Param("afterUserId") Long afterUserId, Pageable pageable);
+
+    /**
+     * Proyeccion con el par proyecto/usuario de una interaccion.
+     */
+    interface InteractionRef {
+        Long getProjectId();
+
+        Long getUserId();
+    }
+
+    /**
+     * Proyeccion con los datos de un interesado que muestra la vista de interesados.
+     */
+    interface InterestedUserRef {
+        Long getId();
+
+        String getFirstName();
+
+        String getLastName();
+
+        String getUsername();
+
+        String getEmail();
+
+        String getPhone();
+
+        Integer getAge();
+
+        User.UserStatus getStatus();
+
+        String getSpecialization();
+
+        String getLanguages();
+
+        String getBio();
+
+        String getProfilePictureUrl();
+
+        String getLinkedin();
+
+        String getGithub();
+
+        String getPortfolio();
+
+        LocalDateTime getAppliedAt();
+
+        Long getSkillMatches();
+
+        Double getAverageRating();
+    }
+}
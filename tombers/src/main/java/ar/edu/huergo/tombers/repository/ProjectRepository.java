@@ -1,13 +1,24 @@
 package ar.edu.huergo.tombers.repository;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import ar.edu.huergo.tombers.dto.project.ProjectCardView;
 import ar.edu.huergo.tombers.entity.Project;
+import ar.edu.huergo.tombers.entity.ProjectInteraction.InteractionType;
+import jakarta.persistence.LockModeType;
 
 /**
  * Repositorio para la gestión de entidades Project.
@@ -16,6 +27,308 @@ import ar.edu.huergo.tombers.entity.Project;
 @Repository
 public interface ProjectRepository extends JpaRepository<Project, Long> {
 
+    /**
+     * Proyeccion de tarjeta: columnas que muestra el feed, los contadores de interacciones y
+     * la cantidad de integrantes.
+     */
+    String CARD_SELECT = "SELECT new ar.edu.huergo.tombers.dto.project.ProjectCardView("
+            + "p.id, p.title, p.description, p.bannerUrl, p.status, p.progress, p.teamCurrent, p.teamMax,"
+            + " p.duration, p.language, p.type, p.creatorId, p.createdAt,"
+            + " p.likeCount, p.dislikeCount, p.interestedCount, SIZE(p.memberIds))"
+            + " FROM Project p";
+
+    /**
+     * Valores reales de los contadores de un proyecto p, calculados desde las interacciones.
+     */
+    String LIKE_COUNT_SUBQUERY =
+            "(SELECT COUNT(i) FROM ProjectInteraction i WHERE i.projectId = p.id AND i.type = :likeType)";
+    String DISLIKE_COUNT_SUBQUERY =
+            "(SELECT COUNT(i) FROM ProjectInteraction i WHERE i.projectId = p.id AND i.type = :dislikeType)";
+    String INTERESTED_COUNT_SUBQUERY =
+            "(SELECT COUNT(i) FROM ProjectInteraction i WHERE i.projectId = p.id AND i.type = :likeType"
+            + " AND i.userId NOT MEMBER OF p.memberIds)";
+
+    /**
+     * Obtiene los IDs de una pagina del feed de un usuario usando paginacion por cursor (keyset).
+     * Excluye dentro de la consulta los proyectos que el usuario likeo, dislikeo o creo.
+     *
+     * @param userId el ID del usuario que consulta el feed
+     * @param afterId el ID del ultimo proyecto de la pagina anterior (0 para la primera pagina)
+     * @param pageable limite de resultados a devolver
+     * @return los IDs siguientes a afterId en orden ascendente
+     */
+    @Query("SELECT p.id FROM Project p WHERE p.id > :afterId"
+            + " AND (p.creatorId IS NULL OR p.creatorId <> :userId)"
+            + " AND NOT EXISTS (SELECT 1 FROM ProjectInteraction i WHERE i.userId = :userId AND i.projectId = p.id)"
+            + " AND p.id NOT IN (SELECT cp FROM User u JOIN u.createdProjectIds cp WHERE u.id = :userId)"
+            + " ORDER BY p.id ASC")
+    List<Long> findFeedPageIds(@Param("userId") Long userId, @Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * Obtiene las tarjetas de los proyectos indicados leyendo solo columnas escalares y la
+     * cantidad de integrantes; no inicializa ninguna coleccion del proyecto.
+     *
+     * @param ids los IDs de los proyectos
+     * @return las tarjetas encontradas, en cualquier orden
+     */
+    @Query(CARD_SELECT + " WHERE p.id IN :ids")
+    List<ProjectCardView> findCardsByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Obtiene las tarjetas de todos los proyectos ordenadas por ID.
+     */
+    @Query(CARD_SELECT + " ORDER BY p.id ASC")
+    List<ProjectCardView> findAllCards();
+
+    /**
+     * Devuelve, de los IDs recibidos, los que corresponden a proyectos existentes.
+     */
+    @Query("SELECT p.id FROM Project p WHERE p.id IN :ids")
+    Set<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Obtiene todos los proyectos que no deben aparecer en el feed del usuario: los que ya
+     * likeo o dislikeo y los que creo.
+     */
+    @Query("SELECT p.id FROM Project p WHERE p.creatorId = :userId"
+            + " OR EXISTS (SELECT 1 FROM ProjectInteraction i WHERE i.userId = :userId AND i.projectId = p.id)"
+            + " OR p.id IN (SELECT cp FROM User u JOIN u.createdProjectIds cp WHERE u.id = :userId)")
+    List<Long> findAllExcludedFeedIds(@Param("userId") Long userId);
+
+    /**
+     * Obtiene los IDs de todos los proyectos.
+     */
+    @Query("SELECT p.id FROM Project p")
+    List<Long> findAllIds();
+
+    /**
+     * Obtiene las habilidades requeridas de todos los proyectos sin cargar las entidades.
+     */
+    @Query("SELECT p.id AS projectId, s.nombre AS nombre, s.nivel AS nivel FROM Project p JOIN p.skillsNeeded s")
+    List<ProjectSkillRef> findAllSkillRefs();
+
+    /**
+     * Obtiene las tecnologias de todos los proyectos sin cargar las entidades.
+     */
+    @Query("SELECT p.id AS projectId, t AS name FROM Project p JOIN p.technologies t")
+    List<ProjectTechnologyRef> findAllTechnologyRefs();
+
+    /**
+     * Obtiene titulo y descripcion de los proyectos con ID mayor al indicado, ordenados por ID,
+     * sin cargar las entidades.
+     */
+    @Query("SELECT p.id AS id, p.title AS title, p.description AS description FROM Project p"
+            + " WHERE p.id > :afterId ORDER BY p.id ASC")
+    List<ProjectTextRef> findTextRefsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * Obtiene las habilidades requeridas de los proyectos indicados sin cargar las entidades.
+     */
+    @Query("SELECT p.id AS projectId, s.nombre AS nombre, s.nivel AS nivel FROM Project p JOIN p.skillsNeeded s"
+            + " WHERE p.id IN :ids")
+    List<ProjectSkillRef> findSkillRefsByProjectIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Obtiene las tecnologias de los proyectos indicados sin cargar las entidades.
+     */
+    @Query("SELECT p.id AS projectId, t AS name FROM Project p JOIN p.technologies t WHERE p.id IN :ids")
+    List<ProjectTechnologyRef> findTechnologyRefsByProjectIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Obtiene los objetivos de los proyectos indicados sin cargar las entidades.
+     */
+    @Query("SELECT p.id AS projectId, o AS objective FROM Project p JOIN p.objectives o WHERE p.id IN :ids")
+    List<ProjectObjectiveRef> findObjectiveRefsByProjectIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Obtiene idioma, tipo y estado de todos los proyectos sin cargar las entidades.
+     */
+    @Query("SELECT p.id AS projectId, p.language AS language, p.type AS type, p.status AS status FROM Project p")
+    List<ProjectFacetRef> findAllFacetRefs();
+
+    /**
+     * Obtiene la version de un proyecto (suma de la version de la entidad y la de su actividad)
+     * sin cargar la entidad ni sus colecciones. Como ambas solo aumentan, cambia con cualquier cambio.
+     */
+    @Query("SELECT p.version + p.activityVersion FROM Project p WHERE p.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    /**
+     * Aumenta la version de actividad de un proyecto que cambio por fuera de la entidad (por
+     * ejemplo, un like) y registra el momento del cambio. No afecta el bloqueo optimista.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Project p SET p.activityVersion = p.activityVersion + 1, p.changedAt = :changedAt WHERE p.id = :id")
+    int incrementVersion(@Param("id") Long id, @Param("changedAt") Instant changedAt);
+
+    /**
+     * Aplica el cambio de interaccion de un usuario a los contadores del proyecto con un unico
+     * UPDATE atomico. Los likes de integrantes no cuentan como interesados. Tambien aumenta
+     * la version de actividad y registra el momento del cambio, porque los contadores son parte
+     * de la respuesta.
+     *
+     * @param id el ID del proyecto
+     * @param userId el ID del usuario que interactuo
+     * @param likeDelta variacion de likes (-1, 0 o 1)
+     * @param dislikeDelta variacion de dislikes (-1, 0 o 1)
+     * @param changedAt el momento del cambio
+     * @return la cantidad de filas actualizadas
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Project p SET p.likeCount = p.likeCount + :likeDelta,"
+            + " p.dislikeCount = p.dislikeCount + :dislikeDelta,"
+            + " p.interestedCount = p.interestedCount + CASE WHEN :userId MEMBER OF p.memberIds THEN 0 ELSE :likeDelta END,"
+            + " p.activityVersion = p.activityVersion + 1, p.changedAt = :changedAt"
+            + " WHERE p.id = :id")
+    int applyInteractionDelta(@Param("id") Long id, @Param("userId") Long userId, @Param("likeDelta") int likeDelta,
+            @Param("dislikeDelta") int dislikeDelta, @Param("changedAt") Instant changedAt);
+
+    /**
+     * Obtiene un proyecto bloqueando su fila hasta el fin de la transaccion (SELECT ... FOR UPDATE).
+     * Las reservas de lugares y los guardados concurrentes del proyecto esperan a que termine.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Project p WHERE p.id = :id")
+    Optional<Project> findByIdForUpdate(@Param("id") Long id);
+
+    /**
+     * Reserva un lugar en el equipo con un unico UPDATE condicional: suma uno a teamCurrent solo
+     * si el usuario todavia no es integrante y quedan lugares (teamMax nulo es sin limite). La
+     * fila queda bloqueada hasta el fin de la transaccion, asi dos aceptaciones concurrentes no
+     * pueden ocupar el mismo lugar. Tambien aumenta la version, para que falle el guardado de
+     * cualquier copia del proyecto leida antes de la reserva, y registra el momento del cambio.
+     *
+     * @param id el ID del proyecto
+     * @param userId el ID del usuario a aceptar
+     * @param changedAt el momento del cambio
+     * @return 1 si se reservo el lugar; 0 si el equipo esta completo, el usuario ya es integrante
+     *         o el proyecto no existe
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Project p SET p.teamCurrent = COALESCE(p.teamCurrent, 0) + 1,"
+            + " p.version = p.version + 1, p.changedAt = :changedAt"
+            + " WHERE p.id = :id AND :userId NOT MEMBER OF p.memberIds"
+            + " AND (p.teamMax IS NULL OR COALESCE(p.teamCurrent, 0) < p.teamMax)")
+    int reserveSeat(@Param("id") Long id, @Param("userId") Long userId, @Param("changedAt") Instant changedAt);
+
+    /**
+     * Suma delta a la cantidad de interesados con un unico UPDATE atomico (por ejemplo, al
+     * aceptar como integrante a un usuario que habia dado like).
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Project p SET p.interestedCount = p.interestedCount + :delta WHERE p.id = :id")
+    int adjustInterestedCount(@Param("id") Long id, @Param("delta") int delta);
+
+    /**
+     * Obtiene los IDs de los proyectos cuyos contadores no coinciden con las interacciones guardadas.
+     */
+    @Query("SELECT p.id FROM Project p WHERE p.likeCount <> " + LIKE_COUNT_SUBQUERY
+            + " OR p.dislikeCount <> " + DISLIKE_COUNT_SUBQUERY
+            + " OR p.interestedCount <> " + INTERESTED_COUNT_SUBQUERY
+            + " ORDER BY p.id ASC")
+    List<Long> findIdsWithStaleCounters(@Param("likeType") InteractionType likeType,
+            @Param("dislikeType") InteractionType dislikeType);
+
+    /**
+     * Recalcula desde las interacciones los contadores de los proyectos indicados, aumentando
+     * su version de actividad y registrando el momento del cambio.
+     *
+     * @return la cantidad de filas actualizadas
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Project p SET p.likeCount = " + LIKE_COUNT_SUBQUERY + ","
+            + " p.dislikeCount = " + DISLIKE_COUNT_SUBQUERY + ","
+            + " p.interestedCount = " + INTERESTED_COUNT_SUBQUERY + ","
+            + " p.activityVersion = p.activityVersion + 1, p.changedAt = :changedAt"
+            + " WHERE p.id IN :ids")
+    int recomputeCounters(@Param("ids") Collection<Long> ids, @Param("likeType") InteractionType likeType,
+            @Param("dislikeType") InteractionType dislikeType, @Param("changedAt") Instant changedAt);
+
+    /**
+     * Obtiene los IDs de los proyectos en los que el usuario participa como creador o integrante.
+     */
+    @Query("SELECT p.id FROM Project p WHERE p.creatorId = :userId OR :userId MEMBER OF p.memberIds"
+            + " OR p.id IN (SELECT cp FROM User u JOIN u.createdProjectIds cp WHERE u.id = :userId)")
+    List<Long> findIdsByParticipant(@Param("userId") Long userId);
+
+    /**
+     * Obtiene los proyectos modificados despues de la posicion (since, afterId) y no mas nuevos
+     * que until, ordenados por momento de cambio e ID. Usa el indice sobre (changed_at, id).
+     */
+    @Query("SELECT p.id AS id, p.changedAt AS changedAt FROM Project p"
+            + " WHERE (p.changedAt > :since OR (p.changedAt = :since AND p.id > :afterId))"
+            + " AND p.changedAt <= :until"
+            + " ORDER BY p.changedAt ASC, p.id ASC")
+    List<ProjectChangeRef> findChangedSince(@Param("since") Instant since, @Param("afterId") Long afterId,
+            @Param("until") Instant until, Pageable pageable);
+
+    /**
+     * Proyeccion con el ID de un proyecto y el momento de su ultimo cambio.
+     */
+    interface ProjectChangeRef {
+        Long getId();
+
+        Instant getChangedAt();
+    }
+
+    /**
+     * Proyeccion de una habilidad requerida por un proyecto.
+     */
+    interface ProjectSkillRef {
+        Long getProjectId();
+
+        String getNombre();
+
+        String getNivel();
+    }
+
+    /**
+     * Proyeccion con los atributos escalares de un proyecto usados como facetas.
+     */
+    interface ProjectFacetRef {
+        Long getProjectId();
+
+        String getLanguage();
+
+        String getType();
+
+        Project.ProjectStatus getStatus();
+    }
+
+    /**
+     * Proyeccion con el texto libre de un proyecto.
+     */
+    interface ProjectTextRef {
+        Long getId();
+
+        String getTitle();
+
+        String getDescription();
+    }
+
+    /**
+     * Proyeccion de un objetivo de un proyecto.
+     */
+    interface ProjectObjectiveRef {
+        Long getProjectId();
+
+        String getObjective();
+    }
+
+    /**
+     * Proyeccion de una tecnologia de un proyecto.
+     */
+    interface ProjectTechnologyRef {
+        Long getProjectId();
+
+        String getName();
+    }
+
 }
 
 
@@ -0,0 +1,42 @@
+package ar.edu.huergo.tombers.repository;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import ar.edu.huergo.tombers.entity.ProjectTombstone;
+
+/**
+ * Repositorio de las bajas de proyectos usadas por la sincronizacion incremental.
+ */
+@Repository
+public interface ProjectTombstoneRepository extends JpaRepository<ProjectTombstone, Long> {
+
+    /**
+     * Obtiene las bajas posteriores a la posicion (since, afterProjectId) y no mas nuevas que until,
+     * ordenadas por momento de baja e ID de proyecto.
+     */
+    @Query("SELECT t FROM ProjectTombstone t"
+            + " WHERE (t.deletedAt > :since OR (t.deletedAt = :since AND t.projectId > :afterProjectId))"
+            + " AND t.deletedAt <= :until"
+            + " ORDER BY t.deletedAt ASC, t.projectId ASC")
+    List<ProjectTombstone> findDeletedSince(@Param("since") Instant since, @Param("afterProjectId") Long afterProjectId,
+            @Param("until") Instant until, Pageable pageable);
+
+    /**
+     * Elimina las bajas anteriores al limite de retencion.
+     *
+     * @return la cantidad de bajas eliminadas
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM ProjectTombstone t WHERE t.deletedAt < :limit")
+    int deleteOlderThan(@Param("limit") Instant limit);
+}
@@ -1,10 +1,16 @@
 package ar.edu.huergo.tombers.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import ar.edu.huergo.tombers.entity.User;
 
@@ -49,6 +55,109 @@ public interface UserRepository extends JpaRepository<User, Long> {
      */
     @Query("SELECT u FROM User u WHERE :projectId MEMBER OF u.createdProjectIds")
     Optional<User> findByProjectId(Long projectId);
-}
 
+    /**
+     * Busca en una sola consulta los creadores de varios proyectos a partir de las listas
+     * de proyectos creados de los usuarios.
+     *
+     * @param projectIds los IDs de los proyectos
+     * @return pares proyecto/creador para los proyectos que tienen creador registrado
+     */
+    @Query("SELECT cp AS projectId, u.id AS userId FROM User u JOIN u.createdProjectIds cp WHERE cp IN :projectIds")
+    List<ProjectCreatorRef> findCreatorsByProjectIds(@Param("projectIds") Collection<Long> projectIds);
+
+    /**
+     * Devuelve, de los IDs recibidos, los que corresponden a usuarios existentes.
+     */
+    @Query("SELECT u.id FROM User u WHERE u.id IN :ids")
+    Set<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Obtiene el ID y la version del perfil de un usuario (suma de la version de la entidad y la
+     * de su actividad) sin cargar la entidad ni sus colecciones.
+     */
+    @Query("SELECT u.id AS id, u.version + u.activityVersion AS version FROM User u WHERE u.email = :email")
+    Optional<UserVersionRef> findVersionByEmail(@Param("email") String email);
+
+    /**
+     * Suma las versiones del creador y de los integrantes de un proyecto. Como las versiones
+     * solo aumentan, la suma cambia cuando alguno de ellos modifica su perfil.
+     *
+     * @param projectId el ID del proyecto
+     * @return la suma de versiones, 0 si el proyecto no tiene participantes
+     */
+    @Query("SELECT COALESCE(SUM(u.version + u.activityVersion), 0) FROM User u"
+            + " WHERE u.id IN (SELECT m FROM Project p JOIN p.memberIds m WHERE p.id = :projectId)"
+            + " OR u.id IN (SELECT p.creatorId FROM Project p WHERE p.id = :projectId)"
+            + " OR u.id IN (SELECT c.id FROM User c JOIN c.createdProjectIds cp WHERE cp = :projectId)")
+    long sumParticipantVersions(@Param("projectId") Long projectId);
+
+    /**
+     * Aumenta la version de actividad de un usuario cuyo perfil cambio por fuera de la entidad
+     * (por ejemplo, un like o una calificacion recibida). No afecta el bloqueo optimista.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.activityVersion = u.activityVersion + 1 WHERE u.id = :id")
+    int incrementVersion(@Param("id") Long id);
+
+    /**
+     * Aumenta la version de actividad de todos los usuarios que tienen una interaccion con el proyecto.
+     * Se usa antes de borrar las interacciones de un proyecto eliminado.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.activityVersion = u.activityVersion + 1"
+            + " WHERE u.id IN (SELECT i.userId FROM ProjectInteraction i WHERE i.projectId = :projectId)")
+    int incrementVersionsByInteractedProject(@Param("projectId") Long projectId);
+
+    /**
+     * Obtiene en una sola consulta las habilidades de varios usuarios.
+     */
+    @Query("SELECT u.id AS userId, s.nombre AS nombre, s.nivel AS nivel FROM User u JOIN u.skills s WHERE u.id IN :ids")
+    List<UserSkillRef> findSkillRefsByUserIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Obtiene en una sola consulta los intereses de varios usuarios.
+     */
+    @Query("SELECT u.id AS userId, t AS interest FROM User u JOIN u.interests t WHERE u.id IN :ids")
+    List<UserInterestRef> findInterestRefsByUserIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Proyeccion con el ID de un proyecto y el ID de su creador.
+     */
+    interface ProjectCreatorRef {
+        Long getProjectId();
+
+        Long getUserId();
+    }
+
+    /**
+     * Proyeccion con el ID de un usuario y la version de su perfil.
+     */
+    interface UserVersionRef {
+        Long getId();
+
+        Long getVersion();
+    }
+
+    /**
+     * Proyeccion con una habilidad de un usuario.
+     */
+    interface UserSkillRef {
+        Long getUserId();
+
+        String getNombre();
 
+        String getNivel();
+    }
+
+    /**
+     * Proyeccion con un interes de un usuario.
+     */
+    interface UserInterestRef {
+        Long getUserId();
+
+        String getInterest();
+    }
+}
@@ -0,0 +1,100 @@
+package ar.edu.huergo.tombers.security;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * PasswordEncoder que calcula los hashes en un pool acotado en lugar de en el hilo de Tomcat.
+ * Con un hilo por nucleo, una rafaga de logins no se queda con toda la CPU y las lecturas
+ * baratas se siguen atendiendo. La cola de espera tambien es acotada: cuando se llena, el hash
+ * se rechaza enseguida con PasswordHashingBusyException (503 con Retry-After) en lugar de
+ * acumular requests. El hilo del request espera el resultado sin consumir CPU.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final Counter rejected;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity,
+            MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+        Gauge.builder("tombers.password.hashing.queue", executor, pool -> pool.getQueue().size())
+                .description("Hashes de contrasenas esperando un hilo libre")
+                .register(meterRegistry);
+        Gauge.builder("tombers.password.hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Hashes de contrasenas calculandose")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("tombers.password.hashing.rejected")
+                .description("Hashes de contrasenas rechazados por tener la cola llena")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return run(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        // Solo lee el prefijo del hash; no hace falta pasar por el pool
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * Deja de aceptar hashes; los pendientes terminan antes de que se detengan los hilos.
+     */
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> T run(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException ex) {
+            rejected.increment();
+            throw new PasswordHashingBusyException(
+                    "Hay demasiadas solicitudes de autenticacion en curso. Intente nuevamente en unos segundos.");
+        }
+        try {
+            return future.get();
+        } catch (InterruptedException ex) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Se interrumpio la espera del hash de la contrasena", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (ex.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("Error al calcular el hash de la contrasena", ex.getCause());
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package ar.edu.huergo.tombers.security;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+/**
+ * Copia inmutable de los datos de autenticacion de un usuario, guardada en UserDetailsCache.
+ * Se comparte entre requests, por eso no es la entidad User. Tampoco implementa
+ * CredentialsContainer: Spring Security borraria la contrasena de la instancia cacheada al
+ * terminar un login.
+ *
+ * @param userId el ID del usuario, para que CurrentUserProvider lo busque sin volver por el email
+ * @param username el email del usuario
+ * @param password el hash de la contrasena
+ * @param authorities los roles del usuario
+ */
+public record CachedUserDetails(Long userId, String username, String password,
+        List<GrantedAuthority> authorities) implements UserDetails {
+
+    /**
+     * Copia los datos de autenticacion de un usuario.
+     */
+    public static CachedUserDetails of(Long userId, UserDetails user) {
+        return new CachedUserDetails(userId, user.getUsername(), user.getPassword(),
+                List.copyOf(user.getAuthorities()));
+    }
+
+    @Override
+    public String getUsername() {
+        return username;
+    }
+
+    @Override
+    public String getPassword() {
+        return password;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    /**
+     * Omite el hash de la contrasena, como el User de Spring Security, para que no quede en logs
+     * ni en el depurador.
+     */
+    @Override
+    public String toString() {
+        return "CachedUserDetails[userId=" + userId + ", username=" + username
+                + ", password=[PROTECTED], authorities=" + authorities + "]";
+    }
+}
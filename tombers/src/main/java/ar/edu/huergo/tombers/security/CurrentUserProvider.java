@@ -0,0 +1,83 @@
+package ar.edu.huergo.tombers.security;
+
+import java.util.Optional;
+
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import ar.edu.huergo.tombers.entity.User;
+import ar.edu.huergo.tombers.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Resuelve el usuario autenticado como entidad, a lo sumo una vez por request.
+ *
+ * El EntityManager del request se abre antes que la cadena de seguridad (ver WebConfig). Si el
+ * filtro JWT cargo el usuario de la base en este request (entidad como principal, o una carga de
+ * UserDetailsCache que no estaba en la cache) la entidad ya esta en ese contexto de persistencia
+ * y se reutiliza sin otra consulta; la busqueda por ID la resuelve desde el contexto. Si no, se
+ * busca una vez y queda guardada en los atributos del request para los metodos siguientes; si el
+ * contexto se limpio despues (rollback, DELETE masivo) se vuelve a buscar por ID. Fuera de un
+ * request HTTP (tareas programadas, tests) se resuelve en cada llamada.
+ */
+@Component
+@RequiredArgsConstructor
+public class CurrentUserProvider {
+
+    private static final String ATTRIBUTE = CurrentUserProvider.class.getName() + ".user";
+
+    private final UserRepository userRepository;
+    private final EntityManager entityManager;
+
+    /**
+     * Devuelve el usuario autenticado, administrado por el EntityManager actual.
+     *
+     * @return el usuario autenticado
+     * @throws AccessDeniedException si no hay un usuario autenticado
+     * @throws EntityNotFoundException si el usuario autenticado ya no existe
+     */
+    public User get() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null) {
+            throw new AccessDeniedException("Usuario no autenticado");
+        }
+        String email = authentication.getName();
+        if (!StringUtils.hasText(email)) {
+            throw new AccessDeniedException("Email del usuario autenticado no encontrado");
+        }
+        email = email.trim();
+
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        User user = request != null ? (User) request.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) : null;
+        if (user == null && authentication.getPrincipal() instanceof User principal) {
+            user = principal;
+        }
+        if (user != null && !email.equalsIgnoreCase(user.getEmail())) {
+            user = null;
+        }
+
+        if (user == null || !entityManager.contains(user)) {
+            user = load(user, authentication.getPrincipal(), email);
+        }
+        if (request != null) {
+            request.setAttribute(ATTRIBUTE, user, RequestAttributes.SCOPE_REQUEST);
+        }
+        return user;
+    }
+
+    private User load(User detached, Object principal, String email) {
+        Long id = detached != null ? detached.getId()
+                : principal instanceof JwtPrincipal jwtPrincipal ? jwtPrincipal.userId()
+                : principal instanceof CachedUserDetails cached ? cached.userId() : null;
+        // Por ID, si ya se conoce, la busqueda pasa primero por el contexto de persistencia
+        Optional<User> user = id != null ? userRepository.findById(id) : userRepository.findByEmail(email);
+        return user.orElseThrow(() -> new EntityNotFoundException("Usuario no encontrado"));
+    }
+}
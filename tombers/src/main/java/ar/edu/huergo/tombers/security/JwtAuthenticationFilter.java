@@ -2,12 +2,14 @@ package ar.edu.huergo.tombers.security;
 
 import java.io.IOException;
 import java.net.URI;
+import java.util.Collection;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ProblemDetail;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -17,6 +19,7 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.jsonwebtoken.Claims;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -24,12 +27,20 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 
+/**
+ * Autentica los requests con el token JWT del header Authorization.
+ * En modo con estado carga el usuario de la base para cada request; en modo sin estado
+ * (JwtTokenService.isStateless) arma un JwtPrincipal con los claims verificados del token.
+ * En ambos modos la firma se verifica una sola vez por request y se rechazan los tokens
+ * revocados en JwtDenyList.
+ */
 @Component
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenService jwtService;
     private final UserDetailsService userDetailsService;
+    private final JwtDenyList denyList;
 
     @Override
     protected void doFilterInternal(
@@ -39,66 +50,92 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     ) throws ServletException, IOException {
         final String authHeader = request.getHeader("Authorization");
         final String jwt;
-        final String userEmail;
+        final Claims claims;
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
             filterChain.doFilter(request, response);
             return;
         }
         jwt = authHeader.substring(7);
         try {
-            userEmail = jwtService.extraerUsername(jwt);
+            // Unica verificacion de firma del request; los pasos siguientes usan estos claims
+            claims = jwtService.verificarToken(jwt);
         } catch (Exception e) {
-            // Error al extraer username del JWT - return 401
-            ProblemDetail problem = ProblemDetail.forStatus(HttpStatus.UNAUTHORIZED);
-            problem.setTitle("Error de autenticación");
-            problem.setDetail(e.getMessage());
-            problem.setType(URI.create("https://http.dev/problems/unauthorized"));
-
-            response.setStatus(HttpStatus.UNAUTHORIZED.value());
-            response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
-            response.getWriter().write(new ObjectMapper().writeValueAsString(problem));
+            // Error al verificar el JWT - return 401
+            writeProblem(response, HttpStatus.UNAUTHORIZED, "Error de autenticación", e.getMessage(),
+                    "https://http.dev/problems/unauthorized");
+            return;
+        }
+        if (denyList.isRevoked(claims.getId())) {
+            writeProblem(response, HttpStatus.UNAUTHORIZED, "Error de autenticación", "Token revocado",
+                    "https://http.dev/problems/unauthorized");
+            return;
+        }
+        if (jwtService.isStateless()) {
+            authenticateStateless(claims, request, response, filterChain);
             return;
         }
+        final String userEmail = claims.getSubject();
         if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
             try {
                 UserDetails userDetails = this.userDetailsService.loadUserByUsername(userEmail);
-                if (jwtService.esTokenValido(jwt, userDetails)) {
-                    UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                            userDetails,
-                            null,
-                            userDetails.getAuthorities()
-                    );
-                    authToken.setDetails(
-                            new WebAuthenticationDetailsSource().buildDetails(request)
-                    );
-                    SecurityContextHolder.getContext().setAuthentication(authToken);
+                if (jwtService.esTokenValido(claims, userDetails)) {
+                    authenticate(userDetails, userDetails.getAuthorities(), request);
                 }
             } catch (EntityNotFoundException e) {
                 // Usuario no encontrado - return 404
-                ProblemDetail problem = ProblemDetail.forStatus(HttpStatus.NOT_FOUND);
-                problem.setTitle("Recurso no encontrado");
-                problem.setDetail(e.getMessage());
-                problem.setType(URI.create("https://http.dev/problems/not-found"));
-
-                response.setStatus(HttpStatus.NOT_FOUND.value());
-                response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
-                response.getWriter().write(new ObjectMapper().writeValueAsString(problem));
+                writeProblem(response, HttpStatus.NOT_FOUND, "Recurso no encontrado", e.getMessage(),
+                        "https://http.dev/problems/not-found");
                 return;
             } catch (Exception e) {
                 // Otros errores de autentificacion - return 401
-                ProblemDetail problem = ProblemDetail.forStatus(HttpStatus.UNAUTHORIZED);
-                problem.setTitle("Error de autenticación");
-                problem.setDetail(e.getMessage());
-                problem.setType(URI.create("https://http.dev/problems/unauthorized"));
-
-                response.setStatus(HttpStatus.UNAUTHORIZED.value());
-                response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
-                response.getWriter().write(new ObjectMapper().writeValueAsString(problem));
+                writeProblem(response, HttpStatus.UNAUTHORIZED, "Error de autenticación", e.getMessage(),
+                        "https://http.dev/problems/unauthorized");
                 return;
             }
         }
         filterChain.doFilter(request, response);
     }
-}
 
+    /**
+     * Autentica solo con los claims del token, sin consultar la base. Los tokens sin ID de usuario
+     * (emitidos antes del modo sin estado) se rechazan para que el cliente vuelva a iniciar sesion.
+     */
+    private void authenticateStateless(Claims claims, HttpServletRequest request, HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+        JwtPrincipal principal = jwtService.leerPrincipal(claims);
+        if (principal.userId() == null || principal.email() == null) {
+            writeProblem(response, HttpStatus.UNAUTHORIZED, "Error de autenticación",
+                    "El token no identifica al usuario; inicie sesión nuevamente", "https://http.dev/problems/unauthorized");
+            return;
+        }
+        if (SecurityContextHolder.getContext().getAuthentication() == null) {
+            authenticate(principal, principal.authorities(), request);
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private void authenticate(Object principal, Collection<? extends GrantedAuthority> authorities,
+            HttpServletRequest request) {
+        UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
+                principal,
+                null,
+                authorities
+        );
+        authToken.setDetails(
+                new WebAuthenticationDetailsSource().buildDetails(request)
+        );
+        SecurityContextHolder.getContext().setAuthentication(authToken);
+    }
+
+    private void writeProblem(HttpServletResponse response, HttpStatus status, String title, String detail,
+            String type) throws IOException {
+        ProblemDetail problem = ProblemDetail.forStatus(status);
+        problem.setTitle(title);
+        problem.setDetail(detail);
+        problem.setType(URI.create(type));
 
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+        response.getWriter().write(new ObjectMapper().writeValueAsString(problem));
+    }
+}
@@ -0,0 +1,69 @@
+package ar.edu.huergo.tombers.security;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Lista en memoria de tokens revocados antes de su vencimiento (por ejemplo al cerrar sesion).
+ * Cada token se conserva solo hasta que vence, por lo que con tokens de vida corta la lista
+ * se mantiene chica. No se comparte entre nodos ni sobrevive a un reinicio.
+ */
+@Component
+@RequiredArgsConstructor
+public class JwtDenyList {
+
+    private static final long PURGE_INTERVAL_SECONDS = 60;
+
+    private final MeterRegistry meterRegistry;
+
+    // ID del token -> vencimiento
+    private final Map<String, Instant> revoked = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void start() {
+        Gauge.builder("tombers.jwt.denylist.size", revoked, Map::size)
+                .description("Tokens revocados que todavia no vencieron")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Revoca un token hasta su vencimiento. Los tokens sin ID o ya vencidos se ignoran.
+     *
+     * @param tokenId el ID del token
+     * @param expiresAt el vencimiento del token
+     */
+    public void revoke(String tokenId, Instant expiresAt) {
+        if (tokenId != null && expiresAt != null && expiresAt.isAfter(Instant.now())) {
+            revoked.put(tokenId, expiresAt);
+        }
+    }
+
+    /**
+     * Indica si el token fue revocado.
+     */
+    public boolean isRevoked(String tokenId) {
+        return tokenId != null && revoked.containsKey(tokenId);
+    }
+
+    /**
+     * Descarta los tokens vencidos desde el scheduler compartido.
+     */
+    @Scheduled(fixedDelay = PURGE_INTERVAL_SECONDS, initialDelay = PURGE_INTERVAL_SECONDS, timeUnit = TimeUnit.SECONDS)
+    public void purgeExpired() {
+        purge(Instant.now());
+    }
+
+    void purge(Instant now) {
+        revoked.values().removeIf(expiresAt -> !expiresAt.isAfter(now));
+    }
+}
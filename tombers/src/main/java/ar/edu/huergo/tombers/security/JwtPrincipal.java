@@ -0,0 +1,27 @@
+package ar.edu.huergo.tombers.security;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.security.core.AuthenticatedPrincipal;
+import org.springframework.security.core.GrantedAuthority;
+
+/**
+ * Usuario autenticado armado solo con los claims verificados de su token, sin consultar la base.
+ * getName() devuelve el email, igual que el User cargado por el UserDetailsService, por lo que
+ * Authentication.getName() no cambia entre los dos modos del filtro.
+ *
+ * @param userId el ID del usuario (claim "uid"), o null en tokens emitidos antes de incluirlo
+ * @param email el email del usuario (subject del token)
+ * @param tokenId el ID del token (claim "jti"), usado por la lista de tokens revocados
+ * @param expiresAt el vencimiento del token
+ * @param authorities los roles del claim "roles"
+ */
+public record JwtPrincipal(Long userId, String email, String tokenId, Instant expiresAt,
+        List<GrantedAuthority> authorities) implements AuthenticatedPrincipal {
+
+    @Override
+    public String getName() {
+        return email;
+    }
+}
@@ -1,14 +1,22 @@
 package ar.edu.huergo.tombers.security;
 
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 import javax.crypto.SecretKey;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 
@@ -19,6 +27,11 @@ import io.jsonwebtoken.security.Keys;
  * el sujeto (usuario) y la fecha de expiración. - Usamos una clave secreta HMAC (HS256/HS512) para
  * firmar y luego verificar que el token no haya sido alterado. - No se guarda estado en el
  * servidor: la validez del token se comprueba verificando su firma y expiración en cada request.
+ *
+ * En modo sin estado (security.jwt.stateless) el filtro arma el usuario autenticado solo con los
+ * claims del token (ID, email y roles), sin consultar la base. Como un token asi no refleja cambios
+ * posteriores del usuario, se emite con una vida corta (security.jwt.stateless-expiration-ms) y
+ * puede revocarse antes de vencer con JwtDenyList.
  */
 @Service
 public class JwtTokenService {
@@ -30,18 +43,54 @@ public class JwtTokenService {
     private SecretKey signingKey;
 
     /**
-     * Tiempo de vida del token en milisegundos. Se inyecta desde application.properties
-     * (security.jwt.expiration-ms).
+     * Parser que verifica la firma con signingKey. Es inmutable y seguro entre hilos, así que se
+     * crea una sola vez en lugar de armarlo en cada validación.
+     */
+    private final JwtParser parser;
+
+    /**
+     * Tiempo de vida del token en milisegundos. Se toma de application.properties
+     * (security.jwt.expiration-ms, o security.jwt.stateless-expiration-ms en modo sin estado).
      */
-    @Value("${security.jwt.expiration-ms}")
-    private long expirationMillis;
+    private final long expirationMillis;
+
+    /**
+     * Indica si el filtro autentica solo con los claims del token.
+     */
+    private final boolean stateless;
+
+    /**
+     * Crea el servicio en modo con estado: el filtro carga el usuario de la base en cada request.
+     */
+    public JwtTokenService(String secret, long expirationMillis) {
+        this(secret, expirationMillis, false, expirationMillis);
+    }
 
     // @Value es una anotación que permite inyectar valores desde el archivo de
     // application.properties. Aquí convertimos el secreto String a SecretKey HMAC.
+    @Autowired
     public JwtTokenService(@Value("${security.jwt.secret}") String secret,
-            @Value("${security.jwt.expiration-ms}") long expirationMillis) {
+            @Value("${security.jwt.expiration-ms}") long expirationMillis,
+            @Value("${security.jwt.stateless:false}") boolean stateless,
+            @Value("${security.jwt.stateless-expiration-ms:900000}") long statelessExpirationMillis) {
         this.signingKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
-        this.expirationMillis = expirationMillis;
+        this.parser = Jwts.parser().verifyWith(signingKey).build();
+        this.stateless = stateless;
+        this.expirationMillis = stateless ? statelessExpirationMillis : expirationMillis;
+    }
+
+    /**
+     * Indica si el filtro debe autenticar solo con los claims del token, sin consultar la base.
+     */
+    public boolean isStateless() {
+        return stateless;
+    }
+
+    /**
+     * Tiempo de vida de los tokens que se emiten.
+     */
+    public Duration getTokenLifetime() {
+        return Duration.ofMillis(expirationMillis);
     }
 
     /**
@@ -49,21 +98,62 @@ public class JwtTokenService {
      * expiración - claims personalizados: lista de roles
      */
     public String generarToken(UserDetails userDetails, List<String> roles) {
+        return generarToken(userDetails, null, roles);
+    }
+
+    /**
+     * Genera un JWT que ademas incluye el ID del usuario (claim "uid") y un ID propio del token
+     * (jti), necesarios para autenticar sin consultar la base y para revocar el token.
+     */
+    public String generarToken(UserDetails userDetails, Long userId, List<String> roles) {
         Instant now = Instant.now();
         Instant expiry = now.plusMillis(expirationMillis);
 
-        return Jwts.builder().subject(userDetails.getUsername()).issuedAt(Date.from(now))
-                .expiration(Date.from(expiry)).claims(Map.of("roles", roles)).signWith(signingKey)
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("roles", roles);
+        if (userId != null) {
+            claims.put("uid", userId);
+        }
+        return Jwts.builder().id(UUID.randomUUID().toString()).subject(userDetails.getUsername())
+                .issuedAt(Date.from(now)).expiration(Date.from(expiry)).claims(claims).signWith(signingKey)
                 .compact();
     }
 
+    /**
+     * Verifica una sola vez la firma y el vencimiento del token y devuelve sus claims, para que
+     * el filtro los reutilice en el resto del request. Dispara una excepción si la firma no es
+     * válida, el token es malformado o está vencido.
+     */
+    public Claims verificarToken(String token) {
+        return parser.parseSignedClaims(token).getPayload();
+    }
+
+    /**
+     * Verifica el token y arma el usuario autenticado con sus claims. Dispara una excepción si la
+     * firma no es válida, el token es malformado o está vencido.
+     */
+    public JwtPrincipal leerPrincipal(String token) {
+        return leerPrincipal(verificarToken(token));
+    }
+
+    /**
+     * Arma el usuario autenticado con claims ya verificados por verificarToken.
+     */
+    public JwtPrincipal leerPrincipal(Claims claims) {
+        List<GrantedAuthority> authorities = claims.get("roles") instanceof List<?> roles
+                ? roles.stream().map(role -> (GrantedAuthority) new SimpleGrantedAuthority(String.valueOf(role))).toList()
+                : List.of();
+        Number userId = claims.get("uid", Number.class);
+        return new JwtPrincipal(userId != null ? userId.longValue() : null, claims.getSubject(), claims.getId(),
+                claims.getExpiration() != null ? claims.getExpiration().toInstant() : null, authorities);
+    }
+
     /**
      * Extrae el nombre de usuario (subject) del token. Dispara una excepción si la firma no es
      * válida o el token es malformado.
      */
     public String extraerUsername(String token) {
-        return Jwts.parser().verifyWith(signingKey).build().parseSignedClaims(token).getPayload()
-                .getSubject();
+        return verificarToken(token).getSubject();
     }
 
     /**
@@ -72,18 +162,21 @@ public class JwtTokenService {
      */
     public boolean esTokenValido(String token, UserDetails userDetails) {
         try {
-            var payload = Jwts.parser().verifyWith(signingKey).build().parseSignedClaims(token)
-                    .getPayload();
-
-            String username = payload.getSubject();
-            Date expiration = payload.getExpiration();
-            return username != null && username.equals(userDetails.getUsername())
-                    && expiration.after(new Date());
+            return esTokenValido(verificarToken(token), userDetails);
         } catch (Exception ex) {
             // Cualquier problema (firma inválida, token malformado/expirado) -> inválido
             return false;
         }
     }
-}
-
 
+    /**
+     * Verifica que claims ya verificados por verificarToken correspondan al usuario dado y no
+     * estén vencidos, sin volver a verificar la firma.
+     */
+    public boolean esTokenValido(Claims claims, UserDetails userDetails) {
+        String username = claims.getSubject();
+        Date expiration = claims.getExpiration();
+        return username != null && username.equals(userDetails.getUsername())
+                && expiration != null && expiration.after(new Date());
+    }
+}
@@ -0,0 +1,212 @@
+package ar.edu.huergo.tombers.security;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import ar.edu.huergo.tombers.config.LoginThrottleProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Limita los intentos de inicio de sesion por IP y por cuenta con un token bucket por clave.
+ * Cada intento consume un token de la IP, haya sido exitoso o no. El limite de la cuenta solo
+ * cuenta las contrasenas incorrectas y se lleva por cuenta e IP: quien conoce un email no puede
+ * gastar los intentos del titular desde otra direccion, y el limite por IP acota los intentos de
+ * cada direccion sobre cualquier cuenta. Sin tokens se rechaza con LoginThrottledException (429
+ * con Retry-After) antes de calcular ningun hash. Los buckets se actualizan sin bloqueos
+ * (compare-and-set) y los que ya se recargaron por completo se descartan cada minuto. Los
+ * contadores son locales al nodo.
+ */
+@Component
+@RequiredArgsConstructor
+public class LoginThrottle {
+
+    private static final long PURGE_INTERVAL_SECONDS = 60;
+
+    private final LoginThrottleProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    // "ip:<direccion>" o "account:<email>|<direccion>" -> bucket
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+    private Counter ipRejections;
+    private Counter accountRejections;
+
+    @PostConstruct
+    public void start() {
+        Gauge.builder("tombers.auth.login.throttle.buckets", buckets, Map::size)
+                .description("IPs y cuentas con intentos de inicio de sesion recientes")
+                .register(meterRegistry);
+        ipRejections = Counter.builder("tombers.auth.login.throttled")
+                .tag("scope", "ip")
+                .description("Inicios de sesion rechazados por superar el limite de intentos")
+                .register(meterRegistry);
+        accountRejections = Counter.builder("tombers.auth.login.throttled")
+                .tag("scope", "account")
+                .description("Inicios de sesion rechazados por superar el limite de intentos")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Registra un intento de inicio de sesion, antes de verificar la contrasena.
+     *
+     * @param clientAddress la IP del cliente
+     * @param email el email con el que se intenta iniciar sesion
+     * @throws LoginThrottledException si la IP agoto sus intentos o la cuenta sus fallos desde esa IP
+     */
+    public void check(String clientAddress, String email) {
+        check(clientAddress, email, System.nanoTime());
+    }
+
+    void check(String clientAddress, String email, long now) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        if (clientAddress != null) {
+            TokenBucket bucket = bucket("ip:" + clientAddress, properties.getIpCapacity(),
+                    properties.getIpRefillPeriod(), now);
+            reject(bucket.tryAcquire(now), ipRejections, "Demasiados intentos de inicio de sesion desde esta direccion");
+        }
+        if (email != null) {
+            // Solo se consulta: el token de la cuenta se gasta recien si la contrasena resulta incorrecta
+            TokenBucket bucket = buckets.get(accountKey(clientAddress, email));
+            if (bucket != null) {
+                reject(bucket.waitNanos(now), accountRejections,
+                        "Demasiados intentos de inicio de sesion para esta cuenta");
+            }
+        }
+    }
+
+    /**
+     * Registra una contrasena incorrecta para la cuenta desde la IP del cliente.
+     *
+     * @param clientAddress la IP del cliente
+     * @param email el email con el que se intento iniciar sesion
+     */
+    public void recordFailure(String clientAddress, String email) {
+        recordFailure(clientAddress, email, System.nanoTime());
+    }
+
+    void recordFailure(String clientAddress, String email, long now) {
+        if (!properties.isEnabled() || email == null) {
+            return;
+        }
+        // Si otro fallo concurrente ya vacio el bucket no hay nada mas que descontar
+        bucket(accountKey(clientAddress, email), properties.getAccountCapacity(),
+                properties.getAccountRefillPeriod(), now).tryAcquire(now);
+    }
+
+    /**
+     * Cantidad de IPs y cuentas con un bucket activo.
+     */
+    public int size() {
+        return buckets.size();
+    }
+
+    /**
+     * Descarta los buckets ya recargados desde el scheduler compartido.
+     */
+    @Scheduled(fixedDelay = PURGE_INTERVAL_SECONDS, initialDelay = PURGE_INTERVAL_SECONDS, timeUnit = TimeUnit.SECONDS)
+    public void purgeIdle() {
+        purge(System.nanoTime());
+    }
+
+    void purge(long now) {
+        // Un bucket lleno equivale a uno nuevo, asi que descartarlo no cambia los limites
+        buckets.values().removeIf(bucket -> bucket.isFull(now));
+    }
+
+    private static String accountKey(String clientAddress, String email) {
+        return "account:" + email.trim().toLowerCase(Locale.ROOT) + "|" + (clientAddress != null ? clientAddress : "");
+    }
+
+    private TokenBucket bucket(String key, int capacity, Duration refillPeriod, long now) {
+        TokenBucket bucket = buckets.get(key);
+        if (bucket == null) {
+            TokenBucket created = new TokenBucket(capacity, refillPeriod, now);
+            bucket = buckets.putIfAbsent(key, created);
+            if (bucket == null) {
+                bucket = created;
+            }
+        }
+        return bucket;
+    }
+
+    private static void reject(long waitNanos, Counter rejections, String message) {
+        if (waitNanos > 0) {
+            rejections.increment();
+            throw new LoginThrottledException(message, Duration.ofNanos(waitNanos));
+        }
+    }
+
+    /**
+     * Token bucket cuyo estado (tokens disponibles y momento de la ultima recarga) se reemplaza
+     * completo con compare-and-set.
+     */
+    static final class TokenBucket {
+
+        private record State(double tokens, long updatedAt) {
+        }
+
+        private final double capacity;
+        private final double tokensPerNano;
+        private final AtomicReference<State> state;
+
+        TokenBucket(int capacity, Duration refillPeriod, long now) {
+            this.capacity = capacity;
+            this.tokensPerNano = capacity / (double) Math.max(1, refillPeriod.toNanos());
+            this.state = new AtomicReference<>(new State(capacity, now));
+        }
+
+        /**
+         * Consume un token si hay disponible.
+         *
+         * @return 0 si se consumio, o los nanosegundos que faltan para el siguiente token
+         */
+        long tryAcquire(long now) {
+            while (true) {
+                State current = state.get();
+                double tokens = available(current, now);
+                if (tokens < 1) {
+                    return waitFor(tokens);
+                }
+                if (state.compareAndSet(current, new State(tokens - 1, Math.max(now, current.updatedAt())))) {
+                    return 0;
+                }
+            }
+        }
+
+        /**
+         * Consulta sin consumir si hay un token disponible.
+         *
+         * @return 0 si hay, o los nanosegundos que faltan para el siguiente token
+         */
+        long waitNanos(long now) {
+            double tokens = available(state.get(), now);
+            return tokens >= 1 ? 0 : waitFor(tokens);
+        }
+
+        boolean isFull(long now) {
+            return available(state.get(), now) >= capacity;
+        }
+
+        private long waitFor(double tokens) {
+            return Math.max(1, (long) Math.ceil((1 - tokens) / tokensPerNano));
+        }
+
+        private double available(State current, long now) {
+            long elapsed = Math.max(0, now - current.updatedAt());
+            return Math.min(capacity, current.tokens() + elapsed * tokensPerNano);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package ar.edu.huergo.tombers.security;
+
+import java.time.Duration;
+
+import lombok.Getter;
+
+/**
+ * Se lanza cuando una IP o una cuenta agotaron sus intentos de inicio de sesion.
+ * Indica cuanto falta para que se recupere el siguiente intento.
+ */
+@Getter
+public class LoginThrottledException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public LoginThrottledException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+}
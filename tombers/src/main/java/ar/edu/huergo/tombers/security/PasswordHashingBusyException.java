@@ -0,0 +1,12 @@
+package ar.edu.huergo.tombers.security;
+
+/**
+ * Se lanza cuando el pool de hash de contrasenas y su cola de espera estan llenos.
+ * El cliente puede reintentar en unos instantes.
+ */
+public class PasswordHashingBusyException extends RuntimeException {
+
+    public PasswordHashingBusyException(String message) {
+        super(message);
+    }
+}
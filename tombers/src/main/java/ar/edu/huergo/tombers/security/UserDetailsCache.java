@@ -0,0 +1,72 @@
+package ar.edu.huergo.tombers.security;
+
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import ar.edu.huergo.tombers.config.UserDetailsCacheProperties;
+import ar.edu.huergo.tombers.repository.UserRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.persistence.EntityNotFoundException;
+
+/**
+ * Cache acotada de los datos de autenticacion por email, detras del UserDetailsService.
+ * Evita consultar la base en cada login y en cada request autenticado con JWT. Cada entrada
+ * vence tras un TTL, y UserService la invalida cuando cambian los roles o el perfil del usuario.
+ * Los usuarios inexistentes no se guardan.
+ */
+@Component
+public class UserDetailsCache {
+
+    static final String CACHE_NAME = "userDetails";
+
+    private final UserRepository userRepository;
+    private final Cache<String, CachedUserDetails> cache;
+
+    public UserDetailsCache(UserRepository userRepository, UserDetailsCacheProperties properties,
+            MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        Gauge.builder("tombers.userdetails.cache.hit.ratio", cache, c -> c.stats().hitRate())
+                .description("Proporcion de busquedas de usuarios autenticados resueltas desde la cache")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Obtiene los datos de autenticacion de un usuario, cargandolos de la base si no estan en la cache.
+     *
+     * @param email el email del usuario
+     * @return los datos de autenticacion del usuario
+     * @throws EntityNotFoundException si el usuario no existe
+     */
+    public UserDetails load(String email) {
+        return cache.get(email, key -> userRepository.findByEmail(key)
+                .map(user -> CachedUserDetails.of(user.getId(), user))
+                .orElseThrow(() -> new EntityNotFoundException("Usuario no encontrado: " + key)));
+    }
+
+    /**
+     * Invalida los datos de autenticacion de un usuario.
+     */
+    public void evict(String email) {
+        if (email != null) {
+            cache.invalidate(email);
+        }
+    }
+
+    /**
+     * Cantidad aproximada de usuarios guardados.
+     */
+    public long size() {
+        return cache.estimatedSize();
+    }
+}
@@ -5,6 +5,7 @@ import java.util.List;
 import java.util.Set;
 
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -16,7 +17,13 @@ import ar.edu.huergo.tombers.entity.Rol;
 import ar.edu.huergo.tombers.entity.User;
 import ar.edu.huergo.tombers.repository.UserRepository;
 import ar.edu.huergo.tombers.repository.security.RolRepository;
+import ar.edu.huergo.tombers.security.JwtDenyList;
+import ar.edu.huergo.tombers.security.JwtPrincipal;
 import ar.edu.huergo.tombers.security.JwtTokenService;
+import ar.edu.huergo.tombers.security.LoginThrottle;
+import ar.edu.huergo.tombers.security.LoginThrottledException;
+import ar.edu.huergo.tombers.security.PasswordHashingBusyException;
+import io.jsonwebtoken.JwtException;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 
@@ -29,6 +36,8 @@ public class AuthService {
     private final JwtTokenService jwtTokenService;
     private final AuthenticationManager authenticationManager;
     private final RolRepository rolRepository;
+    private final JwtDenyList jwtDenyList;
+    private final LoginThrottle loginThrottle;
 
     /**
      * Registra un nuevo usuario en el sistema.
@@ -36,6 +45,7 @@ public class AuthService {
      * @param request la solicitud de registro con los datos del usuario
      * @return un objeto AuthResponse con el token JWT y la información del usuario registrado
      * @throws IllegalArgumentException si el email o username ya están en uso
+     * @throws PasswordHashingBusyException si hay demasiados hashes de contraseñas en curso
      */
     public AuthResponse register(RegisterRequest request) {
         // Verificar si el email ya existe
@@ -84,7 +94,7 @@ public class AuthService {
         var roles = savedUser.getRoles().stream()
                 .map(r -> "ROLE_" + r.getNombre())
                 .toList();
-        String token = jwtTokenService.generarToken(savedUser, roles);
+        String token = jwtTokenService.generarToken(savedUser, savedUser.getId(), roles);
 
         return AuthResponse.builder()
                 .message("Usuario registrado exitosamente")
@@ -103,14 +113,25 @@ public class AuthService {
      * Inicia sesión de un usuario y genera un token JWT.
      *
      * @param request la solicitud de inicio de sesión con email y contraseña
+     * @param clientAddress la IP del cliente, para limitar los intentos por dirección
      * @return un objeto AuthResponse con el token JWT y la información del usuario
      * @throws EntityNotFoundException si el usuario no existe
+     * @throws LoginThrottledException si la IP o la cuenta agotaron sus intentos
+     * @throws PasswordHashingBusyException si hay demasiados hashes de contraseñas en curso
      */
-    public AuthResponse login(LoginRequest request) {
-        // Autenticar usuario
-        authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(request.getEmail(), request.getPassword())
-        );
+    public AuthResponse login(LoginRequest request, String clientAddress) {
+        // Limitar los intentos antes de calcular el hash de la contraseña
+        loginThrottle.check(clientAddress, request.getEmail());
+
+        // Autenticar usuario; solo las contrasenas incorrectas gastan los intentos de la cuenta
+        try {
+            authenticationManager.authenticate(
+                    new UsernamePasswordAuthenticationToken(request.getEmail(), request.getPassword())
+            );
+        } catch (BadCredentialsException ex) {
+            loginThrottle.recordFailure(clientAddress, request.getEmail());
+            throw ex;
+        }
 
         // Obtener usuario autenticado
         User user = userRepository.findByEmail(request.getEmail())
@@ -120,7 +141,7 @@ public class AuthService {
         var roles = user.getRoles() != null ? user.getRoles().stream()
                 .map(r -> "ROLE_" + r.getNombre())
                 .toList() : java.util.List.<String>of();
-        String token = jwtTokenService.generarToken(user, roles);
+        String token = jwtTokenService.generarToken(user, user.getId(), roles);
 
         return AuthResponse.builder()
                 .message("Inicio de sesión exitoso")
@@ -134,4 +155,21 @@ public class AuthService {
                         .build())
                 .build();
     }
+
+    /**
+     * Cierra la sesión revocando el token hasta su vencimiento. Los tokens emitidos antes de
+     * incluir un ID (jti) no pueden revocarse y siguen siendo válidos hasta vencer.
+     *
+     * @param token el token JWT enviado en el header Authorization
+     * @throws IllegalArgumentException si el token no es válido
+     */
+    public void logout(String token) {
+        JwtPrincipal principal;
+        try {
+            principal = jwtTokenService.leerPrincipal(token);
+        } catch (JwtException | IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Token inválido", ex);
+        }
+        jwtDenyList.revoke(principal.tokenId(), principal.expiresAt());
+    }
 }
@@ -0,0 +1,11 @@
+package ar.edu.huergo.tombers.service;
+
+/**
+ * Se lanza al aceptar un integrante en un proyecto que ya completo su equipo (teamMax).
+ */
+public class ProjectFullException extends RuntimeException {
+
+    public ProjectFullException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,186 @@
+package ar.edu.huergo.tombers.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import ar.edu.huergo.tombers.dto.project.ProjectMemberSummary;
+import ar.edu.huergo.tombers.dto.project.ProjectResponse;
+import ar.edu.huergo.tombers.entity.Project;
+import ar.edu.huergo.tombers.entity.ProjectInteraction.InteractionType;
+import ar.edu.huergo.tombers.entity.User;
+import ar.edu.huergo.tombers.mapper.ProjectMapper;
+import ar.edu.huergo.tombers.repository.ProjectInteractionRepository;
+import ar.edu.huergo.tombers.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Arma los ProjectResponse de una lista de proyectos en lote.
+ * Resuelve creadores e integrantes de toda la pagina con una cantidad fija de consultas,
+ * independiente de la cantidad de proyectos, y construye cada respuesta desde mapas en memoria.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProjectResponseAssembler {
+
+    private final ProjectMapper projectMapper;
+    private final UserRepository userRepository;
+    private final ProjectInteractionRepository projectInteractionRepository;
+
+    /**
+     * Arma la respuesta detallada de un unico proyecto.
+     *
+     * @param project el proyecto a convertir
+     * @return el ProjectResponse con creador e integrantes resueltos
+     */
+    public ProjectResponse toResponse(Project project) {
+        return toResponses(List.of(project)).get(0);
+    }
+
+    /**
+     * Arma las respuestas detalladas de una lista de proyectos conservando su orden.
+     * Usa una consulta para los creadores que no estan guardados en el proyecto, otra para
+     * los likes y otra para todos los usuarios involucrados; las colecciones de cada proyecto
+     * se cargan en lote.
+     *
+     * @param projects los proyectos a convertir
+     * @return la lista de ProjectResponse en el mismo orden recibido
+     */
+    public List<ProjectResponse> toResponses(List<Project> projects) {
+        if (projects == null || projects.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Map<Long, Long> creatorIdsByProject = resolveCreatorIds(projects);
+        Map<Long, List<Long>> likeIdsByProject = resolveLikeIds(projects);
+
+        Set<Long> participantIds = new LinkedHashSet<>(creatorIdsByProject.values());
+        for (Project project : projects) {
+            if (project.getMemberIds() != null) {
+                participantIds.addAll(project.getMemberIds());
+            }
+        }
+        participantIds.remove(null);
+
+        Map<Long, User> usersById = new HashMap<>();
+        if (!participantIds.isEmpty()) {
+            for (User user : userRepository.findAllById(participantIds)) {
+                if (user != null && user.getId() != null) {
+                    usersById.putIfAbsent(user.getId(), user);
+                }
+            }
+        }
+
+        List<ProjectResponse> responses = new ArrayList<>(projects.size());
+        for (Project project : projects) {
+            Long creatorId = project.getCreatorId() != null
+                    ? project.getCreatorId()
+                    : creatorIdsByProject.get(project.getId());
+            ProjectResponse response = projectMapper.toResponse(project);
+            response.setCreatorId(creatorId);
+            response.setLikeIds(likeIdsByProject.getOrDefault(project.getId(), new ArrayList<>()));
+            response.setMembers(buildMembers(project, creatorId, usersById));
+            responses.add(response);
+        }
+        return responses;
+    }
+
+    /**
+     * Obtiene el creador de cada proyecto. Los proyectos antiguos sin creatorId se resuelven
+     * todos juntos buscando en las listas de proyectos creados de los usuarios.
+     */
+    private Map<Long, Long> resolveCreatorIds(List<Project> projects) {
+        Map<Long, Long> creatorIds = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        for (Project project : projects) {
+            if (project.getId() == null) {
+                continue;
+            }
+            if (project.getCreatorId() != null) {
+                creatorIds.put(project.getId(), project.getCreatorId());
+            } else {
+                missing.add(project.getId());
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            for (UserRepository.ProjectCreatorRef ref : userRepository.findCreatorsByProjectIds(missing)) {
+                creatorIds.putIfAbsent(ref.getProjectId(), ref.getUserId());
+            }
+        }
+        return creatorIds;
+    }
+
+    /**
+     * Obtiene los IDs de los usuarios que dieron like a cada proyecto con una unica consulta.
+     */
+    private Map<Long, List<Long>> resolveLikeIds(List<Project> projects) {
+        Set<Long> projectIds = new LinkedHashSet<>();
+        for (Project project : projects) {
+            if (project.getId() != null) {
+                projectIds.add(project.getId());
+            }
+        }
+
+        Map<Long, List<Long>> likeIds = new HashMap<>();
+        if (projectIds.isEmpty()) {
+            return likeIds;
+        }
+        for (ProjectInteractionRepository.InteractionRef ref
+                : projectInteractionRepository.findRefsByProjectIdsAndType(projectIds, InteractionType.LIKE)) {
+            likeIds.computeIfAbsent(ref.getProjectId(), key -> new ArrayList<>()).add(ref.getUserId());
+        }
+        return likeIds;
+    }
+
+    private List<ProjectMemberSummary> buildMembers(Project project, Long creatorId, Map<Long, User> usersById) {
+        Set<Long> participantIds = new LinkedHashSet<>();
+        if (creatorId != null) {
+            participantIds.add(creatorId);
+        }
+        if (project.getMemberIds() != null) {
+            participantIds.addAll(project.getMemberIds());
+        }
+
+        List<ProjectMemberSummary> members = new ArrayList<>();
+        for (Long userId : participantIds) {
+            boolean isCreator = creatorId != null && creatorId.equals(userId);
+            User member = usersById.get(userId);
+
+            if (member == null) {
+                members.add(ProjectMemberSummary.builder()
+                        .id(userId)
+                        .fullName(isCreator ? "Creador sin datos" : "Integrante sin datos")
+                        .creator(isCreator)
+                        .build());
+                continue;
+            }
+
+            members.add(ProjectMemberSummary.builder()
+                    .id(member.getId())
+                    .fullName(resolveFullName(member))
+                    .email(member.getEmail())
+                    .profilePictureUrl(member.getProfilePictureUrl())
+                    .creator(isCreator)
+                    .build());
+        }
+        return members;
+    }
+
+    private String resolveFullName(User member) {
+        String firstName = StringUtils.hasText(member.getFirstName()) ? member.getFirstName().trim() : "";
+        String lastName = StringUtils.hasText(member.getLastName()) ? member.getLastName().trim() : "";
+        String fullName = (firstName + " " + lastName).trim();
+        if (!StringUtils.hasText(fullName)) {
+            String username = member.getUsernameField();
+            fullName = StringUtils.hasText(username) ? username : member.getEmail();
+        }
+        return fullName;
+    }
+}
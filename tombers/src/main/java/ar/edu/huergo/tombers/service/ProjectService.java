@@ -1,37 +1,101 @@
 package ar.edu.huergo.tombers.service;
 
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
+import java.util.function.LongPredicate;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.retry.annotation.Backoff;
+import org.springframework.retry.annotation.Retryable;
 import org.springframework.security.access.AccessDeniedException;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import ar.edu.huergo.tombers.config.ProjectChangesProperties;
+import ar.edu.huergo.tombers.dto.project.InterestedUserSummary;
 import ar.edu.huergo.tombers.dto.project.InterestedUsersResponse;
+import ar.edu.huergo.tombers.dto.project.InterestedUsersSort;
+import ar.edu.huergo.tombers.dto.project.ManageInterestedBatchRequest;
+import ar.edu.huergo.tombers.dto.project.ManageInterestedBatchResponse;
 import ar.edu.huergo.tombers.dto.project.ManageInterestedRequest;
+import ar.edu.huergo.tombers.dto.project.ProjectCardView;
+import ar.edu.huergo.tombers.dto.project.ProjectChangesResponse;
 import ar.edu.huergo.tombers.dto.project.ProjectCreateRequest;
+import ar.edu.huergo.tombers.dto.project.ProjectFeedResponse;
 import ar.edu.huergo.tombers.dto.project.ProjectResponse;
-import ar.edu.huergo.tombers.dto.project.ProjectMemberSummary;
-import ar.edu.huergo.tombers.dto.user.UserResponse;
+import ar.edu.huergo.tombers.dto.project.ProjectSearchResponse;
+import ar.edu.huergo.tombers.dto.project.ProjectTrendingResponse;
+import ar.edu.huergo.tombers.dto.project.SwipeBatchRequest;
+import ar.edu.huergo.tombers.dto.project.SwipeBatchResponse;
 import ar.edu.huergo.tombers.entity.Project;
+import ar.edu.huergo.tombers.entity.ProjectInteraction;
+import ar.edu.huergo.tombers.entity.ProjectInteraction.InteractionType;
+import ar.edu.huergo.tombers.entity.ProjectTombstone;
 import ar.edu.huergo.tombers.entity.Skill;
 import ar.edu.huergo.tombers.entity.User;
 import ar.edu.huergo.tombers.mapper.ProjectMapper;
-import ar.edu.huergo.tombers.mapper.UserMapper;
+import ar.edu.huergo.tombers.repository.ProjectInteractionRepository;
 import ar.edu.huergo.tombers.repository.ProjectRepository;
+import ar.edu.huergo.tombers.repository.ProjectTombstoneRepository;
 import ar.edu.huergo.tombers.repository.UserRepository;
 
+import ar.edu.huergo.tombers.security.CurrentUserProvider;
+import ar.edu.huergo.tombers.service.cache.ProjectResponseCache;
+import ar.edu.huergo.tombers.service.event.MemberAcceptedEvent;
+import ar.edu.huergo.tombers.service.event.ProjectCreatedEvent;
+import ar.edu.huergo.tombers.service.event.ProjectDeletedEvent;
+import ar.edu.huergo.tombers.service.event.ProjectLikedEvent;
+import ar.edu.huergo.tombers.service.event.ProjectRelationsChangedEvent;
+import ar.edu.huergo.tombers.service.event.ProjectSavedEvent;
+import ar.edu.huergo.tombers.service.event.ProjectUpdatedEvent;
+import ar.edu.huergo.tombers.service.facet.FeedExclusionCache;
+import ar.edu.huergo.tombers.service.facet.ProjectFacetFilter;
+import ar.edu.huergo.tombers.service.facet.ProjectFacetIndex;
+import ar.edu.huergo.tombers.service.facet.ProjectIdSet;
+import ar.edu.huergo.tombers.service.interested.InterestedBatchWriter;
+import ar.edu.huergo.tombers.service.interested.InterestedStreamLimitException;
+import ar.edu.huergo.tombers.service.interested.InterestedStreamRegistry;
+import ar.edu.huergo.tombers.service.outbox.OutboxWriter;
+import ar.edu.huergo.tombers.service.recommendation.ProjectRecommendationService;
+import ar.edu.huergo.tombers.service.recommendation.ScoredProject;
+import ar.edu.huergo.tombers.service.search.ProjectSearchHits;
+import ar.edu.huergo.tombers.service.search.ProjectSearchIndex;
 import ar.edu.huergo.tombers.service.storage.FileStorageService;
 import ar.edu.huergo.tombers.service.storage.StorageDirectory;
 import ar.edu.huergo.tombers.service.storage.StoredFile;
+import ar.edu.huergo.tombers.service.swipe.PendingSwipe;
+import ar.edu.huergo.tombers.service.swipe.SwipeAction;
+import ar.edu.huergo.tombers.service.swipe.SwipeBatchWriter;
+import ar.edu.huergo.tombers.service.swipe.SwipeBufferFullException;
+import ar.edu.huergo.tombers.service.swipe.SwipeWriteBuffer;
+import ar.edu.huergo.tombers.service.trending.TrendingScoreboard;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 
@@ -39,22 +103,510 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class ProjectService {
 
+    /**
+     * Cantidad de proyectos que se devuelven por pagina del feed.
+     */
+    static final int FEED_PAGE_SIZE = 20;
+
+    private static final String FEED_SORT_RELEVANCE = "relevance";
+    private static final String FEED_SORT_CHRONOLOGICAL = "chronological";
+    private static final String RANKED_CURSOR_PREFIX = "r:";
+
+    // Reintentos de las operaciones que pueden chocar con el bloqueo optimista (projects.conflicts.*)
+    private static final String CONFLICT_MAX_ATTEMPTS = "${projects.conflicts.max-attempts:5}";
+    private static final String CONFLICT_INITIAL_BACKOFF = "${projects.conflicts.initial-backoff-ms:10}";
+    private static final String CONFLICT_MAX_BACKOFF = "${projects.conflicts.max-backoff-ms:200}";
+
+    static final int SEARCH_MAX_PAGE_SIZE = 50;
+    static final int SEARCH_MAX_RESULTS = 1000;
+
+    static final int INTERESTED_MAX_PAGE_SIZE = 100;
+
+    // Fecha anterior a cualquier like, como posicion inicial de la lista por fecha
+    private static final LocalDateTime INTERESTED_FIRST_APPLIED_AT = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    /**
+     * Cantidad maxima de cambios que se devuelven por pedido de sincronizacion.
+     */
+    static final int CHANGES_PAGE_SIZE = 200;
+
+    static final int TRENDING_DEFAULT_LIMIT = 20;
+
     private final ProjectRepository projectRepository;
     private final ProjectMapper projectMapper;
     private final UserRepository userRepository;
-    private final UserMapper userMapper;
     private final FileStorageService fileStorageService;
+    private final ProjectResponseAssembler projectResponseAssembler;
+    private final ProjectInteractionRepository projectInteractionRepository;
+    private final SwipeWriteBuffer swipeWriteBuffer;
+    private final SwipeBatchWriter swipeBatchWriter;
+    private final ProjectRecommendationService projectRecommendationService;
+    private final ProjectSearchIndex projectSearchIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ProjectTombstoneRepository projectTombstoneRepository;
+    private final ProjectChangesProperties projectChangesProperties;
+    private final ProjectResponseCache projectResponseCache;
+    private final TrendingScoreboard trendingScoreboard;
+    private final ProjectFacetIndex projectFacetIndex;
+    private final FeedExclusionCache feedExclusionCache;
+    private final InterestedBatchWriter interestedBatchWriter;
+    private final InterestedStreamRegistry interestedStreamRegistry;
+    private final OutboxWriter outboxWriter;
+    private final CurrentUserProvider currentUser;
 
     /**
      * Obtiene una lista de todos los proyectos disponibles en el sistema.
+     * Solo arma las respuestas que no estan en la cache.
      *
      * @return una lista de objetos ProjectResponse que representan todos los proyectos
      */
     public List<ProjectResponse> getAllProjects() {
-        List<Project> projects = projectRepository.findAll();
-        return projects.stream()
-                .map(this::buildDetailedResponse)
+        return loadResponsesInOrder(projectRepository.findAllIds());
+    }
+
+    /**
+     * Obtiene todos los proyectos en su version de tarjeta, sin cargar colecciones.
+     *
+     * @return una lista de ProjectCardView ordenada por ID
+     */
+    public List<ProjectCardView> getAllProjectCards() {
+        return projectRepository.findAllCards();
+    }
+
+    /**
+     * Obtiene una pagina del feed del usuario autenticado.
+     * El filtrado de proyectos likeados, dislikeados y propios se resuelve en la base de datos,
+     * por lo que cada pagina contiene solo proyectos que el usuario todavia puede evaluar.
+     * Por defecto los proyectos se ordenan por afinidad con las habilidades del usuario; con
+     * orden cronologico (o mientras el indice de recomendaciones no esta listo) se ordenan por ID.
+     * A partir de la segunda pagina el orden lo define el cursor.
+     *
+     * @param cursor cursor devuelto por la pagina anterior, o null para la primera pagina
+     * @param sort orden de la primera pagina: "relevance" (por defecto) o "chronological"
+     * @param filter valores de facetas que deben cumplir los proyectos; el cursor solo es valido con el mismo filtro
+     * @return un ProjectFeedResponse con los proyectos de la pagina, el cursor siguiente y, en la primera pagina, los conteos por faceta
+     * @throws IllegalArgumentException si el cursor o el orden son invalidos
+     */
+    public ProjectFeedResponse<ProjectResponse> getFeed(String cursor, String sort, ProjectFacetFilter filter) {
+        FeedPage page = resolveFeedPage(cursor, sort, filter);
+        return ProjectFeedResponse.<ProjectResponse>builder()
+                .projects(loadResponsesInOrder(page.projectIds()))
+                .nextCursor(page.nextCursor())
+                .hasMore(page.hasMore())
+                .facets(page.facets())
+                .build();
+    }
+
+    /**
+     * Igual que getFeed, pero devuelve cada proyecto como tarjeta liviana.
+     *
+     * @param cursor cursor devuelto por la pagina anterior, o null para la primera pagina
+     * @param sort orden de la primera pagina: "relevance" (por defecto) o "chronological"
+     * @param filter valores de facetas que deben cumplir los proyectos; el cursor solo es valido con el mismo filtro
+     * @return un ProjectFeedResponse con las tarjetas de la pagina, el cursor siguiente y, en la primera pagina, los conteos por faceta
+     * @throws IllegalArgumentException si el cursor o el orden son invalidos
+     */
+    public ProjectFeedResponse<ProjectCardView> getFeedCards(String cursor, String sort, ProjectFacetFilter filter) {
+        FeedPage page = resolveFeedPage(cursor, sort, filter);
+        return ProjectFeedResponse.<ProjectCardView>builder()
+                .projects(loadCardsInOrder(page.projectIds()))
+                .nextCursor(page.nextCursor())
+                .hasMore(page.hasMore())
+                .facets(page.facets())
+                .build();
+    }
+
+    /**
+     * IDs de una pagina del feed, en orden, junto con el cursor siguiente y los conteos por faceta
+     * (vacios despues de la primera pagina).
+     */
+    private record FeedPage(List<Long> projectIds, String nextCursor, boolean hasMore,
+            Map<String, Map<String, Long>> facets) {
+    }
+
+    private FeedPage resolveFeedPage(String cursor, String sort, ProjectFacetFilter filter) {
+        User user = currentUser.get();
+
+        String position = decodeCursor(cursor, "Cursor de feed invalido");
+        boolean ranked = position != null ? position.startsWith(RANKED_CURSOR_PREFIX) : isRelevanceSort(sort);
+        if (ranked && position != null && !projectRecommendationService.isReady()) {
+            throw new IllegalArgumentException("Cursor de feed invalido");
+        }
+
+        // Las exclusiones solo hacen falta para filtrar, rankear o contar: sin filtros y en orden
+        // cronologico la consulta paginada ya las aplica. Se recargan al empezar el recorrido y
+        // las paginas siguientes reutilizan las de la primera
+        boolean firstPage = position == null;
+        boolean rankedPage = ranked && projectRecommendationService.isReady();
+        ProjectIdSet excluded = null;
+        if (firstPage) {
+            excluded = feedExclusionCache.refresh(user.getId());
+        } else if (rankedPage || !filter.isEmpty()) {
+            excluded = feedExclusionCache.get(user.getId());
+        }
+
+        ProjectIdSet matching = null;
+        if (!filter.isEmpty()) {
+            matching = projectFacetIndex.match(filter);
+            matching.andNot(excluded);
+        }
+
+        FeedPage page;
+        if (rankedPage) {
+            ProjectIdSet hidden = excluded;
+            LongPredicate accepted = matching != null ? matching::contains : projectId -> !hidden.contains(projectId);
+            page = resolveRankedFeedPage(user, position, accepted);
+        } else {
+            page = resolveChronologicalFeedPage(user, position, matching);
+        }
+
+        // Los conteos se devuelven con la primera pagina; el filtro no cambia durante el recorrido
+        Map<String, Map<String, Long>> facets = Map.of();
+        if (firstPage) {
+            ProjectIdSet feedScope = projectFacetIndex.allProjects();
+            feedScope.andNot(excluded);
+            facets = projectFacetIndex.count(filter, feedScope);
+        }
+        return new FeedPage(page.projectIds(), page.nextCursor(), page.hasMore(), facets);
+    }
+
+    private FeedPage resolveChronologicalFeedPage(User user, String position, ProjectIdSet matching) {
+        long afterId = parseChronologicalCursor(position);
+        // Se pide un elemento extra para saber si existe una pagina siguiente sin hacer un COUNT
+        List<Long> page;
+        if (matching == null) {
+            page = projectRepository.findFeedPageIds(user.getId(), afterId, PageRequest.of(0, FEED_PAGE_SIZE + 1));
+        } else {
+            // Con filtros el conjunto ya excluye lo evaluado y lo propio, y se recorre en orden de ID
+            page = matching.idsAfter(afterId, FEED_PAGE_SIZE + 1);
+        }
+
+        boolean hasMore = page.size() > FEED_PAGE_SIZE;
+        List<Long> visible = hasMore ? page.subList(0, FEED_PAGE_SIZE) : page;
+        String nextCursor = hasMore ? encodeCursor(String.valueOf(visible.get(visible.size() - 1))) : null;
+        return new FeedPage(visible, nextCursor, hasMore, null);
+    }
+
+    private FeedPage resolveRankedFeedPage(User user, String position, LongPredicate accepted) {
+        ScoredProject after = position != null ? parseRankedCursor(position) : null;
+        // La condicion ya descarta lo evaluado y lo propio, asi que el ranking no vuelve a consultar la base
+        List<ScoredProject> ranked = projectRecommendationService.recommend(user, after, FEED_PAGE_SIZE + 1, accepted);
+
+        boolean hasMore = ranked.size() > FEED_PAGE_SIZE;
+        List<ScoredProject> visible = hasMore ? ranked.subList(0, FEED_PAGE_SIZE) : ranked;
+
+        String nextCursor = null;
+        if (hasMore) {
+            ScoredProject last = visible.get(visible.size() - 1);
+            nextCursor = encodeCursor(RANKED_CURSOR_PREFIX
+                    + Integer.toHexString(Float.floatToIntBits(last.score())) + ":" + last.projectId());
+        }
+        return new FeedPage(visible.stream().map(ScoredProject::projectId).toList(), nextCursor, hasMore, null);
+    }
+
+    /**
+     * Busca proyectos por texto en titulo, descripcion, tecnologias, objetivos y habilidades.
+     * Los filtros por faceta se aplican sobre los primeros SEARCH_MAX_RESULTS resultados; con
+     * filtros, el total cuenta solo los que los cumplen dentro de ese limite.
+     *
+     * @param query el texto buscado
+     * @param page numero de pagina, desde 0
+     * @param size cantidad de resultados por pagina (entre 1 y SEARCH_MAX_PAGE_SIZE)
+     * @param filter valores de facetas que deben cumplir los proyectos
+     * @return un ProjectSearchResponse con los proyectos de la pagina ordenados por relevancia y los conteos por faceta
+     * @throws IllegalArgumentException si la busqueda esta vacia o la pagina es invalida
+     */
+    public ProjectSearchResponse<ProjectResponse> searchProjects(String query, int page, int size,
+            ProjectFacetFilter filter) {
+        SearchPage result = runSearch(query, page, size, filter);
+        return ProjectSearchResponse.<ProjectResponse>builder()
+                .projects(loadResponsesInOrder(result.projectIds()))
+                .total(result.total())
+                .page(page)
+                .size(size)
+                .hasMore((long) (page + 1) * size < result.total())
+                .facets(result.facets())
+                .build();
+    }
+
+    /**
+     * Igual que searchProjects, pero devuelve cada proyecto como tarjeta liviana.
+     *
+     * @param query el texto buscado
+     * @param page numero de pagina, desde 0
+     * @param size cantidad de resultados por pagina (entre 1 y SEARCH_MAX_PAGE_SIZE)
+     * @param filter valores de facetas que deben cumplir los proyectos
+     * @return un ProjectSearchResponse con las tarjetas de la pagina ordenadas por relevancia y los conteos por faceta
+     * @throws IllegalArgumentException si la busqueda esta vacia o la pagina es invalida
+     */
+    public ProjectSearchResponse<ProjectCardView> searchProjectCards(String query, int page, int size,
+            ProjectFacetFilter filter) {
+        SearchPage result = runSearch(query, page, size, filter);
+        return ProjectSearchResponse.<ProjectCardView>builder()
+                .projects(loadCardsInOrder(result.projectIds()))
+                .total(result.total())
+                .page(page)
+                .size(size)
+                .hasMore((long) (page + 1) * size < result.total())
+                .facets(result.facets())
+                .build();
+    }
+
+    /**
+     * IDs de una pagina de resultados, el total de coincidencias y los conteos por faceta.
+     */
+    private record SearchPage(List<Long> projectIds, long total, Map<String, Map<String, Long>> facets) {
+    }
+
+    private SearchPage runSearch(String query, int page, int size, ProjectFacetFilter filter) {
+        if (!StringUtils.hasText(query)) {
+            throw new IllegalArgumentException("El texto de busqueda es obligatorio");
+        }
+        if (page < 0 || size < 1 || size > SEARCH_MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Pagina invalida: page debe ser >= 0 y size entre 1 y " + SEARCH_MAX_PAGE_SIZE);
+        }
+        if ((long) (page + 1) * size > SEARCH_MAX_RESULTS) {
+            throw new IllegalArgumentException("Solo se pueden recorrer los primeros " + SEARCH_MAX_RESULTS + " resultados");
+        }
+
+        // Se traen todos los resultados recorribles para filtrarlos y contar sus facetas
+        ProjectSearchHits hits = projectSearchIndex.search(query.trim(), 0, SEARCH_MAX_RESULTS);
+        List<Long> matching = hits.projectIds();
+        long total = hits.total();
+        if (!filter.isEmpty()) {
+            ProjectIdSet accepted = projectFacetIndex.match(filter);
+            matching = matching.stream().filter(accepted::contains).toList();
+            total = matching.size();
+        }
+
+        int from = Math.min(page * size, matching.size());
+        int to = Math.min(from + size, matching.size());
+        return new SearchPage(matching.subList(from, to), total,
+                projectFacetIndex.count(filter, ProjectIdSet.of(hits.projectIds())));
+    }
+
+    /**
+     * Carga los proyectos de una pagina con una sola consulta y respeta el orden recibido.
+     */
+    private List<Project> loadInOrder(List<Long> projectIds) {
+        if (projectIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Map<Long, Project> projectsById = new HashMap<>();
+        for (Project project : projectRepository.findAllById(projectIds)) {
+            projectsById.put(project.getId(), project);
+        }
+        return projectIds.stream().map(projectsById::get).filter(Objects::nonNull).toList();
+    }
+
+    /**
+     * Obtiene las respuestas de una pagina en el orden recibido; arma en lote solo las que
+     * no estan en la cache.
+     */
+    private List<ProjectResponse> loadResponsesInOrder(List<Long> projectIds) {
+        if (projectIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return projectResponseCache.getAll(projectIds,
+                missing -> projectResponseAssembler.toResponses(loadInOrder(missing)));
+    }
+
+    /**
+     * Carga las tarjetas de una pagina con una sola consulta y respeta el orden recibido.
+     */
+    private List<ProjectCardView> loadCardsInOrder(List<Long> projectIds) {
+        if (projectIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Map<Long, ProjectCardView> cardsById = new HashMap<>();
+        for (ProjectCardView card : projectRepository.findCardsByIds(projectIds)) {
+            cardsById.put(card.id(), card);
+        }
+        return projectIds.stream().map(cardsById::get).filter(Objects::nonNull).toList();
+    }
+
+    /**
+     * Obtiene los cambios de proyectos (altas, modificaciones y bajas) posteriores a un token,
+     * en el orden en que ocurrieron. Sin token devuelve todos los proyectos desde el inicio.
+     * Solo entrega cambios con una antiguedad minima (settle-delay) para no saltear los de
+     * transacciones que todavia no confirmaron.
+     *
+     * @param since token devuelto por el pedido anterior, o null para empezar desde el inicio
+     * @return un ProjectChangesResponse con los cambios y el token siguiente
+     * @throws IllegalArgumentException si el token es invalido
+     */
+    public ProjectChangesResponse<ProjectResponse> getProjectChanges(String since) {
+        return resolveChanges(since, projectIds -> {
+            Map<Long, ProjectResponse> responses = new HashMap<>();
+            for (ProjectResponse response : loadResponsesInOrder(projectIds)) {
+                responses.put(response.getId(), response);
+            }
+            return responses;
+        });
+    }
+
+    /**
+     * Igual que getProjectChanges, pero devuelve cada proyecto como tarjeta liviana.
+     *
+     * @param since token devuelto por el pedido anterior, o null para empezar desde el inicio
+     * @return un ProjectChangesResponse con los cambios y el token siguiente
+     * @throws IllegalArgumentException si el token es invalido
+     */
+    public ProjectChangesResponse<ProjectCardView> getProjectChangeCards(String since) {
+        return resolveChanges(since, projectIds -> {
+            Map<Long, ProjectCardView> cards = new HashMap<>();
+            for (ProjectCardView card : loadCardsInOrder(projectIds)) {
+                cards.put(card.id(), card);
+            }
+            return cards;
+        });
+    }
+
+    /**
+     * Posicion en el orden de cambios: momento del cambio e ID del proyecto.
+     */
+    private record ChangePosition(Instant changedAt, long projectId) {
+
+        int compareTo(Instant otherChangedAt, long otherProjectId) {
+            int byTime = changedAt.compareTo(otherChangedAt);
+            return byTime != 0 ? byTime : Long.compare(projectId, otherProjectId);
+        }
+    }
+
+    private <T> ProjectChangesResponse<T> resolveChanges(String since, Function<List<Long>, Map<Long, T>> loader) {
+        ChangePosition from = parseChangesToken(decodeCursor(since, "Token de cambios invalido"));
+        Instant until = Project.currentChangeInstant().minus(projectChangesProperties.getSettleDelay());
+        // Al llegar al final se avanza hasta until, que ya no puede recibir cambios nuevos
+        ChangePosition end = new ChangePosition(until, Long.MAX_VALUE);
+
+        Instant retained = Instant.now().minus(projectChangesProperties.getTombstoneRetention());
+        if (StringUtils.hasText(since) && from.changedAt().isBefore(retained)) {
+            // Las bajas de ese periodo pueden ya no existir: el cliente debe recargar todo
+            return ProjectChangesResponse.<T>builder()
+                    .nextToken(encodeChangesToken(end))
+                    .resyncRequired(true)
+                    .build();
+        }
+
+        PageRequest limit = PageRequest.of(0, CHANGES_PAGE_SIZE + 1);
+        List<ProjectRepository.ProjectChangeRef> updated =
+                projectRepository.findChangedSince(from.changedAt(), from.projectId(), until, limit);
+        List<ProjectTombstone> deleted =
+                projectTombstoneRepository.findDeletedSince(from.changedAt(), from.projectId(), until, limit);
+
+        // Mezcla las dos listas, ya ordenadas, por momento de cambio e ID
+        List<ProjectChangesResponse.ProjectChange<T>> changes = new ArrayList<>();
+        int u = 0;
+        int d = 0;
+        ChangePosition last = null;
+        while (changes.size() < CHANGES_PAGE_SIZE && (u < updated.size() || d < deleted.size())) {
+            boolean takeUpdate = d >= deleted.size() || (u < updated.size()
+                    && new ChangePosition(updated.get(u).getChangedAt(), updated.get(u).getId())
+                            .compareTo(deleted.get(d).getDeletedAt(), deleted.get(d).getProjectId()) < 0);
+            if (takeUpdate) {
+                ProjectRepository.ProjectChangeRef ref = updated.get(u++);
+                changes.add(ProjectChangesResponse.ProjectChange.<T>builder()
+                        .type(ProjectChangesResponse.ChangeType.UPSERT)
+                        .projectId(ref.getId())
+                        .changedAt(ref.getChangedAt())
+                        .build());
+                last = new ChangePosition(ref.getChangedAt(), ref.getId());
+            } else {
+                ProjectTombstone tombstone = deleted.get(d++);
+                changes.add(ProjectChangesResponse.ProjectChange.<T>builder()
+                        .type(ProjectChangesResponse.ChangeType.DELETE)
+                        .projectId(tombstone.getProjectId())
+                        .changedAt(tombstone.getDeletedAt())
+                        .build());
+                last = new ChangePosition(tombstone.getDeletedAt(), tombstone.getProjectId());
+            }
+        }
+        boolean hasMore = u < updated.size() || d < deleted.size();
+
+        List<Long> upsertIds = changes.stream()
+                .filter(change -> change.getType() == ProjectChangesResponse.ChangeType.UPSERT)
+                .map(ProjectChangesResponse.ProjectChange::getProjectId)
                 .toList();
+        Map<Long, T> projects = upsertIds.isEmpty() ? Map.of() : loader.apply(upsertIds);
+        // Un proyecto eliminado entre ambas consultas se omite; su baja llega en un pedido posterior
+        List<ProjectChangesResponse.ProjectChange<T>> visible = new ArrayList<>(changes.size());
+        for (ProjectChangesResponse.ProjectChange<T> change : changes) {
+            if (change.getType() == ProjectChangesResponse.ChangeType.UPSERT) {
+                T project = projects.get(change.getProjectId());
+                if (project == null) {
+                    continue;
+                }
+                change.setProject(project);
+            }
+            visible.add(change);
+        }
+
+        return ProjectChangesResponse.<T>builder()
+                .changes(visible)
+                .nextToken(encodeChangesToken(hasMore ? last : end))
+                .hasMore(hasMore)
+                .build();
+    }
+
+    /**
+     * Obtiene los proyectos en tendencia: los que mas likes recibieron recientemente, con cada
+     * like pesando menos a medida que envejece. El ranking se lee de memoria; solo los proyectos
+     * que no estan en la cache de respuestas se cargan de la base.
+     *
+     * @param limit cantidad de proyectos a devolver (entre 1 y el tamaño del ranking), o null para el valor por defecto
+     * @return un ProjectTrendingResponse con los proyectos de mayor a menor puntaje
+     * @throws IllegalArgumentException si el limite es invalido
+     */
+    public ProjectTrendingResponse<ProjectResponse> getTrendingProjects(Integer limit) {
+        return resolveTrending(limit, projectIds -> {
+            Map<Long, ProjectResponse> responses = new HashMap<>();
+            for (ProjectResponse response : loadResponsesInOrder(projectIds)) {
+                responses.put(response.getId(), response);
+            }
+            return responses;
+        });
+    }
+
+    /**
+     * Igual que getTrendingProjects, pero devuelve cada proyecto como tarjeta liviana.
+     *
+     * @param limit cantidad de proyectos a devolver (entre 1 y el tamaño del ranking), o null para el valor por defecto
+     * @return un ProjectTrendingResponse con las tarjetas de mayor a menor puntaje
+     * @throws IllegalArgumentException si el limite es invalido
+     */
+    public ProjectTrendingResponse<ProjectCardView> getTrendingProjectCards(Integer limit) {
+        return resolveTrending(limit, projectIds -> {
+            Map<Long, ProjectCardView> cards = new HashMap<>();
+            for (ProjectCardView card : loadCardsInOrder(projectIds)) {
+                cards.put(card.id(), card);
+            }
+            return cards;
+        });
+    }
+
+    private <T> ProjectTrendingResponse<T> resolveTrending(Integer limit, Function<List<Long>, Map<Long, T>> loader) {
+        int size = limit != null ? limit : Math.min(TRENDING_DEFAULT_LIMIT, trendingScoreboard.capacity());
+        if (size < 1 || size > trendingScoreboard.capacity()) {
+            throw new IllegalArgumentException("El limite debe estar entre 1 y " + trendingScoreboard.capacity());
+        }
+
+        List<TrendingScoreboard.TrendingProject> ranked = trendingScoreboard.top(size);
+        if (ranked.isEmpty()) {
+            return ProjectTrendingResponse.<T>builder().build();
+        }
+        Map<Long, T> projects = loader.apply(ranked.stream().map(TrendingScoreboard.TrendingProject::projectId).toList());
+        // Un proyecto eliminado antes de salir del ranking se omite
+        List<ProjectTrendingResponse.TrendingProject<T>> trending = new ArrayList<>(ranked.size());
+        for (TrendingScoreboard.TrendingProject entry : ranked) {
+            T project = projects.get(entry.projectId());
+            if (project != null) {
+                trending.add(ProjectTrendingResponse.TrendingProject.<T>builder()
+                        .score(entry.score())
+                        .project(project)
+                        .build());
+            }
+        }
+        return ProjectTrendingResponse.<T>builder().projects(trending).build();
     }
 
     /**
@@ -65,9 +617,45 @@ public class ProjectService {
      * @throws EntityNotFoundException si el proyecto no existe
      */
     public ProjectResponse getProjectById(Long id) {
-        Project project = projectRepository.findById(id)
+        return projectResponseCache.get(id, this::loadProjectResponse);
+    }
+
+    /**
+     * Obtiene un proyecto especifico armado al menos con las versiones de un ETag. La respuesta en
+     * cache se reutiliza solo si se armo con ese mismo ETag; si no (por ejemplo, entre el commit de
+     * un cambio y la invalidacion de la cache), se vuelve a armar.
+     *
+     * @param id el identificador del proyecto
+     * @param etag el ETag devuelto por getProjectETag para este proyecto
+     * @return un objeto ProjectResponse que representa el proyecto encontrado
+     * @throws EntityNotFoundException si el proyecto no existe
+     */
+    public ProjectResponse getProjectById(Long id, String etag) {
+        return projectResponseCache.get(id, etag, this::loadProjectResponse);
+    }
+
+    private ProjectResponse loadProjectResponse(Long projectId) {
+        Project project = projectRepository.findById(projectId)
                 .orElseThrow(() -> new EntityNotFoundException("Proyecto no encontrado"));
-        return buildDetailedResponse(project);
+        return projectResponseAssembler.toResponse(project);
+    }
+
+    /**
+     * Calcula el ETag de la respuesta de getProjectById sin cargar el proyecto ni sus colecciones.
+     * Combina la version del proyecto con las de su creador e integrantes, porque la respuesta
+     * incluye sus datos. Las versiones se leen antes que el contenido, asi que la respuesta que se
+     * entrega con el ETag nunca es mas vieja que el; para eso hay que obtenerla con
+     * getProjectById(id, etag), que no reutiliza una respuesta en cache armada con otro ETag.
+     *
+     * @param id el identificador del proyecto
+     * @return el ETag fuerte de la respuesta, entre comillas
+     * @throws EntityNotFoundException si el proyecto no existe
+     */
+    public String getProjectETag(Long id) {
+        long version = projectRepository.findVersionById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Proyecto no encontrado"));
+        long participantsVersion = userRepository.sumParticipantVersions(id);
+        return "\"p" + id + "-" + version + "-" + participantsVersion + "\"";
     }
 
     /**
@@ -77,14 +665,13 @@ public class ProjectService {
      * @param bannerFile archivo con el banner del proyecto
      * @return un objeto ProjectResponse que representa el proyecto creado
      */
+    @Transactional
     public ProjectResponse createProject(ProjectCreateRequest request, MultipartFile bannerFile) {
         if (bannerFile == null || bannerFile.isEmpty()) {
             throw new IllegalArgumentException("El banner del proyecto es obligatorio");
         }
 
-        String userEmail = getAuthenticatedUserEmail();
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new EntityNotFoundException("Usuario no encontrado"));
+        User user = currentUser.get();
 
         Project project = projectMapper.toEntity(request);
         project.setStatus(resolveStatus(request.getStatus()));
@@ -110,9 +697,12 @@ public class ProjectService {
         if (!user.getCreatedProjectIds().contains(savedProject.getId())) {
             user.getCreatedProjectIds().add(savedProject.getId());
         }
+        user.markModified();
         userRepository.save(user);
+        outboxWriter.append(new ProjectCreatedEvent(savedProject.getId(), user.getId(), Instant.now()));
+        eventPublisher.publishEvent(new ProjectSavedEvent(savedProject));
 
-        return buildDetailedResponse(savedProject);
+        return projectResponseAssembler.toResponse(savedProject);
     }
 
     /**
@@ -124,6 +714,7 @@ public class ProjectService {
      * @return un objeto ProjectResponse que representa el proyecto actualizado
      * @throws EntityNotFoundException si el proyecto no existe
      */
+    @Transactional
     public ProjectResponse updateProject(Long id, ProjectCreateRequest request, MultipartFile bannerFile) {
         Project project = projectRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Proyecto no encontrado"));
@@ -148,30 +739,36 @@ public class ProjectService {
         project.setTechnologies(sanitizeStringList(project.getTechnologies()));
         project.setSkillsNeeded(sanitizeSkills(project.getSkillsNeeded()));
         project.setUpdatedAt(LocalDate.now());
+        // Si solo cambiaron colecciones, Hibernate aumenta la version pero changedAt se registra aca
+        project.markModified();
 
         if (bannerFile != null && !bannerFile.isEmpty()) {
             StoredFile storedBanner = fileStorageService.store(bannerFile, StorageDirectory.PROJECT_BANNER);
             String newBannerUrl = storedBanner.publicUrl();
             project.setBannerUrl(newBannerUrl);
             if (previousBannerUrl != null && !previousBannerUrl.equals(newBannerUrl)) {
-                fileStorageService.deleteByPublicUrl(previousBannerUrl);
+                // Si la actualizacion se deshace el proyecto sigue apuntando al banner anterior
+                afterCommit(() -> fileStorageService.deleteByPublicUrl(previousBannerUrl));
             }
         }
 
         Project updatedProject = projectRepository.save(project);
-        return buildDetailedResponse(updatedProject);
+        outboxWriter.append(new ProjectUpdatedEvent(updatedProject.getId(), Instant.now()));
+        eventPublisher.publishEvent(new ProjectSavedEvent(updatedProject));
+        return projectResponseAssembler.toResponse(updatedProject);
     }
 
     /**
-     * Elimina un proyecto por su identificador.
+     * Elimina un proyecto por su identificador. La baja, sus interacciones, las versiones de los
+     * perfiles afectados y la lapida para la sincronizacion se confirman juntas; los indices se
+     * actualizan y el banner se borra recien despues del commit.
      *
      * @param id el identificador del proyecto a eliminar
      * @throws EntityNotFoundException si el proyecto no existe
      */
+    @Transactional
     public void deleteProject(Long id) {
-        String userEmail = SecurityContextHolder.getContext().getAuthentication().getName();
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new EntityNotFoundException("Usuario no encontrado"));
+        User user = currentUser.get();
 
         Project project = projectRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Proyecto no encontrado"));
@@ -187,180 +784,171 @@ public class ProjectService {
         }
 
         projectRepository.deleteById(id);
-        fileStorageService.deleteByPublicUrl(projectBannerUrl);
+        // Los likes y dislikes del proyecto desaparecen de los perfiles de quienes lo evaluaron
+        userRepository.incrementVersionsByInteractedProject(id);
+        projectInteractionRepository.deleteByProjectId(id);
+        projectTombstoneRepository.save(new ProjectTombstone(id, Project.currentChangeInstant()));
+        eventPublisher.publishEvent(new ProjectDeletedEvent(id));
+        afterCommit(() -> fileStorageService.deleteByPublicUrl(projectBannerUrl));
     }
 
     /**
      * Permite a un usuario dar like a un proyecto.
-     * Agrega el ID del usuario a la lista de likes del proyecto y
-     * agrega el ID del proyecto a la lista de proyectos likeados del usuario.
+     * Registra la interaccion LIKE del usuario con el proyecto; si el usuario
+     * lo habia dislikeado, la interaccion existente pasa a ser un like.
      *
      * @param projectId el identificador del proyecto al que se le quiere dar like
      * @throws EntityNotFoundException si el proyecto no existe
      */
+    @Transactional
     public void likeProject(Long projectId) {
-        // Obtener el usuario autenticado
-        String userEmail = SecurityContextHolder.getContext().getAuthentication().getName();
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new EntityNotFoundException("Usuario no encontrado"));
-
-        // Verificar si el proyecto existe
-        Project project = projectRepository.findById(projectId)
-                .orElseThrow(() -> new EntityNotFoundException("Proyecto no encontrado"));
-
-        // Inicializar listas si son null
-        if (user.getLikedProjectIds() == null) {
-            user.setLikedProjectIds(new ArrayList<>());
-        }
-        if (project.getLikeIds() == null) {
-            project.setLikeIds(new ArrayList<>());
-        }
-
-        // Verificar que el usuario no haya dado like ya
-        if (user.getLikedProjectIds().contains(projectId)) {
-            throw new IllegalArgumentException("El usuario ya le dio like a este proyecto");
-        }
-
-        // Verificar que el usuario no haya dado dislike (no puede tener ambos)
-        if (user.getDislikedProjectIds() != null && user.getDislikedProjectIds().contains(projectId)) {
-            user.getDislikedProjectIds().remove(projectId);
-        }
-
-        // Agregar like: usuario -> proyecto y proyecto -> usuario
-        user.getLikedProjectIds().add(projectId);
-        project.getLikeIds().add(user.getId());
-
-        // Guardar cambios
-        userRepository.save(user);
-        projectRepository.save(project);
+        applySwipe(projectId, SwipeAction.LIKE);
     }
 
     /**
      * Permite a un usuario quitar el like de un proyecto.
-     * Remueve el ID del usuario de la lista de likes del proyecto y
-     * remueve el ID del proyecto de la lista de proyectos likeados del usuario.
+     * Elimina la interaccion LIKE del usuario con el proyecto.
      *
      * @param projectId el identificador del proyecto del que se quiere quitar el like
      * @throws EntityNotFoundException si el proyecto no existe
      */
+    @Transactional
     public void unlikeProject(Long projectId) {
-        // Obtener el usuario autenticado
-        String userEmail = SecurityContextHolder.getContext().getAuthentication().getName();
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new EntityNotFoundException("Usuario no encontrado"));
-
-        // Verificar si el proyecto existe
-        Project project = projectRepository.findById(projectId)
-                .orElseThrow(() -> new EntityNotFoundException("Proyecto no encontrado"));
-
-        // Verificar que el usuario haya dado like previamente
-        if (user.getLikedProjectIds() == null || !user.getLikedProjectIds().contains(projectId)) {
-            throw new IllegalArgumentException("El usuario no le ha dado like a este proyecto");
-        }
-
-        // Remover like: usuario -> proyecto y proyecto -> usuario
-        user.getLikedProjectIds().remove(projectId);
-        if (project.getLikeIds() != null) {
-            project.getLikeIds().remove(user.getId());
-        }
-
-        // Guardar cambios
-        userRepository.save(user);
-        projectRepository.save(project);
+        applySwipe(projectId, SwipeAction.UNLIKE);
     }
 
     /**
      * Permite a un usuario dar dislike a un proyecto.
-     * Agrega el ID del usuario a la lista de dislikes del proyecto y
-     * agrega el ID del proyecto a la lista de proyectos dislikeados del usuario.
+     * Registra la interaccion DISLIKE del usuario con el proyecto; si el usuario
+     * le habia dado like, la interaccion existente pasa a ser un dislike.
      *
      * @param projectId el identificador del proyecto al que se le quiere dar dislike
      * @throws EntityNotFoundException si el proyecto no existe
      */
+    @Transactional
     public void dislikeProject(Long projectId) {
-        // Obtener el usuario autenticado
-        String userEmail = SecurityContextHolder.getContext().getAuthentication().getName();
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new EntityNotFoundException("Usuario no encontrado"));
-
-        // Verificar si el proyecto existe
-        Project project = projectRepository.findById(projectId)
-                .orElseThrow(() -> new EntityNotFoundException("Proyecto no encontrado"));
-
-        // Inicializar listas si son null
-        if (user.getDislikedProjectIds() == null) {
-            user.setDislikedProjectIds(new ArrayList<>());
-        }
-
-        // Verificar que el usuario no haya dado dislike ya
-        if (user.getDislikedProjectIds().contains(projectId)) {
-            throw new IllegalArgumentException("El usuario ya le dio dislike a este proyecto");
-        }
-
-        // Verificar que el usuario no haya dado like (no puede tener ambos)
-        if (user.getLikedProjectIds() != null && user.getLikedProjectIds().contains(projectId)) {
-            user.getLikedProjectIds().remove(projectId);
-            if (project.getLikeIds() != null) {
-                project.getLikeIds().remove(user.getId());
-            }
-        }
-
-        // Agregar dislike: usuario -> proyecto
-        user.getDislikedProjectIds().add(projectId);
-
-        // Guardar cambios
-        userRepository.save(user);
-        projectRepository.save(project);
+        applySwipe(projectId, SwipeAction.DISLIKE);
     }
 
     /**
      * Permite a un usuario quitar el dislike de un proyecto.
-     * Remueve el ID del proyecto de la lista de proyectos dislikeados del usuario.
+     * Elimina la interaccion DISLIKE del usuario con el proyecto.
      *
      * @param projectId el identificador del proyecto del que se quiere quitar el dislike
      * @throws EntityNotFoundException si el proyecto no existe
      */
+    @Transactional
     public void undislikeProject(Long projectId) {
-        // Obtener el usuario autenticado
-        String userEmail = SecurityContextHolder.getContext().getAuthentication().getName();
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new EntityNotFoundException("Usuario no encontrado"));
+        applySwipe(projectId, SwipeAction.UNDISLIKE);
+    }
 
-        // Verificar si el proyecto existe
-        Project project = projectRepository.findById(projectId)
-                .orElseThrow(() -> new EntityNotFoundException("Proyecto no encontrado"));
+    /**
+     * Aplica en orden una lista de swipes del usuario autenticado.
+     * Usa las mismas reglas que likeProject, unlikeProject, dislikeProject y undislikeProject,
+     * evaluando cada decision sobre el estado que dejaron las anteriores. Una decision invalida
+     * se informa en su resultado sin afectar al resto. El estado inicial se lee con dos consultas
+     * y los cambios se escriben juntos en una unica transaccion con batches JDBC.
+     *
+     * @param request las decisiones a aplicar
+     * @return un objeto SwipeBatchResponse con el resultado de cada decision en el orden recibido
+     */
+    @Transactional
+    public SwipeBatchResponse applySwipes(SwipeBatchRequest request) {
+        // Obtener el usuario autenticado una sola vez para todo el lote
+        User user = currentUser.get();
+
+        List<SwipeBatchRequest.SwipeDecision> decisions = request.getSwipes();
+        Set<Long> projectIds = decisions.stream()
+                .map(SwipeBatchRequest.SwipeDecision::getProjectId)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        Set<Long> existingIds = projectIds.isEmpty() ? Set.of() : projectRepository.findExistingIds(projectIds);
+
+        Map<Long, InteractionType> persisted = new HashMap<>();
+        if (!existingIds.isEmpty()) {
+            for (ProjectInteraction interaction
+                    : projectInteractionRepository.findByUserIdAndProjectIdIn(user.getId(), existingIds)) {
+                persisted.put(interaction.getProjectId(), interaction.getType());
+            }
+        }
 
-        // Verificar que el usuario haya dado dislike previamente
-        if (user.getDislikedProjectIds() == null || !user.getDislikedProjectIds().contains(projectId)) {
-            throw new IllegalArgumentException("El usuario no le ha dado dislike a este proyecto");
+        boolean buffered = swipeWriteBuffer.isEnabled();
+        Map<Long, InteractionType> states = new HashMap<>(persisted);
+        Map<Long, PendingSwipe> changes = new LinkedHashMap<>();
+        List<SwipeBatchResponse.SwipeResult> results = new ArrayList<>(decisions.size());
+        int applied = 0;
+
+        for (int index = 0; index < decisions.size(); index++) {
+            SwipeBatchRequest.SwipeDecision decision = decisions.get(index);
+            Long projectId = decision.getProjectId();
+            SwipeBatchResponse.SwipeResult.SwipeResultBuilder result = SwipeBatchResponse.SwipeResult.builder()
+                    .index(index)
+                    .projectId(projectId)
+                    .action(decision.getAction());
+            try {
+                if (!existingIds.contains(projectId)) {
+                    throw new EntityNotFoundException("Proyecto no encontrado");
+                }
+                if (buffered) {
+                    swipeWriteBuffer.submit(user.getId(), projectId, decision.getAction(), () -> persisted.get(projectId));
+                } else {
+                    InteractionType current = states.get(projectId);
+                    InteractionType target = decision.getAction().apply(current);
+                    states.put(projectId, target);
+                    PendingSwipe previous = changes.get(projectId);
+                    InteractionType baseline = previous != null ? previous.baseline() : current;
+                    changes.put(projectId, new PendingSwipe(user.getId(), projectId, baseline, target, LocalDateTime.now()));
+                }
+                result.success(true);
+                applied++;
+            } catch (IllegalArgumentException | EntityNotFoundException | SwipeBufferFullException ex) {
+                result.success(false).error(ex.getMessage());
+            }
+            results.add(result.build());
         }
 
-        // Remover dislike: usuario -> proyecto
-        user.getDislikedProjectIds().remove(projectId);
+        // Solo se escriben los pares cuyo estado final difiere del guardado
+        List<PendingSwipe> writes = changes.values().stream()
+                .filter(change -> change.baseline() != change.target())
+                .toList();
+        if (!writes.isEmpty()) {
+            swipeBatchWriter.write(writes);
+        }
 
-        // Guardar cambios
-        userRepository.save(user);
-        projectRepository.save(project);
+        return SwipeBatchResponse.builder()
+                .results(results)
+                .applied(applied)
+                .rejected(decisions.size() - applied)
+                .build();
     }
 
     /**
      * Permite al creador o admin de un proyecto ver la lista de usuarios interesados.
-     * Los interesados son usuarios que dieron like al proyecto pero no son miembros.
+     * Los interesados son usuarios que dieron like al proyecto pero no son miembros; la base de
+     * datos los resuelve con un anti-join contra los integrantes y devuelve una pagina a la vez,
+     * a continuacion del cursor. Solo se leen los datos que muestra la vista de interesados.
+     * A partir de la segunda pagina el orden lo define el cursor.
      *
      * @param projectId el identificador del proyecto
-     * @return un objeto InterestedUsersResponse con la lista de usuarios interesados
+     * @param cursor cursor devuelto por la pagina anterior, o null para la primera pagina
+     * @param sort orden de la primera pagina: "applied" (por defecto), "skills" o "rating"
+     * @param size cantidad de interesados por pagina (entre 1 y INTERESTED_MAX_PAGE_SIZE)
+     * @return un objeto InterestedUsersResponse con los interesados de la pagina y el cursor siguiente
      * @throws EntityNotFoundException si el proyecto no existe
      * @throws AccessDeniedException si el usuario no es el creador o admin del proyecto
+     * @throws IllegalArgumentException si el cursor, el orden o el tamano de pagina son invalidos
      */
-    public InterestedUsersResponse getInterestedUsers(Long projectId) {
-        // Verificar si el proyecto existe primero
-        Project project = projectRepository.findById(projectId)
+    public InterestedUsersResponse getInterestedUsers(Long projectId, String cursor, String sort, int size) {
+        if (size < 1 || size > INTERESTED_MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Tamano de pagina invalido: size debe estar entre 1 y " + INTERESTED_MAX_PAGE_SIZE);
+        }
+
+        // La tarjeta trae el titulo y el contador de interesados sin cargar colecciones
+        ProjectCardView card = projectRepository.findCardsByIds(List.of(projectId)).stream()
+                .findFirst()
                 .orElseThrow(() -> new EntityNotFoundException("Proyecto no encontrado"));
 
         // Obtener el usuario autenticado con validaciones adicionales
-        String userEmail = getAuthenticatedUserEmail();
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new EntityNotFoundException("Usuario no encontrado"));
+        User user = currentUser.get();
 
         // Verificar si el usuario es el creador del proyecto o admin
         boolean isOwnerOrAdmin = isUserOwnerOrAdmin(user, projectId);
@@ -369,50 +957,156 @@ public class ProjectService {
             throw new AccessDeniedException("Solo el creador o admin del proyecto puede ver los usuarios interesados. Usuario: " + user.getEmail() + ", Proyecto: " + projectId);
         }
 
-        // Obtener usuarios interesados (quienes dieron like pero no son miembros)
-        List<Long> interestedUserIds = new ArrayList<>();
-        if (project.getLikeIds() != null) {
-            for (Long userId : project.getLikeIds()) {
-                if (project.getMemberIds() == null || !project.getMemberIds().contains(userId)) {
-                    interestedUserIds.add(userId);
-                }
-            }
-        }
-
-        // Convertir IDs a UserResponse
-        List<User> interestedUsers = userRepository.findAllById(interestedUserIds);
-        List<UserResponse> userResponses = interestedUsers.stream()
-                .map(userMapper::toDto)
-                .toList();
+        String position = decodeCursor(cursor, "Cursor de interesados invalido");
+        InterestedPosition after = position != null ? parseInterestedCursor(position) : null;
+        InterestedUsersSort order = after != null ? after.sort() : InterestedUsersSort.from(sort);
+
+        // Se pide un elemento extra para saber si existe una pagina siguiente sin hacer un COUNT
+        Pageable limit = PageRequest.of(0, size + 1);
+        long afterUserId = after != null ? after.userId() : 0L;
+        List<ProjectInteractionRepository.InterestedUserRef> page = switch (order) {
+            case APPLIED -> projectInteractionRepository.findInterestedByAppliedAt(projectId, InteractionType.LIKE,
+                    after != null ? after.appliedAt() : INTERESTED_FIRST_APPLIED_AT, afterUserId, limit);
+            case SKILLS -> projectInteractionRepository.findInterestedBySkillMatches(projectId, InteractionType.LIKE,
+                    after != null ? after.skillMatches() : Long.MAX_VALUE, afterUserId, limit);
+            case RATING -> projectInteractionRepository.findInterestedByRating(projectId, InteractionType.LIKE,
+                    after != null ? after.rating() : Double.MAX_VALUE, afterUserId, limit);
+        };
+
+        boolean hasMore = page.size() > size;
+        List<ProjectInteractionRepository.InterestedUserRef> visible = hasMore ? page.subList(0, size) : page;
 
         return InterestedUsersResponse.builder()
                 .projectId(projectId)
-                .projectTitle(project.getTitle())
-                .interestedUsers(userResponses)
-                .totalInterested(interestedUserIds.size())
+                .projectTitle(card.title())
+                .interestedUsers(toInterestedSummaries(visible))
+                .totalInterested(Math.toIntExact(card.interestedCount()))
+                .sort(order.name().toLowerCase(Locale.ROOT))
+                .nextCursor(hasMore ? encodeInterestedCursor(order, visible.get(visible.size() - 1)) : null)
+                .hasMore(hasMore)
                 .build();
     }
 
+    /**
+     * Abre un stream (SSE) que avisa al creador o admin de un proyecto cada vez que un usuario
+     * nuevo se interesa en el. Cada evento "interested" trae el mismo resumen que la lista de
+     * interesados y "interested-updated" lo reemplaza cuando cambia su calificacion; "accepted"
+     * trae el ID de un interesado que paso a ser integrante y "project-updated" avisa que cambiaron
+     * los datos del proyecto. Los heartbeats viajan como comentarios.
+     *
+     * @param projectId el identificador del proyecto
+     * @return el emisor del stream
+     * @throws EntityNotFoundException si el proyecto no existe
+     * @throws AccessDeniedException si el usuario no es el creador o admin del proyecto
+     * @throws InterestedStreamLimitException si el nodo alcanzo el maximo de streams abiertos
+     */
+    public SseEmitter openInterestedStream(Long projectId) {
+        ensureProjectExists(projectId);
+
+        User user = currentUser.get();
+        if (!isUserOwnerOrAdmin(user, projectId)) {
+            throw new AccessDeniedException("Solo el creador o admin del proyecto puede ver los usuarios interesados. Usuario: " + user.getEmail() + ", Proyecto: " + projectId);
+        }
+        return interestedStreamRegistry.open(projectId);
+    }
+
+    /**
+     * Obtiene el resumen de un interesado de un proyecto. No verifica permisos: lo usa el stream
+     * de interesados, que los verifico al abrirse.
+     *
+     * @param projectId el identificador del proyecto
+     * @param userId el identificador del usuario
+     * @return el resumen, o vacio si el usuario no dio like al proyecto o ya es integrante
+     */
+    public Optional<InterestedUserSummary> findInterestedUser(Long projectId, Long userId) {
+        return projectInteractionRepository.findInterestedByUserId(projectId, InteractionType.LIKE, userId)
+                .map(ref -> toInterestedSummaries(List.of(ref)).get(0));
+    }
+
+    /**
+     * Posicion del ultimo interesado de una pagina: el orden y el valor por el que se ordena
+     * (fecha del like, habilidades en comun o calificacion), mas su ID para desempatar.
+     */
+    private record InterestedPosition(InterestedUsersSort sort, LocalDateTime appliedAt, long skillMatches,
+            double rating, long userId) {
+    }
+
+    /**
+     * Arma los resumenes de una pagina de interesados, con sus habilidades e intereses leidos en
+     * una consulta por coleccion para toda la pagina.
+     */
+    private List<InterestedUserSummary> toInterestedSummaries(List<ProjectInteractionRepository.InterestedUserRef> refs) {
+        if (refs.isEmpty()) {
+            return List.of();
+        }
+        List<Long> userIds = refs.stream().map(ProjectInteractionRepository.InterestedUserRef::getId).toList();
+        Map<Long, List<Skill>> skills = new HashMap<>();
+        for (UserRepository.UserSkillRef ref : userRepository.findSkillRefsByUserIds(userIds)) {
+            skills.computeIfAbsent(ref.getUserId(), id -> new ArrayList<>())
+                    .add(Skill.builder().nombre(ref.getNombre()).nivel(ref.getNivel()).build());
+        }
+        Map<Long, List<String>> interests = new HashMap<>();
+        for (UserRepository.UserInterestRef ref : userRepository.findInterestRefsByUserIds(userIds)) {
+            interests.computeIfAbsent(ref.getUserId(), id -> new ArrayList<>()).add(ref.getInterest());
+        }
+
+        return refs.stream()
+                .map(ref -> InterestedUserSummary.builder()
+                        .id(ref.getId())
+                        .firstName(ref.getFirstName())
+                        .lastName(ref.getLastName())
+                        .username(ref.getUsername())
+                        .email(ref.getEmail())
+                        .phone(ref.getPhone())
+                        .age(ref.getAge())
+                        .status(ref.getStatus() != null ? ref.getStatus().name() : null)
+                        .specialization(ref.getSpecialization())
+                        .languages(ref.getLanguages())
+                        .bio(ref.getBio())
+                        .profilePictureUrl(ref.getProfilePictureUrl())
+                        .linkedin(ref.getLinkedin())
+                        .github(ref.getGithub())
+                        .portfolio(ref.getPortfolio())
+                        .skills(skills.getOrDefault(ref.getId(), new ArrayList<>()))
+                        .interests(interests.getOrDefault(ref.getId(), new ArrayList<>()))
+                        .appliedAt(ref.getAppliedAt())
+                        .skillMatches(ref.getSkillMatches() != null ? ref.getSkillMatches() : 0L)
+                        // Las calificaciones van de 1 a 5: un promedio de 0 significa que no tiene
+                        .averageRating(ref.getAverageRating() != null && ref.getAverageRating() > 0
+                                ? ref.getAverageRating() : null)
+                        .build())
+                .toList();
+    }
+
     /**
      * Permite al creador o admin de un proyecto aceptar o rechazar a un usuario interesado.
      * Si acepta: el usuario se convierte en miembro del proyecto y se actualizan las listas correspondientes.
+     * El lugar en el equipo se reserva con un UPDATE condicional (teamCurrent < teamMax), por lo
+     * que aceptaciones concurrentes nunca superan teamMax.
      * Si rechaza: se remueve el like del usuario.
+     * Si otra solicitud guarda el proyecto o el usuario entre la lectura y el guardado, el bloqueo
+     * optimista hace fallar la transaccion y se repite completa sobre datos frescos, hasta
+     * projects.conflicts.max-attempts veces.
      *
      * @param projectId el identificador del proyecto
      * @param request DTO con el ID del usuario y la acciÃ³n (ACCEPT/REJECT)
      * @throws EntityNotFoundException si el proyecto o usuario no existen
      * @throws AccessDeniedException si el usuario no es el creador o admin del proyecto
      * @throws IllegalArgumentException si el usuario no estÃ¡ en la lista de interesados
+     * @throws ProjectFullException si al aceptar el proyecto ya completo su equipo
+     * @throws ConcurrencyFailureException si el proyecto o el usuario siguen cambiando en paralelo
+     *         despues de agotar los reintentos
      */
+    @Retryable(retryFor = ConcurrencyFailureException.class, maxAttemptsExpression = CONFLICT_MAX_ATTEMPTS,
+            backoff = @Backoff(delayExpression = CONFLICT_INITIAL_BACKOFF, maxDelayExpression = CONFLICT_MAX_BACKOFF,
+                    multiplier = 2, random = true))
+    @Transactional
     public void manageInterestedUser(Long projectId, ManageInterestedRequest request) {
         // Obtener el usuario autenticado
-        String userEmail = SecurityContextHolder.getContext().getAuthentication().getName();
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new EntityNotFoundException("Usuario no encontrado"));
+        User user = currentUser.get();
 
-        // Verificar si el proyecto existe
-        Project project = projectRepository.findById(projectId)
-                .orElseThrow(() -> new EntityNotFoundException("Proyecto no encontrado"));
+        // Verificar si el proyecto existe (se carga despues de reservar el lugar)
+        ensureProjectExists(projectId);
 
         // Verificar si el usuario es el creador del proyecto o admin
         boolean isOwnerOrAdmin = isUserOwnerOrAdmin(user, projectId);
@@ -426,16 +1120,33 @@ public class ProjectService {
                 .orElseThrow(() -> new EntityNotFoundException("Usuario interesado no encontrado"));
 
         // Verificar que el usuario estÃ© en la lista de interesados
-        if (project.getLikeIds() == null || !project.getLikeIds().contains(request.getUserId())) {
+        if (!projectInteractionRepository.existsByUserIdAndProjectIdAndType(
+                request.getUserId(), projectId, InteractionType.LIKE)) {
             throw new IllegalArgumentException("El usuario no estÃ¡ en la lista de interesados de este proyecto");
         }
 
         if (request.getAction() == ManageInterestedRequest.Action.ACCEPT) {
-            // Aceptar: agregar como miembro
+            // Reservar el lugar antes de leer el proyecto: el UPDATE bloquea la fila, asi la lectura
+            // siguiente ya ve los integrantes y el teamCurrent confirmados por otras aceptaciones
+            boolean newMember = projectRepository.reserveSeat(projectId, request.getUserId(),
+                    Project.currentChangeInstant()) == 1;
+            Project project = projectRepository.findById(projectId)
+                    .orElseThrow(() -> new EntityNotFoundException("Proyecto no encontrado"));
             if (project.getMemberIds() == null) {
                 project.setMemberIds(new ArrayList<>());
             }
-            if (!project.getMemberIds().contains(request.getUserId())) {
+            boolean alreadyMember = project.getMemberIds().contains(request.getUserId());
+            if (newMember && alreadyMember) {
+                // Otra aceptacion del mismo usuario se confirmo mientras se evaluaba la reserva
+                throw new OptimisticLockingFailureException("El usuario fue aceptado por otra solicitud");
+            }
+            if (!newMember && !alreadyMember) {
+                throw new ProjectFullException("El proyecto ya completo su equipo de "
+                        + project.getTeamMax() + " integrantes");
+            }
+
+            // Aceptar: agregar como miembro (teamCurrent ya se actualizo al reservar)
+            if (newMember) {
                 project.getMemberIds().add(request.getUserId());
             }
 
@@ -446,101 +1157,383 @@ public class ProjectService {
             if (!interestedUser.getParticipatingProjectIds().contains(projectId)) {
                 interestedUser.getParticipatingProjectIds().add(projectId);
             }
-
-            // Actualizar contador de miembros actuales
-            if (project.getTeamCurrent() == null) {
-                project.setTeamCurrent(0);
+            interestedUser.markModified();
+
+            // Guardar cambios; el flush verifica las versiones aca, dentro del reintento
+            userRepository.saveAndFlush(interestedUser);
+            if (newMember) {
+                projectRepository.saveAndFlush(project);
+                // Su like sigue contando, pero ya no como interesado
+                projectRepository.adjustInterestedCount(projectId, -1);
+                outboxWriter.append(new MemberAcceptedEvent(projectId, request.getUserId(), Instant.now()));
             }
-            project.setTeamCurrent(project.getTeamCurrent() + 1);
 
         } else if (request.getAction() == ManageInterestedRequest.Action.REJECT) {
             // Rechazar: remover el like
-            project.getLikeIds().remove(request.getUserId());
-            interestedUser.getLikedProjectIds().remove(projectId);
+            projectInteractionRepository.deleteByUserIdAndProjectIdAndType(
+                    request.getUserId(), projectId, InteractionType.LIKE);
+            projectRepository.applyInteractionDelta(projectId, request.getUserId(), -1, 0,
+                    Project.currentChangeInstant());
+            userRepository.incrementVersion(request.getUserId());
+        }
+
+        // Cambian los integrantes o los likes de la respuesta del proyecto
+        eventPublisher.publishEvent(new ProjectRelationsChangedEvent(List.of(projectId)));
+    }
+
+    /**
+     * Permite al creador o admin de un proyecto aceptar o rechazar varios usuarios interesados
+     * en un solo request, con las mismas reglas que manageInterestedUser. Las decisiones se evaluan
+     * en orden sobre el estado que dejaron las anteriores; una decision invalida (usuario
+     * inexistente, sin like o equipo completo) se informa en su resultado sin afectar al resto.
+     * El proyecto se lee una vez con su fila bloqueada, los usuarios se validan con dos consultas
+     * y los cambios se escriben juntos en una unica transaccion con batches JDBC.
+     *
+     * @param projectId el identificador del proyecto
+     * @param request las decisiones a aplicar
+     * @return un objeto ManageInterestedBatchResponse con el resultado de cada decision en el orden recibido
+     * @throws EntityNotFoundException si el proyecto no existe
+     * @throws AccessDeniedException si el usuario no es el creador o admin del proyecto
+     */
+    @Retryable(retryFor = ConcurrencyFailureException.class, maxAttemptsExpression = CONFLICT_MAX_ATTEMPTS,
+            backoff = @Backoff(delayExpression = CONFLICT_INITIAL_BACKOFF, maxDelayExpression = CONFLICT_MAX_BACKOFF,
+                    multiplier = 2, random = true))
+    @Transactional
+    public ManageInterestedBatchResponse manageInterestedUsers(Long projectId, ManageInterestedBatchRequest request) {
+        User user = currentUser.get();
+
+        ensureProjectExists(projectId);
+        if (!isUserOwnerOrAdmin(user, projectId)) {
+            throw new AccessDeniedException("Solo el creador o admin del proyecto puede gestionar usuarios interesados. Usuario: " + user.getEmail() + ", Proyecto: " + projectId);
+        }
+
+        List<ManageInterestedRequest> decisions = request.getDecisions();
+        Set<Long> userIds = decisions.stream()
+                .map(ManageInterestedRequest::getUserId)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        Set<Long> existingUserIds = userRepository.findExistingIds(userIds);
+        Set<Long> likedUserIds = existingUserIds.isEmpty() ? new HashSet<>() : new HashSet<>(projectInteractionRepository
+                .findUserIdsByProjectIdAndTypeAndUserIdIn(projectId, InteractionType.LIKE, existingUserIds));
+
+        // Con la fila bloqueada, las reservas de lugares concurrentes esperan a que termine el lote
+        Project project = projectRepository.findByIdForUpdate(projectId)
+                .orElseThrow(() -> new EntityNotFoundException("Proyecto no encontrado"));
+        if (project.getMemberIds() == null) {
+            project.setMemberIds(new ArrayList<>());
+        }
+        Set<Long> memberIds = new HashSet<>(project.getMemberIds());
+        int teamCurrent = project.getTeamCurrent() != null ? project.getTeamCurrent() : 0;
+        Integer teamMax = project.getTeamMax();
+
+        Set<Long> acceptedIds = new LinkedHashSet<>();
+        Set<Long> rejectedIds = new LinkedHashSet<>();
+        List<Long> newMemberIds = new ArrayList<>();
+        int interestedDelta = 0;
+        List<ManageInterestedBatchResponse.DecisionResult> results = new ArrayList<>(decisions.size());
+        int applied = 0;
+
+        for (int index = 0; index < decisions.size(); index++) {
+            ManageInterestedRequest decision = decisions.get(index);
+            Long userId = decision.getUserId();
+            ManageInterestedBatchResponse.DecisionResult.DecisionResultBuilder result =
+                    ManageInterestedBatchResponse.DecisionResult.builder()
+                            .index(index)
+                            .userId(userId)
+                            .action(decision.getAction());
+            try {
+                if (!existingUserIds.contains(userId)) {
+                    throw new EntityNotFoundException("Usuario interesado no encontrado");
+                }
+                if (!likedUserIds.contains(userId)) {
+                    throw new IllegalArgumentException("El usuario no estÃ¡ en la lista de interesados de este proyecto");
+                }
+                if (decision.getAction() == ManageInterestedRequest.Action.ACCEPT) {
+                    if (!memberIds.contains(userId)) {
+                        if (teamMax != null && teamCurrent >= teamMax) {
+                            throw new ProjectFullException("El proyecto ya completo su equipo de " + teamMax + " integrantes");
+                        }
+                        memberIds.add(userId);
+                        project.getMemberIds().add(userId);
+                        teamCurrent++;
+                        newMemberIds.add(userId);
+                        // Su like sigue contando, pero ya no como interesado
+                        interestedDelta--;
+                    }
+                    acceptedIds.add(userId);
+                } else {
+                    likedUserIds.remove(userId);
+                    rejectedIds.add(userId);
+                    if (!memberIds.contains(userId)) {
+                        interestedDelta--;
+                    }
+                }
+                result.success(true);
+                applied++;
+            } catch (IllegalArgumentException | EntityNotFoundException | ProjectFullException ex) {
+                result.success(false).error(ex.getMessage());
+            }
+            results.add(result.build());
+        }
+
+        if (!newMemberIds.isEmpty()) {
+            project.setTeamCurrent(teamCurrent);
+            projectRepository.saveAndFlush(project);
+        }
+        if (!acceptedIds.isEmpty() || !rejectedIds.isEmpty()) {
+            interestedBatchWriter.write(projectId, acceptedIds, rejectedIds, interestedDelta);
+            Instant acceptedAt = Instant.now();
+            outboxWriter.appendAll(newMemberIds.stream()
+                    .map(userId -> new MemberAcceptedEvent(projectId, userId, acceptedAt))
+                    .toList());
+            // Cambian los integrantes o los likes de la respuesta del proyecto
+            eventPublisher.publishEvent(new ProjectRelationsChangedEvent(List.of(projectId)));
         }
 
-        // Guardar cambios
-        userRepository.save(interestedUser);
-        projectRepository.save(project);
+        return ManageInterestedBatchResponse.builder()
+                .projectId(projectId)
+                .results(results)
+                .applied(applied)
+                .failed(decisions.size() - applied)
+                .build();
     }
 
     /**
-     * MÃ©todo auxiliar para obtener el email del usuario autenticado con validaciones adicionales
+     * Aplica un swipe del usuario autenticado sobre un proyecto.
+     * Con la escritura diferida activa el cambio se valida y queda en el buffer; si no,
+     * se guarda en el momento junto con los contadores del proyecto, en la transaccion del
+     * metodo publico que lo invoca. En ambos casos las reglas salen de SwipeAction.
      */
+    private void applySwipe(Long projectId, SwipeAction action) {
+        // Obtener el usuario autenticado
+        User user = currentUser.get();
+
+        // Verificar si el proyecto existe
+        ensureProjectExists(projectId);
+
+        if (swipeWriteBuffer.isEnabled()) {
+            swipeWriteBuffer.submit(user.getId(), projectId, action,
+                    () -> projectInteractionRepository.findByUserIdAndProjectId(user.getId(), projectId)
+                            .map(ProjectInteraction::getType)
+                            .orElse(null));
+            return;
+        }
+
+        ProjectInteraction interaction = projectInteractionRepository
+                .findByUserIdAndProjectId(user.getId(), projectId)
+                .orElse(null);
+        InteractionType target = action.apply(interaction != null ? interaction.getType() : null);
+
+        InteractionType previous = interaction != null ? interaction.getType() : null;
+        if (target == null) {
+            projectInteractionRepository.deleteByUserIdAndProjectIdAndType(user.getId(), projectId, previous);
+        } else {
+            // Si tenia la interaccion contraria se reemplaza (no puede tener like y dislike a la vez)
+            if (interaction != null) {
+                interaction.setType(target);
+                interaction.setInteractedAt(LocalDateTime.now());
+            } else {
+                interaction = newInteraction(user.getId(), projectId, target);
+            }
+            projectInteractionRepository.save(interaction);
+        }
+
+        // Las versiones se aumentan despues de escribir para que un ETag nuevo nunca describa datos viejos.
+        // Todo cambio de estado mueve algun contador del proyecto, que forma parte de su respuesta
+        userRepository.incrementVersion(user.getId());
+        projectRepository.applyInteractionDelta(projectId, user.getId(),
+                InteractionType.LIKE.deltaBetween(previous, target),
+                InteractionType.DISLIKE.deltaBetween(previous, target),
+                Project.currentChangeInstant());
+        eventPublisher.publishEvent(new ProjectRelationsChangedEvent(List.of(projectId)));
+        // El UPDATE de los contadores ya bloqueo la fila del proyecto
+        if (previous != InteractionType.LIKE && target == InteractionType.LIKE) {
+            outboxWriter.append(new ProjectLikedEvent(projectId, user.getId(), Instant.now()));
+        }
+    }
+
     /**
-     * Convierte el estado recibido en el request a la enumeración de la entidad.
+     * Ejecuta una accion que no se puede deshacer (por ejemplo, borrar un archivo) solo si la
+     * transaccion actual se confirma. Sin transaccion activa la ejecuta enseguida.
      */
-    private ProjectResponse buildDetailedResponse(Project project) {
-        Long creatorId = resolveCreatorId(project);
-        ProjectResponse response = projectMapper.toResponse(project);
-        response.setCreatorId(creatorId);
-        response.setMembers(resolveMembers(project, creatorId));
-        return response;
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
     }
 
-    private Long resolveCreatorId(Project project) {
-        if (project.getCreatorId() != null) {
-            return project.getCreatorId();
+    /**
+     * Verifica que el proyecto exista sin cargar la entidad ni sus colecciones.
+     */
+    private void ensureProjectExists(Long projectId) {
+        if (!projectRepository.existsById(projectId)) {
+            throw new EntityNotFoundException("Proyecto no encontrado");
         }
-        if (project.getId() == null) {
+    }
+
+    private ProjectInteraction newInteraction(Long userId, Long projectId, InteractionType type) {
+        return ProjectInteraction.builder()
+                .userId(userId)
+                .projectId(projectId)
+                .type(type)
+                .interactedAt(LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * Codifica una posicion como un cursor opaco.
+     */
+    private String encodeCursor(String position) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodifica un cursor opaco. Un cursor vacio equivale a la primera pagina y devuelve null.
+     */
+    private String decodeCursor(String cursor, String invalidMessage) {
+        if (!StringUtils.hasText(cursor)) {
             return null;
         }
-        return userRepository.findByProjectId(project.getId())
-                .map(User::getId)
-                .orElse(null);
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException(invalidMessage);
+        }
     }
 
-    private List<ProjectMemberSummary> resolveMembers(Project project, Long creatorId) {
-        Set<Long> participantIds = new LinkedHashSet<>();
-        if (creatorId != null) {
-            participantIds.add(creatorId);
+    /**
+     * Obtiene el momento y el ID de proyecto de un token de cambios (el origen si no hay token).
+     */
+    private ChangePosition parseChangesToken(String position) {
+        if (position == null) {
+            return new ChangePosition(Instant.EPOCH, 0L);
         }
-        if (project.getMemberIds() != null) {
-            participantIds.addAll(project.getMemberIds());
+        String[] parts = position.split(":");
+        if (parts.length != 2) {
+            throw new IllegalArgumentException("Token de cambios invalido");
         }
-        if (participantIds.isEmpty()) {
-            return new ArrayList<>();
+        try {
+            long micros = Long.parseLong(parts[0]);
+            long projectId = Long.parseLong(parts[1]);
+            if (micros < 0 || projectId < 0) {
+                throw new IllegalArgumentException("Token de cambios invalido");
+            }
+            return new ChangePosition(Instant.EPOCH.plus(micros, ChronoUnit.MICROS), projectId);
+        } catch (IllegalArgumentException | ArithmeticException | DateTimeException ex) {
+            throw new IllegalArgumentException("Token de cambios invalido");
         }
+    }
 
-        List<User> users = userRepository.findAllById(participantIds);
-        Map<Long, User> usersById = users.stream()
-                .filter(user -> user != null && user.getId() != null)
-                .collect(Collectors.toMap(User::getId, Function.identity(), (existing, replacement) -> existing));
-
-        List<ProjectMemberSummary> members = new ArrayList<>();
-        for (Long userId : participantIds) {
-            boolean isCreator = creatorId != null && creatorId.equals(userId);
-            User member = usersById.get(userId);
+    private String encodeChangesToken(ChangePosition position) {
+        return encodeCursor(ChronoUnit.MICROS.between(Instant.EPOCH, position.changedAt()) + ":" + position.projectId());
+    }
 
-            if (member == null) {
-                members.add(ProjectMemberSummary.builder()
-                        .id(userId)
-                        .fullName(isCreator ? "Creador sin datos" : "Integrante sin datos")
-                        .creator(isCreator)
-                        .build());
-                continue;
+    /**
+     * Obtiene el ID del ultimo proyecto de un cursor cronologico (0 para la primera pagina).
+     */
+    private long parseChronologicalCursor(String position) {
+        if (position == null) {
+            return 0L;
+        }
+        try {
+            long afterId = Long.parseLong(position);
+            if (afterId < 0) {
+                throw new IllegalArgumentException("Cursor de feed invalido");
             }
+            return afterId;
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Cursor de feed invalido");
+        }
+    }
+
+    /**
+     * Codifica la posicion del ultimo interesado de una pagina como "orden:valor:usuario".
+     * La calificacion viaja con sus bits exactos para que la comparacion en la base sea estable.
+     */
+    private String encodeInterestedCursor(InterestedUsersSort sort, ProjectInteractionRepository.InterestedUserRef last) {
+        String value = switch (sort) {
+            case APPLIED -> last.getAppliedAt().toString();
+            case SKILLS -> String.valueOf(last.getSkillMatches() != null ? last.getSkillMatches() : 0L);
+            case RATING -> Long.toHexString(Double.doubleToLongBits(
+                    last.getAverageRating() != null ? last.getAverageRating() : 0.0));
+        };
+        return encodeCursor(sort.name() + ":" + value + ":" + last.getId());
+    }
 
-            String firstName = StringUtils.hasText(member.getFirstName()) ? member.getFirstName().trim() : "";
-            String lastName = StringUtils.hasText(member.getLastName()) ? member.getLastName().trim() : "";
-            String fullName = (firstName + " " + lastName).trim();
-            if (!StringUtils.hasText(fullName)) {
-                String username = member.getUsernameField();
-                fullName = StringUtils.hasText(username) ? username : member.getEmail();
+    /**
+     * Obtiene el orden, el valor y el ID del ultimo interesado de un cursor de interesados.
+     * El valor de APPLIED es una fecha ISO, que a su vez contiene ':'.
+     */
+    private InterestedPosition parseInterestedCursor(String position) {
+        int first = position.indexOf(':');
+        int last = position.lastIndexOf(':');
+        if (first < 0 || first == last) {
+            throw new IllegalArgumentException("Cursor de interesados invalido");
+        }
+        try {
+            InterestedUsersSort sort = InterestedUsersSort.valueOf(position.substring(0, first));
+            String value = position.substring(first + 1, last);
+            long userId = Long.parseLong(position.substring(last + 1));
+            if (userId < 0) {
+                throw new IllegalArgumentException("Cursor de interesados invalido");
             }
+            return switch (sort) {
+                case APPLIED -> new InterestedPosition(sort, LocalDateTime.parse(value), 0L, 0.0, userId);
+                case SKILLS -> new InterestedPosition(sort, null, Long.parseLong(value), 0.0, userId);
+                case RATING -> {
+                    double rating = Double.longBitsToDouble(Long.parseUnsignedLong(value, 16));
+                    if (Double.isNaN(rating)) {
+                        throw new IllegalArgumentException("Cursor de interesados invalido");
+                    }
+                    yield new InterestedPosition(sort, null, 0L, rating, userId);
+                }
+            };
+        } catch (IllegalArgumentException | DateTimeException ex) {
+            throw new IllegalArgumentException("Cursor de interesados invalido");
+        }
+    }
 
-            members.add(ProjectMemberSummary.builder()
-                    .id(member.getId())
-                    .fullName(fullName)
-                    .email(member.getEmail())
-                    .profilePictureUrl(member.getProfilePictureUrl())
-                    .creator(isCreator)
-                    .build());
+    /**
+     * Obtiene el puntaje y el ID del ultimo proyecto de un cursor por relevancia.
+     * El puntaje viaja con sus bits exactos para que la comparacion con el ranking sea estable.
+     */
+    private ScoredProject parseRankedCursor(String position) {
+        String[] parts = position.substring(RANKED_CURSOR_PREFIX.length()).split(":");
+        if (parts.length != 2) {
+            throw new IllegalArgumentException("Cursor de feed invalido");
+        }
+        try {
+            float score = Float.intBitsToFloat(Integer.parseUnsignedInt(parts[0], 16));
+            long projectId = Long.parseLong(parts[1]);
+            if (Float.isNaN(score) || projectId < 0) {
+                throw new IllegalArgumentException("Cursor de feed invalido");
+            }
+            return new ScoredProject(projectId, score);
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Cursor de feed invalido");
         }
+    }
 
-        return members;
+    private boolean isRelevanceSort(String sort) {
+        if (!StringUtils.hasText(sort) || FEED_SORT_RELEVANCE.equalsIgnoreCase(sort.trim())) {
+            return true;
+        }
+        if (FEED_SORT_CHRONOLOGICAL.equalsIgnoreCase(sort.trim())) {
+            return false;
+        }
+        throw new IllegalArgumentException("Orden de feed invalido: use relevance o chronological");
     }
 
+    /**
+     * Convierte el estado recibido en el request a la enumeración de la entidad.
+     */
     private Project.ProjectStatus resolveStatus(ProjectCreateRequest.ProjectStatus status) {
         if (status == null) {
             return Project.ProjectStatus.ACTIVE;
@@ -589,27 +1582,6 @@ public class ProjectService {
                 .collect(Collectors.toCollection(ArrayList::new));
     }
 
-    /**
-     * Método auxiliar para obtener el email del usuario autenticado con validaciones adicionales.
-     */
-    private String getAuthenticatedUserEmail() {
-        try {
-            var authentication = SecurityContextHolder.getContext().getAuthentication();
-            if (authentication == null) {
-                throw new AccessDeniedException("Usuario no autenticado");
-            }
-            String email = authentication.getName();
-            if (!StringUtils.hasText(email)) {
-                throw new AccessDeniedException("Email del usuario autenticado no encontrado");
-            }
-            return email.trim();
-        } catch (AccessDeniedException ex) {
-            throw ex;
-        } catch (Exception e) {
-            throw new AccessDeniedException("Error al obtener usuario autenticado: " + e.getMessage());
-        }
-    }
-
     /**
      * Método auxiliar para verificar si un usuario es dueño de un proyecto.
      */
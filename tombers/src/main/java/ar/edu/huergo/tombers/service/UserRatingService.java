@@ -1,11 +1,12 @@
 package ar.edu.huergo.tombers.service;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.stream.Collectors;
 
 import org.springframework.security.access.AccessDeniedException;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import ar.edu.huergo.tombers.dto.user.UserRatingRequest;
 import ar.edu.huergo.tombers.dto.user.UserRatingResponse;
@@ -15,6 +16,9 @@ import ar.edu.huergo.tombers.entity.UserRating;
 import ar.edu.huergo.tombers.repository.ProjectRepository;
 import ar.edu.huergo.tombers.repository.UserRatingRepository;
 import ar.edu.huergo.tombers.repository.UserRepository;
+import ar.edu.huergo.tombers.security.CurrentUserProvider;
+import ar.edu.huergo.tombers.service.event.UserRatedEvent;
+import ar.edu.huergo.tombers.service.outbox.OutboxWriter;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 
@@ -25,11 +29,12 @@ public class UserRatingService {
     private final UserRatingRepository userRatingRepository;
     private final UserRepository userRepository;
     private final ProjectRepository projectRepository;
+    private final OutboxWriter outboxWriter;
+    private final CurrentUserProvider currentUser;
 
+    @Transactional
     public UserRatingResponse createRating(UserRatingRequest request) {
-        String raterEmail = SecurityContextHolder.getContext().getAuthentication().getName();
-        User rater = userRepository.findByEmail(raterEmail)
-                .orElseThrow(() -> new EntityNotFoundException("Usuario no encontrado"));
+        User rater = currentUser.get();
 
         // Verificar que el proyecto existe
         Project project = projectRepository.findById(request.getProjectId())
@@ -59,6 +64,10 @@ public class UserRatingService {
                 .build();
 
         UserRating savedRating = userRatingRepository.save(rating);
+        // El promedio forma parte del perfil del calificado
+        userRepository.incrementVersion(savedRating.getRatedUserId());
+        outboxWriter.append(new UserRatedEvent(savedRating.getRatedUserId(), savedRating.getRaterId(),
+                savedRating.getProjectId(), savedRating.getRating(), Instant.now()));
 
         return UserRatingResponse.builder()
                 .id(savedRating.getId())
@@ -3,16 +3,23 @@ package ar.edu.huergo.tombers.service;
 import java.util.List;
 import java.util.Set;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import ar.edu.huergo.tombers.dto.user.UserResponse;
 import ar.edu.huergo.tombers.dto.user.UserUpdateRequest;
+import ar.edu.huergo.tombers.entity.ProjectInteraction.InteractionType;
 import ar.edu.huergo.tombers.entity.Rol;
 import ar.edu.huergo.tombers.entity.User;
 import ar.edu.huergo.tombers.mapper.UserMapper;
+import ar.edu.huergo.tombers.repository.ProjectInteractionRepository;
+import ar.edu.huergo.tombers.repository.ProjectRepository;
 import ar.edu.huergo.tombers.repository.UserRepository;
 import ar.edu.huergo.tombers.repository.security.RolRepository;
+import ar.edu.huergo.tombers.security.CurrentUserProvider;
+import ar.edu.huergo.tombers.security.UserDetailsCache;
+import ar.edu.huergo.tombers.service.event.ProjectRelationsChangedEvent;
 import ar.edu.huergo.tombers.service.storage.FileStorageService;
 import ar.edu.huergo.tombers.service.storage.StorageDirectory;
 import ar.edu.huergo.tombers.service.storage.StoredFile;
@@ -28,6 +35,11 @@ public class UserService {
     private final FileStorageService fileStorageService;
     private final RolRepository rolRepository;
     private final UserRatingService userRatingService;
+    private final ProjectInteractionRepository projectInteractionRepository;
+    private final ProjectRepository projectRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CurrentUserProvider currentUser;
+    private final UserDetailsCache userDetailsCache;
 
     public List<UserResponse> getAllUsers() {
         return userRepository.findAll()
@@ -37,38 +49,51 @@ public class UserService {
     }
 
     /**
-     * Obtiene el perfil de un usuario por su email.
+     * Obtiene el perfil del usuario autenticado.
      *
-     * @param email el email del usuario
      * @return un objeto UserResponse que representa el perfil del usuario
      * @throws EntityNotFoundException si el usuario no existe
      */
-    public UserResponse getUserProfile(String email) {
-        User user = userRepository.findByEmail(email)
+    public UserResponse getUserProfile() {
+        return toDtoWithRating(currentUser.get());
+    }
+
+    /**
+     * Calcula el ETag del perfil sin cargar el usuario ni sus colecciones.
+     * Incluye el ID del usuario porque todos los perfiles se leen desde la misma URL.
+     *
+     * @param email el email del usuario
+     * @return el ETag fuerte del perfil, entre comillas
+     * @throws EntityNotFoundException si el usuario no existe
+     */
+    public String getUserProfileETag(String email) {
+        UserRepository.UserVersionRef ref = userRepository.findVersionByEmail(email)
                 .orElseThrow(() -> new EntityNotFoundException("Usuario no encontrado: " + email));
-        return toDtoWithRating(user);
+        return "\"u" + ref.getId() + "-" + ref.getVersion() + "\"";
     }
 
     private UserResponse toDtoWithRating(User user) {
         UserResponse response = userMapper.toDto(user);
         response.setAverageRating(userRatingService.getAverageRatingForUser(user.getId()));
+        response.setLikedProjectsIds(projectInteractionRepository.findProjectIdsByUserIdAndType(user.getId(), InteractionType.LIKE));
+        response.setDislikedProjectsIds(projectInteractionRepository.findProjectIdsByUserIdAndType(user.getId(), InteractionType.DISLIKE));
         return response;
     }
 
         /**
-     * Actualiza el perfil de un usuario con la informacion proporcionada.
+     * Actualiza el perfil del usuario autenticado con la informacion proporcionada.
      *
-     * @param email el email del usuario
      * @param request la solicitud de actualizacion del perfil
      * @param profilePicture archivo opcional con la nueva foto de perfil
      * @return un objeto UserResponse que representa el perfil actualizado
      * @throws EntityNotFoundException si el usuario no existe
      */
-    public UserResponse updateUserProfile(String email, UserUpdateRequest request, MultipartFile profilePicture) {
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new EntityNotFoundException("Usuario no encontrado: " + email));
+    public UserResponse updateUserProfile(UserUpdateRequest request, MultipartFile profilePicture) {
+        User user = currentUser.get();
 
         userMapper.updateEntity(user, request);
+        // Si solo cambiaron colecciones (habilidades, intereses), updatedAt se registra aca
+        user.markModified();
 
         if (profilePicture != null && !profilePicture.isEmpty()) {
             String previousProfilePicture = user.getProfilePictureUrl();
@@ -81,6 +106,12 @@ public class UserService {
         }
 
         User updatedUser = userRepository.save(user);
+        userDetailsCache.evict(updatedUser.getEmail());
+        // El nombre, el email y la foto aparecen en los integrantes de sus proyectos
+        List<Long> projectIds = projectRepository.findIdsByParticipant(updatedUser.getId());
+        if (!projectIds.isEmpty()) {
+            eventPublisher.publishEvent(new ProjectRelationsChangedEvent(projectIds));
+        }
 
         return toDtoWithRating(updatedUser);
     }
@@ -117,6 +148,7 @@ public class UserService {
                 .build();
 
         User savedUser = userRepository.save(newUser);
+        userDetailsCache.evict(savedUser.getEmail());
         return toDtoWithRating(savedUser);
     }
 }
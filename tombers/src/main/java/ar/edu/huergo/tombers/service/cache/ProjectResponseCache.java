@@ -0,0 +1,230 @@
+package ar.edu.huergo.tombers.service.cache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import ar.edu.huergo.tombers.config.ProjectCacheProperties;
+import ar.edu.huergo.tombers.dto.project.ProjectMemberSummary;
+import ar.edu.huergo.tombers.dto.project.ProjectResponse;
+import ar.edu.huergo.tombers.entity.Skill;
+import ar.edu.huergo.tombers.service.event.ProjectDeletedEvent;
+import ar.edu.huergo.tombers.service.event.ProjectRelationsChangedEvent;
+import ar.edu.huergo.tombers.service.event.ProjectSavedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Cache acotada de ProjectResponse ya armados, por ID de proyecto.
+ * El tamano se limita por un peso aproximado en bytes y cada entrada vence tras un TTL.
+ * Las entradas se invalidan con los eventos de proyecto guardado, eliminado o con
+ * relaciones modificadas, una vez confirmada la transaccion que los publico. Las respuestas se comparten entre requests y no deben modificarse.
+ *
+ * <p>Cada entrada puede guardar el ETag con el que se armo. Entre el commit de un cambio y la
+ * invalidacion hay un momento en que la cache todavia tiene la respuesta anterior; las lecturas
+ * que piden un ETag ({@link #get(Long, String, Function)}) la descartan si no coincide.</p>
+ */
+@Component
+public class ProjectResponseCache {
+
+    static final String CACHE_NAME = "projectResponses";
+
+    private final Cache<Long, Entry> cache;
+
+    // Cuenta invalidaciones; una carga en lote que se cruzo con alguna descarta su resultado
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public ProjectResponseCache(ProjectCacheProperties properties, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(properties.getMaximumWeight())
+                .weigher((Long projectId, Entry entry) -> estimateWeight(entry.response()))
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Obtiene la respuesta de un proyecto, armandola con el loader si no esta en la cache.
+     * Una invalidacion que llega mientras se arma espera a que termine y la descarta.
+     *
+     * @param projectId el ID del proyecto
+     * @param loader arma la respuesta; puede lanzar EntityNotFoundException
+     * @return la respuesta del proyecto
+     */
+    public ProjectResponse get(Long projectId, Function<Long, ProjectResponse> loader) {
+        return cache.get(projectId, key -> new Entry(loader.apply(key), null)).response();
+    }
+
+    /**
+     * Obtiene la respuesta de un proyecto armada para un ETag dado. Si la respuesta guardada se
+     * armo con otro ETag (o sin uno), se vuelve a armar con el loader y reemplaza a la anterior.
+     *
+     * @param projectId el ID del proyecto
+     * @param etag el ETag calculado antes de llamar, con las versiones ya confirmadas
+     * @param loader arma la respuesta; puede lanzar EntityNotFoundException
+     * @return una respuesta al menos tan nueva como el ETag
+     */
+    public ProjectResponse get(Long projectId, String etag, Function<Long, ProjectResponse> loader) {
+        Entry entry = cache.getIfPresent(projectId);
+        if (entry != null && etag.equals(entry.etag())) {
+            return entry.response();
+        }
+        // Se arma despues de calcular el ETag: si cambio en el medio, la respuesta es mas nueva y
+        // la proxima lectura con el ETag nuevo la vuelve a armar
+        long stamp = invalidations.get();
+        ProjectResponse response = loader.apply(projectId);
+        if (invalidations.get() == stamp) {
+            cache.put(projectId, new Entry(response, etag));
+        }
+        return response;
+    }
+
+    /**
+     * Obtiene las respuestas de varios proyectos en el orden recibido. Los que faltan se arman
+     * juntos con una sola llamada al loader; los que el loader no devuelve se omiten.
+     *
+     * @param projectIds los IDs de los proyectos, en el orden deseado
+     * @param loader arma las respuestas de los IDs que no estan en la cache
+     * @return las respuestas encontradas, en el orden de projectIds
+     */
+    public List<ProjectResponse> getAll(List<Long> projectIds, Function<List<Long>, List<ProjectResponse>> loader) {
+        Map<Long, ProjectResponse> found = new HashMap<>();
+        cache.getAllPresent(projectIds).forEach((projectId, entry) -> found.put(projectId, entry.response()));
+        List<Long> missing = new ArrayList<>();
+        for (Long projectId : projectIds) {
+            if (!found.containsKey(projectId)) {
+                missing.add(projectId);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            long stamp = invalidations.get();
+            Map<Long, ProjectResponse> loaded = new HashMap<>();
+            for (ProjectResponse response : loader.apply(missing)) {
+                if (response != null && response.getId() != null) {
+                    loaded.put(response.getId(), response);
+                }
+            }
+            found.putAll(loaded);
+            loaded.forEach((projectId, response) -> cache.put(projectId, new Entry(response, null)));
+            // Si hubo una invalidacion durante la carga, lo leido puede ser anterior a ese cambio
+            if (invalidations.get() != stamp) {
+                cache.invalidateAll(loaded.keySet());
+            }
+        }
+
+        List<ProjectResponse> responses = new ArrayList<>(projectIds.size());
+        for (Long projectId : projectIds) {
+            ProjectResponse response = found.get(projectId);
+            if (response != null) {
+                responses.add(response);
+            }
+        }
+        return responses;
+    }
+
+    /**
+     * Invalida la respuesta de un proyecto.
+     */
+    public void evict(Long projectId) {
+        if (projectId != null) {
+            invalidations.incrementAndGet();
+            cache.invalidate(projectId);
+        }
+    }
+
+    /**
+     * Invalida las respuestas de varios proyectos.
+     */
+    public void evictAll(Collection<Long> projectIds) {
+        if (projectIds != null && !projectIds.isEmpty()) {
+            invalidations.incrementAndGet();
+            cache.invalidateAll(projectIds);
+        }
+    }
+
+    /**
+     * Cantidad aproximada de respuestas guardadas.
+     */
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    // Despues del commit: si se invalidara antes, una lectura concurrente volveria a guardar la version vieja
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectSaved(ProjectSavedEvent event) {
+        if (event.project() != null) {
+            evict(event.project().getId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectDeleted(ProjectDeletedEvent event) {
+        evict(event.projectId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectRelationsChanged(ProjectRelationsChangedEvent event) {
+        evictAll(event.projectIds());
+    }
+
+    /**
+     * Respuesta guardada junto con el ETag con el que se armo, o null si se armo sin uno.
+     */
+    private record Entry(ProjectResponse response, String etag) {
+    }
+
+    /**
+     * Estima en bytes el tamano de una respuesta: un costo fijo por objeto mas el de sus textos
+     * (2 bytes por caracter) y sus listas.
+     */
+    static int estimateWeight(ProjectResponse response) {
+        long weight = 256;
+        weight += textWeight(response.getTitle()) + textWeight(response.getDescription())
+                + textWeight(response.getBannerUrl()) + textWeight(response.getDuration())
+                + textWeight(response.getLanguage()) + textWeight(response.getType());
+        weight += stringsWeight(response.getTechnologies()) + stringsWeight(response.getObjectives());
+        if (response.getSkillsNeeded() != null) {
+            for (Skill skill : response.getSkillsNeeded()) {
+                weight += 48 + textWeight(skill.getNombre()) + textWeight(skill.getNivel());
+            }
+        }
+        weight += idsWeight(response.getMemberIds()) + idsWeight(response.getLikeIds());
+        if (response.getMembers() != null) {
+            for (ProjectMemberSummary member : response.getMembers()) {
+                weight += 64 + textWeight(member.getFullName()) + textWeight(member.getEmail())
+                        + textWeight(member.getProfilePictureUrl());
+            }
+        }
+        return (int) Math.min(Integer.MAX_VALUE, weight);
+    }
+
+    private static long textWeight(String text) {
+        return text == null ? 0 : 40 + 2L * text.length();
+    }
+
+    private static long stringsWeight(List<String> values) {
+        long weight = 0;
+        if (values != null) {
+            for (String value : values) {
+                weight += 8 + textWeight(value);
+            }
+        }
+        return weight;
+    }
+
+    private static long idsWeight(List<Long> ids) {
+        return ids == null ? 0 : 24L * ids.size();
+    }
+}
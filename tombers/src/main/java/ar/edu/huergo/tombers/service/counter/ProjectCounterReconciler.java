@@ -0,0 +1,65 @@
+package ar.edu.huergo.tombers.service.counter;
+
+import java.util.List;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import ar.edu.huergo.tombers.config.ProjectCounterProperties;
+import ar.edu.huergo.tombers.entity.Project;
+import ar.edu.huergo.tombers.entity.ProjectInteraction.InteractionType;
+import ar.edu.huergo.tombers.repository.ProjectRepository;
+import ar.edu.huergo.tombers.service.event.ProjectRelationsChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Recalcula periodicamente los contadores de likes, dislikes e interesados de los proyectos
+ * que no coinciden con las interacciones guardadas. Los caminos de escritura mantienen los
+ * contadores con incrementos atomicos; esta tarea corrige los desvios que puedan dejar
+ * escrituras concurrentes o cambios hechos directamente en la base.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProjectCounterReconciler {
+
+    private final ProjectCounterProperties properties;
+    private final ProjectRepository projectRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Recalcula los contadores desactualizados en tandas de batchSize proyectos.
+     *
+     * @return la cantidad de proyectos corregidos
+     */
+    public int reconcile() {
+        List<Long> staleIds = projectRepository.findIdsWithStaleCounters(InteractionType.LIKE, InteractionType.DISLIKE);
+        int batchSize = properties.getBatchSize();
+        int corrected = 0;
+        for (int from = 0; from < staleIds.size(); from += batchSize) {
+            List<Long> batch = staleIds.subList(from, Math.min(from + batchSize, staleIds.size()));
+            corrected += projectRepository.recomputeCounters(batch, InteractionType.LIKE, InteractionType.DISLIKE,
+                    Project.currentChangeInstant());
+            eventPublisher.publishEvent(new ProjectRelationsChangedEvent(List.copyOf(batch)));
+        }
+        if (corrected > 0) {
+            log.info("Se corrigieron los contadores de {} proyectos", corrected);
+        }
+        return corrected;
+    }
+
+    /**
+     * Conciliacion periodica en el scheduler compartido. Sin demora inicial: la primera pasada
+     * corre al iniciar para completar los contadores de datos anteriores a las columnas.
+     */
+    @Scheduled(fixedDelayString = "${projects.counters.reconcile-interval:15m}")
+    public void reconcileQuietly() {
+        try {
+            reconcile();
+        } catch (RuntimeException ex) {
+            log.warn("No se pudieron conciliar los contadores de proyectos", ex);
+        }
+    }
+}
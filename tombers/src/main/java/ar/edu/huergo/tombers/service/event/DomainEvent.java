@@ -0,0 +1,29 @@
+package ar.edu.huergo.tombers.service.event;
+
+import java.time.Instant;
+
+/**
+ * Evento de dominio que se guarda en el outbox dentro de la transaccion que lo origina y que
+ * el OutboxDispatcher entrega despues a los listeners en proceso. La entrega es al menos una
+ * vez: un listener puede recibir el mismo evento mas de una vez si una entrega anterior fallo.
+ * Los eventos de un mismo agregado se entregan en el orden en que se guardaron. Solo se guardan
+ * eventos que algun listener consume: un evento sin consumidores es una fila mas por transaccion.
+ */
+public sealed interface DomainEvent
+        permits ProjectCreatedEvent, ProjectUpdatedEvent, ProjectLikedEvent, MemberAcceptedEvent, UserRatedEvent {
+
+    /**
+     * El tipo con el que se guarda el evento.
+     */
+    DomainEventType type();
+
+    /**
+     * El ID de la entidad del agregado (type().aggregate()) al que pertenece el evento.
+     */
+    Long aggregateId();
+
+    /**
+     * El momento en que ocurrio el cambio.
+     */
+    Instant occurredAt();
+}
@@ -0,0 +1,38 @@
+package ar.edu.huergo.tombers.service.event;
+
+/**
+ * Tipos de eventos de dominio que se guardan en el outbox, con el agregado al que pertenecen
+ * y la clase con la que se serializan.
+ */
+public enum DomainEventType {
+
+    PROJECT_CREATED(Aggregate.PROJECT, ProjectCreatedEvent.class),
+    PROJECT_UPDATED(Aggregate.PROJECT, ProjectUpdatedEvent.class),
+    PROJECT_LIKED(Aggregate.PROJECT, ProjectLikedEvent.class),
+    MEMBER_ACCEPTED(Aggregate.PROJECT, MemberAcceptedEvent.class),
+    USER_RATED(Aggregate.USER, UserRatedEvent.class);
+
+    /**
+     * Entidad cuyos eventos se entregan en orden entre si.
+     */
+    public enum Aggregate {
+        PROJECT,
+        USER
+    }
+
+    private final Aggregate aggregate;
+    private final Class<? extends DomainEvent> eventClass;
+
+    DomainEventType(Aggregate aggregate, Class<? extends DomainEvent> eventClass) {
+        this.aggregate = aggregate;
+        this.eventClass = eventClass;
+    }
+
+    public Aggregate aggregate() {
+        return aggregate;
+    }
+
+    public Class<? extends DomainEvent> eventClass() {
+        return eventClass;
+    }
+}
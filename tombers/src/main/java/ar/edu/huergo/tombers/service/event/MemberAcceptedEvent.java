@@ -0,0 +1,23 @@
+package ar.edu.huergo.tombers.service.event;
+
+import java.time.Instant;
+
+/**
+ * Evento de dominio: un interesado fue aceptado como integrante de un proyecto.
+ *
+ * @param projectId el ID del proyecto
+ * @param userId el ID del nuevo integrante
+ * @param occurredAt el momento de la aceptacion
+ */
+public record MemberAcceptedEvent(Long projectId, Long userId, Instant occurredAt) implements DomainEvent {
+
+    @Override
+    public DomainEventType type() {
+        return DomainEventType.MEMBER_ACCEPTED;
+    }
+
+    @Override
+    public Long aggregateId() {
+        return projectId;
+    }
+}
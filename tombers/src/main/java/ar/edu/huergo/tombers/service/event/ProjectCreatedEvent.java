@@ -0,0 +1,23 @@
+package ar.edu.huergo.tombers.service.event;
+
+import java.time.Instant;
+
+/**
+ * Evento de dominio: se creo un proyecto.
+ *
+ * @param projectId el ID del proyecto
+ * @param creatorId el ID del usuario que lo creo
+ * @param occurredAt el momento de la creacion
+ */
+public record ProjectCreatedEvent(Long projectId, Long creatorId, Instant occurredAt) implements DomainEvent {
+
+    @Override
+    public DomainEventType type() {
+        return DomainEventType.PROJECT_CREATED;
+    }
+
+    @Override
+    public Long aggregateId() {
+        return projectId;
+    }
+}
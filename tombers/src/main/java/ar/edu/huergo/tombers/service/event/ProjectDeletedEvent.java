@@ -0,0 +1,9 @@
+package ar.edu.huergo.tombers.service.event;
+
+/**
+ * Se publica cuando un proyecto se elimina.
+ *
+ * @param projectId el ID del proyecto eliminado
+ */
+public record ProjectDeletedEvent(Long projectId) {
+}
@@ -0,0 +1,24 @@
+package ar.edu.huergo.tombers.service.event;
+
+import java.time.Instant;
+
+/**
+ * Evento de dominio: un usuario dio like a un proyecto que antes no tenia su like.
+ * Si el usuario es integrante del proyecto no cuenta como interesado; eso lo resuelven los listeners.
+ *
+ * @param projectId el ID del proyecto
+ * @param userId el ID del usuario que dio like
+ * @param occurredAt el momento del like
+ */
+public record ProjectLikedEvent(Long projectId, Long userId, Instant occurredAt) implements DomainEvent {
+
+    @Override
+    public DomainEventType type() {
+        return DomainEventType.PROJECT_LIKED;
+    }
+
+    @Override
+    public Long aggregateId() {
+        return projectId;
+    }
+}
@@ -0,0 +1,13 @@
+package ar.edu.huergo.tombers.service.event;
+
+import java.util.Collection;
+
+/**
+ * Se publica cuando cambian datos que forman parte de la respuesta de un proyecto pero
+ * no de la fila del proyecto: sus likes, sus integrantes o el perfil de sus participantes.
+ * Si se publica dentro de una transaccion, los listeners lo reciben despues del commit.
+ *
+ * @param projectIds los IDs de los proyectos afectados
+ */
+public record ProjectRelationsChangedEvent(Collection<Long> projectIds) {
+}
@@ -0,0 +1,13 @@
+package ar.edu.huergo.tombers.service.event;
+
+import ar.edu.huergo.tombers.entity.Project;
+
+/**
+ * Se publica cuando un proyecto se crea o se actualiza.
+ * Permite que los indices en memoria se actualicen sin reconstruirse completos; los listeners
+ * lo reciben despues del commit, para no indexar cambios que luego se deshacen.
+ *
+ * @param project el proyecto tal como quedo guardado
+ */
+public record ProjectSavedEvent(Project project) {
+}
@@ -0,0 +1,22 @@
+package ar.edu.huergo.tombers.service.event;
+
+import java.time.Instant;
+
+/**
+ * Evento de dominio: el creador o un admin actualizo los datos de un proyecto.
+ *
+ * @param projectId el ID del proyecto
+ * @param occurredAt el momento de la actualizacion
+ */
+public record ProjectUpdatedEvent(Long projectId, Instant occurredAt) implements DomainEvent {
+
+    @Override
+    public DomainEventType type() {
+        return DomainEventType.PROJECT_UPDATED;
+    }
+
+    @Override
+    public Long aggregateId() {
+        return projectId;
+    }
+}
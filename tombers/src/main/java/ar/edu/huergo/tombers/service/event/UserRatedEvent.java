@@ -0,0 +1,27 @@
+package ar.edu.huergo.tombers.service.event;
+
+import java.time.Instant;
+
+/**
+ * Evento de dominio: el creador de un proyecto califico a uno de sus participantes.
+ * Pertenece al agregado del usuario calificado, cuyo promedio cambia.
+ *
+ * @param ratedUserId el ID del usuario calificado
+ * @param raterId el ID del usuario que califico
+ * @param projectId el ID del proyecto en el que participo
+ * @param rating la calificacion, de 1 a 5
+ * @param occurredAt el momento de la calificacion
+ */
+public record UserRatedEvent(Long ratedUserId, Long raterId, Long projectId, Integer rating, Instant occurredAt)
+        implements DomainEvent {
+
+    @Override
+    public DomainEventType type() {
+        return DomainEventType.USER_RATED;
+    }
+
+    @Override
+    public Long aggregateId() {
+        return ratedUserId;
+    }
+}
@@ -0,0 +1,81 @@
+package ar.edu.huergo.tombers.service.facet;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import ar.edu.huergo.tombers.config.FeedExclusionCacheProperties;
+import ar.edu.huergo.tombers.repository.ProjectRepository;
+import ar.edu.huergo.tombers.service.event.ProjectCreatedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Cache por usuario de los proyectos que no deben aparecer en su feed (los que ya evaluo y los
+ * que creo). La primera pagina del feed siempre las vuelve a cargar; las paginas siguientes del
+ * mismo recorrido las reutilizan en lugar de consultar la base en cada pagina. Lo que el usuario
+ * evalua mientras recorre el feed ya quedo detras del cursor, asi que no hace falta recargarlas;
+ * un proyecto que crea, en cambio, puede quedar adelante, por eso su creacion descarta la entrada.
+ *
+ * <p>Los conjuntos guardados se comparten entre requests y no deben modificarse.</p>
+ */
+@Component
+public class FeedExclusionCache {
+
+    static final String CACHE_NAME = "feedExclusions";
+
+    private final ProjectRepository projectRepository;
+    private final Cache<Long, ProjectIdSet> cache;
+
+    public FeedExclusionCache(ProjectRepository projectRepository, FeedExclusionCacheProperties properties,
+            MeterRegistry meterRegistry) {
+        this.projectRepository = projectRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Carga de la base los proyectos excluidos del feed del usuario y los guarda.
+     *
+     * @param userId el usuario que empieza a recorrer el feed
+     * @return los IDs excluidos, de solo lectura
+     */
+    public ProjectIdSet refresh(Long userId) {
+        ProjectIdSet excluded = load(userId);
+        cache.put(userId, excluded);
+        return excluded;
+    }
+
+    /**
+     * Obtiene los proyectos excluidos del feed del usuario, cargandolos si no estan guardados.
+     *
+     * @param userId el usuario que sigue recorriendo el feed
+     * @return los IDs excluidos, de solo lectura
+     */
+    public ProjectIdSet get(Long userId) {
+        return cache.get(userId, this::load);
+    }
+
+    /**
+     * Descarta las exclusiones del creador para que su nuevo proyecto no aparezca en su propio
+     * feed. Lo entrega el outbox despues del commit.
+     */
+    @EventListener
+    public void onProjectCreated(ProjectCreatedEvent event) {
+        if (event.creatorId() != null) {
+            cache.invalidate(event.creatorId());
+        }
+    }
+
+    private ProjectIdSet load(Long userId) {
+        ProjectIdSet excluded = ProjectIdSet.of(projectRepository.findAllExcludedFeedIds(userId));
+        excluded.runOptimize();
+        return excluded;
+    }
+}
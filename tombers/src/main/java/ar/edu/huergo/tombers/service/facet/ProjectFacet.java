@@ -0,0 +1,59 @@
+package ar.edu.huergo.tombers.service.facet;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.function.Function;
+
+import ar.edu.huergo.tombers.entity.Project;
+
+/**
+ * Atributos de un proyecto por los que se puede filtrar el feed y la busqueda.
+ * Los valores se comparan sin distinguir mayusculas ni espacios al principio o al final.
+ */
+public enum ProjectFacet {
+    TECHNOLOGY("technology", project -> project.getTechnologies() != null ? project.getTechnologies() : List.of()),
+    LANGUAGE("language", project -> single(project.getLanguage())),
+    TYPE("type", project -> single(project.getType())),
+    STATUS("status", project -> project.getStatus() != null ? List.of(project.getStatus().name()) : List.of());
+
+    private final String paramName;
+    private final Function<Project, List<String>> extractor;
+
+    ProjectFacet(String paramName, Function<Project, List<String>> extractor) {
+        this.paramName = paramName;
+        this.extractor = extractor;
+    }
+
+    /**
+     * Nombre del parametro de la API y de la faceta en las respuestas.
+     */
+    public String paramName() {
+        return paramName;
+    }
+
+    /**
+     * Obtiene los valores normalizados de esta faceta para un proyecto.
+     */
+    public List<String> valuesOf(Project project) {
+        return extractor.apply(project).stream()
+                .map(ProjectFacet::normalize)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+    }
+
+    /**
+     * Normaliza un valor de faceta; devuelve null si esta vacio.
+     */
+    public static String normalize(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static List<String> single(String value) {
+        return value != null ? List.of(value) : List.of();
+    }
+}
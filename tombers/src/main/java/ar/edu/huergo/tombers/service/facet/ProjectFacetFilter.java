@@ -0,0 +1,76 @@
+package ar.edu.huergo.tombers.service.facet;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Valores elegidos por faceta. Dentro de una faceta alcanza con coincidir con alguno de los
+ * valores (OR); entre facetas distintas deben cumplirse todas (AND).
+ */
+public final class ProjectFacetFilter {
+
+    /**
+     * Filtro sin selecciones: no excluye ningun proyecto.
+     */
+    public static final ProjectFacetFilter NONE = new ProjectFacetFilter(new EnumMap<>(ProjectFacet.class));
+
+    private final Map<ProjectFacet, Set<String>> selections;
+
+    private ProjectFacetFilter(Map<ProjectFacet, Set<String>> selections) {
+        this.selections = selections;
+    }
+
+    /**
+     * Arma un filtro a partir de los valores recibidos por faceta. Las facetas nulas o sin
+     * valores no filtran.
+     *
+     * @param technologies tecnologias aceptadas
+     * @param languages idiomas aceptados
+     * @param types tipos de proyecto aceptados
+     * @param statuses estados aceptados
+     * @return el filtro correspondiente
+     */
+    public static ProjectFacetFilter of(Collection<String> technologies, Collection<String> languages,
+            Collection<String> types, Collection<String> statuses) {
+        Map<ProjectFacet, Set<String>> selections = new EnumMap<>(ProjectFacet.class);
+        select(selections, ProjectFacet.TECHNOLOGY, technologies);
+        select(selections, ProjectFacet.LANGUAGE, languages);
+        select(selections, ProjectFacet.TYPE, types);
+        select(selections, ProjectFacet.STATUS, statuses);
+        return selections.isEmpty() ? NONE : new ProjectFacetFilter(selections);
+    }
+
+    /**
+     * Indica si el filtro no tiene selecciones.
+     */
+    public boolean isEmpty() {
+        return selections.isEmpty();
+    }
+
+    /**
+     * Valores elegidos por faceta, normalizados.
+     */
+    public Map<ProjectFacet, Set<String>> selections() {
+        return Collections.unmodifiableMap(selections);
+    }
+
+    private static void select(Map<ProjectFacet, Set<String>> selections, ProjectFacet facet, Collection<String> values) {
+        if (values == null) {
+            return;
+        }
+        Set<String> normalized = new LinkedHashSet<>();
+        for (String value : values) {
+            String key = ProjectFacet.normalize(value);
+            if (key != null) {
+                normalized.add(key);
+            }
+        }
+        if (!normalized.isEmpty()) {
+            selections.put(facet, normalized);
+        }
+    }
+}
@@ -0,0 +1,256 @@
+package ar.edu.huergo.tombers.service.facet;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import ar.edu.huergo.tombers.entity.Project;
+import ar.edu.huergo.tombers.repository.ProjectRepository;
+import ar.edu.huergo.tombers.service.event.ProjectDeletedEvent;
+import ar.edu.huergo.tombers.service.event.ProjectSavedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Indice en memoria de facetas de proyectos: un bitmap comprimido (Roaring) de IDs de
+ * proyecto por cada valor de cada faceta. Los filtros se resuelven con uniones dentro de una
+ * faceta e intersecciones entre facetas, y los conteos con cardinalidades de intersecciones,
+ * sin consultar la base. Se construye al iniciar la aplicacion y luego se actualiza con los
+ * eventos de alta, modificacion y baja de proyectos.
+ *
+ * <p>Los IDs de proyecto se guardan en {@link ProjectIdSet}: los que entran en 32 bits van al
+ * bitmap y los demas a un conjunto aparte, asi que cualquier ID se puede filtrar y contar.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProjectFacetIndex {
+
+    private static final Comparator<Map.Entry<String, Long>> BY_COUNT = Map.Entry.<String, Long>comparingByValue()
+            .reversed()
+            .thenComparing(Map.Entry.comparingByKey());
+
+    private final ProjectRepository projectRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ProjectIdSet all = new ProjectIdSet();
+    private final Map<ProjectFacet, Map<String, ProjectIdSet>> bitmaps = newFacetMap();
+    // Valores indexados de cada proyecto, para quitarlos cuando cambia o se elimina
+    private final Map<Long, Map<ProjectFacet, List<String>>> valuesByProject = new HashMap<>();
+
+    /**
+     * Construye el indice con todos los proyectos usando proyecciones, sin cargar entidades.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.nanoTime();
+        Map<Long, Map<ProjectFacet, List<String>>> values = new HashMap<>();
+        for (ProjectRepository.ProjectFacetRef ref : projectRepository.findAllFacetRefs()) {
+            Map<ProjectFacet, List<String>> projectValues = values.computeIfAbsent(ref.getProjectId(),
+                    key -> new EnumMap<>(ProjectFacet.class));
+            addValue(projectValues, ProjectFacet.LANGUAGE, ref.getLanguage());
+            addValue(projectValues, ProjectFacet.TYPE, ref.getType());
+            addValue(projectValues, ProjectFacet.STATUS, ref.getStatus() != null ? ref.getStatus().name() : null);
+        }
+        for (ProjectRepository.ProjectTechnologyRef ref : projectRepository.findAllTechnologyRefs()) {
+            addValue(values.computeIfAbsent(ref.getProjectId(), key -> new EnumMap<>(ProjectFacet.class)),
+                    ProjectFacet.TECHNOLOGY, ref.getName());
+        }
+
+        lock.writeLock().lock();
+        try {
+            all.clear();
+            bitmaps.values().forEach(Map::clear);
+            valuesByProject.clear();
+            values.forEach(this::add);
+            all.runOptimize();
+            bitmaps.values().forEach(byValue -> byValue.values().forEach(ProjectIdSet::runOptimize));
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Indice de facetas construido con {} proyectos en {} ms",
+                values.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectSaved(ProjectSavedEvent event) {
+        Project project = event.project();
+        if (project == null || project.getId() == null) {
+            return;
+        }
+        Map<ProjectFacet, List<String>> values = new EnumMap<>(ProjectFacet.class);
+        for (ProjectFacet facet : ProjectFacet.values()) {
+            values.put(facet, facet.valuesOf(project));
+        }
+        long projectId = project.getId();
+        lock.writeLock().lock();
+        try {
+            remove(projectId);
+            add(projectId, values);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectDeleted(ProjectDeletedEvent event) {
+        if (event.projectId() == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            remove(event.projectId());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Obtiene una copia del conjunto de todos los proyectos indexados.
+     */
+    public ProjectIdSet allProjects() {
+        lock.readLock().lock();
+        try {
+            return all.copy();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Obtiene los proyectos que cumplen el filtro: en cada faceta la union de los bitmaps de
+     * los valores elegidos, e interseccion entre facetas.
+     *
+     * @param filter el filtro a aplicar
+     * @return un conjunto nuevo con los IDs que cumplen el filtro
+     */
+    public ProjectIdSet match(ProjectFacetFilter filter) {
+        lock.readLock().lock();
+        try {
+            ProjectIdSet result = all.copy();
+            for (Map.Entry<ProjectFacet, Set<String>> selection : filter.selections().entrySet()) {
+                result.and(union(selection.getKey(), selection.getValue()));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Cuenta, para cada valor de cada faceta, cuantos proyectos del alcance lo tienen. Los
+     * conteos de una faceta ignoran lo elegido en esa misma faceta, asi el cliente sabe cuantos
+     * resultados sumaria al agregar otro valor; las demas facetas si se aplican.
+     *
+     * @param filter el filtro aplicado
+     * @param scope los proyectos sobre los que se cuenta (por ejemplo, el feed o los resultados de una busqueda)
+     * @return por nombre de faceta, los valores con al menos un proyecto ordenados por cantidad
+     */
+    public Map<String, Map<String, Long>> count(ProjectFacetFilter filter, ProjectIdSet scope) {
+        lock.readLock().lock();
+        try {
+            Map<ProjectFacet, ProjectIdSet> unions = new EnumMap<>(ProjectFacet.class);
+            filter.selections().forEach((facet, values) -> unions.put(facet, union(facet, values)));
+
+            Map<String, Map<String, Long>> counts = new LinkedHashMap<>();
+            for (ProjectFacet facet : ProjectFacet.values()) {
+                ProjectIdSet base = scope.copy();
+                unions.forEach((other, union) -> {
+                    if (other != facet) {
+                        base.and(union);
+                    }
+                });
+
+                List<Map.Entry<String, Long>> entries = new ArrayList<>();
+                if (!base.isEmpty()) {
+                    bitmaps.get(facet).forEach((value, bitmap) -> {
+                        long count = ProjectIdSet.andCardinality(bitmap, base);
+                        if (count > 0) {
+                            entries.add(Map.entry(value, count));
+                        }
+                    });
+                }
+                entries.sort(BY_COUNT);
+                Map<String, Long> facetCounts = new LinkedHashMap<>();
+                entries.forEach(entry -> facetCounts.put(entry.getKey(), entry.getValue()));
+                counts.put(facet.paramName(), facetCounts);
+            }
+            return counts;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private ProjectIdSet union(ProjectFacet facet, Set<String> values) {
+        Map<String, ProjectIdSet> byValue = bitmaps.get(facet);
+        ProjectIdSet union = new ProjectIdSet();
+        for (String value : values) {
+            ProjectIdSet bitmap = byValue.get(value);
+            if (bitmap != null) {
+                union.or(bitmap);
+            }
+        }
+        return union;
+    }
+
+    private void add(long projectId, Map<ProjectFacet, List<String>> values) {
+        all.add(projectId);
+        values.forEach((facet, facetValues) -> {
+            Map<String, ProjectIdSet> byValue = bitmaps.get(facet);
+            for (String value : facetValues) {
+                byValue.computeIfAbsent(value, key -> new ProjectIdSet()).add(projectId);
+            }
+        });
+        valuesByProject.put(projectId, values);
+    }
+
+    private void remove(long projectId) {
+        all.remove(projectId);
+        Map<ProjectFacet, List<String>> previous = valuesByProject.remove(projectId);
+        if (previous == null) {
+            return;
+        }
+        previous.forEach((facet, facetValues) -> {
+            Map<String, ProjectIdSet> byValue = bitmaps.get(facet);
+            for (String value : facetValues) {
+                ProjectIdSet bitmap = byValue.get(value);
+                if (bitmap != null) {
+                    bitmap.remove(projectId);
+                    if (bitmap.isEmpty()) {
+                        byValue.remove(value);
+                    }
+                }
+            }
+        });
+    }
+
+    private static void addValue(Map<ProjectFacet, List<String>> values, ProjectFacet facet, String value) {
+        String normalized = ProjectFacet.normalize(value);
+        if (normalized == null) {
+            return;
+        }
+        List<String> facetValues = values.computeIfAbsent(facet, key -> new ArrayList<>());
+        if (!facetValues.contains(normalized)) {
+            facetValues.add(normalized);
+        }
+    }
+
+    private static Map<ProjectFacet, Map<String, ProjectIdSet>> newFacetMap() {
+        Map<ProjectFacet, Map<String, ProjectIdSet>> map = new EnumMap<>(ProjectFacet.class);
+        for (ProjectFacet facet : ProjectFacet.values()) {
+            map.put(facet, new HashMap<>());
+        }
+        return map;
+    }
+}
@@ -0,0 +1,164 @@
+package ar.edu.huergo.tombers.service.facet;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeSet;
+
+import org.roaringbitmap.PeekableIntIterator;
+import org.roaringbitmap.RoaringBitmap;
+
+/**
+ * Conjunto de IDs de proyecto para el indice de facetas. Los IDs que entran en 32 bits (todos
+ * en la practica) se guardan en un bitmap comprimido (Roaring); los demas, en un conjunto
+ * ordenado aparte, asi un ID grande no rompe los filtros ni los conteos.
+ *
+ * <p>Como RoaringBitmap, es mutable y no es seguro para uso concurrente.</p>
+ */
+public final class ProjectIdSet {
+
+    private final RoaringBitmap bitmap;
+    // IDs que no entran en 32 bits
+    private final TreeSet<Long> overflow;
+
+    public ProjectIdSet() {
+        this(new RoaringBitmap(), new TreeSet<>());
+    }
+
+    private ProjectIdSet(RoaringBitmap bitmap, TreeSet<Long> overflow) {
+        this.bitmap = bitmap;
+        this.overflow = overflow;
+    }
+
+    /**
+     * Crea un conjunto con los IDs recibidos.
+     */
+    public static ProjectIdSet of(Collection<Long> projectIds) {
+        ProjectIdSet set = new ProjectIdSet();
+        for (Long projectId : projectIds) {
+            set.add(projectId);
+        }
+        return set;
+    }
+
+    /**
+     * Interseccion de dos conjuntos, sin modificarlos.
+     */
+    public static ProjectIdSet and(ProjectIdSet first, ProjectIdSet second) {
+        ProjectIdSet result = first.copy();
+        result.and(second);
+        return result;
+    }
+
+    /**
+     * Cantidad de IDs en comun entre dos conjuntos, sin armar la interseccion.
+     */
+    public static long andCardinality(ProjectIdSet first, ProjectIdSet second) {
+        long count = RoaringBitmap.andCardinality(first.bitmap, second.bitmap);
+        if (!first.overflow.isEmpty() && !second.overflow.isEmpty()) {
+            for (Long projectId : first.overflow) {
+                if (second.overflow.contains(projectId)) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Indica si el ID se guarda en el bitmap.
+     */
+    static boolean fits(long projectId) {
+        return projectId >= 0 && projectId <= Integer.MAX_VALUE;
+    }
+
+    public void add(long projectId) {
+        if (fits(projectId)) {
+            bitmap.add((int) projectId);
+        } else {
+            overflow.add(projectId);
+        }
+    }
+
+    public void remove(long projectId) {
+        if (fits(projectId)) {
+            bitmap.remove((int) projectId);
+        } else {
+            overflow.remove(projectId);
+        }
+    }
+
+    public boolean contains(long projectId) {
+        return fits(projectId) ? bitmap.contains((int) projectId) : overflow.contains(projectId);
+    }
+
+    public boolean isEmpty() {
+        return bitmap.isEmpty() && overflow.isEmpty();
+    }
+
+    public long cardinality() {
+        return bitmap.getLongCardinality() + overflow.size();
+    }
+
+    public void and(ProjectIdSet other) {
+        bitmap.and(other.bitmap);
+        overflow.retainAll(other.overflow);
+    }
+
+    public void or(ProjectIdSet other) {
+        bitmap.or(other.bitmap);
+        overflow.addAll(other.overflow);
+    }
+
+    public void andNot(ProjectIdSet other) {
+        bitmap.andNot(other.bitmap);
+        overflow.removeAll(other.overflow);
+    }
+
+    public ProjectIdSet copy() {
+        return new ProjectIdSet(bitmap.clone(), new TreeSet<>(overflow));
+    }
+
+    /**
+     * Compacta el bitmap despues de una carga masiva.
+     */
+    public void runOptimize() {
+        bitmap.runOptimize();
+    }
+
+    /**
+     * Obtiene, en orden ascendente, hasta limit IDs mayores que afterId.
+     */
+    public List<Long> idsAfter(long afterId, int limit) {
+        List<Long> ids = new ArrayList<>(Math.min(limit, 64));
+        // Los IDs negativos van antes que los del bitmap, y los mayores a 32 bits despues
+        for (Long projectId : overflow.tailSet(afterId, false)) {
+            if (projectId >= 0 || ids.size() == limit) {
+                break;
+            }
+            ids.add(projectId);
+        }
+        if (afterId < Integer.MAX_VALUE) {
+            PeekableIntIterator iterator = bitmap.getIntIterator();
+            iterator.advanceIfNeeded((int) Math.max(afterId + 1, 0));
+            while (iterator.hasNext() && ids.size() < limit) {
+                ids.add((long) iterator.next());
+            }
+        }
+        for (Long projectId : overflow.tailSet(Math.max(afterId, Integer.MAX_VALUE), false)) {
+            if (ids.size() == limit) {
+                break;
+            }
+            ids.add(projectId);
+        }
+        return ids;
+    }
+
+    /**
+     * Todos los IDs en orden ascendente.
+     */
+    public long[] toArray() {
+        List<Long> ids = idsAfter(Long.MIN_VALUE, Integer.MAX_VALUE);
+        return ids.stream().mapToLong(Long::longValue).toArray();
+    }
+}
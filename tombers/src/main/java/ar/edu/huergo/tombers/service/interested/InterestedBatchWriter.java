@@ -0,0 +1,87 @@
+package ar.edu.huergo.tombers.service.interested;
+
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import ar.edu.huergo.tombers.entity.Project;
+import ar.edu.huergo.tombers.entity.ProjectInteraction.InteractionType;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Aplica en la base, con batches JDBC, los cambios de usuarios de una gestion en lote de
+ * interesados: agrega el proyecto a la lista de proyectos de los aceptados, borra el like de los
+ * rechazados, aumenta las versiones de todos ellos y ajusta los contadores del proyecto con un
+ * unico UPDATE. Los integrantes y teamCurrent los guarda el servicio con la entidad del proyecto.
+ */
+@Component
+@RequiredArgsConstructor
+public class InterestedBatchWriter {
+
+    // Solo inserta si el usuario sigue existiendo y todavia no tiene el proyecto en su lista
+    private static final String PARTICIPATING_INSERT_SQL =
+            "INSERT INTO user_participating_projects (user_id, project_id)"
+            + " SELECT ?, ? FROM users u WHERE u.id = ?"
+            + " AND NOT EXISTS (SELECT 1 FROM user_participating_projects up WHERE up.user_id = ? AND up.project_id = ?)";
+
+    // La lista de proyectos es parte de la entidad, asi que cambia la version del bloqueo optimista
+    private static final String USER_VERSION_SQL = "UPDATE users SET version = version + 1 WHERE id = ?";
+
+    private static final String LIKE_DELETE_SQL =
+            "DELETE FROM project_interactions WHERE user_id = ? AND project_id = ? AND type = ?";
+
+    private static final String USER_ACTIVITY_VERSION_SQL =
+            "UPDATE users SET activity_version = activity_version + 1 WHERE id = ?";
+
+    private static final String PROJECT_COUNTERS_SQL =
+            "UPDATE projects SET like_count = like_count + ?, interested_count = interested_count + ?,"
+            + " activity_version = activity_version + 1, changed_at = ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Escribe los cambios en la transaccion del llamador.
+     *
+     * @param projectId el ID del proyecto
+     * @param acceptedIds usuarios aceptados (incluso los que ya eran integrantes)
+     * @param rejectedIds usuarios rechazados, cuyo like se borra
+     * @param interestedDelta variacion de la cantidad de interesados del proyecto
+     */
+    @Transactional
+    public void write(Long projectId, Collection<Long> acceptedIds, Collection<Long> rejectedIds, int interestedDelta) {
+        // Orden fijo de IDs para que dos lotes concurrentes bloqueen las filas en el mismo orden
+        Set<Long> accepted = new TreeSet<>(acceptedIds);
+        Set<Long> rejected = new TreeSet<>(rejectedIds);
+
+        if (!accepted.isEmpty()) {
+            jdbcTemplate.batchUpdate(PARTICIPATING_INSERT_SQL, accepted.stream()
+                    .map(userId -> new Object[] {userId, projectId, userId, userId, projectId})
+                    .toList());
+            jdbcTemplate.batchUpdate(USER_VERSION_SQL, toArgs(accepted));
+        }
+        int removedLikes = 0;
+        if (!rejected.isEmpty()) {
+            // Se descuentan solo los likes que realmente se borraron
+            for (int count : jdbcTemplate.batchUpdate(LIKE_DELETE_SQL, rejected.stream()
+                    .map(userId -> new Object[] {userId, projectId, InteractionType.LIKE.name()})
+                    .toList())) {
+                removedLikes += Math.max(count, 0);
+            }
+            jdbcTemplate.batchUpdate(USER_ACTIVITY_VERSION_SQL, toArgs(rejected));
+        }
+        if (removedLikes > 0 || interestedDelta != 0) {
+            jdbcTemplate.update(PROJECT_COUNTERS_SQL, -removedLikes, interestedDelta,
+                    Timestamp.from(Project.currentChangeInstant()), projectId);
+        }
+    }
+
+    private static List<Object[]> toArgs(Set<Long> ids) {
+        return ids.stream().map(id -> new Object[] {id}).toList();
+    }
+}
@@ -0,0 +1,12 @@
+package ar.edu.huergo.tombers.service.interested;
+
+/**
+ * Se lanza cuando el nodo alcanzo la cantidad maxima de streams de interesados abiertos.
+ * El cliente puede reintentar la conexion en unos instantes.
+ */
+public class InterestedStreamLimitException extends RuntimeException {
+
+    public InterestedStreamLimitException(String message) {
+        super(message);
+    }
+}
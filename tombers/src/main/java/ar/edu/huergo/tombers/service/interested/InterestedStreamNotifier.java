@@ -0,0 +1,77 @@
+package ar.edu.huergo.tombers.service.interested;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import ar.edu.huergo.tombers.entity.ProjectInteraction.InteractionType;
+import ar.edu.huergo.tombers.repository.ProjectInteractionRepository;
+import ar.edu.huergo.tombers.service.ProjectService;
+import ar.edu.huergo.tombers.service.event.MemberAcceptedEvent;
+import ar.edu.huergo.tombers.service.event.ProjectLikedEvent;
+import ar.edu.huergo.tombers.service.event.ProjectUpdatedEvent;
+import ar.edu.huergo.tombers.service.event.UserRatedEvent;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Envia a los streams abiertos de un proyecto los cambios de su lista de interesados: cada nuevo
+ * interesado, cada aceptado, los interesados cuya calificacion cambio y las actualizaciones del
+ * proyecto. Los eventos llegan por el outbox, despues de su commit.
+ * Solo consulta la base si hay algun stream abierto en este nodo que lo necesite.
+ */
+@Component
+@RequiredArgsConstructor
+public class InterestedStreamNotifier {
+
+    static final String INTERESTED_EVENT = "interested";
+    static final String INTERESTED_UPDATED_EVENT = "interested-updated";
+    static final String ACCEPTED_EVENT = "accepted";
+    static final String PROJECT_UPDATED_EVENT = "project-updated";
+
+    private final InterestedStreamRegistry registry;
+    private final ProjectService projectService;
+    private final ProjectInteractionRepository projectInteractionRepository;
+
+    @EventListener
+    public void onProjectLiked(ProjectLikedEvent event) {
+        if (!registry.hasSubscribers(event.projectId())) {
+            return;
+        }
+        // Si el usuario es integrante, o su like ya no existe, no hay nada que avisar
+        projectService.findInterestedUser(event.projectId(), event.userId())
+                .ifPresent(summary -> registry.send(event.projectId(), INTERESTED_EVENT, summary));
+    }
+
+    /**
+     * El aceptado deja de ser interesado: el cliente lo quita de la lista por su ID.
+     */
+    @EventListener
+    public void onMemberAccepted(MemberAcceptedEvent event) {
+        registry.send(event.projectId(), ACCEPTED_EVENT, event.userId());
+    }
+
+    /**
+     * Los datos del proyecto (por ejemplo el cupo) cambiaron: el cliente vuelve a leerlo.
+     */
+    @EventListener
+    public void onProjectUpdated(ProjectUpdatedEvent event) {
+        registry.send(event.projectId(), PROJECT_UPDATED_EVENT, event.projectId());
+    }
+
+    /**
+     * El promedio del calificado forma parte de su resumen en cada proyecto en el que esta
+     * interesado; se reenvia a los que tienen algun stream abierto.
+     */
+    @EventListener
+    public void onUserRated(UserRatedEvent event) {
+        if (registry.connectionCount() == 0) {
+            return;
+        }
+        for (Long projectId : projectInteractionRepository.findProjectIdsByUserIdAndType(event.ratedUserId(),
+                InteractionType.LIKE)) {
+            if (registry.hasSubscribers(projectId)) {
+                projectService.findInterestedUser(projectId, event.ratedUserId())
+                        .ifPresent(summary -> registry.send(projectId, INTERESTED_UPDATED_EVENT, summary));
+            }
+        }
+    }
+}
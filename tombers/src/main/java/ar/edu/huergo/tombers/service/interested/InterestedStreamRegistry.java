@@ -0,0 +1,157 @@
+package ar.edu.huergo.tombers.service.interested;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import ar.edu.huergo.tombers.config.InterestedStreamProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Registro de los streams (SSE) de interesados abiertos en este nodo, agrupados por proyecto.
+ * Limita la cantidad total de conexiones, envia heartbeats periodicos y quita cada emisor cuando
+ * el cliente se desconecta, vence el timeout o falla un envio.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InterestedStreamRegistry {
+
+    static final String HEARTBEAT_COMMENT = "heartbeat";
+
+    private final InterestedStreamProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private final ConcurrentHashMap<Long, Set<SseEmitter>> emitters = new ConcurrentHashMap<>();
+    private final AtomicInteger connections = new AtomicInteger();
+
+    @PostConstruct
+    public void start() {
+        Gauge.builder("tombers.interested.streams", connections, AtomicInteger::get)
+                .description("Streams de interesados abiertos en este nodo")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void stop() {
+        emitters.forEach((projectId, projectEmitters) -> projectEmitters.forEach(SseEmitter::complete));
+        emitters.clear();
+        connections.set(0);
+    }
+
+    /**
+     * Abre un stream para el proyecto. El llamador debe haber verificado los permisos.
+     *
+     * @param projectId el ID del proyecto
+     * @return el emisor que el controlador devuelve como respuesta
+     * @throws InterestedStreamLimitException si el nodo ya tiene maxConnections streams abiertos
+     */
+    public SseEmitter open(Long projectId) {
+        if (connections.incrementAndGet() > properties.getMaxConnections()) {
+            connections.decrementAndGet();
+            throw new InterestedStreamLimitException("Se alcanzo el maximo de " + properties.getMaxConnections()
+                    + " streams de interesados abiertos");
+        }
+
+        SseEmitter emitter = new SseEmitter(properties.getTimeout().toMillis());
+        emitters.compute(projectId, (id, projectEmitters) -> {
+            Set<SseEmitter> target = projectEmitters != null ? projectEmitters : ConcurrentHashMap.newKeySet();
+            target.add(emitter);
+            return target;
+        });
+        emitter.onCompletion(() -> remove(projectId, emitter));
+        emitter.onTimeout(() -> remove(projectId, emitter));
+        emitter.onError(ex -> remove(projectId, emitter));
+
+        // El primer evento confirma la suscripcion y hace que los proxies envien los encabezados
+        trySend(projectId, emitter, () -> SseEmitter.event().name("connected").data(projectId));
+        return emitter;
+    }
+
+    /**
+     * Indica si el proyecto tiene algun stream abierto en este nodo.
+     */
+    public boolean hasSubscribers(Long projectId) {
+        Set<SseEmitter> projectEmitters = emitters.get(projectId);
+        return projectEmitters != null && !projectEmitters.isEmpty();
+    }
+
+    /**
+     * Cantidad de streams abiertos en este nodo.
+     */
+    public int connectionCount() {
+        return connections.get();
+    }
+
+    /**
+     * Envia un evento a todos los streams abiertos del proyecto. Los que fallan se cierran.
+     *
+     * @param projectId el ID del proyecto
+     * @param name el nombre del evento
+     * @param data el contenido, que se serializa como JSON
+     */
+    public void send(Long projectId, String name, Object data) {
+        Set<SseEmitter> projectEmitters = emitters.get(projectId);
+        if (projectEmitters == null) {
+            return;
+        }
+        for (SseEmitter emitter : List.copyOf(projectEmitters)) {
+            trySend(projectId, emitter, () -> SseEmitter.event().name(name).data(data));
+        }
+    }
+
+    /**
+     * Envia un heartbeat a cada stream abierto desde el scheduler compartido.
+     */
+    @Scheduled(fixedDelayString = "${projects.interested-stream.heartbeat-interval:15s}",
+            initialDelayString = "${projects.interested-stream.heartbeat-interval:15s}")
+    public void sendHeartbeats() {
+        emitters.forEach((projectId, projectEmitters) -> {
+            for (SseEmitter emitter : List.copyOf(projectEmitters)) {
+                trySend(projectId, emitter, () -> SseEmitter.event().comment(HEARTBEAT_COMMENT));
+            }
+        });
+    }
+
+    private void trySend(Long projectId, SseEmitter emitter, Supplier<SseEmitter.SseEventBuilder> event) {
+        try {
+            emitter.send(event.get());
+        } catch (IOException ex) {
+            // El cliente se desconecto
+            log.debug("Stream de interesados del proyecto {} cerrado: {}", projectId, ex.getMessage());
+            remove(projectId, emitter);
+            emitter.completeWithError(ex);
+        } catch (IllegalStateException ex) {
+            // El emisor ya estaba completo (timeout o cierre en paralelo)
+            remove(projectId, emitter);
+        }
+    }
+
+    /**
+     * Quita el emisor del registro. Los callbacks de cierre pueden llegar mas de una vez;
+     * la conexion se descuenta solo la primera.
+     */
+    private void remove(Long projectId, SseEmitter emitter) {
+        AtomicBoolean removed = new AtomicBoolean();
+        emitters.computeIfPresent(projectId, (id, projectEmitters) -> {
+            removed.set(projectEmitters.remove(emitter));
+            return projectEmitters.isEmpty() ? null : projectEmitters;
+        });
+        if (removed.get()) {
+            connections.decrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package ar.edu.huergo.tombers.service.outbox;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import ar.edu.huergo.tombers.config.OutboxProperties;
+import ar.edu.huergo.tombers.entity.OutboxEvent;
+import ar.edu.huergo.tombers.repository.OutboxEventRepository;
+import ar.edu.huergo.tombers.service.event.DomainEvent;
+import ar.edu.huergo.tombers.service.event.DomainEventType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Entrega a los listeners en proceso los eventos de dominio guardados en el outbox.
+ *
+ * <p>Lee los pendientes por lotes en orden de ID y publica cada uno con el
+ * ApplicationEventPublisher, de forma sincronica en su propio hilo y fuera de toda transaccion.
+ * Un evento se marca como entregado solo despues de que todos sus listeners terminan sin error,
+ * por lo que la entrega es al menos una vez. Si un evento falla, los siguientes del mismo
+ * agregado no se entregan hasta que se reintente con exito (o se descarte tras maxAttempts
+ * intentos); los de otros agregados siguen su curso.</p>
+ *
+ * <p>Publica la cantidad de eventos pendientes, la antiguedad del pendiente mas viejo y la demora
+ * de cada entrega. Tambien elimina los eventos entregados que superaron el periodo de retencion.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxDispatcher {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final OutboxProperties properties;
+    private final OutboxEventRepository repository;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicReference<Instant> oldestPending = new AtomicReference<>();
+
+    private Timer deliveryLag;
+    private Counter deliveryFailures;
+    private Counter abandoned;
+
+    @PostConstruct
+    public void start() {
+        Gauge.builder("tombers.outbox.pending", pending, AtomicLong::get)
+                .description("Eventos de dominio pendientes de entrega")
+                .register(meterRegistry);
+        Gauge.builder("tombers.outbox.lag", this, dispatcher -> dispatcher.lag(Instant.now()).toMillis() / 1000.0)
+                .description("Antiguedad en segundos del evento pendiente mas viejo")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        deliveryLag = Timer.builder("tombers.outbox.delivery.lag")
+                .description("Tiempo entre que se guarda un evento y se entrega")
+                .register(meterRegistry);
+        deliveryFailures = Counter.builder("tombers.outbox.delivery.failures")
+                .description("Entregas de eventos que fallaron y se reintentaran")
+                .register(meterRegistry);
+        abandoned = Counter.builder("tombers.outbox.abandoned")
+                .description("Eventos descartados tras agotar los intentos de entrega")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Entrega los eventos pendientes, lote por lote, hasta vaciar el outbox o hasta que solo
+     * queden eventos bloqueados por un fallo en esta pasada.
+     *
+     * @return la cantidad de eventos entregados
+     */
+    public int dispatch() {
+        // Agregados con un evento fallido en esta pasada: sus eventos siguientes esperan a la proxima
+        Set<String> blocked = new HashSet<>();
+        int delivered = 0;
+        boolean progress;
+        List<OutboxEvent> batch;
+        do {
+            batch = repository.findPending(PageRequest.of(0, properties.getBatchSize()));
+            int before = delivered;
+            int completed = 0;
+            List<Long> published = new ArrayList<>(batch.size());
+            for (OutboxEvent event : batch) {
+                if (!isKnownType(event)) {
+                    // Filas de tipos que ya no existen: nadie las puede consumir, no tiene sentido reintentarlas
+                    repository.abandon(event.getId(), "Tipo de evento desconocido: " + event.getEventType(),
+                            Instant.now());
+                    abandoned.increment();
+                    completed++;
+                    continue;
+                }
+                String aggregate = event.getAggregateType() + ":" + event.getAggregateId();
+                if (blocked.contains(aggregate)) {
+                    continue;
+                }
+                String error = deliver(event);
+                if (error == null) {
+                    published.add(event.getId());
+                    delivered++;
+                } else if (handleFailure(event, error)) {
+                    completed++;
+                } else {
+                    blocked.add(aggregate);
+                }
+            }
+            if (!published.isEmpty()) {
+                repository.markPublished(published, Instant.now());
+            }
+            progress = delivered > before || completed > 0;
+        } while (progress && batch.size() == properties.getBatchSize());
+
+        refreshPendingStats();
+        return delivered;
+    }
+
+    /**
+     * Elimina los eventos entregados mas viejos que el periodo de retencion.
+     *
+     * @return la cantidad de eventos eliminados
+     */
+    public int purge() {
+        Instant limit = Instant.now().minus(properties.getRetention());
+        int deleted = repository.deletePublishedBefore(limit);
+        if (deleted > 0) {
+            log.info("Se eliminaron {} eventos del outbox entregados antes de {}", deleted, limit);
+        }
+        return deleted;
+    }
+
+    /**
+     * Antiguedad del evento pendiente mas viejo segun la ultima pasada, o cero si no habia pendientes.
+     */
+    Duration lag(Instant now) {
+        Instant oldest = oldestPending.get();
+        return oldest == null || oldest.isAfter(now) ? Duration.ZERO : Duration.between(oldest, now);
+    }
+
+    /**
+     * Publica el evento a sus listeners.
+     *
+     * @return null si todos terminaron sin error, o la descripcion del error
+     */
+    private String deliver(OutboxEvent event) {
+        try {
+            eventPublisher.publishEvent(deserialize(event));
+            deliveryLag.record(Duration.between(event.getCreatedAt(), Instant.now()));
+            return null;
+        } catch (RuntimeException ex) {
+            log.warn("Fallo la entrega del evento {} ({}) de {} {} (intento {})", event.getId(), event.getEventType(),
+                    event.getAggregateType(), event.getAggregateId(), event.getAttempts() + 1, ex);
+            return describe(ex);
+        }
+    }
+
+    /**
+     * Registra el intento fallido.
+     *
+     * @return true si el evento se descarto por agotar los intentos y ya no bloquea a su agregado
+     */
+    private boolean handleFailure(OutboxEvent event, String error) {
+        if (event.getAttempts() + 1 >= properties.getMaxAttempts()) {
+            repository.abandon(event.getId(), error, Instant.now());
+            abandoned.increment();
+            log.error("Se descarta el evento {} ({}) de {} {} tras {} intentos: {}", event.getId(), event.getEventType(),
+                    event.getAggregateType(), event.getAggregateId(), event.getAttempts() + 1, event.getPayload());
+            return true;
+        }
+        repository.recordFailure(event.getId(), error);
+        deliveryFailures.increment();
+        return false;
+    }
+
+    private static boolean isKnownType(OutboxEvent event) {
+        for (DomainEventType type : DomainEventType.values()) {
+            if (type.name().equals(event.getEventType())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private DomainEvent deserialize(OutboxEvent event) {
+        DomainEventType type = DomainEventType.valueOf(event.getEventType());
+        try {
+            return objectMapper.readValue(event.getPayload(), type.eventClass());
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Contenido invalido para el evento " + type, ex);
+        }
+    }
+
+    private void refreshPendingStats() {
+        OutboxEventRepository.PendingStats stats = repository.findPendingStats();
+        pending.set(stats.getPending());
+        oldestPending.set(stats.getOldestCreatedAt());
+    }
+
+    private static String describe(RuntimeException ex) {
+        String description = ex.getClass().getSimpleName() + ": " + ex.getMessage();
+        return description.length() > MAX_ERROR_LENGTH ? description.substring(0, MAX_ERROR_LENGTH) : description;
+    }
+
+    /**
+     * Entrega periodica de los pendientes en el scheduler compartido.
+     */
+    @Scheduled(fixedDelayString = "${events.outbox.poll-interval:500ms}",
+            initialDelayString = "${events.outbox.poll-interval:500ms}")
+    public void dispatchQuietly() {
+        try {
+            dispatch();
+        } catch (RuntimeException ex) {
+            log.error("Error inesperado al entregar los eventos del outbox", ex);
+        }
+    }
+
+    /**
+     * Limpieza periodica de los eventos entregados vencidos en el scheduler compartido.
+     */
+    @Scheduled(fixedDelayString = "${events.outbox.purge-interval:1h}",
+            initialDelayString = "${events.outbox.purge-interval:1h}")
+    public void purgeQuietly() {
+        try {
+            purge();
+        } catch (RuntimeException ex) {
+            log.warn("No se pudieron eliminar los eventos vencidos del outbox", ex);
+        }
+    }
+}
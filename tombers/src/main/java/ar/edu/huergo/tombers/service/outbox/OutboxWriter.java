@@ -0,0 +1,76 @@
+package ar.edu.huergo.tombers.service.outbox;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import ar.edu.huergo.tombers.service.event.DomainEvent;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Guarda eventos de dominio en el outbox. Siempre escribe dentro de la transaccion del
+ * llamador, para que el evento se confirme o se descarte junto con el cambio que describe.
+ *
+ * <p>Para que los eventos de un agregado queden en orden, el llamador debe escribirlos despues
+ * de bloquear la fila del agregado (por ejemplo con el UPDATE de sus contadores): asi dos
+ * transacciones sobre el mismo agregado obtienen sus IDs en el orden en que confirman.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxWriter {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO outbox_events (aggregate_type, aggregate_id, event_type, payload, created_at, attempts)"
+            + " VALUES (?, ?, ?, ?, ?, 0)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Guarda un evento en el outbox.
+     *
+     * @param event el evento
+     * @throws org.springframework.transaction.IllegalTransactionStateException si no hay una transaccion activa
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(DomainEvent event) {
+        appendAll(List.of(event));
+    }
+
+    /**
+     * Guarda varios eventos en el outbox con un batch JDBC, en el orden recibido.
+     *
+     * @param events los eventos
+     * @throws org.springframework.transaction.IllegalTransactionStateException si no hay una transaccion activa
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void appendAll(List<? extends DomainEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        Timestamp createdAt = Timestamp.from(Instant.now());
+        List<Object[]> rows = new ArrayList<>(events.size());
+        for (DomainEvent event : events) {
+            rows.add(new Object[] {event.type().aggregate().name(), event.aggregateId(), event.type().name(),
+                    serialize(event), createdAt});
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+    }
+
+    private String serialize(DomainEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("No se pudo serializar el evento " + event.type(), ex);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package ar.edu.huergo.tombers.service.recommendation;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongPredicate;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import ar.edu.huergo.tombers.entity.User;
+import ar.edu.huergo.tombers.repository.ProjectRepository;
+import ar.edu.huergo.tombers.service.event.ProjectDeletedEvent;
+import ar.edu.huergo.tombers.service.event.ProjectSavedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Ordena el feed por afinidad entre las habilidades del usuario y las que pide cada proyecto.
+ * Mantiene un SkillIndex que se construye una vez al iniciar la aplicacion y luego se
+ * actualiza con los eventos de alta, modificacion y baja de proyectos.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProjectRecommendationService {
+
+    private final ProjectRepository projectRepository;
+    private final SkillIndex index = new SkillIndex();
+    private volatile boolean ready;
+
+    /**
+     * Construye el indice con todos los proyectos usando proyecciones, sin cargar entidades.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.nanoTime();
+        Map<Long, Map<String, Float>> termsByProject = new HashMap<>();
+        for (Long projectId : projectRepository.findAllIds()) {
+            termsByProject.put(projectId, new HashMap<>());
+        }
+        for (ProjectRepository.ProjectSkillRef ref : projectRepository.findAllSkillRefs()) {
+            SkillTerms.add(termsByProject.computeIfAbsent(ref.getProjectId(), key -> new HashMap<>()),
+                    ref.getNombre(), SkillTerms.levelWeight(ref.getNivel()));
+        }
+        for (ProjectRepository.ProjectTechnologyRef ref : projectRepository.findAllTechnologyRefs()) {
+            SkillTerms.add(termsByProject.computeIfAbsent(ref.getProjectId(), key -> new HashMap<>()),
+                    ref.getName(), SkillTerms.BASIC_WEIGHT);
+        }
+
+        index.clear();
+        termsByProject.forEach(index::put);
+        ready = true;
+        log.info("Indice de recomendaciones construido con {} proyectos en {} ms",
+                index.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectSaved(ProjectSavedEvent event) {
+        if (event.project() != null && event.project().getId() != null) {
+            index.put(event.project().getId(), SkillTerms.forProject(event.project()));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectDeleted(ProjectDeletedEvent event) {
+        if (event.projectId() != null) {
+            index.remove(event.projectId());
+        }
+    }
+
+    /**
+     * Indica si el indice ya fue construido.
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Obtiene los siguientes proyectos recomendados para el usuario. No consulta la base: el
+     * llamador indica que proyectos puede ver el usuario (por ejemplo, el bitmap del feed sin los
+     * ya evaluados ni los propios, y con los filtros por faceta aplicados).
+     *
+     * @param user el usuario que consulta el feed
+     * @param after ultimo proyecto entregado en la pagina anterior, o null para la primera
+     * @param limit cantidad maxima de proyectos a devolver
+     * @param visible condicion que debe cumplir cada proyecto para entrar en el feed
+     * @return los proyectos recomendados en orden de ranking
+     */
+    public List<ScoredProject> recommend(User user, ScoredProject after, int limit, LongPredicate visible) {
+        // Un solo recorrido del indice por pagina: los proyectos no visibles se descartan al puntuar
+        return index.rank(SkillTerms.forUser(user), after, limit, visible);
+    }
+}
@@ -0,0 +1,11 @@
+package ar.edu.huergo.tombers.service.recommendation;
+
+/**
+ * Proyecto candidato con su puntaje de afinidad para un usuario.
+ * El orden del ranking es por puntaje descendente y, a igual puntaje, por ID ascendente.
+ *
+ * @param projectId el ID del proyecto
+ * @param score el puntaje de afinidad (0 si no comparte ninguna habilidad)
+ */
+public record ScoredProject(long projectId, float score) {
+}
@@ -0,0 +1,334 @@
+package ar.edu.huergo.tombers.service.recommendation;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.PriorityQueue;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongPredicate;
+
+/**
+ * Indice invertido en memoria de terminos (habilidades y tecnologias) a proyectos.
+ *
+ * Para puntuar solo se recorren las listas de los terminos del usuario, por lo que el costo
+ * depende de cuantos proyectos comparten habilidades con el y no del total de proyectos.
+ * Las altas, cambios y bajas de proyectos actualizan unicamente las entradas afectadas.
+ */
+public class SkillIndex {
+
+    /**
+     * Orden del ranking: mayor puntaje primero y, a igual puntaje, menor ID primero.
+     */
+    static final Comparator<ScoredProject> RANKING = Comparator
+            .comparingDouble((ScoredProject candidate) -> -candidate.score())
+            .thenComparingLong(ScoredProject::projectId);
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final Map<Long, Map<String, Float>> termsByProject = new HashMap<>();
+    private final Map<Long, Integer> slotsByProject = new HashMap<>();
+    private final NavigableSet<Long> projectIds = new TreeSet<>();
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+    private long[] projectIdsBySlot = new long[1024];
+    private int slotCount;
+
+    /**
+     * Agrega o reemplaza los terminos de un proyecto.
+     *
+     * @param projectId el ID del proyecto
+     * @param terms terminos normalizados con el peso requerido
+     */
+    public void put(long projectId, Map<String, Float> terms) {
+        Map<String, Float> copy = new HashMap<>(terms);
+        lock.writeLock().lock();
+        try {
+            removePostings(projectId);
+            int slot = slotsByProject.computeIfAbsent(projectId, this::allocateSlot);
+            termsByProject.put(projectId, copy);
+            projectIds.add(projectId);
+            copy.forEach((term, weight) -> postings.computeIfAbsent(term, key -> new Postings()).add(slot, weight));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Quita un proyecto del indice.
+     */
+    public void remove(long projectId) {
+        lock.writeLock().lock();
+        try {
+            removePostings(projectId);
+            termsByProject.remove(projectId);
+            projectIds.remove(projectId);
+            Integer slot = slotsByProject.remove(projectId);
+            if (slot != null) {
+                freeSlots.push(slot);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Vacia el indice.
+     */
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            termsByProject.clear();
+            slotsByProject.clear();
+            projectIds.clear();
+            freeSlots.clear();
+            slotCount = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Cantidad de proyectos indexados.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return projectIds.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Devuelve los siguientes proyectos del ranking de un usuario.
+     *
+     * El puntaje de un proyecto es la suma, sobre los terminos en comun, del nivel del usuario
+     * limitado al nivel requerido: cubrir una habilidad avanzada suma mas que una basica y
+     * superar el nivel pedido no suma extra. Los proyectos sin terminos en comun quedan al
+     * final con puntaje 0, ordenados por ID.
+     *
+     * @param profile terminos del usuario con el peso de su nivel
+     * @param after ultimo candidato devuelto en la pagina anterior, o null para empezar
+     * @param limit cantidad maxima de candidatos
+     * @return los candidatos en orden de ranking
+     */
+    public List<ScoredProject> rank(Map<String, Float> profile, ScoredProject after, int limit) {
+        return rank(profile, after, limit, projectId -> true);
+    }
+
+    /**
+     * Igual que {@link #rank(Map, ScoredProject, int)}, pero solo devuelve los proyectos que
+     * cumplen la condicion. Los demas se descartan al puntuar, asi que una pagina cuesta un
+     * solo recorrido del indice aunque la mayoria de los proyectos no sean visibles.
+     *
+     * @param visible condicion que debe cumplir cada candidato
+     */
+    public List<ScoredProject> rank(Map<String, Float> profile, ScoredProject after, int limit,
+            LongPredicate visible) {
+        if (limit <= 0) {
+            return new ArrayList<>();
+        }
+        lock.readLock().lock();
+        try {
+            // Solo se acumulan los slots con coincidencias: el costo no depende del total de proyectos
+            SlotScores scores = new SlotScores(countPostings(profile));
+            for (Map.Entry<String, Float> entry : profile.entrySet()) {
+                Postings list = postings.get(entry.getKey());
+                if (list == null) {
+                    continue;
+                }
+                float userWeight = entry.getValue();
+                for (int i = 0; i < list.size; i++) {
+                    scores.add(list.slots[i], Math.min(userWeight, list.weights[i]));
+                }
+            }
+
+            List<ScoredProject> result = new ArrayList<>(limit);
+            if (after == null || after.score() > 0) {
+                result.addAll(topScored(scores, after, limit, visible));
+            }
+
+            // Completa con los proyectos sin coincidencias recorriendo los IDs en orden
+            if (result.size() < limit) {
+                NavigableSet<Long> tail = after != null && after.score() <= 0
+                        ? projectIds.tailSet(after.projectId(), false)
+                        : projectIds;
+                for (Long projectId : tail) {
+                    if (scores.get(slotsByProject.get(projectId)) > 0f || !visible.test(projectId)) {
+                        continue;
+                    }
+                    result.add(new ScoredProject(projectId, 0f));
+                    if (result.size() == limit) {
+                        break;
+                    }
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int countPostings(Map<String, Float> profile) {
+        int total = 0;
+        for (String term : profile.keySet()) {
+            Postings list = postings.get(term);
+            if (list != null) {
+                total += list.size;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Selecciona los mejores candidatos visibles posteriores al cursor con un heap de tamaño limit.
+     */
+    private List<ScoredProject> topScored(SlotScores scores, ScoredProject after, int limit,
+            LongPredicate visible) {
+        // El heap deja arriba al peor candidato para poder descartarlo en O(log limit)
+        PriorityQueue<ScoredProject> heap = new PriorityQueue<>(limit + 1, RANKING.reversed());
+        for (int i = 0; i < scores.slots.length; i++) {
+            int slot = scores.slots[i];
+            if (slot == SlotScores.EMPTY) {
+                continue;
+            }
+            float score = scores.scores[i];
+            long projectId = projectIdsBySlot[slot];
+            if (after != null && !isAfter(score, projectId, after)) {
+                continue;
+            }
+            if (heap.size() == limit && isAfter(score, projectId, heap.peek())) {
+                continue;
+            }
+            if (!visible.test(projectId)) {
+                continue;
+            }
+            heap.add(new ScoredProject(projectId, score));
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        }
+        List<ScoredProject> top = new ArrayList<>(heap);
+        top.sort(RANKING);
+        return top;
+    }
+
+    /**
+     * Indica si el candidato (score, projectId) va despues de otro en el ranking.
+     */
+    private static boolean isAfter(float score, long projectId, ScoredProject other) {
+        int byScore = Float.compare(other.score(), score);
+        return byScore > 0 || (byScore == 0 && projectId > other.projectId());
+    }
+
+    private int allocateSlot(long projectId) {
+        int slot;
+        if (!freeSlots.isEmpty()) {
+            slot = freeSlots.pop();
+        } else {
+            if (slotCount == projectIdsBySlot.length) {
+                projectIdsBySlot = Arrays.copyOf(projectIdsBySlot, slotCount * 2);
+            }
+            slot = slotCount++;
+        }
+        projectIdsBySlot[slot] = projectId;
+        return slot;
+    }
+
+    private void removePostings(long projectId) {
+        Map<String, Float> previous = termsByProject.get(projectId);
+        Integer slot = slotsByProject.get(projectId);
+        if (previous == null || slot == null) {
+            return;
+        }
+        for (String term : previous.keySet()) {
+            Postings list = postings.get(term);
+            if (list != null) {
+                list.remove(slot);
+                if (list.size == 0) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    /**
+     * Lista de proyectos de un termino guardada en arreglos paralelos de slots y pesos.
+     */
+    private static final class Postings {
+        private int[] slots = new int[8];
+        private float[] weights = new float[8];
+        private int size;
+
+        void add(int slot, float weight) {
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+                weights = Arrays.copyOf(weights, size * 2);
+            }
+            slots[size] = slot;
+            weights[size] = weight;
+            size++;
+        }
+
+        void remove(int slot) {
+            for (int i = 0; i < size; i++) {
+                if (slots[i] == slot) {
+                    // El orden dentro de la lista no importa: se mueve el ultimo al hueco
+                    size--;
+                    slots[i] = slots[size];
+                    weights[i] = weights[size];
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Puntajes acumulados por slot en una tabla de direccionamiento abierto, dimensionada segun
+     * la cantidad de entradas de las listas recorridas y no segun el total de proyectos.
+     */
+    private static final class SlotScores {
+        static final int EMPTY = -1;
+
+        private final int[] slots;
+        private final float[] scores;
+        private final int mask;
+
+        SlotScores(int expected) {
+            // Factor de carga maximo de 0.5 para que las sondas sean cortas
+            int capacity = Integer.highestOneBit(Math.max(2, expected) * 2 - 1) << 1;
+            slots = new int[capacity];
+            scores = new float[capacity];
+            mask = capacity - 1;
+            Arrays.fill(slots, EMPTY);
+        }
+
+        void add(int slot, float score) {
+            int i = indexOf(slot);
+            slots[i] = slot;
+            scores[i] += score;
+        }
+
+        float get(int slot) {
+            int i = indexOf(slot);
+            return slots[i] == slot ? scores[i] : 0f;
+        }
+
+        private int indexOf(int slot) {
+            int hash = slot * 0x9E3779B9;
+            int i = (hash ^ (hash >>> 16)) & mask;
+            while (slots[i] != EMPTY && slots[i] != slot) {
+                i = (i + 1) & mask;
+            }
+            return i;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package ar.edu.huergo.tombers.service.recommendation;
+
+import java.text.Normalizer;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import ar.edu.huergo.tombers.entity.Project;
+import ar.edu.huergo.tombers.entity.Skill;
+import ar.edu.huergo.tombers.entity.User;
+
+/**
+ * Convierte habilidades y tecnologias en terminos normalizados con su peso.
+ * El peso de una habilidad sale de su nivel; las tecnologias sin nivel pesan como basicas.
+ */
+public final class SkillTerms {
+
+    static final float BASIC_WEIGHT = 1f;
+    static final float INTERMEDIATE_WEIGHT = 2f;
+    static final float ADVANCED_WEIGHT = 3f;
+
+    private SkillTerms() {
+    }
+
+    /**
+     * Normaliza un nombre de habilidad: minusculas, sin acentos y con espacios simples.
+     *
+     * @return el termino normalizado, o null si el nombre esta vacio
+     */
+    public static String normalize(String name) {
+        if (name == null) {
+            return null;
+        }
+        String normalized = Normalizer.normalize(name, Normalizer.Form.NFD)
+                .replaceAll("\\p{M}", "")
+                .toLowerCase(Locale.ROOT)
+                .trim()
+                .replaceAll("\\s+", " ");
+        return normalized.isEmpty() ? null : normalized;
+    }
+
+    /**
+     * Obtiene el peso de un nivel. Los niveles desconocidos se consideran intermedios,
+     * que es el valor que usa el frontend por defecto.
+     */
+    public static float levelWeight(String nivel) {
+        String level = normalize(nivel);
+        if (level == null) {
+            return INTERMEDIATE_WEIGHT;
+        }
+        return switch (level) {
+            case "principiante", "basico", "bajo" -> BASIC_WEIGHT;
+            case "avanzado", "experto", "alto" -> ADVANCED_WEIGHT;
+            default -> INTERMEDIATE_WEIGHT;
+        };
+    }
+
+    /**
+     * Terminos requeridos por un proyecto: sus habilidades necesarias y sus tecnologias.
+     */
+    public static Map<String, Float> forProject(Project project) {
+        Map<String, Float> terms = new HashMap<>();
+        addSkills(terms, project.getSkillsNeeded());
+        if (project.getTechnologies() != null) {
+            for (String technology : project.getTechnologies()) {
+                add(terms, technology, BASIC_WEIGHT);
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * Perfil de un usuario: sus habilidades con el peso de su nivel.
+     */
+    public static Map<String, Float> forUser(User user) {
+        Map<String, Float> terms = new HashMap<>();
+        addSkills(terms, user.getSkills());
+        return terms;
+    }
+
+    /**
+     * Agrega un termino conservando el mayor peso si ya estaba presente.
+     */
+    static void add(Map<String, Float> terms, String name, float weight) {
+        String term = normalize(name);
+        if (term != null) {
+            terms.merge(term, weight, Math::max);
+        }
+    }
+
+    private static void addSkills(Map<String, Float> terms, List<Skill> skills) {
+        if (skills == null) {
+            return;
+        }
+        for (Skill skill : skills) {
+            if (skill != null) {
+                add(terms, skill.getNombre(), levelWeight(skill.getNivel()));
+            }
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package ar.edu.huergo.tombers.service.search;
+
+import java.util.List;
+
+/**
+ * Resultado de una busqueda en el indice: el total de coincidencias y los IDs de la pagina
+ * pedida, ordenados por relevancia.
+ *
+ * @param total cantidad total de proyectos que coinciden
+ * @param projectIds IDs de la pagina en orden de relevancia
+ */
+public record ProjectSearchHits(long total, List<Long> projectIds) {
+}
@@ -0,0 +1,319 @@
+package ar.edu.huergo.tombers.service.search;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.core.LowerCaseFilterFactory;
+import org.apache.lucene.analysis.custom.CustomAnalyzer;
+import org.apache.lucene.analysis.miscellaneous.ASCIIFoldingFilterFactory;
+import org.apache.lucene.analysis.standard.StandardTokenizerFactory;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.simple.SimpleQueryParser;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import ar.edu.huergo.tombers.config.SearchIndexProperties;
+import ar.edu.huergo.tombers.entity.Project;
+import ar.edu.huergo.tombers.entity.Skill;
+import ar.edu.huergo.tombers.repository.ProjectRepository;
+import ar.edu.huergo.tombers.service.event.ProjectDeletedEvent;
+import ar.edu.huergo.tombers.service.event.ProjectSavedEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Indice de texto completo de proyectos sobre Lucene, guardado en disco local.
+ *
+ * Cubre titulo, descripcion, tecnologias, objetivos y habilidades requeridas. Los cambios de
+ * proyectos se aplican con los eventos de ProjectService y quedan visibles en las busquedas
+ * enseguida (near-real-time); el commit a disco se hace periodicamente. Al iniciar, si el
+ * indice no existe o no coincide con la base, se reconstruye desde la base.
+ */
+@Slf4j
+@Component
+public class ProjectSearchIndex {
+
+    static final String FIELD_ID = "id";
+    static final String FIELD_TITLE = "title";
+    static final String FIELD_DESCRIPTION = "description";
+    static final String FIELD_TECHNOLOGIES = "technologies";
+    static final String FIELD_OBJECTIVES = "objectives";
+    static final String FIELD_SKILLS = "skills";
+
+    // El titulo, las tecnologias y las habilidades pesan mas que el texto libre
+    private static final Map<String, Float> FIELD_WEIGHTS = Map.of(
+            FIELD_TITLE, 3f,
+            FIELD_TECHNOLOGIES, 2f,
+            FIELD_SKILLS, 2f,
+            FIELD_OBJECTIVES, 1f,
+            FIELD_DESCRIPTION, 1f);
+
+    private static final int REBUILD_BATCH_SIZE = 500;
+
+    private final SearchIndexProperties properties;
+    private final ProjectRepository projectRepository;
+
+    private Analyzer analyzer;
+    private Directory directory;
+    private IndexWriter writer;
+    private SearcherManager searcherManager;
+    private boolean existedOnStartup;
+
+    public ProjectSearchIndex(SearchIndexProperties properties, ProjectRepository projectRepository) {
+        this.properties = properties;
+        this.projectRepository = projectRepository;
+    }
+
+    @PostConstruct
+    public void open() throws IOException {
+        // Minusculas y sin acentos: "diseño" y "diseno" coinciden
+        analyzer = CustomAnalyzer.builder()
+                .withTokenizer(StandardTokenizerFactory.class)
+                .addTokenFilter(LowerCaseFilterFactory.class)
+                .addTokenFilter(ASCIIFoldingFilterFactory.class)
+                .build();
+        directory = FSDirectory.open(properties.getDirectory());
+        existedOnStartup = DirectoryReader.indexExists(directory);
+
+        IndexWriterConfig config = new IndexWriterConfig(analyzer);
+        config.setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND);
+        writer = new IndexWriter(directory, config);
+        searcherManager = new SearcherManager(writer, null);
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        commitQuietly();
+        if (searcherManager != null) {
+            searcherManager.close();
+        }
+        if (writer != null) {
+            writer.close();
+        }
+        if (directory != null) {
+            directory.close();
+        }
+    }
+
+    /**
+     * Reconstruye el indice al iniciar si no existia o si su cantidad de documentos no coincide
+     * con la de proyectos en la base (por ejemplo, con una base en memoria recreada).
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfNeeded() {
+        long projects = projectRepository.count();
+        int documents = documentCount();
+        if (existedOnStartup && documents == projects) {
+            log.info("Indice de busqueda cargado con {} proyectos", documents);
+            return;
+        }
+        rebuild();
+    }
+
+    /**
+     * Vuelve a indexar todos los proyectos de la base, de a lotes. Corre fuera de una sesion,
+     * asi que lee proyecciones (texto del proyecto y sus colecciones por lote de IDs) en lugar
+     * de entidades con colecciones lazy.
+     */
+    public void rebuild() {
+        long start = System.nanoTime();
+        try {
+            writer.deleteAll();
+            long afterId = 0L;
+            List<ProjectRepository.ProjectTextRef> batch;
+            do {
+                batch = projectRepository.findTextRefsAfter(afterId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+                if (batch.isEmpty()) {
+                    break;
+                }
+                indexBatch(batch);
+                afterId = batch.get(batch.size() - 1).getId();
+            } while (batch.size() == REBUILD_BATCH_SIZE);
+            writer.commit();
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException exception) {
+            throw new UncheckedIOException("No se pudo reconstruir el indice de busqueda", exception);
+        }
+        log.info("Indice de busqueda reconstruido con {} proyectos en {} ms",
+                documentCount(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private void indexBatch(List<ProjectRepository.ProjectTextRef> batch) throws IOException {
+        List<Long> ids = batch.stream().map(ProjectRepository.ProjectTextRef::getId).toList();
+        Map<Long, List<String>> technologies = new HashMap<>();
+        for (ProjectRepository.ProjectTechnologyRef ref : projectRepository.findTechnologyRefsByProjectIds(ids)) {
+            technologies.computeIfAbsent(ref.getProjectId(), key -> new ArrayList<>()).add(ref.getName());
+        }
+        Map<Long, List<String>> objectives = new HashMap<>();
+        for (ProjectRepository.ProjectObjectiveRef ref : projectRepository.findObjectiveRefsByProjectIds(ids)) {
+            objectives.computeIfAbsent(ref.getProjectId(), key -> new ArrayList<>()).add(ref.getObjective());
+        }
+        Map<Long, List<String>> skills = new HashMap<>();
+        for (ProjectRepository.ProjectSkillRef ref : projectRepository.findSkillRefsByProjectIds(ids)) {
+            skills.computeIfAbsent(ref.getProjectId(), key -> new ArrayList<>()).add(ref.getNombre());
+        }
+        for (ProjectRepository.ProjectTextRef ref : batch) {
+            writer.addDocument(toDocument(ref.getId(), ref.getTitle(), ref.getDescription(),
+                    technologies.get(ref.getId()), objectives.get(ref.getId()), skills.get(ref.getId())));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectSaved(ProjectSavedEvent event) {
+        Project project = event.project();
+        if (project == null || project.getId() == null) {
+            return;
+        }
+        try {
+            writer.updateDocument(idTerm(project.getId()), toDocument(project));
+            searcherManager.maybeRefresh();
+        } catch (IOException exception) {
+            log.error("No se pudo indexar el proyecto {}", project.getId(), exception);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectDeleted(ProjectDeletedEvent event) {
+        if (event.projectId() == null) {
+            return;
+        }
+        try {
+            writer.deleteDocuments(idTerm(event.projectId()));
+            searcherManager.maybeRefresh();
+        } catch (IOException exception) {
+            log.error("No se pudo quitar del indice el proyecto {}", event.projectId(), exception);
+        }
+    }
+
+    /**
+     * Busca proyectos por texto. Admite frases entre comillas, exclusion con - y prefijos con *;
+     * todos los terminos deben aparecer en alguno de los campos indexados.
+     *
+     * @param text el texto buscado
+     * @param page numero de pagina, desde 0
+     * @param size cantidad de resultados por pagina
+     * @return el total de coincidencias y los IDs de la pagina ordenados por relevancia
+     */
+    public ProjectSearchHits search(String text, int page, int size) {
+        SimpleQueryParser parser = new SimpleQueryParser(analyzer, FIELD_WEIGHTS);
+        parser.setDefaultOperator(BooleanClause.Occur.MUST);
+        Query query = parser.parse(text);
+
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                int offset = page * size;
+                TopDocs topDocs = searcher.search(query, offset + size);
+                List<Long> projectIds = new ArrayList<>(size);
+                ScoreDoc[] scoreDocs = topDocs.scoreDocs;
+                for (int i = offset; i < scoreDocs.length; i++) {
+                    Document document = searcher.storedFields().document(scoreDocs[i].doc);
+                    projectIds.add(Long.parseLong(document.get(FIELD_ID)));
+                }
+                return new ProjectSearchHits(searcher.count(query), projectIds);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException("No se pudo consultar el indice de busqueda", exception);
+        }
+    }
+
+    /**
+     * Cantidad de proyectos indexados y visibles en las busquedas.
+     */
+    public int documentCount() {
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                return searcher.getIndexReader().numDocs();
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException("No se pudo leer el indice de busqueda", exception);
+        }
+    }
+
+    /**
+     * Commit periodico a disco en el scheduler compartido.
+     */
+    @Scheduled(fixedDelayString = "${search.index.commit-interval:5s}",
+            initialDelayString = "${search.index.commit-interval:5s}")
+    public void commitQuietly() {
+        try {
+            if (writer != null && writer.isOpen() && writer.hasUncommittedChanges()) {
+                writer.commit();
+            }
+        } catch (IOException | RuntimeException exception) {
+            log.warn("No se pudo hacer commit del indice de busqueda: {}", exception.getMessage());
+        }
+    }
+
+    private static Term idTerm(Long projectId) {
+        return new Term(FIELD_ID, String.valueOf(projectId));
+    }
+
+    private static Document toDocument(Project project) {
+        List<String> skills = null;
+        if (project.getSkillsNeeded() != null) {
+            skills = new ArrayList<>();
+            for (Skill skill : project.getSkillsNeeded()) {
+                if (skill != null) {
+                    skills.add(skill.getNombre());
+                }
+            }
+        }
+        return toDocument(project.getId(), project.getTitle(), project.getDescription(), project.getTechnologies(),
+                project.getObjectives(), skills);
+    }
+
+    private static Document toDocument(Long id, String title, String description, List<String> technologies,
+            List<String> objectives, List<String> skills) {
+        Document document = new Document();
+        document.add(new StringField(FIELD_ID, String.valueOf(id), Field.Store.YES));
+        addText(document, FIELD_TITLE, title);
+        addText(document, FIELD_DESCRIPTION, description);
+        addAll(document, FIELD_TECHNOLOGIES, technologies);
+        addAll(document, FIELD_OBJECTIVES, objectives);
+        addAll(document, FIELD_SKILLS, skills);
+        return document;
+    }
+
+    private static void addAll(Document document, String field, List<String> values) {
+        if (values != null) {
+            values.forEach(value -> addText(document, field, value));
+        }
+    }
+
+    private static void addText(Document document, String field, String value) {
+        if (value != null && !value.isBlank()) {
+            document.add(new TextField(field, value, Field.Store.NO));
+        }
+    }
+}
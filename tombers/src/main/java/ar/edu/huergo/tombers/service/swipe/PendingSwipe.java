@@ -0,0 +1,27 @@
+package ar.edu.huergo.tombers.service.swipe;
+
+import java.time.LocalDateTime;
+
+import ar.edu.huergo.tombers.entity.ProjectInteraction.InteractionType;
+
+/**
+ * Cambio pendiente de escritura para un par usuario/proyecto.
+ * Guarda el estado persistido antes del primer swipe en memoria (baseline) y el estado
+ * final deseado (target); un valor null representa la ausencia de interaccion.
+ */
+public record PendingSwipe(long userId, long projectId, InteractionType baseline, InteractionType target,
+        LocalDateTime interactedAt) {
+
+    /**
+     * Clave de agrupacion del cambio.
+     */
+    public SwipeKey key() {
+        return new SwipeKey(userId, projectId);
+    }
+
+    /**
+     * Identifica una interaccion por usuario y proyecto.
+     */
+    public record SwipeKey(long userId, long projectId) {
+    }
+}
@@ -0,0 +1,54 @@
+package ar.edu.huergo.tombers.service.swipe;
+
+import ar.edu.huergo.tombers.entity.ProjectInteraction.InteractionType;
+
+/**
+ * Acciones que un usuario puede realizar sobre un proyecto del feed.
+ * Centraliza las reglas de transicion entre estados para que el camino sincronico,
+ * el buffer de escritura diferida y el envio en lote se comporten igual.
+ */
+public enum SwipeAction {
+    LIKE,
+    UNLIKE,
+    DISLIKE,
+    UNDISLIKE;
+
+    /**
+     * Calcula el estado resultante de aplicar la accion sobre el estado actual.
+     * Un estado null representa que el usuario no tiene interaccion con el proyecto.
+     *
+     * @param current el estado actual de la interaccion, o null si no existe
+     * @return el nuevo estado, o null si la interaccion debe eliminarse
+     * @throws IllegalArgumentException si la accion no es valida para el estado actual
+     */
+    public InteractionType apply(InteractionType current) {
+        return switch (this) {
+            case LIKE -> {
+                if (current == InteractionType.LIKE) {
+                    throw new IllegalArgumentException("El usuario ya le dio like a este proyecto");
+                }
+                // Si habia dado dislike se reemplaza por el like (no puede tener ambos)
+                yield InteractionType.LIKE;
+            }
+            case UNLIKE -> {
+                if (current != InteractionType.LIKE) {
+                    throw new IllegalArgumentException("El usuario no le ha dado like a este proyecto");
+                }
+                yield null;
+            }
+            case DISLIKE -> {
+                if (current == InteractionType.DISLIKE) {
+                    throw new IllegalArgumentException("El usuario ya le dio dislike a este proyecto");
+                }
+                // Si habia dado like se reemplaza por el dislike (no puede tener ambos)
+                yield InteractionType.DISLIKE;
+            }
+            case UNDISLIKE -> {
+                if (current != InteractionType.DISLIKE) {
+                    throw new IllegalArgumentException("El usuario no le ha dado dislike a este proyecto");
+                }
+                yield null;
+            }
+        };
+    }
+}
@@ -0,0 +1,238 @@
+package ar.edu.huergo.tombers.service.swipe;
+
+import java.sql.Timestamp;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import ar.edu.huergo.tombers.entity.Project;
+import ar.edu.huergo.tombers.entity.ProjectInteraction.InteractionType;
+import ar.edu.huergo.tombers.repository.ProjectRepository;
+import ar.edu.huergo.tombers.service.event.ProjectLikedEvent;
+import ar.edu.huergo.tombers.service.event.ProjectRelationsChangedEvent;
+import ar.edu.huergo.tombers.service.outbox.OutboxWriter;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Aplica en la base un lote de cambios de interacciones usando batches JDBC.
+ * Cada cambio lleva la interaccion al estado final deseado y solo modifica la fila si su estado
+ * actual es otro. Los contadores de los proyectos, las versiones de actividad de usuarios y
+ * proyectos y los likes nuevos del outbox se derivan de las filas que cada sentencia realmente
+ * modifico, no del estado que el buffer creia persistido (baseline): reaplicar un lote ya
+ * confirmado (por ejemplo, al recuperar el journal tras una caida entre el commit y el descarte
+ * de sus segmentos) no modifica filas y por lo tanto no vuelve a sumar contadores ni a emitir
+ * likes. Todo se escribe en la misma transaccion, sin interferir con el bloqueo optimista de las
+ * entidades.
+ */
+@Component
+@RequiredArgsConstructor
+public class SwipeBatchWriter {
+
+    private static final String DELETE_SQL =
+            "DELETE FROM project_interactions WHERE user_id = ? AND project_id = ? AND type = ?";
+
+    // Una fila que ya tiene el estado final no se toca
+    private static final String UPDATE_SQL =
+            "UPDATE project_interactions SET type = ?, interacted_at = ?"
+            + " WHERE user_id = ? AND project_id = ? AND type <> ?";
+
+    // Solo inserta si el proyecto sigue existiendo y el par usuario/proyecto aun no tiene fila
+    private static final String INSERT_SQL =
+            "INSERT INTO project_interactions (user_id, project_id, type, interacted_at)"
+            + " SELECT ?, ?, ?, ? FROM projects p WHERE p.id = ?"
+            + " AND NOT EXISTS (SELECT 1 FROM project_interactions i WHERE i.user_id = ? AND i.project_id = ?)";
+
+    private static final String USER_VERSION_SQL = "UPDATE users SET activity_version = activity_version + 1 WHERE id = ?";
+
+    // Los likes de integrantes no cuentan como interesados
+    private static final String PROJECT_COUNTERS_SQL =
+            "UPDATE projects SET like_count = like_count + ?, dislike_count = dislike_count + ?,"
+            + " interested_count = interested_count + CASE WHEN EXISTS (SELECT 1 FROM project_member_ids m"
+            + " WHERE m.project_id = projects.id AND m.member_id = ?) THEN 0 ELSE ? END,"
+            + " activity_version = activity_version + 1, changed_at = ? WHERE id = ?";
+
+    private static final Comparator<PendingSwipe> LOCK_ORDER =
+            Comparator.comparing(PendingSwipe::projectId).thenComparing(PendingSwipe::userId);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ProjectRepository projectRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OutboxWriter outboxWriter;
+
+    /**
+     * Cambio que efectivamente modifico una fila, con el estado que tenia antes.
+     */
+    private record AppliedSwipe(PendingSwipe swipe, InteractionType previous) {
+    }
+
+    /**
+     * Resultado de aplicar un lote: los cambios que modificaron filas y los que el driver no
+     * informo si lo hicieron.
+     */
+    private record BatchResult(List<AppliedSwipe> applied, Set<PendingSwipe> unknown) {
+    }
+
+    /**
+     * Escribe el lote completo en una unica transaccion.
+     *
+     * @param swipes los cambios a aplicar, como maximo uno por par usuario/proyecto
+     */
+    @Transactional
+    public void write(List<PendingSwipe> swipes) {
+        // Orden fijo de filas para que dos lotes concurrentes las bloqueen en el mismo orden
+        List<PendingSwipe> ordered = swipes.stream().sorted(LOCK_ORDER).toList();
+        BatchResult result = new BatchResult(new ArrayList<>(), new LinkedHashSet<>());
+        writeDeletes(ordered.stream().filter(swipe -> swipe.target() == null).toList(), result);
+        writeUpserts(ordered.stream().filter(swipe -> swipe.target() != null).toList(), result);
+        updateUsersAndProjects(result);
+    }
+
+    private void writeDeletes(List<PendingSwipe> removals, BatchResult result) {
+        if (removals.isEmpty()) {
+            return;
+        }
+        // Un DELETE por tipo: la fila borrada, si hubo, indica el estado anterior
+        InteractionType[] types = InteractionType.values();
+        List<Object[]> deletes = new ArrayList<>(removals.size() * types.length);
+        for (PendingSwipe swipe : removals) {
+            for (InteractionType type : types) {
+                deletes.add(new Object[] {swipe.userId(), swipe.projectId(), type.name()});
+            }
+        }
+        int[] deleted = jdbcTemplate.batchUpdate(DELETE_SQL, deletes);
+
+        for (int i = 0; i < removals.size(); i++) {
+            PendingSwipe swipe = removals.get(i);
+            for (int t = 0; t < types.length; t++) {
+                int count = deleted[i * types.length + t];
+                if (count > 0) {
+                    result.applied().add(new AppliedSwipe(swipe, types[t]));
+                } else if (count < 0) {
+                    result.unknown().add(swipe);
+                }
+            }
+        }
+    }
+
+    private void writeUpserts(List<PendingSwipe> upserts, BatchResult result) {
+        if (upserts.isEmpty()) {
+            return;
+        }
+        List<Object[]> updates = new ArrayList<>(upserts.size());
+        for (PendingSwipe swipe : upserts) {
+            updates.add(new Object[] {swipe.target().name(), Timestamp.valueOf(swipe.interactedAt()),
+                    swipe.userId(), swipe.projectId(), swipe.target().name()});
+        }
+        int[] updated = jdbcTemplate.batchUpdate(UPDATE_SQL, updates);
+
+        List<PendingSwipe> candidates = new ArrayList<>();
+        for (int i = 0; i < upserts.size(); i++) {
+            PendingSwipe swipe = upserts.get(i);
+            if (updated[i] > 0) {
+                // Solo hay dos tipos: si cambio, antes tenia el opuesto
+                result.applied().add(new AppliedSwipe(swipe, opposite(swipe.target())));
+            } else {
+                // Sin fila o ya en el estado final; si el driver no informo, el INSERT protegido decide
+                if (updated[i] < 0) {
+                    result.unknown().add(swipe);
+                }
+                candidates.add(swipe);
+            }
+        }
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> inserts = new ArrayList<>(candidates.size());
+        for (PendingSwipe swipe : candidates) {
+            inserts.add(new Object[] {swipe.userId(), swipe.projectId(), swipe.target().name(),
+                    Timestamp.valueOf(swipe.interactedAt()), swipe.projectId(), swipe.userId(), swipe.projectId()});
+        }
+        int[] inserted = jdbcTemplate.batchUpdate(INSERT_SQL, inserts);
+        for (int i = 0; i < candidates.size(); i++) {
+            PendingSwipe swipe = candidates.get(i);
+            if (result.unknown().contains(swipe)) {
+                continue;
+            }
+            if (inserted[i] > 0) {
+                result.applied().add(new AppliedSwipe(swipe, null));
+            } else if (inserted[i] < 0) {
+                result.unknown().add(swipe);
+            }
+        }
+    }
+
+    /**
+     * Los likes y dislikes forman parte del perfil del usuario, y sus contadores de la respuesta
+     * del proyecto, asi que sus versiones deben cambiar junto con la interaccion. Solo se tocan
+     * los usuarios y proyectos cuyas interacciones cambiaron.
+     */
+    private void updateUsersAndProjects(BatchResult result) {
+        List<AppliedSwipe> applied = result.applied().stream()
+                .sorted(Comparator.comparing(AppliedSwipe::swipe, LOCK_ORDER))
+                .toList();
+        Set<Long> userIds = new TreeSet<>();
+        Set<Long> projectIds = new TreeSet<>();
+        for (AppliedSwipe change : applied) {
+            userIds.add(change.swipe().userId());
+            projectIds.add(change.swipe().projectId());
+        }
+        Set<Long> uncountedProjectIds = new TreeSet<>();
+        for (PendingSwipe swipe : result.unknown()) {
+            userIds.add(swipe.userId());
+            uncountedProjectIds.add(swipe.projectId());
+        }
+        projectIds.addAll(uncountedProjectIds);
+        if (projectIds.isEmpty()) {
+            return;
+        }
+
+        // Orden fijo de IDs para que dos lotes concurrentes bloqueen las filas en el mismo orden
+        jdbcTemplate.batchUpdate(USER_VERSION_SQL, userIds.stream().map(id -> new Object[] {id}).toList());
+
+        // Un UPDATE por cambio: el descuento de interesados depende de si ese usuario es integrante
+        Timestamp changedAt = Timestamp.from(Project.currentChangeInstant());
+        List<Object[]> counterUpdates = new ArrayList<>(applied.size());
+        for (AppliedSwipe change : applied) {
+            PendingSwipe swipe = change.swipe();
+            int likeDelta = InteractionType.LIKE.deltaBetween(change.previous(), swipe.target());
+            int dislikeDelta = InteractionType.DISLIKE.deltaBetween(change.previous(), swipe.target());
+            counterUpdates.add(new Object[] {likeDelta, dislikeDelta, swipe.userId(), likeDelta, changedAt,
+                    swipe.projectId()});
+        }
+        if (!counterUpdates.isEmpty()) {
+            jdbcTemplate.batchUpdate(PROJECT_COUNTERS_SQL, counterUpdates);
+        }
+        // Sin filas afectadas informadas no hay delta confiable: se recalculan desde las interacciones
+        if (!uncountedProjectIds.isEmpty()) {
+            projectRepository.recomputeCounters(uncountedProjectIds, InteractionType.LIKE, InteractionType.DISLIKE,
+                    Project.currentChangeInstant());
+        }
+        // Los listeners lo reciben despues del commit del lote
+        eventPublisher.publishEvent(new ProjectRelationsChangedEvent(projectIds));
+        // Despues de los contadores, con las filas de los proyectos ya bloqueadas
+        List<ProjectLikedEvent> likes = new ArrayList<>();
+        for (AppliedSwipe change : applied) {
+            PendingSwipe swipe = change.swipe();
+            if (change.previous() != InteractionType.LIKE && swipe.target() == InteractionType.LIKE) {
+                likes.add(new ProjectLikedEvent(swipe.projectId(), swipe.userId(),
+                        swipe.interactedAt().atZone(ZoneId.systemDefault()).toInstant()));
+            }
+        }
+        outboxWriter.appendAll(likes);
+    }
+
+    private static InteractionType opposite(InteractionType type) {
+        return type == InteractionType.LIKE ? InteractionType.DISLIKE : InteractionType.LIKE;
+    }
+}
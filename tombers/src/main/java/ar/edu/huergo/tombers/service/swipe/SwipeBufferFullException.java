@@ -0,0 +1,12 @@
+package ar.edu.huergo.tombers.service.swipe;
+
+/**
+ * Se lanza cuando el buffer de escritura diferida alcanzo su capacidad maxima.
+ * El cliente puede reintentar el swipe en unos instantes.
+ */
+public class SwipeBufferFullException extends RuntimeException {
+
+    public SwipeBufferFullException(String message) {
+        super(message);
+    }
+}
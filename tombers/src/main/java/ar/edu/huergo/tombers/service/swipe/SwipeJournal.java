@@ -0,0 +1,188 @@
+package ar.edu.huergo.tombers.service.swipe;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import ar.edu.huergo.tombers.entity.ProjectInteraction.InteractionType;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Journal local de solo escritura al final (append-only) para los swipes aceptados por el buffer.
+ * Los cambios se escriben en un archivo activo; en cada flush el archivo activo se sella como
+ * segmento numerado y, cuando la base confirma la escritura, los segmentos sellados se eliminan.
+ * Al iniciar se releen todos los segmentos que hayan quedado para no perder swipes aceptados.
+ */
+@Slf4j
+class SwipeJournal implements Closeable {
+
+    private static final String ACTIVE_FILE = "active.journal";
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".journal";
+    private static final String NONE = "-";
+
+    private final Path directory;
+    private final boolean fsync;
+
+    private FileChannel channel;
+    private long nextSegment = 1;
+
+    SwipeJournal(Path directory, boolean fsync) {
+        this.directory = directory;
+        this.fsync = fsync;
+    }
+
+    /**
+     * Abre el journal y devuelve, en orden de escritura, los cambios que no llegaron a la base.
+     */
+    List<PendingSwipe> open() throws IOException {
+        Files.createDirectories(directory);
+        List<Path> segments = listSegments();
+        if (!segments.isEmpty()) {
+            nextSegment = segmentNumber(segments.get(segments.size() - 1)) + 1;
+        }
+
+        Path active = directory.resolve(ACTIVE_FILE);
+        if (Files.exists(active) && Files.size(active) > 0) {
+            Path sealed = directory.resolve(segmentName(nextSegment++));
+            Files.move(active, sealed);
+            segments.add(sealed);
+        }
+
+        List<PendingSwipe> recovered = new ArrayList<>();
+        for (Path segment : segments) {
+            for (String line : Files.readAllLines(segment, StandardCharsets.UTF_8)) {
+                PendingSwipe swipe = parse(line);
+                if (swipe != null) {
+                    recovered.add(swipe);
+                }
+            }
+        }
+
+        channel = FileChannel.open(active, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        return recovered;
+    }
+
+    /**
+     * Agrega un cambio al archivo activo.
+     */
+    void append(PendingSwipe swipe) {
+        String line = swipe.userId() + ";" + swipe.projectId() + ";" + format(swipe.baseline()) + ";"
+                + format(swipe.target()) + ";" + swipe.interactedAt() + "\n";
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(line.getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            if (fsync) {
+                channel.force(false);
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException("No se pudo escribir en el journal de swipes", exception);
+        }
+    }
+
+    /**
+     * Sella el archivo activo como segmento y abre uno nuevo.
+     *
+     * @return el numero del ultimo segmento sellado
+     */
+    long rotate() {
+        try {
+            Path active = directory.resolve(ACTIVE_FILE);
+            if (channel.size() == 0) {
+                return nextSegment - 1;
+            }
+            channel.force(false);
+            channel.close();
+            long sealedNumber = nextSegment++;
+            Files.move(active, directory.resolve(segmentName(sealedNumber)));
+            channel = FileChannel.open(active, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            return sealedNumber;
+        } catch (IOException exception) {
+            throw new UncheckedIOException("No se pudo rotar el journal de swipes", exception);
+        }
+    }
+
+    /**
+     * Elimina los segmentos sellados hasta el numero indicado inclusive, ya confirmados en la base.
+     */
+    void discardUpTo(long segmentNumber) {
+        try {
+            for (Path segment : listSegments()) {
+                if (segmentNumber(segment) <= segmentNumber) {
+                    Files.deleteIfExists(segment);
+                }
+            }
+        } catch (IOException exception) {
+            log.warn("No se pudieron eliminar segmentos del journal de swipes: {}", exception.getMessage());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (channel != null && channel.isOpen()) {
+            channel.force(false);
+            channel.close();
+        }
+    }
+
+    private List<Path> listSegments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                    .filter(path -> {
+                        String name = path.getFileName().toString();
+                        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+                    })
+                    .sorted(Comparator.comparingLong(SwipeJournal::segmentNumber))
+                    .collect(Collectors.toCollection(ArrayList::new));
+        }
+    }
+
+    private static String segmentName(long number) {
+        return SEGMENT_PREFIX + number + SEGMENT_SUFFIX;
+    }
+
+    private static long segmentNumber(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private static String format(InteractionType type) {
+        return type == null ? NONE : type.name();
+    }
+
+    private static InteractionType parseType(String value) {
+        return NONE.equals(value) ? null : InteractionType.valueOf(value);
+    }
+
+    /**
+     * Interpreta una linea del journal. Las lineas incompletas (por ejemplo, cortadas por una
+     * caida durante la escritura) se descartan.
+     */
+    private static PendingSwipe parse(String line) {
+        String[] parts = line.split(";");
+        if (parts.length != 5) {
+            return null;
+        }
+        try {
+            return new PendingSwipe(Long.parseLong(parts[0]), Long.parseLong(parts[1]),
+                    parseType(parts[2]), parseType(parts[3]), LocalDateTime.parse(parts[4]));
+        } catch (RuntimeException exception) {
+            log.warn("Linea invalida en el journal de swipes descartada: {}", line);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,301 @@
+package ar.edu.huergo.tombers.service.swipe;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import ar.edu.huergo.tombers.config.SwipeBufferProperties;
+import ar.edu.huergo.tombers.entity.ProjectInteraction.InteractionType;
+import ar.edu.huergo.tombers.service.swipe.PendingSwipe.SwipeKey;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Buffer de escritura diferida (write-behind) para likes y dislikes.
+ *
+ * Cuando esta activo, cada swipe se valida contra el estado conocido (pendiente, en escritura
+ * o persistido), se agrupa por par usuario/proyecto y se confirma al cliente apenas queda en
+ * memoria. Un like seguido de un unlike sobre el mismo proyecto se cancelan entre si y no
+ * generan escrituras. Los cambios se vuelcan en batches JDBC cuando se alcanza el tamaño de
+ * lote configurado o cuando vence el intervalo de flush. Opcionalmente cada swipe aceptado
+ * se registra en un journal local para poder recuperarlo si la aplicacion se detiene antes
+ * del flush.
+ */
+@Slf4j
+@Service
+public class SwipeWriteBuffer {
+
+    private final SwipeBufferProperties properties;
+    private final SwipeBatchWriter writer;
+    private final MeterRegistry meterRegistry;
+    private final TaskScheduler taskScheduler;
+
+    private final Map<SwipeKey, PendingSwipe> pending = new ConcurrentHashMap<>();
+    private final Map<SwipeKey, PendingSwipe> inFlight = new HashMap<>();
+    private final Object lock = new Object();
+    private final Object flushLock = new Object();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+
+    private SwipeJournal journal;
+    private volatile boolean stopped;
+    private Timer flushTimer;
+    private Counter flushedCounter;
+    private Counter flushFailures;
+
+    public SwipeWriteBuffer(SwipeBufferProperties properties, SwipeBatchWriter writer, MeterRegistry meterRegistry,
+            TaskScheduler taskScheduler) {
+        this.properties = properties;
+        this.writer = writer;
+        this.meterRegistry = meterRegistry;
+        this.taskScheduler = taskScheduler;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        Gauge.builder("tombers.swipes.buffer.depth", pending, Map::size)
+                .description("Swipes pendientes de escritura")
+                .register(meterRegistry);
+        flushTimer = Timer.builder("tombers.swipes.flush.latency")
+                .description("Duracion de cada flush del buffer de swipes")
+                .register(meterRegistry);
+        flushedCounter = Counter.builder("tombers.swipes.flushed")
+                .description("Swipes escritos en la base por el buffer")
+                .register(meterRegistry);
+        flushFailures = Counter.builder("tombers.swipes.flush.failures")
+                .description("Flushes del buffer de swipes que fallaron")
+                .register(meterRegistry);
+
+        if (properties.isJournalEnabled()) {
+            journal = new SwipeJournal(properties.getJournalDirectory(), properties.isJournalFsync());
+            try {
+                List<PendingSwipe> recovered = journal.open();
+                synchronized (lock) {
+                    recovered.forEach(this::merge);
+                }
+                if (!recovered.isEmpty()) {
+                    log.info("Recuperados {} swipes del journal ({} pendientes tras agrupar)", recovered.size(), pending.size());
+                }
+            } catch (IOException exception) {
+                throw new UncheckedIOException("No se pudo abrir el journal de swipes", exception);
+            }
+        }
+        // Lo recuperado del journal se escribe en el primer flush programado
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        stopped = true;
+        flushQuietly();
+        if (journal != null) {
+            try {
+                journal.close();
+            } catch (IOException exception) {
+                log.warn("No se pudo cerrar el journal de swipes: {}", exception.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Indica si el modo de escritura diferida esta activo.
+     */
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * Cantidad de pares usuario/proyecto con cambios pendientes.
+     */
+    public int size() {
+        return pending.size();
+    }
+
+    /**
+     * Valida y encola un swipe. El swipe queda confirmado cuando este metodo retorna.
+     *
+     * @param userId el ID del usuario
+     * @param projectId el ID del proyecto
+     * @param action la accion realizada
+     * @param persistedState lectura del estado guardado en la base; solo se usa si no hay
+     *        cambios pendientes ni en escritura para el par usuario/proyecto
+     * @throws IllegalArgumentException si la accion no es valida para el estado actual
+     * @throws SwipeBufferFullException si el buffer alcanzo su capacidad
+     */
+    public void submit(long userId, long projectId, SwipeAction action, Supplier<InteractionType> persistedState) {
+        SwipeKey key = new SwipeKey(userId, projectId);
+
+        // La lectura de la base se hace fuera del lock para no serializar todos los swipes en ella
+        boolean persistedLoaded = false;
+        InteractionType persisted = null;
+        if (!isTracked(key)) {
+            persisted = persistedState.get();
+            persistedLoaded = true;
+        }
+
+        boolean flushNow;
+        synchronized (lock) {
+            PendingSwipe current = pending.get(key);
+            InteractionType baseline;
+            InteractionType state;
+            if (current != null) {
+                baseline = current.baseline();
+                state = current.target();
+            } else if (inFlight.containsKey(key)) {
+                baseline = inFlight.get(key).target();
+                state = baseline;
+            } else {
+                baseline = persistedLoaded ? persisted : persistedState.get();
+                state = baseline;
+            }
+
+            if (current == null && pending.size() >= properties.getCapacity()) {
+                requestFlush();
+                throw new SwipeBufferFullException("Hay demasiados swipes pendientes, intente nuevamente en unos segundos");
+            }
+
+            InteractionType target = action.apply(state);
+            PendingSwipe next = new PendingSwipe(userId, projectId, baseline, target, LocalDateTime.now());
+            if (journal != null) {
+                journal.append(next);
+            }
+            merge(next);
+            flushNow = pending.size() >= properties.getBatchSize();
+        }
+
+        if (flushNow) {
+            requestFlush();
+        }
+    }
+
+    /**
+     * Vuelca a la base todos los cambios pendientes en una unica transaccion.
+     * Si la escritura falla los cambios vuelven al buffer para el proximo intento.
+     */
+    public void flush() {
+        synchronized (flushLock) {
+            List<PendingSwipe> batch;
+            long sealedSegment = -1;
+            synchronized (lock) {
+                flushRequested.set(false);
+                if (pending.isEmpty()) {
+                    return;
+                }
+                if (journal != null) {
+                    sealedSegment = journal.rotate();
+                }
+                batch = new ArrayList<>(pending.values());
+                inFlight.putAll(pending);
+                pending.clear();
+            }
+
+            Timer.Sample sample = Timer.start(meterRegistry);
+            try {
+                writer.write(batch);
+                flushedCounter.increment(batch.size());
+                if (journal != null) {
+                    journal.discardUpTo(sealedSegment);
+                }
+            } catch (RuntimeException exception) {
+                flushFailures.increment();
+                log.error("No se pudieron escribir {} swipes pendientes, se reintentara", batch.size(), exception);
+                requeue(batch);
+            } finally {
+                sample.stop(flushTimer);
+                synchronized (lock) {
+                    batch.forEach(swipe -> inFlight.remove(swipe.key()));
+                }
+            }
+        }
+    }
+
+    /**
+     * Flush periodico en el scheduler compartido; los flush por tamaño de lote se piden aparte.
+     */
+    @Scheduled(fixedDelayString = "${swipes.write-behind.flush-interval:1s}",
+            initialDelayString = "${swipes.write-behind.flush-interval:1s}")
+    public void flushQuietly() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            flush();
+        } catch (RuntimeException exception) {
+            log.error("Error inesperado al vaciar el buffer de swipes", exception);
+        }
+    }
+
+    private void requestFlush() {
+        if (stopped || !flushRequested.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            taskScheduler.schedule(this::flushQuietly, Instant.now());
+        } catch (RejectedExecutionException exception) {
+            flushRequested.set(false);
+        }
+    }
+
+    private boolean isTracked(SwipeKey key) {
+        if (pending.containsKey(key)) {
+            return true;
+        }
+        synchronized (lock) {
+            return inFlight.containsKey(key);
+        }
+    }
+
+    /**
+     * Agrupa un cambio con el pendiente del mismo par. Si el estado final vuelve a ser el
+     * persistido, ambos cambios se cancelan. Debe llamarse con el lock tomado.
+     */
+    private void merge(PendingSwipe swipe) {
+        PendingSwipe current = pending.get(swipe.key());
+        InteractionType baseline = current != null ? current.baseline() : swipe.baseline();
+        if (swipe.target() == baseline) {
+            pending.remove(swipe.key());
+            return;
+        }
+        pending.put(swipe.key(), new PendingSwipe(swipe.userId(), swipe.projectId(), baseline, swipe.target(),
+                swipe.interactedAt()));
+    }
+
+    /**
+     * Devuelve al buffer un lote que no se pudo escribir. Los cambios mas nuevos del mismo par
+     * se conservan, pero toman como base el estado que realmente quedo en la base.
+     */
+    private void requeue(List<PendingSwipe> failed) {
+        synchronized (lock) {
+            for (PendingSwipe swipe : failed) {
+                PendingSwipe newer = pending.remove(swipe.key());
+                pending.put(swipe.key(), swipe);
+                if (newer != null) {
+                    merge(newer);
+                }
+            }
+        }
+    }
+}
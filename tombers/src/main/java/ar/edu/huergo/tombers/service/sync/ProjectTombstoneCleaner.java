@@ -0,0 +1,50 @@
+package ar.edu.huergo.tombers.service.sync;
+
+import java.time.Instant;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import ar.edu.huergo.tombers.config.ProjectChangesProperties;
+import ar.edu.huergo.tombers.repository.ProjectTombstoneRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Elimina periodicamente las bajas de proyectos que superaron el periodo de retencion.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProjectTombstoneCleaner {
+
+    private final ProjectChangesProperties properties;
+    private final ProjectTombstoneRepository projectTombstoneRepository;
+
+    /**
+     * Elimina las bajas mas viejas que el periodo de retencion.
+     *
+     * @return la cantidad de bajas eliminadas
+     */
+    public int purge() {
+        Instant limit = Instant.now().minus(properties.getTombstoneRetention());
+        int deleted = projectTombstoneRepository.deleteOlderThan(limit);
+        if (deleted > 0) {
+            log.info("Se eliminaron {} bajas de proyectos anteriores a {}", deleted, limit);
+        }
+        return deleted;
+    }
+
+    /**
+     * Limpieza periodica en el scheduler compartido.
+     */
+    @Scheduled(fixedDelayString = "${projects.changes.purge-interval:1h}",
+            initialDelayString = "${projects.changes.purge-interval:1h}")
+    public void purgeQuietly() {
+        try {
+            purge();
+        } catch (RuntimeException ex) {
+            log.warn("No se pudieron eliminar las bajas vencidas de proyectos", ex);
+        }
+    }
+}
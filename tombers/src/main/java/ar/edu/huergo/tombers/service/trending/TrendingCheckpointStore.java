@@ -0,0 +1,59 @@
+package ar.edu.huergo.tombers.service.trending;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import ar.edu.huergo.tombers.entity.ProjectTrendingScore;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Guarda y recupera los puntajes de tendencia. Cada guardado reemplaza completo al anterior
+ * en una unica transaccion con batches JDBC.
+ */
+@Component
+@RequiredArgsConstructor
+public class TrendingCheckpointStore {
+
+    private static final String DELETE_SQL = "DELETE FROM project_trending_scores";
+
+    private static final String INSERT_SQL =
+            "INSERT INTO project_trending_scores (project_id, score, last_liked_at, scored_at) VALUES (?, ?, ?, ?)";
+
+    private static final String SELECT_SQL =
+            "SELECT project_id, score, last_liked_at, scored_at FROM project_trending_scores";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Reemplaza los puntajes guardados por los recibidos.
+     *
+     * @param scores los puntajes vigentes
+     */
+    @Transactional
+    public void replaceAll(List<ProjectTrendingScore> scores) {
+        jdbcTemplate.update(DELETE_SQL);
+        if (scores.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, scores.stream()
+                .map(score -> new Object[] {score.getProjectId(), score.getScore(),
+                        Timestamp.from(score.getLastLikedAt()), Timestamp.from(score.getScoredAt())})
+                .toList());
+    }
+
+    /**
+     * Obtiene los puntajes del ultimo guardado.
+     */
+    public List<ProjectTrendingScore> loadAll() {
+        return jdbcTemplate.query(SELECT_SQL, (rs, rowNum) -> ProjectTrendingScore.builder()
+                .projectId(rs.getLong("project_id"))
+                .score(rs.getDouble("score"))
+                .lastLikedAt(rs.getTimestamp("last_liked_at").toInstant())
+                .scoredAt(rs.getTimestamp("scored_at").toInstant())
+                .build());
+    }
+}
@@ -0,0 +1,280 @@
+package ar.edu.huergo.tombers.service.trending;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import ar.edu.huergo.tombers.config.TrendingProperties;
+import ar.edu.huergo.tombers.entity.ProjectTrendingScore;
+import ar.edu.huergo.tombers.service.event.ProjectDeletedEvent;
+import ar.edu.huergo.tombers.service.event.ProjectLikedEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Mantiene en memoria el puntaje de tendencia de cada proyecto y el ranking de los K mejores.
+ * Cada like aporta 1 al puntaje y ese aporte se reduce a la mitad cada halfLife, por lo que
+ * el ranking refleja la velocidad reciente de likes y no el total.
+ *
+ * <p>Los puntajes se guardan como log2 de la suma de 2^(t / halfLife) de cada like, con t
+ * medido desde un origen fijo. Asi el decaimiento no cambia el orden entre proyectos y un like
+ * solo modifica el puntaje de su proyecto, sin recalcular el resto; el valor decaido se obtiene
+ * al leer. Como los puntajes guardados solo crecen, basta comparar el proyecto actualizado con
+ * el ultimo del ranking para mantener exactos los K mejores.</p>
+ *
+ * <p>Los puntajes se guardan en la base cada checkpointInterval y al detener la aplicacion,
+ * y se recuperan al iniciar.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TrendingScoreboard {
+
+    private static final double LN_2 = Math.log(2);
+
+    // Mayor puntaje primero; a igual puntaje, menor ID primero
+    private static final Comparator<RankedProject> RANKING = Comparator
+            .comparingDouble(RankedProject::logScore).reversed()
+            .thenComparingLong(RankedProject::projectId);
+
+    private final TrendingProperties properties;
+    private final TrendingCheckpointStore checkpointStore;
+
+    private final ConcurrentHashMap<Long, TrendingScore> scores = new ConcurrentHashMap<>();
+
+    // Las lecturas recorren el ranking sin bloquear; las modificaciones se hacen bajo rankingLock
+    private final ConcurrentSkipListSet<RankedProject> ranking = new ConcurrentSkipListSet<>(RANKING);
+    private final Map<Long, RankedProject> rankedById = new HashMap<>();
+    private final Object rankingLock = new Object();
+
+    @PostConstruct
+    public void start() {
+        restore();
+    }
+
+    @PreDestroy
+    public void stop() {
+        checkpointQuietly();
+    }
+
+    /**
+     * Registra un like sobre un proyecto en el momento actual.
+     *
+     * @param projectId el ID del proyecto
+     */
+    public void recordLike(Long projectId) {
+        recordLike(projectId, Instant.now());
+    }
+
+    /**
+     * Registra un like sobre un proyecto en el momento indicado.
+     *
+     * @param projectId el ID del proyecto
+     * @param likedAt el momento del like
+     */
+    public void recordLike(Long projectId, Instant likedAt) {
+        scores.merge(projectId, new TrendingScore(halfLives(likedAt), likedAt), TrendingScore::plus);
+        rerank(projectId);
+    }
+
+    /**
+     * Obtiene los proyectos en tendencia con su puntaje decaido al momento actual.
+     *
+     * @param limit cantidad maxima de proyectos a devolver
+     * @return los proyectos ordenados de mayor a menor puntaje
+     */
+    public List<TrendingProject> top(int limit) {
+        return top(limit, Instant.now());
+    }
+
+    /**
+     * Obtiene los proyectos en tendencia con su puntaje decaido al momento indicado.
+     * Recorre solo el ranking, sin consultar la base.
+     *
+     * @param limit cantidad maxima de proyectos a devolver
+     * @param now el momento al que se calcula el puntaje
+     * @return los proyectos ordenados de mayor a menor puntaje
+     */
+    public List<TrendingProject> top(int limit, Instant now) {
+        double nowHalfLives = halfLives(now);
+        List<TrendingProject> result = new ArrayList<>(Math.min(limit, properties.getTopSize()));
+        for (RankedProject ranked : ranking) {
+            if (result.size() >= limit) {
+                break;
+            }
+            result.add(new TrendingProject(ranked.projectId(), Math.pow(2, ranked.logScore() - nowHalfLives)));
+        }
+        return result;
+    }
+
+    /**
+     * Cantidad maxima de proyectos que mantiene el ranking.
+     */
+    public int capacity() {
+        return properties.getTopSize();
+    }
+
+    /**
+     * Registra cada like nuevo en el momento en que ocurrio. Lo entrega el outbox despues del commit.
+     */
+    @EventListener
+    public void onProjectLiked(ProjectLikedEvent event) {
+        recordLike(event.projectId(), event.occurredAt());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectDeleted(ProjectDeletedEvent event) {
+        if (scores.remove(event.projectId()) != null) {
+            rebuildRanking();
+        }
+    }
+
+    /**
+     * Descarta los proyectos sin likes dentro de la ventana y guarda los puntajes restantes.
+     *
+     * @param now el momento del guardado
+     */
+    public void checkpoint(Instant now) {
+        Instant windowStart = now.minus(properties.getWindow());
+        if (scores.values().removeIf(score -> score.lastLikedAt().isBefore(windowStart))) {
+            rebuildRanking();
+        }
+
+        double nowHalfLives = halfLives(now);
+        List<ProjectTrendingScore> snapshot = new ArrayList<>(scores.size());
+        scores.forEach((projectId, score) -> snapshot.add(ProjectTrendingScore.builder()
+                .projectId(projectId)
+                .score(Math.pow(2, score.logScore() - nowHalfLives))
+                .lastLikedAt(score.lastLikedAt())
+                .scoredAt(now)
+                .build()));
+        checkpointStore.replaceAll(snapshot);
+    }
+
+    /**
+     * Recupera los puntajes del ultimo guardado. Se guardan ya decaidos, asi que siguen siendo
+     * validos si cambio halfLife.
+     */
+    void restore() {
+        try {
+            Instant windowStart = Instant.now().minus(properties.getWindow());
+            for (ProjectTrendingScore saved : checkpointStore.loadAll()) {
+                if (saved.getScore() <= 0 || saved.getLastLikedAt().isBefore(windowStart)) {
+                    continue;
+                }
+                double logScore = Math.log(saved.getScore()) / LN_2 + halfLives(saved.getScoredAt());
+                scores.merge(saved.getProjectId(), new TrendingScore(logScore, saved.getLastLikedAt()),
+                        TrendingScore::plus);
+            }
+            rebuildRanking();
+            log.info("Se recuperaron los puntajes de tendencia de {} proyectos", scores.size());
+        } catch (RuntimeException ex) {
+            log.warn("No se pudieron recuperar los puntajes de tendencia; el ranking empieza vacio", ex);
+        }
+    }
+
+    /**
+     * Checkpoint periodico en el scheduler compartido.
+     */
+    @Scheduled(fixedDelayString = "${projects.trending.checkpoint-interval:5m}",
+            initialDelayString = "${projects.trending.checkpoint-interval:5m}")
+    public void checkpointQuietly() {
+        try {
+            checkpoint(Instant.now());
+        } catch (RuntimeException ex) {
+            log.warn("No se pudieron guardar los puntajes de tendencia", ex);
+        }
+    }
+
+    /**
+     * Ubica al proyecto segun su puntaje actual. Lee el puntaje bajo el lock para que dos likes
+     * concurrentes no dejen en el ranking un valor viejo.
+     */
+    private void rerank(Long projectId) {
+        synchronized (rankingLock) {
+            TrendingScore score = scores.get(projectId);
+            RankedProject previous = rankedById.remove(projectId);
+            if (previous != null) {
+                ranking.remove(previous);
+            }
+            if (score == null) {
+                return;
+            }
+
+            RankedProject candidate = new RankedProject(projectId, score.logScore());
+            if (rankedById.size() >= properties.getTopSize()) {
+                RankedProject last = ranking.last();
+                if (RANKING.compare(candidate, last) >= 0) {
+                    return;
+                }
+                ranking.remove(last);
+                rankedById.remove(last.projectId());
+            }
+            ranking.add(candidate);
+            rankedById.put(projectId, candidate);
+        }
+    }
+
+    /**
+     * Arma el ranking desde todos los puntajes. Se usa cuando sale un proyecto del ranking y
+     * hay que buscar su reemplazo.
+     */
+    private void rebuildRanking() {
+        synchronized (rankingLock) {
+            List<RankedProject> best = scores.entrySet().stream()
+                    .map(entry -> new RankedProject(entry.getKey(), entry.getValue().logScore()))
+                    .sorted(RANKING)
+                    .limit(properties.getTopSize())
+                    .toList();
+            ranking.clear();
+            rankedById.clear();
+            for (RankedProject ranked : best) {
+                ranking.add(ranked);
+                rankedById.put(ranked.projectId(), ranked);
+            }
+        }
+    }
+
+    private double halfLives(Instant instant) {
+        return instant.toEpochMilli() / (double) properties.getHalfLife().toMillis();
+    }
+
+    /**
+     * Puntaje de un proyecto (log2 de la suma de los aportes) y momento de su ultimo like.
+     */
+    private record TrendingScore(double logScore, Instant lastLikedAt) {
+
+        TrendingScore plus(TrendingScore other) {
+            double high = Math.max(logScore, other.logScore);
+            double low = Math.min(logScore, other.logScore);
+            // log2(2^high + 2^low) sin calcular potencias que desborden
+            double sum = high + Math.log1p(Math.pow(2, low - high)) / LN_2;
+            Instant latest = lastLikedAt.isAfter(other.lastLikedAt) ? lastLikedAt : other.lastLikedAt;
+            return new TrendingScore(sum, latest);
+        }
+    }
+
+    private record RankedProject(long projectId, double logScore) {
+    }
+
+    /**
+     * Proyecto del ranking con su puntaje decaido.
+     *
+     * @param projectId el ID del proyecto
+     * @param score el puntaje al momento de la lectura
+     */
+    public record TrendingProject(Long projectId, double score) {
+    }
+}
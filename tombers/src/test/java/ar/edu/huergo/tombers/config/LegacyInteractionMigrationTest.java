@@ -0,0 +1,140 @@
+package ar.edu.huergo.tombers.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import ar.edu.huergo.tombers.entity.Project;
+import ar.edu.huergo.tombers.entity.ProjectInteraction;
+import ar.edu.huergo.tombers.entity.ProjectInteraction.InteractionType;
+import ar.edu.huergo.tombers.entity.User;
+import ar.edu.huergo.tombers.repository.ProjectInteractionRepository;
+import ar.edu.huergo.tombers.repository.ProjectRepository;
+import ar.edu.huergo.tombers.repository.UserRepository;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:legacy-interactions",
+        "spring.jpa.show-sql=false",
+        "search.index.directory=${java.io.tmpdir}/tombers-legacy-interactions-test/search-index"
+})
+@DisplayName("Tests de Configuracion - LegacyInteractionMigration")
+class LegacyInteractionMigrationTest {
+
+    @Autowired private LegacyInteractionMigration migration;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private UserRepository userRepository;
+    @Autowired private ProjectRepository projectRepository;
+    @Autowired private ProjectInteractionRepository projectInteractionRepository;
+
+    private Long saveUser(String name) {
+        return userRepository.save(User.builder()
+                .firstName("Nombre")
+                .lastName("Apellido")
+                .email(name + "@legacy.com")
+                .username(name)
+                .password("pwd")
+                .status(User.UserStatus.DISPONIBLE)
+                .createdProjectIds(new ArrayList<>())
+                .participatingProjectIds(new ArrayList<>())
+                .build()).getId();
+    }
+
+    private Long saveProject() {
+        Project project = Project.builder()
+                .title("Proyecto")
+                .description("desc")
+                .bannerUrl("/uploads/projects/banners/proyecto.jpg")
+                .status(Project.ProjectStatus.ACTIVE)
+                .progress(0)
+                .teamCurrent(0)
+                .teamMax(4)
+                .memberIds(new ArrayList<>())
+                .technologies(new ArrayList<>())
+                .objectives(new ArrayList<>())
+                .skillsNeeded(new ArrayList<>())
+                .build();
+        project.setCreatedAt(LocalDate.now());
+        project.setUpdatedAt(LocalDate.now());
+        return projectRepository.save(project).getId();
+    }
+
+    private void createLegacyTables() {
+        jdbcTemplate.execute("CREATE TABLE user_liked_projects (user_id BIGINT NOT NULL, project_id BIGINT)");
+        jdbcTemplate.execute("CREATE TABLE user_disliked_projects (user_id BIGINT NOT NULL, project_id BIGINT)");
+        jdbcTemplate.execute("CREATE TABLE project_like_ids (project_id BIGINT NOT NULL, like_id BIGINT)");
+    }
+
+    private int countTables() {
+        Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM information_schema.tables"
+                + " WHERE LOWER(table_name) IN ('user_liked_projects', 'user_disliked_projects', 'project_like_ids')",
+                Integer.class);
+        return count != null ? count : 0;
+    }
+
+    @Test
+    @DisplayName("Copia likes y dislikes anteriores sin duplicar pares y borra las tablas viejas")
+    void migratesLegacyTables() {
+        Long ana = saveUser("ana");
+        Long beto = saveUser("beto");
+        Long carla = saveUser("carla");
+        Long project = saveProject();
+        Long otherProject = saveProject();
+        // carla ya tiene una interaccion nueva que no se debe pisar
+        projectInteractionRepository.save(ProjectInteraction.builder()
+                .userId(carla).projectId(project).type(InteractionType.DISLIKE)
+                .interactedAt(LocalDateTime.now()).build());
+
+        createLegacyTables();
+        // ana figura en ambos lados del like, beto como like y dislike a la vez
+        jdbcTemplate.update("INSERT INTO user_liked_projects VALUES (?, ?), (?, ?), (?, ?), (?, ?)",
+                ana, project, ana, project, beto, project, carla, project);
+        jdbcTemplate.update("INSERT INTO project_like_ids VALUES (?, ?), (?, ?)", project, ana, otherProject, beto);
+        jdbcTemplate.update("INSERT INTO user_disliked_projects VALUES (?, ?), (?, ?), (?, ?)",
+                beto, project, ana, otherProject, ana, 999_999L);
+
+        int copied = migration.migrate();
+
+        assertEquals(4, copied);
+        Set<String> interactions = projectInteractionRepository.findAll().stream()
+                .map(i -> i.getUserId() + ":" + i.getProjectId() + ":" + i.getType())
+                .collect(Collectors.toSet());
+        assertEquals(Set.of(ana + ":" + project + ":LIKE", beto + ":" + project + ":LIKE",
+                carla + ":" + project + ":DISLIKE", beto + ":" + otherProject + ":LIKE",
+                ana + ":" + otherProject + ":DISLIKE"), interactions);
+        assertEquals(0, countTables());
+
+        Project migrated = projectRepository.findById(project).orElseThrow();
+        assertEquals(2, migrated.getLikeCount());
+        assertEquals(1, migrated.getDislikeCount());
+
+        // Sin tablas anteriores no vuelve a copiar nada
+        assertEquals(0, migration.migrate());
+        assertEquals(5, projectInteractionRepository.count());
+    }
+
+    @Test
+    @DisplayName("Retoma una migracion cortada despues de la copia sin revivir likes quitados")
+    void resumesAfterCopyCommitted() {
+        Long dario = saveUser("dario");
+        Long project = saveProject();
+        // La copia anterior ya se confirmo y vacio las tablas; despues dario quito su like
+        createLegacyTables();
+
+        assertEquals(0, migration.migrate());
+
+        assertEquals(0, projectInteractionRepository.findAll().stream()
+                .filter(i -> i.getUserId().equals(dario) && i.getProjectId().equals(project))
+                .count());
+        assertEquals(0, countTables());
+    }
+}
@@ -0,0 +1,34 @@
+package ar.edu.huergo.tombers.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.config.TaskManagementConfigUtils;
+
+@DisplayName("Tests de Configuracion - SchedulingConfig")
+class SchedulingConfigTest {
+
+    private final ApplicationContextRunner runner = new ApplicationContextRunner()
+            .withBean(SchedulingProperties.class)
+            .withUserConfiguration(SchedulingConfig.class);
+
+    @Test
+    @DisplayName("Por defecto programa los metodos @Scheduled en el scheduler compartido")
+    void schedulesByDefault() {
+        runner.run(context -> {
+            assertThat(context).hasSingleBean(ThreadPoolTaskScheduler.class);
+            assertThat(context).hasBean(TaskManagementConfigUtils.SCHEDULED_ANNOTATION_PROCESSOR_BEAN_NAME);
+        });
+    }
+
+    @Test
+    @DisplayName("Con scheduling.enabled=false no programa ninguna tarea")
+    void canBeDisabled() {
+        runner.withPropertyValues("scheduling.enabled=false").run(context -> {
+            assertThat(context).hasSingleBean(ThreadPoolTaskScheduler.class);
+            assertThat(context).doesNotHaveBean(TaskManagementConfigUtils.SCHEDULED_ANNOTATION_PROCESSOR_BEAN_NAME);
+        });
+    }
+}
@@ -1,14 +1,29 @@
 package ar.edu.huergo.tombers.repository;
 
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
 
+import ar.edu.huergo.tombers.dto.project.ProjectCardView;
 import ar.edu.huergo.tombers.entity.Project;
+import ar.edu.huergo.tombers.entity.ProjectInteraction;
 import ar.edu.huergo.tombers.entity.Skill;
+import ar.edu.huergo.tombers.entity.User;
+import ar.edu.huergo.tombers.entity.UserRating;
+import jakarta.persistence.EntityManager;
 
 @DataJpaTest
 @DisplayName("Tests de Repositorio - ProjectRepository")
@@ -17,6 +32,18 @@ class ProjectRepositoryTest {
     @Autowired
     private ProjectRepository projectRepository;
 
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectInteractionRepository projectInteractionRepository;
+
+    @Autowired
+    private UserRatingRepository userRatingRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
     private Project newProject(String title, String desc, int progress, Project.ProjectStatus status) {
         Project p = Project.builder()
                 .title(title)
@@ -30,4 +57,286 @@ class ProjectRepositoryTest {
         return p;
     }
 
+    private Project saveProject(String title) {
+        Project p = newProject(title, "desc", 0, Project.ProjectStatus.ACTIVE);
+        p.setBannerUrl("/uploads/projects/banners/" + title + ".jpg");
+        return projectRepository.save(p);
+    }
+
+    private void saveInteraction(Long userId, Long projectId, ProjectInteraction.InteractionType type) {
+        projectInteractionRepository.save(ProjectInteraction.builder()
+                .userId(userId)
+                .projectId(projectId)
+                .type(type)
+                .interactedAt(LocalDateTime.now())
+                .build());
+    }
+
+    @Test
+    @DisplayName("findFeedPageIds excluye proyectos evaluados o propios y pagina por cursor")
+    void findFeedPageExcludesInteractedProjects() {
+        Project liked = saveProject("liked");
+        Project disliked = saveProject("disliked");
+        Project own = saveProject("own");
+        Project first = saveProject("first");
+        Project second = saveProject("second");
+
+        User user = userRepository.save(User.builder()
+                .firstName("Ana")
+                .lastName("Alvarez")
+                .email("feed@a.com")
+                .username("feedUser")
+                .password("pwd")
+                .status(User.UserStatus.DISPONIBLE)
+                .createdProjectIds(new ArrayList<>(List.of(own.getId())))
+                .build());
+        saveInteraction(user.getId(), liked.getId(), ProjectInteraction.InteractionType.LIKE);
+        saveInteraction(user.getId(), disliked.getId(), ProjectInteraction.InteractionType.DISLIKE);
+
+        List<Long> firstPage = projectRepository.findFeedPageIds(user.getId(), 0L, PageRequest.of(0, 1));
+        assertEquals(List.of(first.getId()), firstPage);
+
+        List<Long> nextPage = projectRepository.findFeedPageIds(user.getId(), first.getId(), PageRequest.of(0, 10));
+        assertEquals(List.of(second.getId()), nextPage);
+
+        Set<Long> excluded = Set.copyOf(projectRepository.findAllExcludedFeedIds(user.getId()));
+        assertEquals(Set.of(liked.getId(), disliked.getId(), own.getId()), excluded);
+    }
+
+    private User saveApplicant(String name, List<Skill> skills) {
+        return userRepository.save(User.builder()
+                .firstName(name)
+                .lastName("Apellido")
+                .email(name + "@interested.com")
+                .username(name)
+                .password("pwd")
+                .status(User.UserStatus.DISPONIBLE)
+                .skills(new ArrayList<>(skills))
+                .interests(new ArrayList<>(List.of("IA")))
+                .build());
+    }
+
+    private void saveLike(Long userId, Long projectId, LocalDateTime at) {
+        projectInteractionRepository.save(ProjectInteraction.builder()
+                .userId(userId)
+                .projectId(projectId)
+                .type(ProjectInteraction.InteractionType.LIKE)
+                .interactedAt(at)
+                .build());
+    }
+
+    private void saveRating(Long ratedUserId, Long projectId, int rating) {
+        userRatingRepository.save(UserRating.builder()
+                .raterId(999L)
+                .ratedUserId(ratedUserId)
+                .projectId(projectId)
+                .rating(rating)
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+
+    private List<Long> ids(List<ProjectInteractionRepository.InterestedUserRef> refs) {
+        return refs.stream().map(ProjectInteractionRepository.InterestedUserRef::getId).toList();
+    }
+
+    @Test
+    @DisplayName("findInterested excluye integrantes y pagina por fecha, habilidades y calificacion")
+    void findInterestedExcludesMembersAndUsesKeysetOrder() {
+        Project project = saveProject("interested");
+        Skill java = Skill.builder().nombre("java ").nivel("Avanzado").build();
+        Skill python = Skill.builder().nombre("Python").nivel("Intermedio").build();
+        Skill go = Skill.builder().nombre("Go").nivel("Avanzado").build();
+        User first = saveApplicant("first", List.of(go));
+        User second = saveApplicant("second", List.of(java, python));
+        User third = saveApplicant("third", List.of(java));
+        User member = saveApplicant("member", List.of(java, python));
+        User disliker = saveApplicant("disliker", List.of(java));
+        project.setMemberIds(new ArrayList<>(List.of(member.getId())));
+        projectRepository.save(project);
+
+        LocalDateTime base = LocalDateTime.of(2026, 10, 1, 10, 0);
+        saveLike(first.getId(), project.getId(), base);
+        saveLike(second.getId(), project.getId(), base.plusMinutes(1));
+        saveLike(third.getId(), project.getId(), base.plusMinutes(1));
+        saveLike(member.getId(), project.getId(), base.plusMinutes(2));
+        saveInteraction(disliker.getId(), project.getId(), ProjectInteraction.InteractionType.DISLIKE);
+        saveRating(third.getId(), project.getId(), 5);
+        saveRating(first.getId(), project.getId(), 2);
+        saveRating(first.getId(), project.getId(), 4);
+        entityManager.flush();
+        entityManager.clear();
+
+        var like = ProjectInteraction.InteractionType.LIKE;
+        List<ProjectInteractionRepository.InterestedUserRef> byDate = projectInteractionRepository
+                .findInterestedByAppliedAt(project.getId(), like, LocalDateTime.of(1970, 1, 1, 0, 0), 0L, PageRequest.of(0, 2));
+        assertEquals(List.of(first.getId(), second.getId()), ids(byDate));
+        assertEquals("first@interested.com", byDate.get(0).getEmail());
+        assertEquals(List.of(third.getId()), ids(projectInteractionRepository.findInterestedByAppliedAt(project.getId(),
+                like, byDate.get(1).getAppliedAt(), second.getId(), PageRequest.of(0, 10))));
+
+        List<ProjectInteractionRepository.InterestedUserRef> bySkills = projectInteractionRepository
+                .findInterestedBySkillMatches(project.getId(), like, Long.MAX_VALUE, 0L, PageRequest.of(0, 2));
+        assertEquals(List.of(second.getId(), third.getId()), ids(bySkills));
+        assertEquals(2L, bySkills.get(0).getSkillMatches());
+        assertEquals(List.of(first.getId()), ids(projectInteractionRepository.findInterestedBySkillMatches(
+                project.getId(), like, 1L, third.getId(), PageRequest.of(0, 10))));
+
+        List<ProjectInteractionRepository.InterestedUserRef> byRating = projectInteractionRepository
+                .findInterestedByRating(project.getId(), like, Double.MAX_VALUE, 0L, PageRequest.of(0, 10));
+        assertEquals(List.of(third.getId(), first.getId(), second.getId()), ids(byRating));
+        assertEquals(3.0, byRating.get(1).getAverageRating(), 1e-9);
+        assertEquals(0.0, byRating.get(2).getAverageRating(), 1e-9);
+
+        Map<Long, Long> skillCounts = new HashMap<>();
+        userRepository.findSkillRefsByUserIds(List.of(second.getId(), third.getId()))
+                .forEach(ref -> skillCounts.merge(ref.getUserId(), 1L, Long::sum));
+        assertEquals(Map.of(second.getId(), 2L, third.getId(), 1L), skillCounts);
+        assertEquals(List.of("IA"), userRepository.findInterestRefsByUserIds(List.of(first.getId())).stream()
+                .map(UserRepository.UserInterestRef::getInterest).toList());
+    }
+
+    @Test
+    @DisplayName("findCardsByIds devuelve columnas de tarjeta con contadores e integrantes")
+    void findCardsByIdsReadsCountersAndMembers() {
+        Project project = saveProject("card");
+        project.setMemberIds(new ArrayList<>(List.of(100L, 101L)));
+        project.setCreatorId(100L);
+        projectRepository.save(project);
+        Project empty = saveProject("empty");
+        entityManager.flush();
+
+        Instant now = Project.currentChangeInstant();
+        projectRepository.applyInteractionDelta(project.getId(), 1L, 1, 0, now);
+        // El like de un integrante no cuenta como interesado
+        projectRepository.applyInteractionDelta(project.getId(), 100L, 1, 0, now);
+        projectRepository.applyInteractionDelta(project.getId(), 3L, 0, 1, now);
+        entityManager.clear();
+
+        List<ProjectCardView> cards = projectRepository.findCardsByIds(List.of(project.getId(), empty.getId()));
+        Map<Long, ProjectCardView> byId = new HashMap<>();
+        cards.forEach(card -> byId.put(card.id(), card));
+
+        ProjectCardView card = byId.get(project.getId());
+        assertEquals("card", card.title());
+        assertEquals(100L, card.creatorId());
+        assertEquals(2L, card.likeCount());
+        assertEquals(1L, card.dislikeCount());
+        assertEquals(1L, card.interestedCount());
+        assertEquals(2, card.memberCount());
+        assertEquals(0L, byId.get(empty.getId()).likeCount());
+        assertEquals(0, byId.get(empty.getId()).memberCount());
+
+        assertEquals(List.of(project.getId(), empty.getId()),
+                projectRepository.findAllCards().stream().map(ProjectCardView::id).toList());
+    }
+
+    @Test
+    @DisplayName("La conciliacion recalcula solo los contadores que no coinciden con las interacciones")
+    void recomputeCountersFixesStaleProjects() {
+        Project stale = saveProject("stale");
+        stale.setMemberIds(new ArrayList<>(List.of(100L)));
+        projectRepository.save(stale);
+        Project consistent = saveProject("consistent");
+        saveInteraction(1L, stale.getId(), ProjectInteraction.InteractionType.LIKE);
+        saveInteraction(100L, stale.getId(), ProjectInteraction.InteractionType.LIKE);
+        saveInteraction(3L, stale.getId(), ProjectInteraction.InteractionType.DISLIKE);
+        entityManager.flush();
+        long versionBefore = projectRepository.findVersionById(stale.getId()).orElseThrow();
+
+        List<Long> staleIds = projectRepository.findIdsWithStaleCounters(ProjectInteraction.InteractionType.LIKE,
+                ProjectInteraction.InteractionType.DISLIKE);
+        assertEquals(List.of(stale.getId()), staleIds);
+
+        int updated = projectRepository.recomputeCounters(staleIds, ProjectInteraction.InteractionType.LIKE,
+                ProjectInteraction.InteractionType.DISLIKE, Project.currentChangeInstant());
+        entityManager.clear();
+
+        assertEquals(1, updated);
+        ProjectCardView card = projectRepository.findCardsByIds(List.of(stale.getId())).get(0);
+        assertEquals(2L, card.likeCount());
+        assertEquals(1L, card.dislikeCount());
+        assertEquals(1L, card.interestedCount());
+        assertTrue(projectRepository.findVersionById(stale.getId()).orElseThrow() > versionBefore);
+        assertTrue(projectRepository.findIdsWithStaleCounters(ProjectInteraction.InteractionType.LIKE,
+                ProjectInteraction.InteractionType.DISLIKE).isEmpty());
+        assertEquals(0L, projectRepository.findCardsByIds(List.of(consistent.getId())).get(0).likeCount());
+    }
+
+    @Test
+    @DisplayName("La version cambia con cada UPDATE y con los incrementos explicitos")
+    void versionChangesOnEveryUpdate() {
+        Project project = saveProject("versioned");
+        User member = userRepository.save(User.builder()
+                .firstName("Ana")
+                .lastName("Alvarez")
+                .email("version@a.com")
+                .username("versionUser")
+                .password("pwd")
+                .status(User.UserStatus.DISPONIBLE)
+                .build());
+        entityManager.flush();
+        assertEquals(0L, projectRepository.findVersionById(project.getId()).orElseThrow());
+
+        project.setTitle("renamed");
+        project.setMemberIds(new ArrayList<>(List.of(member.getId())));
+        projectRepository.saveAndFlush(project);
+        long afterUpdate = projectRepository.findVersionById(project.getId()).orElseThrow();
+        assertTrue(afterUpdate > 0);
+
+        projectRepository.incrementVersion(project.getId(), Project.currentChangeInstant());
+        assertEquals(afterUpdate + 1, projectRepository.findVersionById(project.getId()).orElseThrow());
+
+        long participants = userRepository.sumParticipantVersions(project.getId());
+        userRepository.incrementVersion(member.getId());
+        assertEquals(participants + 1, userRepository.sumParticipantVersions(project.getId()));
+    }
+
+    @Test
+    @DisplayName("reserveSeat ocupa un lugar solo si hay cupo y el usuario no es integrante")
+    void reserveSeatHonorsTeamMaxAndMembership() {
+        Project project = saveProject("seats");
+        project.setTeamMax(2);
+        project.setTeamCurrent(1);
+        project.setMemberIds(new ArrayList<>(List.of(10L)));
+        projectRepository.saveAndFlush(project);
+        Project unlimited = saveProject("unlimited");
+        entityManager.flush();
+        long versionBefore = projectRepository.findVersionById(project.getId()).orElseThrow();
+
+        assertEquals(0, projectRepository.reserveSeat(project.getId(), 10L, Project.currentChangeInstant()));
+        assertEquals(1, projectRepository.reserveSeat(project.getId(), 11L, Project.currentChangeInstant()));
+        assertEquals(0, projectRepository.reserveSeat(project.getId(), 12L, Project.currentChangeInstant()));
+        assertEquals(1, projectRepository.reserveSeat(unlimited.getId(), 11L, Project.currentChangeInstant()));
+        entityManager.clear();
+
+        assertEquals(2, projectRepository.findCardsByIds(List.of(project.getId())).get(0).teamCurrent().intValue());
+        assertEquals(1, projectRepository.findCardsByIds(List.of(unlimited.getId())).get(0).teamCurrent().intValue());
+        assertEquals(versionBefore + 1, projectRepository.findVersionById(project.getId()).orElseThrow());
+    }
+
+    @Test
+    @DisplayName("findChangedSince pagina por (changedAt, id) y respeta el limite superior")
+    void findChangedSinceUsesKeysetOrder() {
+        Project first = saveProject("first-change");
+        Project second = saveProject("second-change");
+        entityManager.flush();
+        Instant until = Instant.now().plusSeconds(1);
+
+        List<ProjectRepository.ProjectChangeRef> all =
+                projectRepository.findChangedSince(Instant.EPOCH, 0L, until, PageRequest.of(0, 10));
+        assertEquals(List.of(first.getId(), second.getId()), all.stream().map(ProjectRepository.ProjectChangeRef::getId).toList());
+
+        ProjectRepository.ProjectChangeRef head = all.get(0);
+        List<ProjectRepository.ProjectChangeRef> rest =
+                projectRepository.findChangedSince(head.getChangedAt(), head.getId(), until, PageRequest.of(0, 10));
+        assertEquals(List.of(second.getId()), rest.stream().map(ProjectRepository.ProjectChangeRef::getId).toList());
+
+        assertTrue(projectRepository.findChangedSince(Instant.EPOCH, 0L, Instant.EPOCH, PageRequest.of(0, 10)).isEmpty());
+
+        Instant before = projectRepository.findChangedSince(Instant.EPOCH, 0L, until, PageRequest.of(0, 10)).get(0).getChangedAt();
+        projectRepository.incrementVersion(first.getId(), before.plusSeconds(60));
+        List<ProjectRepository.ProjectChangeRef> reordered =
+                projectRepository.findChangedSince(Instant.EPOCH, 0L, before.plusSeconds(61), PageRequest.of(0, 10));
+        assertEquals(List.of(second.getId(), first.getId()), reordered.stream().map(ProjectRepository.ProjectChangeRef::getId).toList());
+    }
 }
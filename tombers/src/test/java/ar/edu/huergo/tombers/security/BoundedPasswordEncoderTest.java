@@ -0,0 +1,89 @@
+package ar.edu.huergo.tombers.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("Tests de Seguridad - BoundedPasswordEncoder")
+class BoundedPasswordEncoderTest {
+
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void shutdown() {
+        if (encoder != null) {
+            encoder.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Calcula y verifica hashes BCrypt con el factor configurado fuera del hilo del request")
+    void encodesAndMatches() {
+        encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), 2, 4, new SimpleMeterRegistry());
+
+        String hash = encoder.encode("secreta");
+
+        assertTrue(hash.startsWith("$2a$04$"));
+        assertTrue(encoder.matches("secreta", hash));
+        assertFalse(encoder.matches("otra", hash));
+    }
+
+    @Test
+    @DisplayName("Con el pool y la cola llenos rechaza enseguida")
+    void rejectsWhenSaturated() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder blocking = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                started.countDown();
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                return "hash-" + rawPassword;
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return encode(rawPassword).equals(encodedPassword);
+            }
+        };
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        encoder = new BoundedPasswordEncoder(blocking, 1, 1, meterRegistry);
+
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        try {
+            // Uno ocupa el unico hilo y otro espera en la cola
+            Future<String> running = callers.submit(() -> encoder.encode("a"));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            Future<String> queued = callers.submit(() -> encoder.encode("b"));
+            while (meterRegistry.get("tombers.password.hashing.queue").gauge().value() < 1) {
+                Thread.onSpinWait();
+            }
+
+            assertThrows(PasswordHashingBusyException.class, () -> encoder.encode("c"));
+            assertEquals(1, meterRegistry.get("tombers.password.hashing.rejected").counter().count());
+
+            release.countDown();
+            assertEquals("hash-a", running.get(5, TimeUnit.SECONDS));
+            assertEquals("hash-b", queued.get(5, TimeUnit.SECONDS));
+        } finally {
+            release.countDown();
+            callers.shutdownNow();
+        }
+    }
+}
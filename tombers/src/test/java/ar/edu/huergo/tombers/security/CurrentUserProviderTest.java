@@ -0,0 +1,137 @@
+package ar.edu.huergo.tombers.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import ar.edu.huergo.tombers.entity.User;
+import ar.edu.huergo.tombers.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityNotFoundException;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Tests de Seguridad - CurrentUserProvider")
+class CurrentUserProviderTest {
+
+    @Mock private UserRepository userRepository;
+    @Mock private EntityManager entityManager;
+
+    @InjectMocks private CurrentUserProvider currentUser;
+
+    @BeforeEach
+    void bindRequest() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+    }
+
+    @AfterEach
+    void cleanup() {
+        RequestContextHolder.resetRequestAttributes();
+        SecurityContextHolder.clearContext();
+    }
+
+    private static User user(Long id) {
+        return User.builder().id(id).email("user@test.com").username("user").build();
+    }
+
+    private static void authenticate(Object principal) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, List.of()));
+    }
+
+    @Test
+    @DisplayName("Reutiliza el usuario que cargo el filtro sin consultar la base")
+    void reusesManagedPrincipal() {
+        User loaded = user(7L);
+        authenticate(loaded);
+        when(entityManager.contains(loaded)).thenReturn(true);
+
+        assertSame(loaded, currentUser.get());
+        assertSame(loaded, currentUser.get());
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    @DisplayName("Busca el usuario una sola vez por request")
+    void loadsOncePerRequest() {
+        User loaded = user(7L);
+        authenticate("user@test.com");
+        when(userRepository.findByEmail("user@test.com")).thenReturn(Optional.of(loaded));
+        when(entityManager.contains(loaded)).thenReturn(true);
+
+        assertSame(loaded, currentUser.get());
+        assertSame(loaded, currentUser.get());
+        assertSame(loaded, currentUser.get());
+        verify(userRepository, times(1)).findByEmail("user@test.com");
+    }
+
+    @Test
+    @DisplayName("En modo sin estado busca por el ID del token y lo vuelve a buscar si quedo desasociado")
+    void statelessPrincipalLoadsById() {
+        User loaded = user(7L);
+        authenticate(new JwtPrincipal(7L, "user@test.com", "jti-1", Instant.now().plusSeconds(60), List.of()));
+        when(userRepository.findById(7L)).thenReturn(Optional.of(loaded));
+        when(entityManager.contains(loaded)).thenReturn(true, false);
+
+        assertSame(loaded, currentUser.get());
+        // Un rollback limpio el contexto de persistencia: se recarga por ID, no por email
+        assertSame(loaded, currentUser.get());
+        verify(userRepository, times(2)).findById(7L);
+        verify(userRepository, never()).findByEmail(any());
+    }
+
+    @Test
+    @DisplayName("Con el usuario de la cache de autenticacion busca por ID")
+    void cachedPrincipalLoadsById() {
+        User loaded = user(7L);
+        authenticate(new CachedUserDetails(7L, "user@test.com", "hash", List.of()));
+        when(userRepository.findById(7L)).thenReturn(Optional.of(loaded));
+        when(entityManager.contains(loaded)).thenReturn(true);
+
+        assertSame(loaded, currentUser.get());
+        assertSame(loaded, currentUser.get());
+        verify(userRepository, times(1)).findById(7L);
+        verify(userRepository, never()).findByEmail(any());
+    }
+
+    @Test
+    @DisplayName("Sin request activo resuelve el usuario en cada llamada")
+    void withoutRequestLoadsEveryTime() {
+        RequestContextHolder.resetRequestAttributes();
+        User loaded = user(7L);
+        authenticate("user@test.com");
+        when(userRepository.findByEmail("user@test.com")).thenReturn(Optional.of(loaded));
+
+        currentUser.get();
+        currentUser.get();
+        verify(userRepository, times(2)).findByEmail("user@test.com");
+    }
+
+    @Test
+    @DisplayName("Falla si no hay usuario autenticado o ya no existe")
+    void failsWithoutUser() {
+        assertThrows(AccessDeniedException.class, () -> currentUser.get());
+
+        authenticate("borrado@test.com");
+        when(userRepository.findByEmail("borrado@test.com")).thenReturn(Optional.empty());
+        assertThrows(EntityNotFoundException.class, () -> currentUser.get());
+    }
+}
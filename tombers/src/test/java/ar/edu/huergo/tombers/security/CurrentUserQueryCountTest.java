@@ -0,0 +1,105 @@
+package ar.edu.huergo.tombers.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import ar.edu.huergo.tombers.entity.Project;
+import ar.edu.huergo.tombers.entity.Rol;
+import ar.edu.huergo.tombers.entity.User;
+import ar.edu.huergo.tombers.repository.ProjectRepository;
+import ar.edu.huergo.tombers.repository.UserRepository;
+import ar.edu.huergo.tombers.repository.security.RolRepository;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Cuenta las cargas del usuario autenticado en requests completos. En el primero el filtro JWT lo
+ * carga de la base para validar el token y el servicio reutiliza esa entidad; en los siguientes el
+ * filtro lo resuelve desde UserDetailsCache y solo el servicio lo carga.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:current-user",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "search.index.directory=${java.io.tmpdir}/tombers-current-user-test/search-index"
+})
+@AutoConfigureMockMvc
+@DisplayName("Tests de Seguridad - Usuario autenticado por request")
+class CurrentUserQueryCountTest {
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private UserRepository userRepository;
+    @Autowired private RolRepository rolRepository;
+    @Autowired private ProjectRepository projectRepository;
+    @Autowired private JwtTokenService jwtTokenService;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    private Long saveProject() {
+        Project project = Project.builder()
+                .title("Proyecto")
+                .description("desc")
+                .bannerUrl("/uploads/projects/banners/proyecto.jpg")
+                .status(Project.ProjectStatus.ACTIVE)
+                .progress(0)
+                .teamCurrent(0)
+                .teamMax(4)
+                .memberIds(new ArrayList<>())
+                .technologies(new ArrayList<>())
+                .objectives(new ArrayList<>())
+                .skillsNeeded(new ArrayList<>())
+                .build();
+        project.setCreatedAt(LocalDate.now());
+        project.setUpdatedAt(LocalDate.now());
+        return projectRepository.save(project).getId();
+    }
+
+    @Test
+    @DisplayName("Cada like carga el usuario autenticado una sola vez")
+    void likeLoadsAuthenticatedUserOnce() throws Exception {
+        Rol cliente = rolRepository.findByNombre("CLIENTE").orElseGet(() -> rolRepository.save(new Rol("CLIENTE")));
+        User user = userRepository.save(User.builder()
+                .firstName("Nombre")
+                .lastName("Apellido")
+                .email("liker@test.com")
+                .username("liker")
+                .password("pwd")
+                .status(User.UserStatus.DISPONIBLE)
+                .roles(Set.of(cliente))
+                .createdProjectIds(new ArrayList<>())
+                .participatingProjectIds(new ArrayList<>())
+                .build());
+        Long projectId = saveProject();
+        Long otherProjectId = saveProject();
+        String token = jwtTokenService.generarToken(user, user.getId(), List.of("ROLE_CLIENTE"));
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mockMvc.perform(post("/api/projects/{projectId}/like", projectId)
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+
+        assertEquals(1, statistics.getEntityStatistics(User.class.getName()).getLoadCount());
+
+        statistics.clear();
+        mockMvc.perform(post("/api/projects/{projectId}/like", otherProjectId)
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+
+        assertEquals(1, statistics.getEntityStatistics(User.class.getName()).getLoadCount());
+    }
+}
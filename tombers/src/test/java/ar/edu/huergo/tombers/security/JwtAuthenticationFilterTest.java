@@ -2,8 +2,13 @@ package ar.edu.huergo.tombers.security;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,10 +19,13 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.servlet.FilterChain;
 
@@ -28,6 +36,7 @@ class JwtAuthenticationFilterTest {
     @Mock private JwtTokenService jwtTokenService;
     @Mock private org.springframework.security.core.userdetails.UserDetailsService userDetailsService;
     @Mock private FilterChain filterChain;
+    @Mock private JwtDenyList denyList;
 
     @InjectMocks private JwtAuthenticationFilter filter;
 
@@ -36,6 +45,11 @@ class JwtAuthenticationFilterTest {
         SecurityContextHolder.clearContext();
     }
 
+    private static Claims claims(String subject, String tokenId) {
+        return Jwts.claims().subject(subject).id(tokenId)
+                .expiration(Date.from(Instant.now().plusSeconds(60))).build();
+    }
+
     @Test
     @DisplayName("Sin header Authorization, continúa la cadena")
     void noAuthorizationHeader() throws Exception {
@@ -55,7 +69,7 @@ class JwtAuthenticationFilterTest {
         req.addHeader("Authorization", "Bearer abc.def.ghi");
         var res = new MockHttpServletResponse();
 
-        when(jwtTokenService.extraerUsername("abc.def.ghi")).thenThrow(new RuntimeException("firma inválida"));
+        when(jwtTokenService.verificarToken("abc.def.ghi")).thenThrow(new RuntimeException("firma inválida"));
 
         filter.doFilter(req, res, filterChain);
 
@@ -71,16 +85,21 @@ class JwtAuthenticationFilterTest {
         req.addHeader("Authorization", "Bearer good.token");
         var res = new MockHttpServletResponse();
 
-        when(jwtTokenService.extraerUsername("good.token")).thenReturn("user@test.com");
+        Claims claims = claims("user@test.com", "jti-1");
+        when(jwtTokenService.verificarToken("good.token")).thenReturn(claims);
         UserDetails ud = User.withUsername("user@test.com").password("x").roles("USER").build();
         when(userDetailsService.loadUserByUsername("user@test.com")).thenReturn(ud);
-        when(jwtTokenService.esTokenValido("good.token", ud)).thenReturn(true);
+        when(jwtTokenService.esTokenValido(claims, ud)).thenReturn(true);
 
         filter.doFilter(req, res, filterChain);
 
         assertNotNull(SecurityContextHolder.getContext().getAuthentication());
         assertEquals("user@test.com", SecurityContextHolder.getContext().getAuthentication().getName());
         verify(filterChain).doFilter(any(), any());
+        // La firma se verifica una sola vez por request
+        verify(jwtTokenService).verificarToken("good.token");
+        verify(jwtTokenService, never()).extraerUsername(anyString());
+        verify(jwtTokenService, never()).esTokenValido(anyString(), any());
     }
 
     @Test
@@ -90,7 +109,7 @@ class JwtAuthenticationFilterTest {
         req.addHeader("Authorization", "Bearer token");
         var res = new MockHttpServletResponse();
 
-        when(jwtTokenService.extraerUsername("token")).thenReturn("no@test.com");
+        when(jwtTokenService.verificarToken("token")).thenReturn(claims("no@test.com", null));
         when(userDetailsService.loadUserByUsername("no@test.com")).thenThrow(new EntityNotFoundException("no existe"));
 
         filter.doFilter(req, res, filterChain);
@@ -99,5 +118,45 @@ class JwtAuthenticationFilterTest {
         assertEquals(MediaType.APPLICATION_PROBLEM_JSON_VALUE, res.getContentType());
         verify(filterChain, never()).doFilter(any(), any());
     }
-}
 
+    @Test
+    @DisplayName("En modo sin estado autentica con los claims sin consultar la base")
+    void statelessTokenSkipsUserLookup() throws Exception {
+        var req = new MockHttpServletRequest();
+        req.addHeader("Authorization", "Bearer claims.token");
+        var res = new MockHttpServletResponse();
+
+        var principal = new JwtPrincipal(7L, "user@test.com", "jti-1", Instant.now().plusSeconds(60),
+                List.of(new SimpleGrantedAuthority("ROLE_CLIENTE")));
+        Claims claims = claims("user@test.com", "jti-1");
+        when(jwtTokenService.verificarToken("claims.token")).thenReturn(claims);
+        when(jwtTokenService.isStateless()).thenReturn(true);
+        when(jwtTokenService.leerPrincipal(claims)).thenReturn(principal);
+
+        filter.doFilter(req, res, filterChain);
+
+        var authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertEquals("user@test.com", authentication.getName());
+        assertSame(principal, authentication.getPrincipal());
+        assertTrue(authentication.getAuthorities().contains(new SimpleGrantedAuthority("ROLE_CLIENTE")));
+        verifyNoInteractions(userDetailsService);
+        verify(filterChain).doFilter(any(), any());
+    }
+
+    @Test
+    @DisplayName("Un token revocado devuelve 401")
+    void revokedTokenIsRejected() throws Exception {
+        var req = new MockHttpServletRequest();
+        req.addHeader("Authorization", "Bearer revoked.token");
+        var res = new MockHttpServletResponse();
+
+        when(jwtTokenService.verificarToken("revoked.token")).thenReturn(claims("user@test.com", "jti-1"));
+        when(denyList.isRevoked("jti-1")).thenReturn(true);
+
+        filter.doFilter(req, res, filterChain);
+
+        assertEquals(401, res.getStatus());
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        verify(filterChain, never()).doFilter(any(), any());
+    }
+}
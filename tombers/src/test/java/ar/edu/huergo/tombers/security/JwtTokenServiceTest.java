@@ -20,6 +20,7 @@ import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
+import io.jsonwebtoken.Claims;
 
 /**
  * Tests de seguridad para JwtTokenService
@@ -264,4 +265,40 @@ class JwtTokenServiceTest {
         assertEquals("usuario.especial+test@dominio-test.com", usernameExtraido);
         assertTrue(jwtTokenService.esTokenValido(token, usuarioEspecial));
     }
+
+    @Test
+    @DisplayName("Debería leer el ID de usuario y los roles del token")
+    void deberiaLeerPrincipalDelToken() {
+        // Given
+        String token = jwtTokenService.generarToken(userDetails, 42L, List.of("ROLE_CLIENTE"));
+        String otroToken = jwtTokenService.generarToken(userDetails, 42L, List.of("ROLE_CLIENTE"));
+
+        // When
+        JwtPrincipal principal = jwtTokenService.leerPrincipal(token);
+
+        // Then
+        assertEquals(42L, principal.userId());
+        assertEquals("usuario@test.com", principal.getName());
+        assertEquals(List.of(new SimpleGrantedAuthority("ROLE_CLIENTE")), principal.authorities());
+        assertNotNull(principal.tokenId());
+        assertNotEquals(principal.tokenId(), jwtTokenService.leerPrincipal(otroToken).tokenId());
+    }
+
+    @Test
+    @DisplayName("Debería validar los claims ya verificados sin volver a parsear el token")
+    void deberiaValidarClaimsVerificados() {
+        // Given
+        String token = jwtTokenService.generarToken(userDetails, 42L, List.of("ROLE_CLIENTE"));
+        UserDetails otroUsuario = mock(UserDetails.class);
+        when(otroUsuario.getUsername()).thenReturn("otro@test.com");
+
+        // When
+        Claims claims = jwtTokenService.verificarToken(token);
+
+        // Then
+        assertEquals("usuario@test.com", claims.getSubject());
+        assertTrue(jwtTokenService.esTokenValido(claims, userDetails));
+        assertFalse(jwtTokenService.esTokenValido(claims, otroUsuario));
+        assertEquals(42L, jwtTokenService.leerPrincipal(claims).userId());
+    }
 }
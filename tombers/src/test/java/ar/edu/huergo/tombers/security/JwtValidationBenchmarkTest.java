@@ -0,0 +1,104 @@
+package ar.edu.huergo.tombers.security;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+
+/**
+ * Benchmark JMH de la validacion del token que hace el filtro en cada request: el camino anterior
+ * (extraerUsername + esTokenValido, cada uno armando su parser y verificando la firma) contra
+ * verificarToken una sola vez reutilizando el parser. Se ejecuta con ./gradlew benchmark; queda
+ * fuera de la tarea test.
+ */
+@Tag("benchmark")
+@DisplayName("Benchmark - Validacion de JWT por request")
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtValidationBenchmarkTest {
+
+    private static final String SECRET = "clave-de-benchmark-con-al-menos-32-bytes-de-largo";
+
+    private JwtTokenService jwtService;
+    private UserDetails userDetails;
+    private String token;
+
+    @Setup
+    public void setup() {
+        jwtService = new JwtTokenService(SECRET, 3_600_000);
+        userDetails = User.withUsername("user@test.com").password("x").roles("CLIENTE").build();
+        token = jwtService.generarToken(userDetails, 7L, List.of("ROLE_CLIENTE"));
+    }
+
+    /**
+     * Reproduce el camino anterior: dos parsers nuevos y dos verificaciones de firma por request.
+     */
+    @Benchmark
+    public boolean doubleParse() {
+        var key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        String username = Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload().getSubject();
+        Claims claims = Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload();
+        return username.equals(userDetails.getUsername()) && claims.getExpiration().getTime() > System.currentTimeMillis();
+    }
+
+    @Benchmark
+    public boolean singleParse() {
+        Claims claims = jwtService.verificarToken(token);
+        return jwtService.esTokenValido(claims, userDetails);
+    }
+
+    @Test
+    @DisplayName("Verificar el token una sola vez rinde mas que el camino anterior")
+    void singleParseOutperformsDoubleParse() throws Exception {
+        Options options = new OptionsBuilder()
+                .include(JwtValidationBenchmarkTest.class.getName() + "\\.")
+                .forks(0)
+                .warmupIterations(3).warmupTime(TimeValue.seconds(1))
+                .measurementIterations(5).measurementTime(TimeValue.seconds(1))
+                .addProfiler(GCProfiler.class)
+                .build();
+
+        double doubleParse = 0;
+        double singleParse = 0;
+        for (RunResult result : new Runner(options).run()) {
+            String benchmark = result.getParams().getBenchmark();
+            double throughput = result.getPrimaryResult().getScore();
+            var allocation = result.getSecondaryResults().get("gc.alloc.rate.norm");
+            System.out.printf("%s: %.1f ops/ms, %s B/op%n", benchmark.substring(benchmark.lastIndexOf('.') + 1),
+                    throughput, allocation != null ? String.format("%.0f", allocation.getScore()) : "n/d");
+            if (benchmark.endsWith("doubleParse")) {
+                doubleParse = throughput;
+            } else if (benchmark.endsWith("singleParse")) {
+                singleParse = throughput;
+            }
+        }
+
+        assertTrue(doubleParse > 0 && singleParse > 0, "No se ejecutaron ambos benchmarks");
+        assertTrue(singleParse > doubleParse,
+                "singleParse (" + singleParse + " ops/ms) no supera a doubleParse (" + doubleParse + " ops/ms)");
+    }
+}
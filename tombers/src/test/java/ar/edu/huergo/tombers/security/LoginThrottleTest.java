@@ -0,0 +1,120 @@
+package ar.edu.huergo.tombers.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import ar.edu.huergo.tombers.config.LoginThrottleProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("Tests de Seguridad - LoginThrottle")
+class LoginThrottleTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private LoginThrottleProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private LoginThrottle throttle;
+
+    @BeforeEach
+    void setUp() {
+        properties = new LoginThrottleProperties();
+        properties.setIpCapacity(4);
+        properties.setIpRefillPeriod(Duration.ofSeconds(40));
+        properties.setAccountCapacity(2);
+        properties.setAccountRefillPeriod(Duration.ofSeconds(60));
+        meterRegistry = new SimpleMeterRegistry();
+        throttle = new LoginThrottle(properties, meterRegistry);
+        throttle.start();
+    }
+
+    private void fail(String clientAddress, String email, long now) {
+        throttle.check(clientAddress, email, now);
+        throttle.recordFailure(clientAddress, email, now);
+    }
+
+    @Test
+    @DisplayName("Una cuenta agota sus fallos desde una IP y los recupera con el tiempo")
+    void accountLimitRefills() {
+        fail("10.0.0.1", "ana@test.com", 0);
+        fail("10.0.0.1", "ANA@test.com ", 0);
+
+        LoginThrottledException ex = assertThrows(LoginThrottledException.class,
+                () -> throttle.check("10.0.0.1", "ana@test.com", 0));
+        // Dos fallos por minuto: el siguiente se recupera a los 30 segundos
+        assertTrue(ex.getRetryAfter().compareTo(Duration.ofSeconds(29)) > 0);
+        assertTrue(ex.getRetryAfter().compareTo(Duration.ofSeconds(31)) < 0);
+        assertEquals(1, meterRegistry.get("tombers.auth.login.throttled").tag("scope", "account").counter().count());
+
+        throttle.check("10.0.0.1", "ana@test.com", 31 * SECOND);
+        // Otra cuenta no se ve afectada
+        throttle.check("10.0.0.1", "otra@test.com", 31 * SECOND);
+    }
+
+    @Test
+    @DisplayName("Los fallos desde otra IP no bloquean el inicio de sesion del titular")
+    void failuresFromAnotherIpDoNotLockOutOwner() {
+        fail("10.0.0.9", "ana@test.com", 0);
+        fail("10.0.0.9", "ana@test.com", 0);
+        assertThrows(LoginThrottledException.class, () -> throttle.check("10.0.0.9", "ana@test.com", 0));
+
+        throttle.check("10.0.0.1", "ana@test.com", 0);
+        assertEquals(0, meterRegistry.get("tombers.auth.login.throttled").tag("scope", "ip").counter().count());
+    }
+
+    @Test
+    @DisplayName("Los inicios de sesion exitosos no gastan los intentos de la cuenta")
+    void successesDoNotSpendAccountTokens() {
+        for (int i = 0; i < 4; i++) {
+            throttle.check("10.0.0.1", "ana@test.com", 0);
+        }
+        // La IP agoto sus intentos, pero la cuenta sigue disponible desde otra direccion
+        assertThrows(LoginThrottledException.class, () -> throttle.check("10.0.0.1", "ana@test.com", 0));
+        fail("10.0.0.2", "ana@test.com", 0);
+        throttle.check("10.0.0.2", "ana@test.com", 0);
+    }
+
+    @Test
+    @DisplayName("Una IP agota sus intentos aunque cambie de cuenta, sin consumir los de la cuenta")
+    void ipLimitAcrossAccounts() {
+        for (int i = 0; i < 4; i++) {
+            throttle.check("10.0.0.1", "user" + i + "@test.com", 0);
+        }
+
+        assertThrows(LoginThrottledException.class, () -> throttle.check("10.0.0.1", "victima@test.com", 0));
+        assertEquals(1, meterRegistry.get("tombers.auth.login.throttled").tag("scope", "ip").counter().count());
+
+        // El intento rechazado por IP no gasto los de la cuenta
+        throttle.check("10.0.0.2", "victima@test.com", 0);
+        throttle.check("10.0.0.2", "victima@test.com", 0);
+    }
+
+    @Test
+    @DisplayName("Se descartan solo los buckets ya recargados")
+    void purgeDropsFullBuckets() {
+        fail("10.0.0.1", "ana@test.com", 0);
+        assertEquals(2, throttle.size());
+
+        // Pasados 10 segundos la IP ya se recargo (un intento cada 10 s), la cuenta no
+        throttle.purge(11 * SECOND);
+        assertEquals(1, throttle.size());
+
+        throttle.purge(31 * SECOND);
+        assertEquals(0, throttle.size());
+    }
+
+    @Test
+    @DisplayName("Desactivado no limita")
+    void disabled() {
+        properties.setEnabled(false);
+        for (int i = 0; i < 10; i++) {
+            fail("10.0.0.1", "ana@test.com", 0);
+        }
+        assertEquals(0, throttle.size());
+    }
+}
@@ -0,0 +1,93 @@
+package ar.edu.huergo.tombers.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.CredentialsContainer;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import ar.edu.huergo.tombers.config.UserDetailsCacheProperties;
+import ar.edu.huergo.tombers.entity.Rol;
+import ar.edu.huergo.tombers.entity.User;
+import ar.edu.huergo.tombers.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityNotFoundException;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Tests de Seguridad - UserDetailsCache")
+class UserDetailsCacheTest {
+
+    @Mock private UserRepository userRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private UserDetailsCache cache;
+
+    @BeforeEach
+    void setUp() {
+        UserDetailsCacheProperties properties = new UserDetailsCacheProperties();
+        properties.setMaximumSize(100);
+        properties.setTtl(Duration.ofMinutes(5));
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new UserDetailsCache(userRepository, properties, meterRegistry);
+    }
+
+    private static User user() {
+        return User.builder().id(7L).email("user@test.com").username("user").password("hash")
+                .roles(Set.of(new Rol("CLIENTE"))).build();
+    }
+
+    @Test
+    @DisplayName("Los usuarios frecuentes se resuelven sin volver a consultar la base")
+    void hitsSkipRepository() {
+        when(userRepository.findByEmail("user@test.com")).thenReturn(Optional.of(user()));
+
+        UserDetails first = cache.load("user@test.com");
+        UserDetails second = cache.load("user@test.com");
+        cache.load("user@test.com");
+
+        assertSame(first, second);
+        assertEquals("user@test.com", first.getUsername());
+        assertEquals("hash", first.getPassword());
+        assertTrue(first.getAuthorities().contains(new SimpleGrantedAuthority("ROLE_CLIENTE")));
+        assertEquals(7L, ((CachedUserDetails) first).userId());
+        // Spring Security no debe poder borrar la contrasena de la copia compartida
+        assertFalse(first instanceof CredentialsContainer);
+        assertFalse(first.toString().contains("hash"));
+        verify(userRepository, times(1)).findByEmail("user@test.com");
+        assertEquals(2.0 / 3, meterRegistry.get("tombers.userdetails.cache.hit.ratio").gauge().value(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Invalidar un usuario obliga a recargarlo")
+    void evictReloads() {
+        when(userRepository.findByEmail("user@test.com")).thenReturn(Optional.of(user()));
+
+        cache.load("user@test.com");
+        cache.evict("user@test.com");
+        cache.load("user@test.com");
+
+        verify(userRepository, times(2)).findByEmail("user@test.com");
+    }
+
+    @Test
+    @DisplayName("Un usuario inexistente lanza EntityNotFound y no queda en la cache")
+    void missingUserIsNotCached() {
+        when(userRepository.findByEmail("no@test.com")).thenReturn(Optional.empty());
+
+        assertThrows(EntityNotFoundException.class, () -> cache.load("no@test.com"));
+        assertThrows(EntityNotFoundException.class, () -> cache.load("no@test.com"));
+        assertEquals(0, cache.size());
+        verify(userRepository, times(2)).findByEmail("no@test.com");
+    }
+}
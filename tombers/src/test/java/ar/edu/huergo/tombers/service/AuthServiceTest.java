@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -15,6 +16,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
@@ -26,6 +28,8 @@ import ar.edu.huergo.tombers.entity.User;
 import ar.edu.huergo.tombers.repository.UserRepository;
 import ar.edu.huergo.tombers.repository.security.RolRepository;
 import ar.edu.huergo.tombers.security.JwtTokenService;
+import ar.edu.huergo.tombers.security.LoginThrottle;
+import ar.edu.huergo.tombers.security.LoginThrottledException;
 import jakarta.persistence.EntityNotFoundException;
 
 @ExtendWith(MockitoExtension.class)
@@ -37,6 +41,7 @@ class AuthServiceTest {
     @Mock private JwtTokenService jwtTokenService;
     @Mock private AuthenticationManager authenticationManager;
     @Mock private RolRepository rolRepository;
+    @Mock private LoginThrottle loginThrottle;
 
     @InjectMocks private AuthService authService;
 
@@ -73,7 +78,7 @@ class AuthServiceTest {
             u.setId(1L);
             return u;
         });
-        when(jwtTokenService.generarToken(any(), eq(List.of("ROLE_CLIENTE")))).thenReturn("jwt-token");
+        when(jwtTokenService.generarToken(any(), eq(1L), eq(List.of("ROLE_CLIENTE")))).thenReturn("jwt-token");
 
         AuthResponse resp = authService.register(req);
         assertEquals("jwt-token", resp.getToken());
@@ -100,14 +105,15 @@ class AuthServiceTest {
         LoginRequest req = LoginRequest.builder().email("ana@test.com").password("pwd").build();
         var u = baseUser();
         when(userRepository.findByEmail("ana@test.com")).thenReturn(Optional.of(u));
-        when(jwtTokenService.generarToken(eq(u), eq(List.of("ROLE_USER")))).thenReturn("jwt");
+        when(jwtTokenService.generarToken(eq(u), eq(u.getId()), eq(List.of("ROLE_USER")))).thenReturn("jwt");
 
         // Stub de authenticate devolviendo un token autenticado
         when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
                 .thenReturn(new UsernamePasswordAuthenticationToken("ana@test.com", "pwd"));
 
-        AuthResponse resp = authService.login(req);
+        AuthResponse resp = authService.login(req, "10.0.0.1");
         assertEquals("jwt", resp.getToken());
+        verify(loginThrottle, never()).recordFailure(any(), any());
         // Por implementación actual, AuthResponse.username usa getUsername() (email)
         assertEquals("ana@test.com", resp.getUser().getUsername());
     }
@@ -117,6 +123,29 @@ class AuthServiceTest {
     void loginNotFound() {
         LoginRequest req = LoginRequest.builder().email("no@test.com").password("pwd").build();
         when(userRepository.findByEmail("no@test.com")).thenReturn(Optional.empty());
-        assertThrows(EntityNotFoundException.class, () -> authService.login(req));
+        assertThrows(EntityNotFoundException.class, () -> authService.login(req, "10.0.0.1"));
+    }
+
+    @Test
+    @DisplayName("login con contrasena incorrecta descuenta un intento de la cuenta")
+    void loginBadCredentialsRecordsFailure() {
+        LoginRequest req = LoginRequest.builder().email("ana@test.com").password("mala").build();
+        when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
+                .thenThrow(new BadCredentialsException("Credenciales incorrectas"));
+
+        assertThrows(BadCredentialsException.class, () -> authService.login(req, "10.0.0.1"));
+        verify(loginThrottle).recordFailure("10.0.0.1", "ana@test.com");
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    @DisplayName("login limitado no llega a autenticar ni a calcular el hash")
+    void loginThrottled() {
+        LoginRequest req = LoginRequest.builder().email("ana@test.com").password("pwd").build();
+        doThrow(new LoginThrottledException("Demasiados intentos de inicio de sesion para esta cuenta", Duration.ofSeconds(30)))
+                .when(loginThrottle).check("10.0.0.1", "ana@test.com");
+
+        assertThrows(LoginThrottledException.class, () -> authService.login(req, "10.0.0.1"));
+        verifyNoInteractions(authenticationManager, userRepository);
     }
 }
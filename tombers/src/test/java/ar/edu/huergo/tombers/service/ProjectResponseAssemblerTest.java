@@ -0,0 +1,127 @@
+package ar.edu.huergo.tombers.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import ar.edu.huergo.tombers.dto.project.ProjectResponse;
+import ar.edu.huergo.tombers.entity.Project;
+import ar.edu.huergo.tombers.entity.ProjectInteraction;
+import ar.edu.huergo.tombers.entity.Skill;
+import ar.edu.huergo.tombers.entity.User;
+import ar.edu.huergo.tombers.mapper.ProjectMapperImpl;
+import ar.edu.huergo.tombers.repository.ProjectInteractionRepository;
+import ar.edu.huergo.tombers.repository.ProjectRepository;
+import ar.edu.huergo.tombers.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+@DataJpaTest
+@Import({ProjectResponseAssembler.class, ProjectMapperImpl.class})
+@DisplayName("Tests de Servicio - ProjectResponseAssembler")
+class ProjectResponseAssemblerTest {
+
+    @Autowired private ProjectResponseAssembler assembler;
+    @Autowired private ProjectRepository projectRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private ProjectInteractionRepository projectInteractionRepository;
+    @Autowired private EntityManager entityManager;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private int sequence;
+
+    @BeforeEach
+    void enableStatistics() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    private User saveUser() {
+        sequence++;
+        return userRepository.save(User.builder()
+                .firstName("Nombre" + sequence)
+                .lastName("Apellido")
+                .email("user" + sequence + "@test.com")
+                .username("user" + sequence)
+                .password("pwd")
+                .status(User.UserStatus.DISPONIBLE)
+                .createdProjectIds(new ArrayList<>())
+                .build());
+    }
+
+    /**
+     * Crea proyectos con creador, integrante, un like y colecciones cargadas. La mitad guarda el
+     * creatorId y la otra mitad depende de la lista de proyectos creados del usuario.
+     */
+    private List<Long> createProjects(int count) {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            User creator = saveUser();
+            User member = saveUser();
+            Project project = Project.builder()
+                    .title("Proyecto " + i)
+                    .description("desc")
+                    .bannerUrl("/uploads/projects/banners/" + i + ".jpg")
+                    .status(Project.ProjectStatus.ACTIVE)
+                    .technologies(new ArrayList<>(List.of("Java", "Spring")))
+                    .objectives(new ArrayList<>(List.of("MVP")))
+                    .skillsNeeded(new ArrayList<>(List.of(Skill.builder().nombre("Java").nivel("Avanzado").build())))
+                    .memberIds(new ArrayList<>(List.of(member.getId())))
+                    .creatorId(i % 2 == 0 ? creator.getId() : null)
+                    .build();
+            Project saved = projectRepository.save(project);
+            creator.getCreatedProjectIds().add(saved.getId());
+            userRepository.save(creator);
+            projectInteractionRepository.save(ProjectInteraction.builder()
+                    .userId(member.getId())
+                    .projectId(saved.getId())
+                    .type(ProjectInteraction.InteractionType.LIKE)
+                    .interactedAt(LocalDateTime.now())
+                    .build());
+            ids.add(saved.getId());
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return ids;
+    }
+
+    private long countStatementsToAssemble(int count) {
+        List<Long> ids = createProjects(count);
+
+        statistics.clear();
+        List<Project> projects = projectRepository.findAllById(ids);
+        List<ProjectResponse> responses = assembler.toResponses(projects);
+        long statements = statistics.getPrepareStatementCount();
+
+        assertEquals(count, responses.size());
+        for (ProjectResponse response : responses) {
+            assertEquals(2, response.getMembers().size());
+            assertTrue(response.getMembers().get(0).isCreator());
+            assertEquals(response.getCreatorId(), response.getMembers().get(0).getId());
+            assertEquals(List.of("Java", "Spring"), response.getTechnologies());
+            assertEquals(List.of(response.getMembers().get(1).getId()), response.getLikeIds());
+        }
+        return statements;
+    }
+
+    @Test
+    @DisplayName("La cantidad de consultas no crece con la cantidad de proyectos")
+    void queryCountIsConstant() {
+        long small = countStatementsToAssemble(2);
+        long large = countStatementsToAssemble(20);
+
+        assertEquals(small, large);
+    }
+}
@@ -0,0 +1,297 @@
+package ar.edu.huergo.tombers.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import ar.edu.huergo.tombers.dto.project.ManageInterestedBatchRequest;
+import ar.edu.huergo.tombers.dto.project.ManageInterestedBatchResponse;
+import ar.edu.huergo.tombers.dto.project.ManageInterestedRequest;
+import ar.edu.huergo.tombers.dto.project.ProjectCardView;
+import ar.edu.huergo.tombers.entity.Project;
+import ar.edu.huergo.tombers.entity.ProjectInteraction;
+import ar.edu.huergo.tombers.entity.User;
+import ar.edu.huergo.tombers.repository.ProjectInteractionRepository;
+import ar.edu.huergo.tombers.repository.ProjectRepository;
+import ar.edu.huergo.tombers.repository.UserRepository;
+
+/**
+ * Pruebas de carga sobre un unico proyecto: miles de likes concurrentes mezclados con
+ * aceptaciones (cada una enviada dos veces) deben dejar los contadores y los integrantes exactos,
+ * y las aceptaciones concurrentes, individuales o en lote, nunca deben superar teamMax.
+ * Usa el contexto completo para que las transacciones, el bloqueo optimista y los reintentos
+ * sean los reales.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:concurrency;LOCK_TIMEOUT=10000",
+        "spring.jpa.show-sql=false",
+        "search.index.directory=${java.io.tmpdir}/tombers-concurrency-test/search-index",
+        // Todas las aceptaciones compiten por la misma fila; el test verifica el resultado, no el presupuesto
+        "projects.conflicts.max-attempts=20"
+})
+@DisplayName("Tests de Concurrencia - ProjectService")
+class ProjectServiceConcurrencyTest {
+
+    private static final int THREADS = 8;
+    private static final int EARLY_LIKERS = 2000;
+    private static final int ACCEPTED = 200;
+    private static final int LATE_LIKERS = 1000;
+
+    @Autowired private ProjectService projectService;
+    @Autowired private ProjectRepository projectRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private ProjectInteractionRepository projectInteractionRepository;
+    @Autowired private TransactionTemplate transactionTemplate;
+
+    private List<User> saveUsers(String prefix, int count) {
+        List<User> users = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            users.add(User.builder()
+                    .firstName("Nombre")
+                    .lastName("Apellido")
+                    .email(prefix + i + "@stress.com")
+                    .username(prefix + i)
+                    .password("pwd")
+                    .status(User.UserStatus.DISPONIBLE)
+                    .createdProjectIds(new ArrayList<>())
+                    .participatingProjectIds(new ArrayList<>())
+                    .build());
+        }
+        return userRepository.saveAll(users);
+    }
+
+    private Long saveProject(String title, int teamMax) {
+        Project project = Project.builder()
+                .title(title)
+                .description("desc")
+                .bannerUrl("/uploads/projects/banners/concurrido.jpg")
+                .status(Project.ProjectStatus.ACTIVE)
+                .progress(0)
+                .teamCurrent(0)
+                .teamMax(teamMax)
+                .memberIds(new ArrayList<>())
+                .technologies(new ArrayList<>())
+                .objectives(new ArrayList<>())
+                .skillsNeeded(new ArrayList<>())
+                .build();
+        project.setCreatedAt(LocalDate.now());
+        project.setUpdatedAt(LocalDate.now());
+        return projectRepository.save(project).getId();
+    }
+
+    private User saveOwner(String prefix, Long projectId) {
+        User owner = saveUsers(prefix, 1).get(0);
+        owner.getCreatedProjectIds().add(projectId);
+        return userRepository.save(owner);
+    }
+
+    private Callable<Void> as(String email, Runnable action) {
+        return () -> {
+            SecurityContextHolder.setContext(new SecurityContextImpl(
+                    new UsernamePasswordAuthenticationToken(email, null, List.of())));
+            try {
+                action.run();
+            } finally {
+                SecurityContextHolder.clearContext();
+            }
+            return null;
+        };
+    }
+
+    /**
+     * Ejecuta las tareas en paralelo y devuelve los errores que hayan lanzado.
+     */
+    private List<Throwable> runConcurrently(List<Callable<Void>> tasks) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        ConcurrentLinkedQueue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        try {
+            for (Future<Void> future : executor.invokeAll(tasks)) {
+                try {
+                    future.get();
+                } catch (ExecutionException ex) {
+                    failures.add(ex.getCause());
+                }
+            }
+        } finally {
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+        }
+        return new ArrayList<>(failures);
+    }
+
+    @Test
+    @DisplayName("Likes y aceptaciones concurrentes dejan contadores e integrantes exactos")
+    void concurrentLikesAndAcceptsKeepExactCounts() throws InterruptedException {
+        Long projectId = saveProject("Proyecto concurrido", ACCEPTED * 2);
+        User owner = saveOwner("owner", projectId);
+
+        List<User> earlyLikers = saveUsers("early", EARLY_LIKERS);
+        List<User> lateLikers = saveUsers("late", LATE_LIKERS);
+
+        // Fase 1: likes en paralelo sobre el mismo proyecto
+        List<Callable<Void>> likes = new ArrayList<>();
+        for (User liker : earlyLikers) {
+            likes.add(as(liker.getEmail(), () -> projectService.likeProject(projectId)));
+        }
+        List<Throwable> likeFailures = runConcurrently(likes);
+        assertTrue(likeFailures.isEmpty(), () -> "Fallaron likes: " + likeFailures);
+
+        // Fase 2: aceptaciones duplicadas mezcladas con likes nuevos
+        List<Long> acceptedIds = earlyLikers.subList(0, ACCEPTED).stream().map(User::getId).toList();
+        List<Callable<Void>> mixed = new ArrayList<>();
+        for (Long acceptedId : acceptedIds) {
+            ManageInterestedRequest accept = new ManageInterestedRequest(acceptedId, ManageInterestedRequest.Action.ACCEPT);
+            mixed.add(as(owner.getEmail(), () -> projectService.manageInterestedUser(projectId, accept)));
+            mixed.add(as(owner.getEmail(), () -> projectService.manageInterestedUser(projectId, accept)));
+        }
+        for (User liker : lateLikers) {
+            mixed.add(as(liker.getEmail(), () -> projectService.likeProject(projectId)));
+        }
+        Collections.shuffle(mixed, new Random(42));
+        List<Throwable> mixedFailures = runConcurrently(mixed);
+        assertTrue(mixedFailures.isEmpty(), () -> "Fallaron operaciones: " + mixedFailures);
+
+        long totalLikes = EARLY_LIKERS + LATE_LIKERS;
+        ProjectCardView card = projectRepository.findCardsByIds(List.of(projectId)).get(0);
+        assertEquals(totalLikes, card.likeCount());
+        assertEquals(totalLikes - ACCEPTED, card.interestedCount());
+        assertEquals(ACCEPTED, card.teamCurrent().intValue());
+        assertEquals(ACCEPTED, card.memberCount().intValue());
+        assertEquals(totalLikes, projectInteractionRepository
+                .findUserIdsByProjectIdAndType(projectId, ProjectInteraction.InteractionType.LIKE).size());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Project saved = projectRepository.findById(projectId).orElseThrow();
+            assertEquals(Set.copyOf(acceptedIds), Set.copyOf(saved.getMemberIds()));
+            for (User accepted : userRepository.findAllById(acceptedIds)) {
+                assertEquals(List.of(projectId), accepted.getParticipatingProjectIds());
+            }
+        });
+        assertTrue(projectRepository.findIdsWithStaleCounters(ProjectInteraction.InteractionType.LIKE,
+                ProjectInteraction.InteractionType.DISLIKE).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Aceptaciones concurrentes nunca superan teamMax")
+    void concurrentAcceptsNeverExceedTeamMax() throws InterruptedException {
+        int teamMax = 10;
+        int candidates = 60;
+        Long projectId = saveProject("Proyecto con cupo", teamMax);
+        User owner = saveOwner("seat-owner", projectId);
+        List<User> interested = saveUsers("seat", candidates);
+
+        List<Callable<Void>> likes = new ArrayList<>();
+        for (User liker : interested) {
+            likes.add(as(liker.getEmail(), () -> projectService.likeProject(projectId)));
+        }
+        assertTrue(runConcurrently(likes).isEmpty());
+
+        List<Callable<Void>> accepts = new ArrayList<>();
+        for (User candidate : interested) {
+            ManageInterestedRequest accept = new ManageInterestedRequest(candidate.getId(), ManageInterestedRequest.Action.ACCEPT);
+            accepts.add(as(owner.getEmail(), () -> projectService.manageInterestedUser(projectId, accept)));
+        }
+        List<Throwable> failures = runConcurrently(accepts);
+
+        // Los rechazos son siempre por cupo, nunca conflictos sin resolver
+        assertEquals(candidates - teamMax, failures.size());
+        assertTrue(failures.stream().allMatch(ProjectFullException.class::isInstance), () -> "Fallas: " + failures);
+        ProjectCardView card = projectRepository.findCardsByIds(List.of(projectId)).get(0);
+        assertEquals(teamMax, card.teamCurrent().intValue());
+        assertEquals(teamMax, card.memberCount().intValue());
+        assertEquals(candidates - teamMax, card.interestedCount());
+    }
+
+    @Test
+    @DisplayName("Lotes y aceptaciones individuales concurrentes comparten el mismo cupo")
+    void concurrentBatchesAndSingleAcceptsShareTeamMax() throws InterruptedException {
+        int teamMax = 12;
+        int batches = 4;
+        int batchSize = 10;
+        int singles = 20;
+        Long projectId = saveProject("Proyecto en lote", teamMax);
+        User owner = saveOwner("batch-owner", projectId);
+        List<User> interested = saveUsers("batch", batches * batchSize + singles);
+
+        List<Callable<Void>> likes = new ArrayList<>();
+        for (User liker : interested) {
+            likes.add(as(liker.getEmail(), () -> projectService.likeProject(projectId)));
+        }
+        assertTrue(runConcurrently(likes).isEmpty());
+
+        // Cada lote acepta a sus candidatos pares y rechaza a los impares
+        AtomicInteger batchAccepted = new AtomicInteger();
+        AtomicInteger singleAccepted = new AtomicInteger();
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int b = 0; b < batches; b++) {
+            List<ManageInterestedRequest> decisions = new ArrayList<>();
+            for (User candidate : interested.subList(b * batchSize, (b + 1) * batchSize)) {
+                decisions.add(new ManageInterestedRequest(candidate.getId(), decisions.size() % 2 == 0
+                        ? ManageInterestedRequest.Action.ACCEPT : ManageInterestedRequest.Action.REJECT));
+            }
+            ManageInterestedBatchRequest batch = ManageInterestedBatchRequest.builder().decisions(decisions).build();
+            tasks.add(as(owner.getEmail(), () -> {
+                ManageInterestedBatchResponse response = projectService.manageInterestedUsers(projectId, batch);
+                for (ManageInterestedBatchResponse.DecisionResult result : response.getResults()) {
+                    if (result.isSuccess() && result.getAction() == ManageInterestedRequest.Action.ACCEPT) {
+                        batchAccepted.incrementAndGet();
+                    }
+                }
+            }));
+        }
+        for (User candidate : interested.subList(batches * batchSize, interested.size())) {
+            ManageInterestedRequest accept = new ManageInterestedRequest(candidate.getId(), ManageInterestedRequest.Action.ACCEPT);
+            tasks.add(as(owner.getEmail(), () -> {
+                try {
+                    projectService.manageInterestedUser(projectId, accept);
+                    singleAccepted.incrementAndGet();
+                } catch (ProjectFullException ex) {
+                    // Sin cupo: es un resultado esperado
+                }
+            }));
+        }
+        Collections.shuffle(tasks, new Random(7));
+        List<Throwable> failures = runConcurrently(tasks);
+        assertTrue(failures.isEmpty(), () -> "Fallaron operaciones: " + failures);
+
+        int rejected = batches * batchSize / 2;
+        long totalLikes = interested.size() - rejected;
+        assertEquals(teamMax, batchAccepted.get() + singleAccepted.get());
+        ProjectCardView card = projectRepository.findCardsByIds(List.of(projectId)).get(0);
+        assertEquals(teamMax, card.teamCurrent().intValue());
+        assertEquals(teamMax, card.memberCount().intValue());
+        assertEquals(totalLikes, card.likeCount());
+        assertEquals(totalLikes - teamMax, card.interestedCount());
+        assertTrue(projectRepository.findIdsWithStaleCounters(ProjectInteraction.InteractionType.LIKE,
+                ProjectInteraction.InteractionType.DISLIKE).isEmpty());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Project saved = projectRepository.findById(projectId).orElseThrow();
+            for (User member : userRepository.findAllById(saved.getMemberIds())) {
+                assertEquals(List.of(projectId), member.getParticipatingProjectIds());
+            }
+        });
+    }
+}
@@ -1,33 +1,95 @@
 package ar.edu.huergo.tombers.service;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.LongPredicate;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import static org.mockito.Mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContext;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.context.ApplicationEventPublisher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.security.access.AccessDeniedException;
 
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import ar.edu.huergo.tombers.config.ProjectCacheProperties;
+import ar.edu.huergo.tombers.config.ProjectChangesProperties;
+import ar.edu.huergo.tombers.dto.project.InterestedUserSummary;
+import ar.edu.huergo.tombers.dto.project.InterestedUsersResponse;
+import ar.edu.huergo.tombers.dto.project.ManageInterestedBatchRequest;
+import ar.edu.huergo.tombers.dto.project.ManageInterestedBatchResponse;
+import ar.edu.huergo.tombers.dto.project.ManageInterestedRequest;
+import ar.edu.huergo.tombers.dto.project.ProjectCardView;
+import ar.edu.huergo.tombers.dto.project.ProjectChangesResponse;
 import ar.edu.huergo.tombers.dto.project.ProjectCreateRequest;
 import ar.edu.huergo.tombers.dto.project.ProjectResponse;
+import ar.edu.huergo.tombers.dto.project.SwipeBatchRequest;
 import ar.edu.huergo.tombers.entity.Project;
+import ar.edu.huergo.tombers.entity.ProjectInteraction;
+import ar.edu.huergo.tombers.entity.ProjectTombstone;
+import ar.edu.huergo.tombers.entity.Skill;
 import ar.edu.huergo.tombers.entity.User;
 import ar.edu.huergo.tombers.mapper.ProjectMapper;
+import ar.edu.huergo.tombers.repository.ProjectInteractionRepository;
 import ar.edu.huergo.tombers.repository.ProjectRepository;
+import ar.edu.huergo.tombers.repository.ProjectTombstoneRepository;
 import ar.edu.huergo.tombers.repository.UserRepository;
+import ar.edu.huergo.tombers.security.CurrentUserProvider;
+import ar.edu.huergo.tombers.service.cache.ProjectResponseCache;
+import ar.edu.huergo.tombers.service.event.DomainEvent;
+import ar.edu.huergo.tombers.service.event.MemberAcceptedEvent;
+import ar.edu.huergo.tombers.service.event.ProjectCreatedEvent;
+import ar.edu.huergo.tombers.service.event.ProjectLikedEvent;
+import ar.edu.huergo.tombers.service.event.ProjectRelationsChangedEvent;
+import ar.edu.huergo.tombers.service.event.ProjectSavedEvent;
+import ar.edu.huergo.tombers.service.event.ProjectUpdatedEvent;
+import ar.edu.huergo.tombers.service.facet.FeedExclusionCache;
+import ar.edu.huergo.tombers.service.facet.ProjectFacetFilter;
+import ar.edu.huergo.tombers.service.facet.ProjectFacetIndex;
+import ar.edu.huergo.tombers.service.facet.ProjectIdSet;
+import ar.edu.huergo.tombers.service.interested.InterestedBatchWriter;
+import ar.edu.huergo.tombers.service.interested.InterestedStreamRegistry;
+import ar.edu.huergo.tombers.service.outbox.OutboxWriter;
+import ar.edu.huergo.tombers.service.recommendation.ProjectRecommendationService;
+import ar.edu.huergo.tombers.service.recommendation.ScoredProject;
+import ar.edu.huergo.tombers.service.search.ProjectSearchHits;
+import ar.edu.huergo.tombers.service.search.ProjectSearchIndex;
 import ar.edu.huergo.tombers.service.storage.StoredFile;
 import ar.edu.huergo.tombers.service.storage.StorageDirectory;
 import ar.edu.huergo.tombers.service.storage.FileStorageService;
+import ar.edu.huergo.tombers.service.swipe.PendingSwipe;
+import ar.edu.huergo.tombers.service.swipe.SwipeAction;
+import ar.edu.huergo.tombers.service.swipe.SwipeBatchWriter;
+import ar.edu.huergo.tombers.service.swipe.SwipeWriteBuffer;
+import ar.edu.huergo.tombers.service.trending.TrendingScoreboard;
 import jakarta.persistence.EntityNotFoundException;
 
 @ExtendWith(MockitoExtension.class)
@@ -38,10 +100,35 @@ class ProjectServiceTest {
     @Mock private ProjectMapper projectMapper;
     @Mock private UserRepository userRepository;
     @Mock private FileStorageService fileStorageService;
-    @Mock private SecurityContext securityContext;
-    @Mock private Authentication authentication;
+    @Mock private ProjectResponseAssembler projectResponseAssembler;
+    @Mock private ProjectInteractionRepository projectInteractionRepository;
+    @Mock private SwipeWriteBuffer swipeWriteBuffer;
+    @Mock private SwipeBatchWriter swipeBatchWriter;
+    @Mock private ProjectRecommendationService projectRecommendationService;
+    @Mock private ProjectSearchIndex projectSearchIndex;
+    @Mock private ApplicationEventPublisher eventPublisher;
+    @Mock private ProjectTombstoneRepository projectTombstoneRepository;
+    @Spy private ProjectChangesProperties projectChangesProperties = new ProjectChangesProperties();
+    @Spy private ProjectResponseCache projectResponseCache =
+            new ProjectResponseCache(new ProjectCacheProperties(), new SimpleMeterRegistry());
+    @Mock private TrendingScoreboard trendingScoreboard;
+    @Mock private InterestedBatchWriter interestedBatchWriter;
+    @Mock private InterestedStreamRegistry interestedStreamRegistry;
+    @Mock private OutboxWriter outboxWriter;
+    @Spy private ProjectFacetIndex projectFacetIndex = new ProjectFacetIndex(mock(ProjectRepository.class));
+    @Mock private FeedExclusionCache feedExclusionCache;
+    @Mock private CurrentUserProvider currentUser;
     @InjectMocks private ProjectService projectService;
 
+    @BeforeEach
+    void loadExclusionsFromRepository() {
+        // La cache de exclusiones delega en el repositorio para que cada test stubee solo la consulta
+        lenient().when(feedExclusionCache.refresh(any())).thenAnswer(invocation ->
+                ProjectIdSet.of(projectRepository.findAllExcludedFeedIds(invocation.getArgument(0))));
+        lenient().when(feedExclusionCache.get(any())).thenAnswer(invocation ->
+                ProjectIdSet.of(projectRepository.findAllExcludedFeedIds(invocation.getArgument(0))));
+    }
+
     private Project project(Long id, String title) {
         Project p = Project.builder().id(id).title(title).description("desc").status(Project.ProjectStatus.ACTIVE).build();
         p.setBannerUrl("/uploads/projects/banners/sample.jpg");
@@ -51,24 +138,34 @@ class ProjectServiceTest {
     }
 
     @Test
-    @DisplayName("getAllProjects mapea lista")
+    @DisplayName("getAllProjects mapea lista y reutiliza las respuestas en cache")
     void getAllProjects() {
         var p = project(1L, "A");
-        when(projectRepository.findAll()).thenReturn(List.of(p));
-        when(projectMapper.toResponse(p)).thenReturn(ProjectResponse.builder().title("A").build());
+        when(projectRepository.findAllIds()).thenReturn(List.of(1L));
+        when(projectRepository.findAllById(List.of(1L))).thenReturn(List.of(p));
+        when(projectResponseAssembler.toResponses(List.of(p))).thenReturn(List.of(ProjectResponse.builder().id(1L).title("A").build()));
 
         var list = projectService.getAllProjects();
         assertEquals(1, list.size());
         assertEquals("A", list.get(0).getTitle());
+
+        assertEquals("A", projectService.getAllProjects().get(0).getTitle());
+        verify(projectResponseAssembler, times(1)).toResponses(anyList());
     }
 
     @Test
-    @DisplayName("getProjectById ok y not found")
+    @DisplayName("getProjectById ok, en cache hasta que el proyecto cambia, y not found")
     void getProjectById() {
         var p = project(2L, "B");
         when(projectRepository.findById(2L)).thenReturn(Optional.of(p));
-        when(projectMapper.toResponse(p)).thenReturn(ProjectResponse.builder().title("B").build());
+        when(projectResponseAssembler.toResponse(p)).thenReturn(ProjectResponse.builder().id(2L).title("B").build());
         assertEquals("B", projectService.getProjectById(2L).getTitle());
+        assertEquals("B", projectService.getProjectById(2L).getTitle());
+        verify(projectRepository, times(1)).findById(2L);
+
+        projectResponseCache.onProjectRelationsChanged(new ProjectRelationsChangedEvent(List.of(2L)));
+        projectService.getProjectById(2L);
+        verify(projectRepository, times(2)).findById(2L);
 
         when(projectRepository.findById(3L)).thenReturn(Optional.empty());
         assertThrows(EntityNotFoundException.class, () -> projectService.getProjectById(3L));
@@ -92,12 +189,9 @@ class ProjectServiceTest {
         when(fileStorageService.store(banner, StorageDirectory.PROJECT_BANNER)).thenReturn(storedFile);
         when(projectMapper.toEntity(req)).thenReturn(entity);
         when(projectRepository.save(entity)).thenReturn(entity);
-        when(projectMapper.toResponse(entity)).thenReturn(ProjectResponse.builder().title("X").build());
+        when(projectResponseAssembler.toResponse(entity)).thenReturn(ProjectResponse.builder().title("X").build());
 
-        SecurityContextHolder.setContext(securityContext);
-        when(securityContext.getAuthentication()).thenReturn(authentication);
-        when(authentication.getName()).thenReturn("test@email.com");
-        when(userRepository.findByEmail("test@email.com")).thenReturn(Optional.of(user));
+        when(currentUser.get()).thenReturn(user);
 
         var dto = projectService.createProject(req, banner);
         assertEquals("X", dto.getTitle());
@@ -106,6 +200,8 @@ class ProjectServiceTest {
         verify(projectRepository).save(entity);
         verify(userRepository).save(user);
         assertEquals(List.of(10L), user.getCreatedProjectIds());
+        verify(outboxWriter).append(argThat(event -> event instanceof ProjectCreatedEvent created
+                && created.projectId().equals(10L)));
     }
 
     @Test
@@ -122,12 +218,14 @@ class ProjectServiceTest {
         var req = new ProjectCreateRequest();
         when(projectRepository.findById(5L)).thenReturn(Optional.of(existing));
         when(projectRepository.save(existing)).thenReturn(existing);
-        when(projectMapper.toResponse(existing)).thenReturn(ProjectResponse.builder().title("Old").build());
+        when(projectResponseAssembler.toResponse(existing)).thenReturn(ProjectResponse.builder().title("Old").build());
 
         var dto = projectService.updateProject(5L, req, null);
         verify(projectMapper).updateEntity(existing, req);
         verify(projectRepository).save(existing);
         verify(fileStorageService, never()).store(any(MultipartFile.class), any(StorageDirectory.class));
+        verify(outboxWriter).append(argThat(event -> event instanceof ProjectUpdatedEvent updated
+                && updated.projectId().equals(5L)));
         assertEquals("Old", dto.getTitle());
 
         when(projectRepository.findById(6L)).thenReturn(Optional.empty());
@@ -146,7 +244,7 @@ class ProjectServiceTest {
 
         when(projectRepository.findById(7L)).thenReturn(Optional.of(existing));
         when(projectRepository.save(existing)).thenReturn(existing);
-        when(projectMapper.toResponse(existing)).thenReturn(ProjectResponse.builder().title("Old").bannerUrl(stored.publicUrl()).build());
+        when(projectResponseAssembler.toResponse(existing)).thenReturn(ProjectResponse.builder().title("Old").bannerUrl(stored.publicUrl()).build());
         when(banner.isEmpty()).thenReturn(false);
         when(fileStorageService.store(banner, StorageDirectory.PROJECT_BANNER)).thenReturn(stored);
 
@@ -168,10 +266,7 @@ class ProjectServiceTest {
         user.setCreatedProjectIds(List.of(1L)); // User owns project 1
         var project = project(1L, "Test");
 
-        SecurityContextHolder.setContext(securityContext);
-        when(securityContext.getAuthentication()).thenReturn(authentication);
-        when(authentication.getName()).thenReturn("test@email.com");
-        when(userRepository.findByEmail("test@email.com")).thenReturn(Optional.of(user));
+        when(currentUser.get()).thenReturn(user);
         when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
 
         projectService.deleteProject(1L);
@@ -181,4 +276,660 @@ class ProjectServiceTest {
         when(projectRepository.findById(2L)).thenReturn(Optional.empty());
         assertThrows(EntityNotFoundException.class, () -> projectService.deleteProject(2L));
     }
+
+    @Test
+    @DisplayName("deleteProject borra el banner recien despues del commit")
+    void deleteProjectRemovesBannerAfterCommit() {
+        var user = new User();
+        user.setEmail("test@email.com");
+        user.setCreatedProjectIds(List.of(1L));
+        var project = project(1L, "Test");
+        when(currentUser.get()).thenReturn(user);
+        when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            projectService.deleteProject(1L);
+            verify(projectTombstoneRepository).save(any(ProjectTombstone.class));
+            verify(fileStorageService, never()).deleteByPublicUrl(any());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(fileStorageService).deleteByPublicUrl(project.getBannerUrl());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("getFeed devuelve pagina fija y cursor para continuar")
+    void getFeedPaginates() {
+        var user = new User();
+        user.setId(9L);
+        user.setEmail("test@email.com");
+
+        when(currentUser.get()).thenReturn(user);
+
+        List<Long> firstPage = new ArrayList<>();
+        for (long id = 1; id <= ProjectService.FEED_PAGE_SIZE + 1; id++) {
+            firstPage.add(id);
+        }
+        when(projectRepository.findFeedPageIds(eq(9L), eq(0L), any(Pageable.class))).thenReturn(firstPage);
+        when(projectRepository.findAllById(anyList())).thenAnswer(invocation -> ((List<?>) invocation.getArgument(0)).stream()
+                .map(id -> project((Long) id, "P" + id))
+                .toList());
+        when(projectResponseAssembler.toResponses(anyList())).thenAnswer(invocation -> ((List<?>) invocation.getArgument(0)).stream()
+                .map(project -> ProjectResponse.builder().id(((Project) project).getId()).build())
+                .toList());
+
+        var feed = projectService.getFeed(null, "chronological", ProjectFacetFilter.NONE);
+        assertEquals(ProjectService.FEED_PAGE_SIZE, feed.getProjects().size());
+        assertTrue(feed.isHasMore());
+        assertNotNull(feed.getNextCursor());
+
+        long lastId = ProjectService.FEED_PAGE_SIZE;
+        when(projectRepository.findFeedPageIds(eq(9L), eq(lastId), any(Pageable.class))).thenReturn(List.of(30L));
+
+        var next = projectService.getFeed(feed.getNextCursor(), null, ProjectFacetFilter.NONE);
+        assertEquals(1, next.getProjects().size());
+        assertFalse(next.isHasMore());
+        assertNull(next.getNextCursor());
+        // Sin filtros ni ranking, la segunda pagina no vuelve a cargar las exclusiones ni a contar
+        assertTrue(next.getFacets().isEmpty());
+        verify(feedExclusionCache, times(1)).refresh(9L);
+        verify(feedExclusionCache, never()).get(any());
+
+        assertThrows(IllegalArgumentException.class, () -> projectService.getFeed("%%%", null, ProjectFacetFilter.NONE));
+        assertThrows(IllegalArgumentException.class, () -> projectService.getFeed(null, "popular", ProjectFacetFilter.NONE));
+    }
+
+    @Test
+    @DisplayName("getFeed por relevancia respeta el orden del ranking y continua desde el cursor")
+    @SuppressWarnings("unchecked")
+    void getFeedRankedKeepsRankingOrder() {
+        var user = authenticatedUser(9L);
+        when(projectRecommendationService.isReady()).thenReturn(true);
+
+        List<ScoredProject> ranked = new ArrayList<>();
+        for (long id = 1; id <= ProjectService.FEED_PAGE_SIZE + 1; id++) {
+            ranked.add(new ScoredProject(100 - id, 2.5f));
+        }
+        when(projectRecommendationService.recommend(eq(user), isNull(), eq(ProjectService.FEED_PAGE_SIZE + 1), any(LongPredicate.class)))
+                .thenReturn(ranked);
+        // La base devuelve los proyectos en otro orden
+        when(projectRepository.findAllById(anyList())).thenAnswer(invocation -> {
+            List<Long> ids = new ArrayList<>(invocation.getArgument(0));
+            ids.sort(null);
+            return ids.stream().map(id -> project(id, "P" + id)).toList();
+        });
+        when(projectResponseAssembler.toResponses(anyList())).thenAnswer(invocation -> ((List<Project>) invocation.getArgument(0)).stream()
+                .map(project -> ProjectResponse.builder().id(project.getId()).build())
+                .toList());
+
+        var feed = projectService.getFeed(null, null, ProjectFacetFilter.NONE);
+
+        assertEquals(ProjectService.FEED_PAGE_SIZE, feed.getProjects().size());
+        assertEquals(99L, feed.getProjects().get(0).getId());
+        assertEquals(80L, feed.getProjects().get(ProjectService.FEED_PAGE_SIZE - 1).getId());
+        assertTrue(feed.isHasMore());
+
+        when(projectRecommendationService.recommend(eq(user), eq(new ScoredProject(80L, 2.5f)),
+                eq(ProjectService.FEED_PAGE_SIZE + 1), any(LongPredicate.class)))
+                .thenReturn(List.of());
+        var next = projectService.getFeed(feed.getNextCursor(), "chronological", ProjectFacetFilter.NONE);
+        assertTrue(next.getProjects().isEmpty());
+        assertFalse(next.isHasMore());
+        // El ranking de la segunda pagina reutiliza las exclusiones de la primera
+        verify(feedExclusionCache).get(9L);
+    }
+
+    @Test
+    @DisplayName("searchProjects respeta el orden de relevancia y valida la pagina")
+    void searchProjectsKeepsRelevanceOrder() {
+        when(projectSearchIndex.search("java", 0, ProjectService.SEARCH_MAX_RESULTS)).thenReturn(new ProjectSearchHits(3, List.of(5L, 2L)));
+        when(projectRepository.findAllById(List.of(5L, 2L))).thenReturn(List.of(project(2L, "B"), project(5L, "E")));
+        when(projectResponseAssembler.toResponses(anyList())).thenAnswer(invocation -> ((List<?>) invocation.getArgument(0)).stream()
+                .map(project -> ProjectResponse.builder().id(((Project) project).getId()).build())
+                .toList());
+
+        var result = projectService.searchProjects(" java ", 0, 2, ProjectFacetFilter.NONE);
+
+        assertEquals(List.of(5L, 2L), result.getProjects().stream().map(ProjectResponse::getId).toList());
+        assertEquals(3, result.getTotal());
+        assertTrue(result.isHasMore());
+
+        assertThrows(IllegalArgumentException.class, () -> projectService.searchProjects(" ", 0, 10, ProjectFacetFilter.NONE));
+        assertThrows(IllegalArgumentException.class, () -> projectService.searchProjects("java", 0, 500, ProjectFacetFilter.NONE));
+        assertThrows(IllegalArgumentException.class, () -> projectService.searchProjects("java", 100, 50, ProjectFacetFilter.NONE));
+    }
+
+    @Test
+    @DisplayName("getFeedCards y searchProjectCards devuelven tarjetas sin armar respuestas completas")
+    void cardViewsSkipFullAssembly() {
+        authenticatedUser(9L);
+        when(projectRepository.findFeedPageIds(eq(9L), eq(0L), any(Pageable.class))).thenReturn(List.of(3L, 4L));
+        when(projectRepository.findCardsByIds(List.of(3L, 4L)))
+                .thenReturn(List.of(card(4L), card(3L)));
+
+        var feed = projectService.getFeedCards(null, "chronological", ProjectFacetFilter.NONE);
+        assertEquals(List.of(3L, 4L), feed.getProjects().stream().map(ProjectCardView::id).toList());
+        assertFalse(feed.isHasMore());
+
+        when(projectSearchIndex.search("java", 0, ProjectService.SEARCH_MAX_RESULTS)).thenReturn(new ProjectSearchHits(1, List.of(4L)));
+        when(projectRepository.findCardsByIds(List.of(4L)))
+                .thenReturn(List.of(card(4L)));
+
+        var result = projectService.searchProjectCards("java", 0, 10, ProjectFacetFilter.NONE);
+        assertEquals(List.of(4L), result.getProjects().stream().map(ProjectCardView::id).toList());
+
+        verify(projectRepository, never()).findAllById(anyList());
+        verifyNoInteractions(projectResponseAssembler);
+    }
+
+    private void indexFacets(Long id, String language, String... technologies) {
+        var project = project(id, "P" + id);
+        project.setLanguage(language);
+        project.setTechnologies(List.of(technologies));
+        projectFacetIndex.onProjectSaved(new ProjectSavedEvent(project));
+    }
+
+    @Test
+    @DisplayName("Los filtros por faceta recortan feed y busqueda y devuelven conteos por valor")
+    void facetFiltersNarrowFeedAndSearch() {
+        authenticatedUser(9L);
+        indexFacets(1L, "es", "Java");
+        indexFacets(2L, "en", "Java", "Python");
+        indexFacets(3L, "ES", "Python");
+        indexFacets(4L, "es", "java");
+        // El usuario ya evaluo el proyecto 4
+        when(projectRepository.findAllExcludedFeedIds(9L)).thenReturn(List.of(4L));
+        when(projectRepository.findCardsByIds(List.of(1L, 2L))).thenReturn(List.of(card(1L), card(2L)));
+
+        var feed = projectService.getFeedCards(null, "chronological",
+                ProjectFacetFilter.of(List.of("java"), null, null, null));
+
+        assertEquals(List.of(1L, 2L), feed.getProjects().stream().map(ProjectCardView::id).toList());
+        assertFalse(feed.isHasMore());
+        // La faceta filtrada cuenta sin su propio filtro; las demas, con el
+        assertEquals(Map.of("java", 2L, "python", 2L), feed.getFacets().get("technology"));
+        assertEquals(Map.of("es", 1L, "en", 1L), feed.getFacets().get("language"));
+        assertEquals(Map.of("active", 2L), feed.getFacets().get("status"));
+        verify(projectRepository, never()).findFeedPageIds(any(), any(), any());
+
+        when(projectSearchIndex.search("java", 0, ProjectService.SEARCH_MAX_RESULTS))
+                .thenReturn(new ProjectSearchHits(4, List.of(3L, 1L, 2L, 4L)));
+        when(projectRepository.findCardsByIds(List.of(3L, 1L))).thenReturn(List.of(card(1L), card(3L)));
+
+        var result = projectService.searchProjectCards("java", 0, 2,
+                ProjectFacetFilter.of(null, List.of("es"), null, null));
+
+        assertEquals(List.of(3L, 1L), result.getProjects().stream().map(ProjectCardView::id).toList());
+        assertEquals(3, result.getTotal());
+        assertTrue(result.isHasMore());
+        assertEquals(Map.of("es", 3L, "en", 1L), result.getFacets().get("language"));
+        assertEquals(Map.of("java", 2L, "python", 1L), result.getFacets().get("technology"));
+    }
+
+    @Test
+    @DisplayName("Un ID de proyecto fuera del rango de 32 bits no rompe el feed filtrado")
+    void facetFeedAcceptsIdsBeyondIntRange() {
+        authenticatedUser(9L);
+        long big = Integer.MAX_VALUE + 1L;
+        indexFacets(1L, "es", "Java");
+        indexFacets(big, "es", "Java");
+        when(projectRepository.findAllExcludedFeedIds(9L)).thenReturn(List.of());
+        when(projectRepository.findCardsByIds(List.of(1L, big))).thenReturn(List.of(card(big), card(1L)));
+
+        var feed = projectService.getFeedCards(null, "chronological",
+                ProjectFacetFilter.of(List.of("java"), null, null, null));
+
+        assertEquals(List.of(1L, big), feed.getProjects().stream().map(ProjectCardView::id).toList());
+        assertEquals(Map.of("java", 2L), feed.getFacets().get("technology"));
+    }
+
+    private ProjectCardView card(Long id) {
+        return new ProjectCardView(id, "P" + id, "desc", "/b.jpg", Project.ProjectStatus.ACTIVE, 0, 1, 4,
+                null, null, null, 1L, LocalDate.now(), 2L, 0L, 1L, 1);
+    }
+
+    private User authenticatedUser(Long id) {
+        var user = new User();
+        user.setId(id);
+        user.setEmail("test@email.com");
+        when(currentUser.get()).thenReturn(user);
+        return user;
+    }
+
+    @Test
+    @DisplayName("likeProject convierte un dislike existente en like sin duplicar filas")
+    void likeProjectReplacesDislike() {
+        authenticatedUser(4L);
+        var existing = ProjectInteraction.builder()
+                .id(1L).userId(4L).projectId(8L).type(ProjectInteraction.InteractionType.DISLIKE).build();
+        when(projectRepository.existsById(8L)).thenReturn(true);
+        when(projectInteractionRepository.findByUserIdAndProjectId(4L, 8L)).thenReturn(Optional.of(existing));
+
+        projectService.likeProject(8L);
+
+        assertEquals(ProjectInteraction.InteractionType.LIKE, existing.getType());
+        verify(projectInteractionRepository).save(existing);
+        verify(userRepository).incrementVersion(4L);
+        verify(projectRepository).applyInteractionDelta(eq(8L), eq(4L), eq(1), eq(-1), any(Instant.class));
+        // La tendencia y los avisos de interesados se actualizan al entregar el evento del outbox
+        verify(outboxWriter).append(argThat(event -> event instanceof ProjectLikedEvent liked
+                && liked.projectId().equals(8L) && liked.userId().equals(4L)));
+        verifyNoInteractions(trendingScoreboard);
+        verify(projectRepository, never()).findById(any());
+        verify(projectRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("getTrendingProjectCards respeta el orden del ranking y omite proyectos eliminados")
+    void trendingCardsFollowRanking() {
+        when(trendingScoreboard.capacity()).thenReturn(100);
+        when(trendingScoreboard.top(2)).thenReturn(List.of(
+                new TrendingScoreboard.TrendingProject(5L, 2.0),
+                new TrendingScoreboard.TrendingProject(7L, 1.5)));
+        // El proyecto 7 ya no existe
+        when(projectRepository.findCardsByIds(List.of(5L, 7L))).thenReturn(List.of(card(5L)));
+
+        var trending = projectService.getTrendingProjectCards(2);
+
+        assertEquals(1, trending.getProjects().size());
+        assertEquals(5L, trending.getProjects().get(0).getProject().id());
+        assertEquals(2.0, trending.getProjects().get(0).getScore());
+        assertThrows(IllegalArgumentException.class, () -> projectService.getTrendingProjectCards(0));
+        assertThrows(IllegalArgumentException.class, () -> projectService.getTrendingProjectCards(101));
+    }
+
+    @Test
+    @DisplayName("manageInterestedUser ajusta los contadores al aceptar y al rechazar")
+    void manageInterestedUserAdjustsCounters() {
+        var owner = authenticatedUser(1L);
+        owner.setCreatedProjectIds(List.of(8L));
+        owner.setRoles(Set.of());
+        var project = project(8L, "Equipo");
+        project.setMemberIds(new ArrayList<>());
+        project.setTeamCurrent(1);
+        var interested = new User();
+        interested.setId(5L);
+        when(projectRepository.existsById(8L)).thenReturn(true);
+        when(projectRepository.findById(8L)).thenReturn(Optional.of(project));
+        when(userRepository.findById(5L)).thenReturn(Optional.of(interested));
+        when(projectInteractionRepository.existsByUserIdAndProjectIdAndType(5L, 8L, ProjectInteraction.InteractionType.LIKE))
+                .thenReturn(true);
+        // La segunda reserva no actualiza filas porque ya es integrante
+        when(projectRepository.reserveSeat(eq(8L), eq(5L), any(Instant.class))).thenReturn(1, 0);
+
+        projectService.manageInterestedUser(8L, new ManageInterestedRequest(5L, ManageInterestedRequest.Action.ACCEPT));
+
+        assertEquals(List.of(5L), project.getMemberIds());
+        verify(projectRepository).saveAndFlush(project);
+        verify(projectRepository).adjustInterestedCount(8L, -1);
+
+        // Aceptarlo de nuevo no lo descuenta ni lo agrega otra vez
+        projectService.manageInterestedUser(8L, new ManageInterestedRequest(5L, ManageInterestedRequest.Action.ACCEPT));
+        verify(projectRepository).adjustInterestedCount(8L, -1);
+        verify(projectRepository).saveAndFlush(project);
+        verify(outboxWriter).append(argThat(event -> event instanceof MemberAcceptedEvent accepted
+                && accepted.projectId().equals(8L) && accepted.userId().equals(5L)));
+        assertEquals(List.of(5L), project.getMemberIds());
+        assertEquals(List.of(8L), interested.getParticipatingProjectIds());
+
+        projectService.manageInterestedUser(8L, new ManageInterestedRequest(5L, ManageInterestedRequest.Action.REJECT));
+        verify(projectInteractionRepository).deleteByUserIdAndProjectIdAndType(5L, 8L, ProjectInteraction.InteractionType.LIKE);
+        verify(projectRepository).applyInteractionDelta(eq(8L), eq(5L), eq(-1), eq(0), any(Instant.class));
+    }
+
+    @Test
+    @DisplayName("manageInterestedUser rechaza aceptar cuando el equipo esta completo")
+    void manageInterestedUserRejectsFullProject() {
+        var owner = authenticatedUser(1L);
+        owner.setCreatedProjectIds(List.of(8L));
+        owner.setRoles(Set.of());
+        var project = project(8L, "Equipo");
+        project.setMemberIds(new ArrayList<>(List.of(2L, 3L)));
+        project.setTeamCurrent(2);
+        project.setTeamMax(2);
+        var interested = new User();
+        interested.setId(5L);
+        when(projectRepository.existsById(8L)).thenReturn(true);
+        when(projectRepository.findById(8L)).thenReturn(Optional.of(project));
+        when(userRepository.findById(5L)).thenReturn(Optional.of(interested));
+        when(projectInteractionRepository.existsByUserIdAndProjectIdAndType(5L, 8L, ProjectInteraction.InteractionType.LIKE))
+                .thenReturn(true);
+        when(projectRepository.reserveSeat(eq(8L), eq(5L), any(Instant.class))).thenReturn(0);
+
+        assertThrows(ProjectFullException.class, () -> projectService.manageInterestedUser(8L,
+                new ManageInterestedRequest(5L, ManageInterestedRequest.Action.ACCEPT)));
+
+        assertEquals(List.of(2L, 3L), project.getMemberIds());
+        assertNull(interested.getParticipatingProjectIds());
+        verify(projectRepository, never()).saveAndFlush(any());
+        verify(userRepository, never()).saveAndFlush(any());
+        verify(projectRepository, never()).adjustInterestedCount(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("manageInterestedUsers aplica cada decision por separado y respeta el cupo")
+    @SuppressWarnings("unchecked")
+    void manageInterestedUsersReportsEachDecision() {
+        var owner = authenticatedUser(1L);
+        owner.setCreatedProjectIds(List.of(8L));
+        owner.setRoles(Set.of());
+        var project = project(8L, "Equipo");
+        project.setMemberIds(new ArrayList<>(List.of(2L)));
+        project.setTeamCurrent(1);
+        project.setTeamMax(3);
+        when(projectRepository.existsById(8L)).thenReturn(true);
+        when(userRepository.findExistingIds(any())).thenReturn(Set.of(2L, 5L, 6L, 7L, 9L, 11L));
+        when(projectInteractionRepository.findUserIdsByProjectIdAndTypeAndUserIdIn(eq(8L),
+                eq(ProjectInteraction.InteractionType.LIKE), any()))
+                .thenReturn(Set.of(2L, 5L, 6L, 7L, 9L));
+        when(projectRepository.findByIdForUpdate(8L)).thenReturn(Optional.of(project));
+
+        var accept = ManageInterestedRequest.Action.ACCEPT;
+        var reject = ManageInterestedRequest.Action.REJECT;
+        var request = ManageInterestedBatchRequest.builder()
+                .decisions(List.of(
+                        new ManageInterestedRequest(5L, accept),
+                        new ManageInterestedRequest(2L, accept),
+                        new ManageInterestedRequest(6L, reject),
+                        new ManageInterestedRequest(7L, accept),
+                        new ManageInterestedRequest(9L, accept),
+                        new ManageInterestedRequest(11L, accept),
+                        new ManageInterestedRequest(99L, reject)))
+                .build();
+
+        ManageInterestedBatchResponse response = projectService.manageInterestedUsers(8L, request);
+
+        assertEquals(4, response.getApplied());
+        assertEquals(3, response.getFailed());
+        assertEquals(List.of(true, true, true, true, false, false, false),
+                response.getResults().stream().map(ManageInterestedBatchResponse.DecisionResult::isSuccess).toList());
+        assertEquals(List.of(5L, 2L, 6L, 7L, 9L, 11L, 99L),
+                response.getResults().stream().map(ManageInterestedBatchResponse.DecisionResult::getUserId).toList());
+        assertTrue(response.getResults().get(4).getError().contains("completo"));
+        assertEquals(List.of(2L, 5L, 7L), project.getMemberIds());
+        assertEquals(3, project.getTeamCurrent().intValue());
+        verify(projectRepository).saveAndFlush(project);
+        // Dos integrantes nuevos y un rechazo dejan de ser interesados
+        verify(interestedBatchWriter).write(8L, Set.of(5L, 2L, 7L), Set.of(6L), -3);
+        verify(eventPublisher).publishEvent(any(ProjectRelationsChangedEvent.class));
+        ArgumentCaptor<List<DomainEvent>> accepted = ArgumentCaptor.forClass(List.class);
+        verify(outboxWriter).appendAll(accepted.capture());
+        assertEquals(List.of(5L, 7L), accepted.getValue().stream()
+                .map(event -> ((MemberAcceptedEvent) event).userId())
+                .toList());
+    }
+
+    @Test
+    @DisplayName("manageInterestedUsers sin decisiones validas no escribe nada")
+    void manageInterestedUsersWithoutValidDecisionsWritesNothing() {
+        var owner = authenticatedUser(1L);
+        owner.setCreatedProjectIds(List.of(8L));
+        owner.setRoles(Set.of());
+        var project = project(8L, "Equipo");
+        project.setTeamMax(1);
+        when(projectRepository.existsById(8L)).thenReturn(true);
+        when(userRepository.findExistingIds(any())).thenReturn(Set.of());
+        when(projectRepository.findByIdForUpdate(8L)).thenReturn(Optional.of(project));
+
+        var request = ManageInterestedBatchRequest.builder()
+                .decisions(List.of(new ManageInterestedRequest(5L, ManageInterestedRequest.Action.ACCEPT)))
+                .build();
+        ManageInterestedBatchResponse response = projectService.manageInterestedUsers(8L, request);
+
+        assertEquals(0, response.getApplied());
+        assertEquals(1, response.getFailed());
+        verify(projectInteractionRepository, never()).findUserIdsByProjectIdAndTypeAndUserIdIn(any(), any(), any());
+        verify(projectRepository, never()).saveAndFlush(any());
+        verifyNoInteractions(interestedBatchWriter, eventPublisher, outboxWriter);
+    }
+
+    private ProjectInteractionRepository.InterestedUserRef interestedRef(Long id, long skillMatches, double rating) {
+        Map<String, Object> values = new HashMap<>();
+        values.put("id", id);
+        values.put("firstName", "Usuario " + id);
+        values.put("status", User.UserStatus.DISPONIBLE);
+        values.put("appliedAt", LocalDateTime.of(2026, 10, 1, 10, 0).plusMinutes(id));
+        values.put("skillMatches", skillMatches);
+        values.put("averageRating", rating);
+        return new SpelAwareProxyProjectionFactory()
+                .createProjection(ProjectInteractionRepository.InterestedUserRef.class, values);
+    }
+
+    @Test
+    @DisplayName("getInterestedUsers pagina por cursor y el cursor conserva el orden elegido")
+    void getInterestedUsersPagesByCursor() {
+        var owner = authenticatedUser(1L);
+        owner.setCreatedProjectIds(List.of(8L));
+        owner.setRoles(Set.of());
+        when(projectRepository.findCardsByIds(List.of(8L))).thenReturn(List.of(card(8L)));
+        when(projectInteractionRepository.findInterestedBySkillMatches(8L, ProjectInteraction.InteractionType.LIKE,
+                Long.MAX_VALUE, 0L, PageRequest.of(0, 3)))
+                .thenReturn(List.of(interestedRef(5L, 3, 4.5), interestedRef(6L, 1, 0.0), interestedRef(7L, 1, 2.0)));
+        UserRepository.UserSkillRef skill = new UserRepository.UserSkillRef() {
+            @Override
+            public Long getUserId() {
+                return 5L;
+            }
+
+            @Override
+            public String getNombre() {
+                return "Java";
+            }
+
+            @Override
+            public String getNivel() {
+                return "Avanzado";
+            }
+        };
+        when(userRepository.findSkillRefsByUserIds(List.of(5L, 6L))).thenReturn(List.of(skill));
+        when(userRepository.findInterestRefsByUserIds(List.of(5L, 6L))).thenReturn(List.of());
+
+        InterestedUsersResponse first = projectService.getInterestedUsers(8L, null, "skills", 2);
+
+        assertEquals("skills", first.getSort());
+        assertTrue(first.isHasMore());
+        assertNotNull(first.getNextCursor());
+        assertEquals(1, first.getTotalInterested());
+        assertEquals(List.of(5L, 6L), first.getInterestedUsers().stream().map(InterestedUserSummary::getId).toList());
+        InterestedUserSummary top = first.getInterestedUsers().get(0);
+        assertEquals(List.of(Skill.builder().nombre("Java").nivel("Avanzado").build()), top.getSkills());
+        assertEquals(3L, top.getSkillMatches());
+        assertEquals(4.5, top.getAverageRating());
+        assertEquals("DISPONIBLE", top.getStatus());
+        // Sin calificaciones el promedio se informa como null, no como 0
+        assertNull(first.getInterestedUsers().get(1).getAverageRating());
+
+        // La segunda pagina sigue ordenando por habilidades aunque el request pida otro orden
+        when(projectInteractionRepository.findInterestedBySkillMatches(8L, ProjectInteraction.InteractionType.LIKE,
+                1L, 6L, PageRequest.of(0, 3)))
+                .thenReturn(List.of(interestedRef(7L, 1, 2.0)));
+        when(userRepository.findSkillRefsByUserIds(List.of(7L))).thenReturn(List.of());
+        when(userRepository.findInterestRefsByUserIds(List.of(7L))).thenReturn(List.of());
+
+        InterestedUsersResponse second = projectService.getInterestedUsers(8L, first.getNextCursor(), "rating", 2);
+
+        assertEquals("skills", second.getSort());
+        assertFalse(second.isHasMore());
+        assertNull(second.getNextCursor());
+        assertEquals(List.of(7L), second.getInterestedUsers().stream().map(InterestedUserSummary::getId).toList());
+        verify(projectRepository, never()).findById(any());
+        verify(userRepository, never()).findAllById(any());
+    }
+
+    @Test
+    @DisplayName("getInterestedUsers rechaza cursores, ordenes y tamanos invalidos")
+    void getInterestedUsersRejectsInvalidParameters() {
+        var owner = authenticatedUser(1L);
+        owner.setCreatedProjectIds(List.of(8L));
+        owner.setRoles(Set.of());
+        when(projectRepository.findCardsByIds(List.of(8L))).thenReturn(List.of(card(8L)));
+
+        assertThrows(IllegalArgumentException.class, () -> projectService.getInterestedUsers(8L, null, null, 0));
+        assertThrows(IllegalArgumentException.class, () -> projectService.getInterestedUsers(8L, null, null,
+                ProjectService.INTERESTED_MAX_PAGE_SIZE + 1));
+        assertThrows(IllegalArgumentException.class, () -> projectService.getInterestedUsers(8L, null, "popular", 10));
+        assertThrows(IllegalArgumentException.class, () -> projectService.getInterestedUsers(8L, "no-es-base64!", null, 10));
+        String badCursor = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("APPLIED:ayer:5".getBytes(StandardCharsets.UTF_8));
+        assertThrows(IllegalArgumentException.class, () -> projectService.getInterestedUsers(8L, badCursor, null, 10));
+        verifyNoInteractions(projectInteractionRepository);
+    }
+
+    @Test
+    @DisplayName("openInterestedStream solo abre el stream para el creador o admin")
+    void openInterestedStreamChecksOwner() {
+        var user = authenticatedUser(1L);
+        user.setCreatedProjectIds(List.of(3L));
+        user.setRoles(Set.of());
+        when(projectRepository.existsById(8L)).thenReturn(true);
+
+        assertThrows(AccessDeniedException.class, () -> projectService.openInterestedStream(8L));
+        verifyNoInteractions(interestedStreamRegistry);
+
+        user.setCreatedProjectIds(List.of(3L, 8L));
+        SseEmitter emitter = new SseEmitter();
+        when(interestedStreamRegistry.open(8L)).thenReturn(emitter);
+
+        assertEquals(emitter, projectService.openInterestedStream(8L));
+    }
+
+    @Test
+    @DisplayName("getProjectETag combina la version del proyecto y la de sus participantes")
+    void getProjectETagUsesVersions() {
+        when(projectRepository.findVersionById(3L)).thenReturn(Optional.of(7L));
+        when(userRepository.sumParticipantVersions(3L)).thenReturn(12L);
+
+        assertEquals("\"p3-7-12\"", projectService.getProjectETag(3L));
+        verify(projectRepository, never()).findById(any());
+
+        when(projectRepository.findVersionById(4L)).thenReturn(Optional.empty());
+        assertThrows(EntityNotFoundException.class, () -> projectService.getProjectETag(4L));
+    }
+
+    @Test
+    @DisplayName("Con un ETag nuevo no se entrega la respuesta vieja que sigue en cache")
+    void getProjectByIdMatchesETag() {
+        var p = project(3L, "Viejo");
+        when(projectRepository.findById(3L)).thenReturn(Optional.of(p));
+        when(projectResponseAssembler.toResponse(p)).thenAnswer(invocation ->
+                ProjectResponse.builder().id(3L).title(p.getTitle()).build());
+        when(projectRepository.findVersionById(3L)).thenReturn(Optional.of(7L));
+        when(userRepository.sumParticipantVersions(3L)).thenReturn(12L);
+
+        String etag = projectService.getProjectETag(3L);
+        assertEquals("Viejo", projectService.getProjectById(3L, etag).getTitle());
+
+        // Se confirma un cambio; la cache todavia no recibio la invalidacion posterior al commit
+        p.setTitle("Nuevo");
+        when(projectRepository.findVersionById(3L)).thenReturn(Optional.of(8L));
+        String newEtag = projectService.getProjectETag(3L);
+
+        assertEquals("\"p3-8-12\"", newEtag);
+        assertEquals("Nuevo", projectService.getProjectById(3L, newEtag).getTitle());
+        assertEquals("Nuevo", projectService.getProjectById(3L, newEtag).getTitle());
+        verify(projectRepository, times(2)).findById(3L);
+    }
+
+    @Test
+    @DisplayName("getProjectChanges mezcla modificaciones y bajas en orden y continua desde el token")
+    void getProjectChangesMergesUpsertsAndDeletes() {
+        Instant base = Instant.parse("2026-10-01T10:00:00Z");
+        when(projectRepository.findChangedSince(eq(Instant.EPOCH), eq(0L), any(Instant.class), any(Pageable.class)))
+                .thenReturn(List.of(changeRef(4L, base), changeRef(2L, base.plusMillis(5)), changeRef(6L, base.plusMillis(9))));
+        when(projectTombstoneRepository.findDeletedSince(eq(Instant.EPOCH), eq(0L), any(Instant.class), any(Pageable.class)))
+                .thenReturn(List.of(new ProjectTombstone(3L, base.plusMillis(5))));
+        // El proyecto 6 se elimino entre ambas consultas
+        when(projectRepository.findCardsByIds(List.of(4L, 2L, 6L)))
+                .thenReturn(List.of(card(2L), card(4L)));
+
+        var changes = projectService.getProjectChangeCards(null);
+
+        assertEquals(List.of(4L, 2L, 3L), changes.getChanges().stream().map(change -> change.getProjectId()).toList());
+        assertEquals(ProjectChangesResponse.ChangeType.DELETE, changes.getChanges().get(2).getType());
+        assertNull(changes.getChanges().get(2).getProject());
+        assertEquals(2L, changes.getChanges().get(1).getProject().id());
+        assertFalse(changes.isHasMore());
+        assertFalse(changes.isResyncRequired());
+
+        // Sin mas cambios, el token avanza hasta el limite de la consulta
+        when(projectRepository.findChangedSince(argThat(since -> since.isAfter(base)), eq(Long.MAX_VALUE),
+                any(Instant.class), any(Pageable.class))).thenReturn(List.of());
+        when(projectTombstoneRepository.findDeletedSince(argThat(since -> since.isAfter(base)), eq(Long.MAX_VALUE),
+                any(Instant.class), any(Pageable.class))).thenReturn(List.of());
+        var next = projectService.getProjectChangeCards(changes.getNextToken());
+        assertTrue(next.getChanges().isEmpty());
+
+        assertThrows(IllegalArgumentException.class, () -> projectService.getProjectChanges("%%%"));
+        String expired = Base64.getUrlEncoder().withoutPadding().encodeToString("1000:5".getBytes(StandardCharsets.UTF_8));
+        assertTrue(projectService.getProjectChanges(expired).isResyncRequired());
+    }
+
+    private ProjectRepository.ProjectChangeRef changeRef(Long id, Instant changedAt) {
+        return new ProjectRepository.ProjectChangeRef() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Instant getChangedAt() {
+                return changedAt;
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("likeProject rechaza like repetido y unlikeProject falla si no habia like")
+    void likeAndUnlikeValidations() {
+        authenticatedUser(4L);
+        when(projectRepository.existsById(8L)).thenReturn(true);
+        when(projectInteractionRepository.findByUserIdAndProjectId(4L, 8L)).thenReturn(Optional.of(
+                ProjectInteraction.builder().userId(4L).projectId(8L).type(ProjectInteraction.InteractionType.LIKE).build()));
+
+        assertThrows(IllegalArgumentException.class, () -> projectService.likeProject(8L));
+        assertThrows(IllegalArgumentException.class, () -> projectService.undislikeProject(8L));
+        verify(projectInteractionRepository, never()).deleteByUserIdAndProjectIdAndType(anyLong(), anyLong(), any());
+
+        when(projectRepository.existsById(9L)).thenReturn(false);
+        assertThrows(EntityNotFoundException.class, () -> projectService.dislikeProject(9L));
+    }
+
+    @Test
+    @DisplayName("applySwipes aplica las decisiones en orden y escribe solo el estado final")
+    @SuppressWarnings("unchecked")
+    void applySwipesFollowsSingleSwipeRules() {
+        authenticatedUser(4L);
+        when(projectRepository.findExistingIds(anyCollection())).thenReturn(Set.of(1L, 2L));
+        when(projectInteractionRepository.findByUserIdAndProjectIdIn(eq(4L), anyCollection())).thenReturn(List.of(
+                ProjectInteraction.builder().userId(4L).projectId(1L).type(ProjectInteraction.InteractionType.LIKE).build()));
+
+        var request = SwipeBatchRequest.builder().swipes(List.of(
+                new SwipeBatchRequest.SwipeDecision(1L, SwipeAction.DISLIKE),
+                new SwipeBatchRequest.SwipeDecision(2L, SwipeAction.LIKE),
+                new SwipeBatchRequest.SwipeDecision(2L, SwipeAction.LIKE),
+                new SwipeBatchRequest.SwipeDecision(3L, SwipeAction.LIKE))).build();
+
+        var response = projectService.applySwipes(request);
+
+        assertEquals(2, response.getApplied());
+        assertEquals(2, response.getRejected());
+        assertTrue(response.getResults().get(0).isSuccess());
+        assertEquals("El usuario ya le dio like a este proyecto", response.getResults().get(2).getError());
+        assertEquals("Proyecto no encontrado", response.getResults().get(3).getError());
+
+        ArgumentCaptor<List<PendingSwipe>> captor = ArgumentCaptor.forClass(List.class);
+        verify(swipeBatchWriter).write(captor.capture());
+        List<PendingSwipe> writes = captor.getValue();
+        assertEquals(2, writes.size());
+        assertEquals(ProjectInteraction.InteractionType.LIKE, writes.get(0).baseline());
+        assertEquals(ProjectInteraction.InteractionType.DISLIKE, writes.get(0).target());
+        assertNull(writes.get(1).baseline());
+        assertEquals(ProjectInteraction.InteractionType.LIKE, writes.get(1).target());
+        // El usuario autenticado se resuelve una sola vez para todo el lote
+        verify(currentUser, times(1)).get();
+        verify(userRepository, never()).findByEmail(any());
+    }
 }
@@ -14,6 +14,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.web.multipart.MultipartFile;
 
 import ar.edu.huergo.tombers.dto.user.UserResponse;
@@ -21,8 +22,13 @@ import ar.edu.huergo.tombers.dto.user.UserUpdateRequest;
 import ar.edu.huergo.tombers.entity.Rol;
 import ar.edu.huergo.tombers.entity.User;
 import ar.edu.huergo.tombers.mapper.UserMapper;
+import ar.edu.huergo.tombers.repository.ProjectInteractionRepository;
+import ar.edu.huergo.tombers.repository.ProjectRepository;
 import ar.edu.huergo.tombers.repository.UserRepository;
 import ar.edu.huergo.tombers.repository.security.RolRepository;
+import ar.edu.huergo.tombers.security.CurrentUserProvider;
+import ar.edu.huergo.tombers.security.UserDetailsCache;
+import ar.edu.huergo.tombers.service.event.ProjectRelationsChangedEvent;
 import ar.edu.huergo.tombers.service.storage.FileStorageService;
 import ar.edu.huergo.tombers.service.storage.StorageDirectory;
 import ar.edu.huergo.tombers.service.storage.StoredFile;
@@ -37,6 +43,11 @@ class UserServiceTest {
     @Mock private RolRepository rolRepository;
     @Mock private FileStorageService fileStorageService;
     @Mock private UserRatingService userRatingService;
+    @Mock private ProjectInteractionRepository projectInteractionRepository;
+    @Mock private ProjectRepository projectRepository;
+    @Mock private ApplicationEventPublisher eventPublisher;
+    @Mock private CurrentUserProvider currentUser;
+    @Mock private UserDetailsCache userDetailsCache;
     @InjectMocks private UserService userService;
 
     private User sampleUser() {
@@ -54,37 +65,55 @@ class UserServiceTest {
     }
 
     @Test
-    @DisplayName("getUserProfile devuelve DTO cuando existe usuario")
+    @DisplayName("getUserProfile devuelve DTO del usuario autenticado sin volver a buscarlo")
     void getUserProfileOk() {
         var user = sampleUser();
-        when(userRepository.findByEmail("ana@test.com")).thenReturn(Optional.of(user));
+        when(currentUser.get()).thenReturn(user);
         when(userMapper.toDto(user)).thenReturn(UserResponse.builder().email("ana@test.com").username("anita").build());
 
-        var dto = userService.getUserProfile("ana@test.com");
+        var dto = userService.getUserProfile();
         assertEquals("ana@test.com", dto.getEmail());
-        verify(userRepository).findByEmail("ana@test.com");
+        verify(userRepository, never()).findByEmail(any());
     }
 
     @Test
     @DisplayName("getUserProfile lanza EntityNotFound si no existe")
     void getUserProfileNotFound() {
-        when(userRepository.findByEmail("x@x.com")).thenReturn(Optional.empty());
-        assertThrows(EntityNotFoundException.class, () -> userService.getUserProfile("x@x.com"));
+        when(currentUser.get()).thenThrow(new EntityNotFoundException("Usuario no encontrado"));
+        assertThrows(EntityNotFoundException.class, () -> userService.getUserProfile());
+    }
+
+    @Test
+    @DisplayName("getUserProfileETag usa ID y version sin cargar el usuario")
+    void getUserProfileETag() {
+        var ref = mock(UserRepository.UserVersionRef.class);
+        when(ref.getId()).thenReturn(1L);
+        when(ref.getVersion()).thenReturn(5L);
+        when(userRepository.findVersionByEmail("ana@test.com")).thenReturn(Optional.of(ref));
+
+        assertEquals("\"u1-5\"", userService.getUserProfileETag("ana@test.com"));
+        verify(userRepository, never()).findByEmail(any());
+
+        when(userRepository.findVersionByEmail("x@x.com")).thenReturn(Optional.empty());
+        assertThrows(EntityNotFoundException.class, () -> userService.getUserProfileETag("x@x.com"));
     }
 
     @Test
     @DisplayName("updateUserProfile aplica mapper y guarda")
     void updateUserProfile() {
         var user = sampleUser();
-        when(userRepository.findByEmail("ana@test.com")).thenReturn(Optional.of(user));
+        when(currentUser.get()).thenReturn(user);
         when(userRepository.save(user)).thenReturn(user);
         when(userMapper.toDto(user)).thenReturn(UserResponse.builder().email("ana@test.com").build());
+        when(projectRepository.findIdsByParticipant(1L)).thenReturn(List.of(4L, 9L));
 
         var req = new UserUpdateRequest();
-        var dto = userService.updateUserProfile("ana@test.com", req, null);
+        var dto = userService.updateUserProfile(req, null);
 
         verify(userMapper).updateEntity(user, req);
         verify(userRepository).save(user);
+        verify(eventPublisher).publishEvent(new ProjectRelationsChangedEvent(List.of(4L, 9L)));
+        verify(userDetailsCache).evict("ana@test.com");
         verify(fileStorageService, never()).store(any(MultipartFile.class), any(StorageDirectory.class));
         assertEquals("ana@test.com", dto.getEmail());
     }
@@ -99,13 +128,13 @@ class UserServiceTest {
         when(file.isEmpty()).thenReturn(false);
         var stored = new StoredFile("users/new.jpg", "/uploads/users/new.jpg");
 
-        when(userRepository.findByEmail("ana@test.com")).thenReturn(Optional.of(user));
+        when(currentUser.get()).thenReturn(user);
         when(userRepository.save(user)).thenReturn(user);
         when(userMapper.toDto(user)).thenReturn(UserResponse.builder().email("ana@test.com").profilePictureUrl(stored.publicUrl()).build());
         when(fileStorageService.store(file, StorageDirectory.USER_PROFILE)).thenReturn(stored);
 
         var req = new UserUpdateRequest();
-        var dto = userService.updateUserProfile("ana@test.com", req, file);
+        var dto = userService.updateUserProfile(req, file);
 
         verify(userMapper).updateEntity(user, req);
         verify(fileStorageService).store(file, StorageDirectory.USER_PROFILE);
@@ -132,6 +161,7 @@ class UserServiceTest {
 
         assertEquals("nuevo@test.com", dto.getEmail());
         verify(userRepository).save(any(User.class));
+        verify(userDetailsCache).evict("nuevo@test.com");
     }
 
     @Test
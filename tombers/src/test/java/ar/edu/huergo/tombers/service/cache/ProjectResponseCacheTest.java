@@ -0,0 +1,111 @@
+package ar.edu.huergo.tombers.service.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import ar.edu.huergo.tombers.config.ProjectCacheProperties;
+import ar.edu.huergo.tombers.dto.project.ProjectResponse;
+import ar.edu.huergo.tombers.service.event.ProjectDeletedEvent;
+import ar.edu.huergo.tombers.service.event.ProjectRelationsChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("Tests de Servicio - ProjectResponseCache")
+class ProjectResponseCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ProjectResponseCache cache;
+    private List<List<Long>> loads;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new ProjectResponseCache(new ProjectCacheProperties(), meterRegistry);
+        loads = new ArrayList<>();
+    }
+
+    private List<ProjectResponse> load(List<Long> ids) {
+        loads.add(List.copyOf(ids));
+        // Simula un proyecto inexistente: el 99 nunca se devuelve
+        return ids.stream()
+                .filter(id -> id != 99L)
+                .map(id -> ProjectResponse.builder().id(id).title("P" + id).build())
+                .toList();
+    }
+
+    @Test
+    @DisplayName("getAll respeta el orden, carga solo lo que falta y omite lo inexistente")
+    void getAllLoadsOnlyMissing() {
+        assertEquals(List.of(3L, 1L), ids(cache.getAll(List.of(3L, 1L), this::load)));
+        assertEquals(List.of(1L, 2L, 3L), ids(cache.getAll(List.of(1L, 2L, 99L, 3L), this::load)));
+
+        assertEquals(List.of(List.of(3L, 1L), List.of(2L, 99L)), loads);
+        assertEquals(3, cache.size());
+    }
+
+    @Test
+    @DisplayName("Una respuesta armada con otro ETag no se entrega aunque todavia no se haya invalidado")
+    void staleETagIsRebuilt() {
+        ProjectResponse v1 = cache.get(1L, "\"p1-1-0\"", id -> ProjectResponse.builder().id(id).title("v1").build());
+        assertEquals("v1", cache.get(1L, "\"p1-1-0\"", id -> ProjectResponse.builder().id(id).title("otra").build()).getTitle());
+
+        // El cambio ya se confirmo (ETag nuevo) pero la invalidacion posterior al commit no llego
+        ProjectResponse v2 = cache.get(1L, "\"p1-2-0\"", id -> ProjectResponse.builder().id(id).title("v2").build());
+
+        assertEquals("v1", v1.getTitle());
+        assertEquals("v2", v2.getTitle());
+        assertEquals("v2", cache.get(1L, id -> ProjectResponse.builder().id(id).title("otra").build()).getTitle());
+        // Lo cargado sin ETag (feed, listados) se vuelve a armar la primera vez que se pide con uno
+        cache.getAll(List.of(2L), this::load);
+        assertEquals("v2", cache.get(2L, "\"p2-1-0\"", id -> ProjectResponse.builder().id(id).title("v2").build()).getTitle());
+    }
+
+    @Test
+    @DisplayName("Los eventos invalidan solo los proyectos afectados")
+    void eventsEvictPrecisely() {
+        cache.getAll(List.of(1L, 2L, 3L), this::load);
+
+        cache.onProjectRelationsChanged(new ProjectRelationsChangedEvent(List.of(2L)));
+        cache.onProjectDeleted(new ProjectDeletedEvent(3L));
+        cache.getAll(List.of(1L, 2L, 3L), this::load);
+
+        assertEquals(List.of(2L, 3L), loads.get(1));
+    }
+
+    @Test
+    @DisplayName("Una invalidacion durante una carga en lote descarta lo cargado")
+    void evictionDuringLoadDiscardsResult() {
+        cache.getAll(List.of(1L), ids -> {
+            List<ProjectResponse> loaded = load(ids);
+            cache.evict(1L);
+            return loaded;
+        });
+        cache.getAll(List.of(1L), this::load);
+
+        assertEquals(2, loads.size());
+    }
+
+    @Test
+    @DisplayName("Registra metricas de aciertos y fallos")
+    void recordsMetrics() {
+        cache.get(1L, id -> ProjectResponse.builder().id(id).build());
+        cache.get(1L, id -> ProjectResponse.builder().id(id).build());
+
+        double hits = meterRegistry.get("cache.gets").tag("cache", ProjectResponseCache.CACHE_NAME).tag("result", "hit")
+                .functionCounter().count();
+        double misses = meterRegistry.get("cache.gets").tag("cache", ProjectResponseCache.CACHE_NAME).tag("result", "miss")
+                .functionCounter().count();
+        assertEquals(1.0, hits);
+        assertEquals(1.0, misses);
+        assertTrue(ProjectResponseCache.estimateWeight(ProjectResponse.builder().description("x".repeat(1000)).build()) > 2000);
+    }
+
+    private static List<Long> ids(List<ProjectResponse> responses) {
+        return responses.stream().map(ProjectResponse::getId).toList();
+    }
+}
@@ -0,0 +1,74 @@
+package ar.edu.huergo.tombers.service.facet;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import static org.mockito.Mockito.*;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import ar.edu.huergo.tombers.config.FeedExclusionCacheProperties;
+import ar.edu.huergo.tombers.repository.ProjectRepository;
+import ar.edu.huergo.tombers.service.event.ProjectCreatedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Tests de Servicio - FeedExclusionCache")
+class FeedExclusionCacheTest {
+
+    @Mock private ProjectRepository projectRepository;
+
+    private FeedExclusionCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new FeedExclusionCache(projectRepository, new FeedExclusionCacheProperties(), new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("Las paginas siguientes reutilizan las exclusiones cargadas en la primera")
+    void nextPagesReuseFirstPageExclusions() {
+        when(projectRepository.findAllExcludedFeedIds(9L)).thenReturn(List.of(4L, 2L));
+
+        ProjectIdSet first = cache.refresh(9L);
+        ProjectIdSet second = cache.get(9L);
+
+        assertSame(first, second);
+        assertArrayEquals(new long[] {2, 4}, second.toArray());
+        verify(projectRepository, times(1)).findAllExcludedFeedIds(9L);
+    }
+
+    @Test
+    @DisplayName("Empezar el feed de nuevo recarga las exclusiones y sin primera pagina se cargan igual")
+    void refreshReloadsAndGetLoadsWhenMissing() {
+        when(projectRepository.findAllExcludedFeedIds(9L)).thenReturn(List.of(4L), List.of(4L, 5L));
+
+        cache.get(9L);
+        ProjectIdSet refreshed = cache.refresh(9L);
+
+        assertArrayEquals(new long[] {4, 5}, refreshed.toArray());
+        assertSame(refreshed, cache.get(9L));
+        verify(projectRepository, times(2)).findAllExcludedFeedIds(9L);
+    }
+
+    @Test
+    @DisplayName("Crear un proyecto descarta solo las exclusiones de su creador")
+    void projectCreatedEvictsCreator() {
+        when(projectRepository.findAllExcludedFeedIds(9L)).thenReturn(List.of(4L), List.of(4L, 12L));
+        when(projectRepository.findAllExcludedFeedIds(3L)).thenReturn(List.of(4L));
+        cache.refresh(9L);
+        cache.refresh(3L);
+
+        cache.onProjectCreated(new ProjectCreatedEvent(12L, 9L, Instant.now()));
+
+        assertArrayEquals(new long[] {4, 12}, cache.get(9L).toArray());
+        assertArrayEquals(new long[] {4}, cache.get(3L).toArray());
+        verify(projectRepository, times(1)).findAllExcludedFeedIds(3L);
+    }
+}
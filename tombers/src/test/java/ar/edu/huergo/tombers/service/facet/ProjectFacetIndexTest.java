@@ -0,0 +1,137 @@
+package ar.edu.huergo.tombers.service.facet;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import static org.mockito.Mockito.*;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import ar.edu.huergo.tombers.entity.Project;
+import ar.edu.huergo.tombers.repository.ProjectRepository;
+import ar.edu.huergo.tombers.service.event.ProjectDeletedEvent;
+import ar.edu.huergo.tombers.service.event.ProjectSavedEvent;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Tests de Servicio - ProjectFacetIndex")
+class ProjectFacetIndexTest {
+
+    @Mock private ProjectRepository projectRepository;
+
+    private ProjectFacetIndex index;
+
+    private static ProjectRepository.ProjectFacetRef facetRef(long id, String language, String type,
+            Project.ProjectStatus status) {
+        return new ProjectRepository.ProjectFacetRef() {
+            public Long getProjectId() { return id; }
+            public String getLanguage() { return language; }
+            public String getType() { return type; }
+            public Project.ProjectStatus getStatus() { return status; }
+        };
+    }
+
+    private static ProjectRepository.ProjectTechnologyRef technologyRef(long id, String name) {
+        return new ProjectRepository.ProjectTechnologyRef() {
+            public Long getProjectId() { return id; }
+            public String getName() { return name; }
+        };
+    }
+
+    @BeforeEach
+    void buildIndex() {
+        when(projectRepository.findAllFacetRefs()).thenReturn(List.of(
+                facetRef(1L, "Espanol", "Web", Project.ProjectStatus.ACTIVE),
+                facetRef(2L, "Ingles", "Web", Project.ProjectStatus.ACTIVE),
+                facetRef(3L, "Espanol", "Mobile", Project.ProjectStatus.COMPLETED),
+                facetRef(4L, null, " ", Project.ProjectStatus.ACTIVE)));
+        when(projectRepository.findAllTechnologyRefs()).thenReturn(List.of(
+                technologyRef(1L, "Java"), technologyRef(1L, "Spring"),
+                technologyRef(2L, "Python"), technologyRef(3L, "Kotlin"), technologyRef(3L, "java")));
+        index = new ProjectFacetIndex(projectRepository);
+        index.rebuild();
+    }
+
+    private long[] match(ProjectFacetFilter filter) {
+        return index.match(filter).toArray();
+    }
+
+    @Test
+    @DisplayName("Une los valores de una faceta e intersecta entre facetas")
+    void matchCombinesFacets() {
+        assertArrayEquals(new long[] {1, 2, 3, 4}, match(ProjectFacetFilter.NONE));
+        assertArrayEquals(new long[] {1, 3}, match(ProjectFacetFilter.of(List.of("JAVA"), null, null, null)));
+        assertArrayEquals(new long[] {1, 2, 3},
+                match(ProjectFacetFilter.of(List.of("java", "python"), null, null, null)));
+        assertArrayEquals(new long[] {1},
+                match(ProjectFacetFilter.of(List.of("java", "python"), List.of("espanol"), List.of("web"), null)));
+        assertArrayEquals(new long[] {},
+                match(ProjectFacetFilter.of(List.of("rust"), null, null, null)));
+        assertTrue(ProjectFacetFilter.of(List.of(" "), null, List.of(), null).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Cuenta cada faceta sin su propio filtro y dentro del alcance recibido")
+    void countIgnoresOwnSelection() {
+        ProjectFacetFilter filter = ProjectFacetFilter.of(null, List.of("espanol"), null, null);
+
+        Map<String, Map<String, Long>> counts = index.count(filter, index.allProjects());
+
+        assertEquals(Map.of("espanol", 2L, "ingles", 1L), counts.get("language"));
+        assertEquals(Map.of("java", 2L, "spring", 1L, "kotlin", 1L), counts.get("technology"));
+        assertEquals(Map.of("active", 1L, "completed", 1L), counts.get("status"));
+        // Primero el valor con mas proyectos
+        assertEquals("java", counts.get("technology").keySet().iterator().next());
+
+        Map<String, Map<String, Long>> scoped = index.count(filter, ProjectIdSet.of(List.of(3L)));
+        assertEquals(Map.of("mobile", 1L), scoped.get("type"));
+    }
+
+    @Test
+    @DisplayName("Los IDs que no entran en 32 bits se filtran, cuentan y recorren en orden")
+    void idsBeyondIntRange() {
+        long big = Integer.MAX_VALUE + 10L;
+        Project project = Project.builder().id(big).language("Espanol").type("Web")
+                .status(Project.ProjectStatus.ACTIVE).technologies(List.of("Java")).build();
+        index.onProjectSaved(new ProjectSavedEvent(project));
+
+        ProjectIdSet java = index.match(ProjectFacetFilter.of(List.of("java"), null, null, null));
+        assertArrayEquals(new long[] {1, 3, big}, java.toArray());
+        assertEquals(List.of(3L, big), java.idsAfter(1L, 10));
+        assertEquals(List.of(big), java.idsAfter(Integer.MAX_VALUE, 10));
+        assertEquals(Map.of("java", 3L, "spring", 1L, "python", 1L, "kotlin", 1L),
+                index.count(ProjectFacetFilter.NONE, index.allProjects()).get("technology"));
+
+        ProjectIdSet scope = index.allProjects();
+        scope.andNot(ProjectIdSet.of(List.of(big, 1L)));
+        assertEquals(Map.of("java", 1L, "python", 1L, "kotlin", 1L),
+                index.count(ProjectFacetFilter.NONE, scope).get("technology"));
+
+        index.onProjectDeleted(new ProjectDeletedEvent(big));
+        assertArrayEquals(new long[] {1, 3}, match(ProjectFacetFilter.of(List.of("java"), null, null, null)));
+    }
+
+    @Test
+    @DisplayName("Las altas, modificaciones y bajas actualizan los bitmaps")
+    void eventsUpdateBitmaps() {
+        Project project = Project.builder().id(2L).language("Espanol").type("Web")
+                .status(Project.ProjectStatus.ON_HOLD).technologies(List.of("Java")).build();
+        index.onProjectSaved(new ProjectSavedEvent(project));
+
+        assertArrayEquals(new long[] {1, 2, 3}, match(ProjectFacetFilter.of(List.of("java"), null, null, null)));
+        assertArrayEquals(new long[] {}, match(ProjectFacetFilter.of(List.of("python"), null, null, null)));
+        assertArrayEquals(new long[] {2}, match(ProjectFacetFilter.of(null, null, null, List.of("on_hold"))));
+
+        index.onProjectDeleted(new ProjectDeletedEvent(1L));
+        assertArrayEquals(new long[] {2, 3}, match(ProjectFacetFilter.of(List.of("java"), null, null, null)));
+        assertArrayEquals(new long[] {2, 3, 4}, match(ProjectFacetFilter.NONE));
+        assertEquals(Map.of("java", 2L, "kotlin", 1L),
+                index.count(ProjectFacetFilter.NONE, index.allProjects()).get("technology"));
+    }
+}
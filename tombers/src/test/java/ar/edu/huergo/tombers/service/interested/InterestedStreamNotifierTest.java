@@ -0,0 +1,79 @@
+package ar.edu.huergo.tombers.service.interested;
+
+import static org.mockito.Mockito.*;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import ar.edu.huergo.tombers.dto.project.InterestedUserSummary;
+import ar.edu.huergo.tombers.entity.ProjectInteraction.InteractionType;
+import ar.edu.huergo.tombers.repository.ProjectInteractionRepository;
+import ar.edu.huergo.tombers.service.ProjectService;
+import ar.edu.huergo.tombers.service.event.MemberAcceptedEvent;
+import ar.edu.huergo.tombers.service.event.ProjectLikedEvent;
+import ar.edu.huergo.tombers.service.event.ProjectUpdatedEvent;
+import ar.edu.huergo.tombers.service.event.UserRatedEvent;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Tests de Servicio - InterestedStreamNotifier")
+class InterestedStreamNotifierTest {
+
+    private static final Instant NOW = Instant.parse("2026-10-01T10:00:00Z");
+
+    @Mock private InterestedStreamRegistry registry;
+    @Mock private ProjectService projectService;
+    @Mock private ProjectInteractionRepository projectInteractionRepository;
+
+    @InjectMocks private InterestedStreamNotifier notifier;
+
+    @Test
+    @DisplayName("Un like solo consulta al interesado si el proyecto tiene streams abiertos")
+    void likeWithoutSubscribersSkipsLookup() {
+        notifier.onProjectLiked(new ProjectLikedEvent(8L, 5L, NOW));
+
+        verifyNoInteractions(projectService);
+        verify(registry, never()).send(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Aceptar un interesado envia su ID y actualizar el proyecto avisa a sus streams")
+    void acceptedAndUpdatedAreSent() {
+        notifier.onMemberAccepted(new MemberAcceptedEvent(8L, 5L, NOW));
+        notifier.onProjectUpdated(new ProjectUpdatedEvent(8L, NOW));
+
+        verify(registry).send(8L, InterestedStreamNotifier.ACCEPTED_EVENT, 5L);
+        verify(registry).send(8L, InterestedStreamNotifier.PROJECT_UPDATED_EVENT, 8L);
+    }
+
+    @Test
+    @DisplayName("Una calificacion reenvia el resumen solo a los proyectos con streams abiertos")
+    void ratingResendsSummaryToSubscribedProjects() {
+        var summary = InterestedUserSummary.builder().id(5L).averageRating(4.0).build();
+        when(registry.connectionCount()).thenReturn(1);
+        when(projectInteractionRepository.findProjectIdsByUserIdAndType(5L, InteractionType.LIKE))
+                .thenReturn(List.of(3L, 8L));
+        when(registry.hasSubscribers(8L)).thenReturn(true);
+        when(projectService.findInterestedUser(8L, 5L)).thenReturn(Optional.of(summary));
+
+        notifier.onUserRated(new UserRatedEvent(5L, 1L, 2L, 4, NOW));
+
+        verify(registry).send(8L, InterestedStreamNotifier.INTERESTED_UPDATED_EVENT, summary);
+        verify(projectService, never()).findInterestedUser(eq(3L), any());
+    }
+
+    @Test
+    @DisplayName("Sin streams abiertos una calificacion no consulta la base")
+    void ratingWithoutStreamsSkipsQueries() {
+        notifier.onUserRated(new UserRatedEvent(5L, 1L, 2L, 4, NOW));
+
+        verifyNoInteractions(projectInteractionRepository, projectService);
+    }
+}
@@ -0,0 +1,75 @@
+package ar.edu.huergo.tombers.service.interested;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import ar.edu.huergo.tombers.config.InterestedStreamProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("Tests de Servicio - InterestedStreamRegistry")
+class InterestedStreamRegistryTest {
+
+    private SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private InterestedStreamRegistry registry;
+
+    @BeforeEach
+    void startRegistry() {
+        InterestedStreamProperties properties = new InterestedStreamProperties();
+        properties.setMaxConnections(2);
+        registry = new InterestedStreamRegistry(properties, meterRegistry);
+        registry.start();
+    }
+
+    @AfterEach
+    void stopRegistry() {
+        registry.stop();
+    }
+
+    @Test
+    @DisplayName("open respeta el maximo de conexiones del nodo")
+    void openHonorsConnectionCap() {
+        registry.open(1L);
+        registry.open(2L);
+
+        assertThrows(InterestedStreamLimitException.class, () -> registry.open(3L));
+        assertEquals(2, registry.connectionCount());
+        assertEquals(2.0, meterRegistry.get("tombers.interested.streams").gauge().value());
+        assertTrue(registry.hasSubscribers(1L));
+        assertFalse(registry.hasSubscribers(3L));
+    }
+
+    @Test
+    @DisplayName("Los streams cerrados se quitan al fallar un envio y liberan su lugar")
+    void closedStreamsAreRemovedOnSend() {
+        SseEmitter closed = registry.open(1L);
+        registry.open(1L);
+        closed.complete();
+
+        registry.send(1L, "interested", "nuevo");
+
+        assertEquals(1, registry.connectionCount());
+        assertTrue(registry.hasSubscribers(1L));
+        registry.open(2L);
+        assertEquals(2, registry.connectionCount());
+    }
+
+    @Test
+    @DisplayName("Los heartbeats detectan streams cerrados de todos los proyectos")
+    void heartbeatsRemoveClosedStreams() {
+        registry.open(1L).complete();
+        registry.open(2L).complete();
+
+        registry.sendHeartbeats();
+
+        assertEquals(0, registry.connectionCount());
+        assertFalse(registry.hasSubscribers(1L));
+        assertFalse(registry.hasSubscribers(2L));
+    }
+}
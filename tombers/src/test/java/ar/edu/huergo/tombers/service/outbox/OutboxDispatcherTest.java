@@ -0,0 +1,158 @@
+package ar.edu.huergo.tombers.service.outbox;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import ar.edu.huergo.tombers.config.OutboxProperties;
+import ar.edu.huergo.tombers.entity.OutboxEvent;
+import ar.edu.huergo.tombers.repository.OutboxEventRepository;
+import ar.edu.huergo.tombers.service.event.DomainEvent;
+import ar.edu.huergo.tombers.service.event.ProjectLikedEvent;
+import ar.edu.huergo.tombers.service.event.UserRatedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Tests de Servicio - OutboxDispatcher")
+class OutboxDispatcherTest {
+
+    private static final Instant CREATED_AT = Instant.parse("2025-01-01T10:00:00Z");
+
+    @Mock private OutboxEventRepository repository;
+    @Mock private ApplicationEventPublisher eventPublisher;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final OutboxProperties properties = new OutboxProperties();
+    private OutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void startDispatcher() {
+        // Sin scheduler: solo se entrega cuando el test lo pide
+        properties.setMaxAttempts(3);
+        dispatcher = new OutboxDispatcher(properties, repository, objectMapper, eventPublisher, meterRegistry);
+        dispatcher.start();
+    }
+
+    private OutboxEvent stored(long id, DomainEvent event, int attempts) throws Exception {
+        return OutboxEvent.builder()
+                .id(id)
+                .aggregateType(event.type().aggregate().name())
+                .aggregateId(event.aggregateId())
+                .eventType(event.type().name())
+                .payload(objectMapper.writeValueAsString(event))
+                .createdAt(CREATED_AT)
+                .attempts(attempts)
+                .build();
+    }
+
+    private void pendingStats(long pending, Instant oldestCreatedAt) {
+        Map<String, Object> values = new HashMap<>();
+        values.put("pending", pending);
+        values.put("oldestCreatedAt", oldestCreatedAt);
+        when(repository.findPendingStats()).thenReturn(new SpelAwareProxyProjectionFactory()
+                .createProjection(OutboxEventRepository.PendingStats.class, values));
+    }
+
+    @Test
+    @DisplayName("dispatch entrega los eventos en orden y los marca como entregados")
+    void dispatchDeliversInOrder() throws Exception {
+        var like = new ProjectLikedEvent(8L, 4L, CREATED_AT);
+        var rating = new UserRatedEvent(4L, 1L, 8L, 5, CREATED_AT);
+        when(repository.findPending(any())).thenReturn(List.of(stored(1L, like, 0), stored(2L, rating, 0)));
+        List<Object> published = new ArrayList<>();
+        doAnswer(invocation -> published.add(invocation.getArgument(0)))
+                .when(eventPublisher).publishEvent(any(Object.class));
+        pendingStats(0L, null);
+
+        assertEquals(2, dispatcher.dispatch());
+
+        assertEquals(List.of(like, rating), published);
+        verify(repository).markPublished(eq(List.of(1L, 2L)), any(Instant.class));
+        assertEquals(2, meterRegistry.get("tombers.outbox.delivery.lag").timer().count());
+        assertEquals(0.0, meterRegistry.get("tombers.outbox.pending").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Un evento fallido retiene los siguientes de su agregado pero no los de otros")
+    void failureBlocksOnlyItsAggregate() throws Exception {
+        var first = new ProjectLikedEvent(8L, 4L, CREATED_AT);
+        var second = new ProjectLikedEvent(8L, 5L, CREATED_AT);
+        var other = new ProjectLikedEvent(9L, 4L, CREATED_AT);
+        when(repository.findPending(any())).thenReturn(List.of(stored(1L, first, 0), stored(2L, second, 0),
+                stored(3L, other, 0)));
+        doThrow(new IllegalStateException("listener caido")).when(eventPublisher).publishEvent(first);
+        pendingStats(2L, CREATED_AT);
+
+        assertEquals(1, dispatcher.dispatch());
+
+        verify(eventPublisher, never()).publishEvent(second);
+        verify(eventPublisher).publishEvent(other);
+        verify(repository).recordFailure(eq(1L), anyString());
+        verify(repository).markPublished(eq(List.of(3L)), any(Instant.class));
+        assertEquals(1.0, meterRegistry.get("tombers.outbox.delivery.failures").counter().count());
+        assertEquals(2.0, meterRegistry.get("tombers.outbox.pending").gauge().value());
+        assertEquals(Duration.ofMinutes(5), dispatcher.lag(CREATED_AT.plus(Duration.ofMinutes(5))));
+    }
+
+    @Test
+    @DisplayName("Un evento que agota sus intentos se descarta y libera a su agregado")
+    void exhaustedEventIsAbandoned() throws Exception {
+        var first = new ProjectLikedEvent(8L, 4L, CREATED_AT);
+        var second = new ProjectLikedEvent(8L, 5L, CREATED_AT);
+        when(repository.findPending(any())).thenReturn(List.of(stored(1L, first, 2), stored(2L, second, 0)));
+        doThrow(new IllegalStateException("listener caido")).when(eventPublisher).publishEvent(first);
+        pendingStats(0L, null);
+
+        assertEquals(1, dispatcher.dispatch());
+
+        verify(repository).abandon(eq(1L), anyString(), any(Instant.class));
+        verify(repository, never()).recordFailure(any(), any());
+        verify(repository).markPublished(eq(List.of(2L)), any(Instant.class));
+        assertEquals(1.0, meterRegistry.get("tombers.outbox.abandoned").counter().count());
+    }
+
+    @Test
+    @DisplayName("Un evento de un tipo que ya no existe se descarta sin reintentos")
+    void unknownTypeIsAbandoned() throws Exception {
+        var like = new ProjectLikedEvent(8L, 4L, CREATED_AT);
+        OutboxEvent legacy = stored(1L, like, 0);
+        legacy.setEventType("PROJECT_ARCHIVED");
+        when(repository.findPending(any())).thenReturn(List.of(legacy, stored(2L, like, 0)));
+        pendingStats(0L, null);
+
+        assertEquals(1, dispatcher.dispatch());
+
+        verify(repository).abandon(eq(1L), anyString(), any(Instant.class));
+        verify(repository, never()).recordFailure(any(), any());
+        verify(eventPublisher).publishEvent(like);
+        verify(repository).markPublished(eq(List.of(2L)), any(Instant.class));
+        assertEquals(1.0, meterRegistry.get("tombers.outbox.abandoned").counter().count());
+    }
+}
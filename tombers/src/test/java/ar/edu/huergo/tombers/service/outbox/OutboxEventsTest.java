@@ -0,0 +1,155 @@
+package ar.edu.huergo.tombers.service.outbox;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.verify;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import ar.edu.huergo.tombers.dto.project.ManageInterestedRequest;
+import ar.edu.huergo.tombers.dto.user.UserRatingRequest;
+import ar.edu.huergo.tombers.entity.Project;
+import ar.edu.huergo.tombers.entity.User;
+import ar.edu.huergo.tombers.repository.ProjectRepository;
+import ar.edu.huergo.tombers.repository.UserRatingRepository;
+import ar.edu.huergo.tombers.repository.UserRepository;
+import ar.edu.huergo.tombers.service.ProjectService;
+import ar.edu.huergo.tombers.service.UserRatingService;
+import ar.edu.huergo.tombers.service.event.DomainEventType;
+import ar.edu.huergo.tombers.service.interested.InterestedStreamNotifier;
+
+/**
+ * Los eventos de dominio se guardan en la misma transaccion que el cambio que describen y el
+ * dispatcher los entrega despues a sus consumidores.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:outbox-events",
+        "spring.jpa.show-sql=false",
+        "search.index.directory=${java.io.tmpdir}/tombers-outbox-events-test/search-index"
+})
+@DisplayName("Tests de Servicio - Eventos del outbox")
+class OutboxEventsTest {
+
+    @Autowired private ProjectService projectService;
+    @Autowired private UserRatingService userRatingService;
+    @Autowired private OutboxDispatcher dispatcher;
+    @Autowired private UserRepository userRepository;
+    @Autowired private ProjectRepository projectRepository;
+    @Autowired private UserRatingRepository userRatingRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private TransactionTemplate transactionTemplate;
+
+    @MockitoSpyBean private InterestedStreamNotifier notifier;
+
+    private User saveUser(String name) {
+        return userRepository.save(User.builder()
+                .firstName("Nombre")
+                .lastName("Apellido")
+                .email(name + "@outbox.com")
+                .username(name)
+                .password("pwd")
+                .status(User.UserStatus.DISPONIBLE)
+                .createdProjectIds(new ArrayList<>())
+                .participatingProjectIds(new ArrayList<>())
+                .build());
+    }
+
+    private Long saveProject(User owner, List<Long> memberIds) {
+        Project project = Project.builder()
+                .title("Proyecto")
+                .description("desc")
+                .bannerUrl("/uploads/projects/banners/proyecto.jpg")
+                .status(Project.ProjectStatus.ACTIVE)
+                .progress(0)
+                .teamCurrent(memberIds.size())
+                .teamMax(4)
+                .creatorId(owner.getId())
+                .memberIds(new ArrayList<>(memberIds))
+                .technologies(new ArrayList<>())
+                .objectives(new ArrayList<>())
+                .skillsNeeded(new ArrayList<>())
+                .build();
+        project.setCreatedAt(LocalDate.now());
+        project.setUpdatedAt(LocalDate.now());
+        Long projectId = projectRepository.save(project).getId();
+        owner.getCreatedProjectIds().add(projectId);
+        userRepository.save(owner);
+        return projectId;
+    }
+
+    private void as(User user, Runnable action) {
+        SecurityContextHolder.setContext(new SecurityContextImpl(
+                new UsernamePasswordAuthenticationToken(user.getEmail(), null, List.of())));
+        try {
+            action.run();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    private long events(DomainEventType type, Long aggregateId, boolean published) {
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM outbox_events WHERE event_type = ? AND aggregate_id = ? AND published_at IS "
+                        + (published ? "NOT NULL" : "NULL"),
+                Long.class, type.name(), aggregateId);
+        return count != null ? count : 0;
+    }
+
+    @Test
+    @DisplayName("Si la calificacion se deshace su evento tambien")
+    void rolledBackRatingLeavesNoEvent() {
+        User owner = saveUser("rollback-owner");
+        User member = saveUser("rollback-member");
+        Long projectId = saveProject(owner, List.of(member.getId()));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            as(owner, () -> userRatingService.createRating(UserRatingRequest.builder()
+                    .ratedUserId(member.getId()).projectId(projectId).rating(4).build()));
+            // Visible dentro de la transaccion que guardo la calificacion
+            assertEquals(1, events(DomainEventType.USER_RATED, member.getId(), false));
+            status.setRollbackOnly();
+        });
+
+        assertEquals(0, events(DomainEventType.USER_RATED, member.getId(), false));
+        assertEquals(0, userRatingRepository.findByRatedUserId(member.getId()).size());
+    }
+
+    @Test
+    @DisplayName("Aceptar y calificar a un integrante guarda sus eventos y el dispatcher los entrega")
+    void acceptedMemberAndRatingAreDelivered() {
+        User owner = saveUser("delivery-owner");
+        User candidate = saveUser("delivery-candidate");
+        Long projectId = saveProject(owner, List.of());
+
+        as(candidate, () -> projectService.likeProject(projectId));
+        as(owner, () -> projectService.manageInterestedUser(projectId,
+                new ManageInterestedRequest(candidate.getId(), ManageInterestedRequest.Action.ACCEPT)));
+        as(owner, () -> userRatingService.createRating(UserRatingRequest.builder()
+                .ratedUserId(candidate.getId()).projectId(projectId).rating(5).build()));
+
+        assertEquals(1, events(DomainEventType.MEMBER_ACCEPTED, projectId, false));
+        assertEquals(1, events(DomainEventType.USER_RATED, candidate.getId(), false));
+
+        dispatcher.dispatch();
+
+        verify(notifier).onMemberAccepted(argThat(event -> event.projectId().equals(projectId)
+                && event.userId().equals(candidate.getId())));
+        verify(notifier).onUserRated(argThat(event -> event.ratedUserId().equals(candidate.getId())
+                && event.rating() == 5));
+        assertEquals(1, events(DomainEventType.MEMBER_ACCEPTED, projectId, true));
+        assertEquals(1, events(DomainEventType.USER_RATED, candidate.getId(), true));
+    }
+}
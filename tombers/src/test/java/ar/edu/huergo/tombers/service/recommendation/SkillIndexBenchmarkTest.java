@@ -0,0 +1,80 @@
+package ar.edu.huergo.tombers.service.recommendation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Benchmark del ranking sobre un dataset sintetico de 100.000 proyectos.
+ * Se ejecuta con ./gradlew benchmark; queda fuera de la tarea test.
+ */
+@Tag("benchmark")
+@DisplayName("Benchmark - SkillIndex con 100k proyectos")
+class SkillIndexBenchmarkTest {
+
+    private static final int PROJECTS = 100_000;
+    private static final int VOCABULARY = 300;
+    private static final int TERMS_PER_PROJECT = 6;
+    private static final int USERS = 500;
+    private static final int PAGE_SIZE = 21;
+    private static final long P99_TARGET_MILLIS = 25;
+
+    private static Map<String, Float> randomTerms(Random random, int count) {
+        Map<String, Float> terms = new HashMap<>();
+        while (terms.size() < count) {
+            // Distribucion sesgada: algunas habilidades son mucho mas comunes que otras
+            int term = (int) (VOCABULARY * Math.pow(random.nextDouble(), 2));
+            terms.put("skill-" + term, (float) (1 + random.nextInt(3)));
+        }
+        return terms;
+    }
+
+    @Test
+    @DisplayName("El p99 de una pagina del ranking queda dentro del objetivo")
+    void rankingLatencyWithinTarget() {
+        Random random = new Random(42);
+        SkillIndex index = new SkillIndex();
+        for (long id = 1; id <= PROJECTS; id++) {
+            index.put(id, randomTerms(random, TERMS_PER_PROJECT));
+        }
+        assertEquals(PROJECTS, index.size());
+
+        List<Map<String, Float>> profiles = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            profiles.add(randomTerms(random, 3 + random.nextInt(6)));
+        }
+
+        // Calentamiento para que el JIT compile el camino caliente
+        for (int i = 0; i < 200; i++) {
+            index.rank(profiles.get(i % USERS), null, PAGE_SIZE);
+        }
+
+        long[] samples = new long[USERS * 2];
+        int sample = 0;
+        for (Map<String, Float> profile : profiles) {
+            long start = System.nanoTime();
+            List<ScoredProject> first = index.rank(profile, null, PAGE_SIZE);
+            samples[sample++] = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            index.rank(profile, first.get(first.size() - 1), PAGE_SIZE);
+            samples[sample++] = System.nanoTime() - start;
+        }
+
+        Arrays.sort(samples);
+        double p50 = samples[samples.length / 2] / 1_000_000.0;
+        double p99 = samples[(int) (samples.length * 0.99)] / 1_000_000.0;
+        System.out.printf("SkillIndex.rank sobre %d proyectos: p50=%.2f ms, p99=%.2f ms%n", PROJECTS, p50, p99);
+
+        assertTrue(p99 <= P99_TARGET_MILLIS, "p99 de " + p99 + " ms supera el objetivo de " + P99_TARGET_MILLIS + " ms");
+    }
+}
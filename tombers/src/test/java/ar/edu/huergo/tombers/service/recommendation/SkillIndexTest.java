@@ -0,0 +1,125 @@
+package ar.edu.huergo.tombers.service.recommendation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongPredicate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import ar.edu.huergo.tombers.entity.Project;
+import ar.edu.huergo.tombers.entity.Skill;
+
+@DisplayName("Tests de Servicio - SkillIndex")
+class SkillIndexTest {
+
+    private static List<Long> ids(List<ScoredProject> ranked) {
+        return ranked.stream().map(ScoredProject::projectId).toList();
+    }
+
+    @Test
+    @DisplayName("Normaliza nombres y pondera por nivel")
+    void normalizesTermsAndWeightsLevels() {
+        Project project = Project.builder()
+                .skillsNeeded(List.of(Skill.builder().nombre("  Diseño   UX ").nivel("Avanzado").build()))
+                .technologies(List.of("JAVA", "diseño ux"))
+                .build();
+
+        Map<String, Float> terms = SkillTerms.forProject(project);
+
+        assertEquals(Map.of("diseno ux", 3f, "java", 1f), terms);
+        assertEquals(1f, SkillTerms.levelWeight("principiante"));
+        assertEquals(2f, SkillTerms.levelWeight(null));
+    }
+
+    @Test
+    @DisplayName("Ordena por coincidencia ponderada y deja al final los proyectos sin coincidencias")
+    void ranksByWeightedOverlap() {
+        SkillIndex index = new SkillIndex();
+        index.put(1L, Map.of("java", 3f));
+        index.put(2L, Map.of("java", 1f, "spring", 2f));
+        index.put(3L, Map.of("python", 2f));
+        index.put(4L, Map.of());
+
+        // Usuario intermedio en Java y Spring: cubre 2 de Java en el 1 y 1+2 en el 2
+        Map<String, Float> profile = Map.of("java", 2f, "spring", 2f);
+
+        assertEquals(List.of(2L, 1L, 3L, 4L), ids(index.rank(profile, null, 10)));
+    }
+
+    @Test
+    @DisplayName("Pagina con cursor sin repetir ni saltear proyectos")
+    void paginatesWithCursor() {
+        SkillIndex index = new SkillIndex();
+        for (long id = 1; id <= 10; id++) {
+            index.put(id, id % 2 == 0 ? Map.of("java", (float) (id % 3 + 1)) : Map.of("go", 1f));
+        }
+        Map<String, Float> profile = Map.of("java", 3f);
+
+        List<Long> all = ids(index.rank(profile, null, 100));
+        List<Long> paged = new ArrayList<>();
+        ScoredProject cursor = null;
+        List<ScoredProject> page;
+        do {
+            page = index.rank(profile, cursor, 3);
+            paged.addAll(ids(page));
+            cursor = page.isEmpty() ? null : page.get(page.size() - 1);
+        } while (page.size() == 3);
+
+        assertEquals(all, paged);
+        assertEquals(10, paged.size());
+    }
+
+    @Test
+    @DisplayName("Descarta los proyectos no visibles al puntuar sin cortar la pagina")
+    void filtersVisibleProjectsInOnePass() {
+        SkillIndex index = new SkillIndex();
+        for (long id = 1; id <= 10; id++) {
+            index.put(id, id <= 6 ? Map.of("java", (float) id) : Map.of());
+        }
+        Map<String, Float> profile = Map.of("java", 3f);
+        LongPredicate odd = id -> id % 2 == 1;
+
+        List<ScoredProject> first = index.rank(profile, null, 3, odd);
+        List<ScoredProject> second = index.rank(profile, first.get(2), 3, odd);
+
+        assertEquals(List.of(3L, 5L, 1L), ids(first));
+        assertEquals(List.of(7L, 9L), ids(second));
+    }
+
+    @Test
+    @DisplayName("Las actualizaciones reemplazan los terminos previos del proyecto")
+    void updatesIncrementally() {
+        SkillIndex index = new SkillIndex();
+        index.put(1L, Map.of("java", 2f));
+        index.put(2L, Map.of("java", 2f));
+
+        index.put(1L, Map.of("react", 2f));
+        index.remove(2L);
+
+        assertEquals(List.of(1L), ids(index.rank(Map.of("react", 2f), null, 10)));
+        assertEquals(0f, index.rank(Map.of("java", 2f), null, 10).get(0).score());
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    @DisplayName("Suma los puntajes de varios terminos por proyecto con muchos proyectos coincidentes")
+    void accumulatesScoresAcrossManyProjects() {
+        SkillIndex index = new SkillIndex();
+        for (long id = 1; id <= 5000; id++) {
+            index.put(id, id % 3 == 0 ? Map.of("java", 1f, "sql", 2f) : Map.of("java", 1f));
+        }
+        index.put(5001L, Map.of("go", 1f));
+        Map<String, Float> profile = Map.of("java", 1f, "sql", 2f);
+
+        List<ScoredProject> ranked = index.rank(profile, null, 5001);
+
+        assertEquals(5001, ranked.size());
+        assertEquals(new ScoredProject(3L, 3f), ranked.get(0));
+        assertEquals(new ScoredProject(4998L, 3f), ranked.get(1665));
+        assertEquals(new ScoredProject(1L, 1f), ranked.get(1666));
+        assertEquals(new ScoredProject(5001L, 0f), ranked.get(5000));
+    }
+}
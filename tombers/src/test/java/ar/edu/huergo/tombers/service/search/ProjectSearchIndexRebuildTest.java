@@ -0,0 +1,65 @@
+package ar.edu.huergo.tombers.service.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import ar.edu.huergo.tombers.entity.Project;
+import ar.edu.huergo.tombers.entity.Skill;
+import ar.edu.huergo.tombers.repository.ProjectRepository;
+
+/**
+ * Reconstruye el indice contra una base real, fuera de una transaccion, como al iniciar la
+ * aplicacion: las colecciones de los proyectos se leen sin depender de una sesion abierta.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:search-rebuild",
+        "spring.jpa.show-sql=false",
+        "search.index.directory=${java.io.tmpdir}/tombers-search-rebuild-test/search-index"
+})
+@DisplayName("Tests de Servicio - Reconstruccion de ProjectSearchIndex")
+class ProjectSearchIndexRebuildTest {
+
+    @Autowired private ProjectSearchIndex projectSearchIndex;
+    @Autowired private ProjectRepository projectRepository;
+
+    private Long saveProject(String title, String technology, String objective, String skill) {
+        Project project = Project.builder()
+                .title(title)
+                .description("desc")
+                .bannerUrl("/uploads/projects/banners/proyecto.jpg")
+                .status(Project.ProjectStatus.ACTIVE)
+                .progress(0)
+                .teamCurrent(0)
+                .teamMax(4)
+                .memberIds(new ArrayList<>())
+                .technologies(new ArrayList<>(List.of(technology, "Git")))
+                .objectives(new ArrayList<>(List.of(objective)))
+                .skillsNeeded(new ArrayList<>(List.of(Skill.builder().nombre(skill).nivel("Intermedio").build())))
+                .build();
+        project.setCreatedAt(LocalDate.now());
+        project.setUpdatedAt(LocalDate.now());
+        return projectRepository.save(project).getId();
+    }
+
+    @Test
+    @DisplayName("Indexa las colecciones de los proyectos guardados al reconstruir")
+    void rebuildsPersistedProjectsWithCollections() {
+        Long tienda = saveProject("Tienda online", "React", "Vender artesanias", "Diseño UX");
+        Long turnos = saveProject("App de turnos", "Kotlin", "Reservar canchas", "Android");
+
+        projectSearchIndex.rebuild();
+
+        assertEquals((int) projectRepository.count(), projectSearchIndex.documentCount());
+        assertEquals(List.of(tienda), projectSearchIndex.search("react artesanias diseno", 0, 10).projectIds());
+        assertEquals(List.of(turnos), projectSearchIndex.search("kotlin canchas android", 0, 10).projectIds());
+        assertEquals(2, projectSearchIndex.search("git", 0, 10).total());
+    }
+}
@@ -0,0 +1,158 @@
+package ar.edu.huergo.tombers.service.search;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import static org.mockito.Mockito.*;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import ar.edu.huergo.tombers.config.SearchIndexProperties;
+import ar.edu.huergo.tombers.entity.Project;
+import ar.edu.huergo.tombers.entity.Skill;
+import ar.edu.huergo.tombers.repository.ProjectRepository;
+import ar.edu.huergo.tombers.service.event.ProjectDeletedEvent;
+import ar.edu.huergo.tombers.service.event.ProjectSavedEvent;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Tests de Servicio - ProjectSearchIndex")
+class ProjectSearchIndexTest {
+
+    @Mock private ProjectRepository projectRepository;
+
+    @TempDir Path indexDirectory;
+
+    private ProjectSearchIndex index;
+
+    @BeforeEach
+    void openIndex() throws Exception {
+        index = openIndexAt(indexDirectory);
+    }
+
+    @AfterEach
+    void closeIndex() throws Exception {
+        index.close();
+    }
+
+    private ProjectSearchIndex openIndexAt(Path directory) throws Exception {
+        SearchIndexProperties properties = new SearchIndexProperties();
+        properties.setDirectory(directory);
+        ProjectSearchIndex opened = new ProjectSearchIndex(properties, projectRepository);
+        opened.open();
+        return opened;
+    }
+
+    private static Project project(long id, String title, String description, List<String> technologies, String skill) {
+        return Project.builder()
+                .id(id)
+                .title(title)
+                .description(description)
+                .technologies(new ArrayList<>(technologies))
+                .objectives(new ArrayList<>(List.of("Publicar un MVP")))
+                .skillsNeeded(new ArrayList<>(List.of(Skill.builder().nombre(skill).nivel("Intermedio").build())))
+                .build();
+    }
+
+    private static ProjectRepository.ProjectTextRef textRef(long id, String title, String description) {
+        return new ProjectRepository.ProjectTextRef() {
+            public Long getId() { return id; }
+            public String getTitle() { return title; }
+            public String getDescription() { return description; }
+        };
+    }
+
+    private static ProjectRepository.ProjectTechnologyRef technologyRef(long projectId, String name) {
+        return new ProjectRepository.ProjectTechnologyRef() {
+            public Long getProjectId() { return projectId; }
+            public String getName() { return name; }
+        };
+    }
+
+    private static ProjectRepository.ProjectObjectiveRef objectiveRef(long projectId, String objective) {
+        return new ProjectRepository.ProjectObjectiveRef() {
+            public Long getProjectId() { return projectId; }
+            public String getObjective() { return objective; }
+        };
+    }
+
+    private static ProjectRepository.ProjectSkillRef skillRef(long projectId, String nombre) {
+        return new ProjectRepository.ProjectSkillRef() {
+            public Long getProjectId() { return projectId; }
+            public String getNombre() { return nombre; }
+            public String getNivel() { return "Intermedio"; }
+        };
+    }
+
+    @Test
+    @DisplayName("Busca en todos los campos, sin distinguir acentos, y el titulo pesa mas")
+    void searchesAllFieldsByRelevance() {
+        index.onProjectSaved(new ProjectSavedEvent(project(1L, "Tienda online", "Catalogo con diseño propio", List.of("React"), "Java")));
+        index.onProjectSaved(new ProjectSavedEvent(project(2L, "Diseno de marca", "Identidad visual", List.of("Figma"), "Ilustracion")));
+        index.onProjectSaved(new ProjectSavedEvent(project(3L, "App de turnos", "Reservas", List.of("Kotlin"), "Java")));
+
+        assertEquals(List.of(2L, 1L), index.search("diseño", 0, 10).projectIds());
+        assertEquals(List.of(1L, 3L), index.search("java", 0, 10).projectIds());
+        assertEquals(List.of(3L), index.search("java kotlin", 0, 10).projectIds());
+        assertEquals(3, index.search("mvp", 0, 10).total());
+    }
+
+    @Test
+    @DisplayName("Pagina los resultados y refleja cambios y bajas enseguida")
+    void pagesAndUpdatesInNearRealTime() {
+        for (long id = 1; id <= 5; id++) {
+            index.onProjectSaved(new ProjectSavedEvent(project(id, "Proyecto " + id, "desc", List.of("Spring"), "Java")));
+        }
+
+        ProjectSearchHits secondPage = index.search("spring", 1, 2);
+        assertEquals(5, secondPage.total());
+        assertEquals(2, secondPage.projectIds().size());
+
+        index.onProjectSaved(new ProjectSavedEvent(project(1L, "Proyecto 1", "desc", List.of("Django"), "Python")));
+        index.onProjectDeleted(new ProjectDeletedEvent(2L));
+
+        assertEquals(3, index.search("spring", 0, 10).total());
+        assertEquals(List.of(1L), index.search("django", 0, 10).projectIds());
+    }
+
+    @Test
+    @DisplayName("Reconstruye desde la base cuando el indice no existe")
+    void rebuildsWhenMissing() {
+        when(projectRepository.count()).thenReturn(1L);
+        when(projectRepository.findTextRefsAfter(eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(textRef(7L, "Plataforma educativa", "Cursos")));
+        when(projectRepository.findTechnologyRefsByProjectIds(List.of(7L))).thenReturn(List.of(technologyRef(7L, "Vue")));
+        when(projectRepository.findObjectiveRefsByProjectIds(List.of(7L))).thenReturn(List.of(objectiveRef(7L, "Publicar un MVP")));
+        when(projectRepository.findSkillRefsByProjectIds(List.of(7L))).thenReturn(List.of(skillRef(7L, "JavaScript")));
+
+        index.rebuildIfNeeded();
+
+        assertEquals(1, index.documentCount());
+        assertEquals(List.of(7L), index.search("educativa", 0, 10).projectIds());
+        assertEquals(List.of(7L), index.search("vue mvp javascript", 0, 10).projectIds());
+    }
+
+    @Test
+    @DisplayName("No reconstruye si el indice guardado coincide con la base")
+    void keepsExistingIndex() throws Exception {
+        index.onProjectSaved(new ProjectSavedEvent(project(1L, "Tienda", "desc", List.of("React"), "Java")));
+        index.close();
+
+        index = openIndexAt(indexDirectory);
+        when(projectRepository.count()).thenReturn(1L);
+
+        index.rebuildIfNeeded();
+
+        verify(projectRepository, never()).findTextRefsAfter(any(), any(Pageable.class));
+        assertTrue(index.search("tienda", 0, 10).projectIds().contains(1L));
+    }
+}
@@ -0,0 +1,121 @@
+package ar.edu.huergo.tombers.service.swipe;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import ar.edu.huergo.tombers.entity.Project;
+import ar.edu.huergo.tombers.entity.ProjectInteraction.InteractionType;
+import ar.edu.huergo.tombers.entity.User;
+import ar.edu.huergo.tombers.repository.ProjectRepository;
+import ar.edu.huergo.tombers.repository.UserRepository;
+import ar.edu.huergo.tombers.service.event.DomainEventType;
+
+/**
+ * Reaplica lotes ya confirmados, como hace el buffer al recuperar el journal despues de una
+ * caida entre el commit de un flush y el descarte de sus segmentos.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:swipe-batch-writer",
+        "spring.jpa.show-sql=false",
+        "search.index.directory=${java.io.tmpdir}/tombers-swipe-batch-writer-test/search-index"
+})
+@DisplayName("Tests de Servicio - SwipeBatchWriter")
+class SwipeBatchWriterTest {
+
+    @Autowired private SwipeBatchWriter writer;
+    @Autowired private UserRepository userRepository;
+    @Autowired private ProjectRepository projectRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    private Long saveUser(String name) {
+        return userRepository.save(User.builder()
+                .firstName("Nombre")
+                .lastName("Apellido")
+                .email(name + "@swipes.com")
+                .username(name)
+                .password("pwd")
+                .status(User.UserStatus.DISPONIBLE)
+                .createdProjectIds(new ArrayList<>())
+                .participatingProjectIds(new ArrayList<>())
+                .build()).getId();
+    }
+
+    private Long saveProject() {
+        Project project = Project.builder()
+                .title("Proyecto")
+                .description("desc")
+                .bannerUrl("/uploads/projects/banners/proyecto.jpg")
+                .status(Project.ProjectStatus.ACTIVE)
+                .progress(0)
+                .teamCurrent(0)
+                .teamMax(4)
+                .memberIds(new ArrayList<>())
+                .technologies(new ArrayList<>())
+                .objectives(new ArrayList<>())
+                .skillsNeeded(new ArrayList<>())
+                .build();
+        project.setCreatedAt(LocalDate.now());
+        project.setUpdatedAt(LocalDate.now());
+        return projectRepository.save(project).getId();
+    }
+
+    private void assertCounters(Long projectId, long likes, long dislikes, long interested) {
+        Project project = projectRepository.findById(projectId).orElseThrow();
+        assertEquals(likes, project.getLikeCount());
+        assertEquals(dislikes, project.getDislikeCount());
+        assertEquals(interested, project.getInterestedCount());
+    }
+
+    private long likeEvents(Long projectId) {
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM outbox_events WHERE event_type = ? AND aggregate_id = ?",
+                Long.class, DomainEventType.PROJECT_LIKED.name(), projectId);
+        return count != null ? count : 0;
+    }
+
+    @Test
+    @DisplayName("Reaplicar un lote confirmado no cambia contadores ni vuelve a emitir likes")
+    void replayedBatchesAreNoOps() {
+        Long ana = saveUser("ana");
+        Long beto = saveUser("beto");
+        Long projectId = saveProject();
+
+        List<PendingSwipe> likes = List.of(
+                new PendingSwipe(ana, projectId, null, InteractionType.LIKE, LocalDateTime.now()),
+                new PendingSwipe(beto, projectId, null, InteractionType.DISLIKE, LocalDateTime.now()));
+        writer.write(likes);
+        writer.write(likes);
+
+        assertCounters(projectId, 1, 1, 1);
+        assertEquals(1, likeEvents(projectId));
+
+        // El baseline del journal puede no coincidir con la base: el delta sale de las filas modificadas
+        List<PendingSwipe> switched = List.of(
+                new PendingSwipe(ana, projectId, null, InteractionType.DISLIKE, LocalDateTime.now()),
+                new PendingSwipe(beto, projectId, null, InteractionType.LIKE, LocalDateTime.now()));
+        writer.write(switched);
+        writer.write(switched);
+
+        assertCounters(projectId, 1, 1, 1);
+        assertEquals(2, likeEvents(projectId));
+
+        List<PendingSwipe> removed = List.of(
+                new PendingSwipe(ana, projectId, InteractionType.DISLIKE, null, LocalDateTime.now()),
+                new PendingSwipe(beto, projectId, InteractionType.LIKE, null, LocalDateTime.now()));
+        writer.write(removed);
+        writer.write(removed);
+
+        assertCounters(projectId, 0, 0, 0);
+        assertEquals(2, likeEvents(projectId));
+    }
+}
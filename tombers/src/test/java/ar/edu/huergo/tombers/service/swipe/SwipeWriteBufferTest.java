@@ -0,0 +1,167 @@
+package ar.edu.huergo.tombers.service.swipe;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import static org.mockito.Mockito.*;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.TaskScheduler;
+
+import ar.edu.huergo.tombers.config.SwipeBufferProperties;
+import ar.edu.huergo.tombers.entity.ProjectInteraction.InteractionType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Tests de Servicio - SwipeWriteBuffer")
+class SwipeWriteBufferTest {
+
+    @Mock private SwipeBatchWriter writer;
+    @Mock private TaskScheduler taskScheduler;
+
+    @TempDir Path journalDirectory;
+
+    private SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private SwipeWriteBuffer buffer;
+
+    private SwipeWriteBuffer startBuffer(boolean journal, int capacity) {
+        return startBuffer(journal, capacity, 1_000);
+    }
+
+    private SwipeWriteBuffer startBuffer(boolean journal, int capacity, int batchSize) {
+        SwipeBufferProperties properties = new SwipeBufferProperties();
+        properties.setEnabled(true);
+        properties.setCapacity(capacity);
+        properties.setBatchSize(batchSize);
+        properties.setJournalEnabled(journal);
+        properties.setJournalDirectory(journalDirectory);
+        // Con el scheduler simulado el flush solo ocurre cuando el test lo pide
+        SwipeWriteBuffer started = new SwipeWriteBuffer(properties, writer, meterRegistry, taskScheduler);
+        started.start();
+        return started;
+    }
+
+    @AfterEach
+    void stopBuffer() {
+        if (buffer != null) {
+            buffer.stop();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<PendingSwipe> lastWrittenBatch() {
+        ArgumentCaptor<List<PendingSwipe>> captor = ArgumentCaptor.forClass(List.class);
+        verify(writer, atLeastOnce()).write(captor.capture());
+        return captor.getValue();
+    }
+
+    @Test
+    @DisplayName("Un like seguido de unlike se cancela y no genera escrituras")
+    void likeThenUnlikeCancels() {
+        buffer = startBuffer(false, 100);
+
+        buffer.submit(1L, 10L, SwipeAction.LIKE, () -> null);
+        buffer.submit(1L, 10L, SwipeAction.UNLIKE, () -> null);
+
+        assertEquals(0, buffer.size());
+        buffer.flush();
+        verify(writer, never()).write(anyList());
+    }
+
+    @Test
+    @DisplayName("Los cambios del mismo par se agrupan y se validan contra el estado pendiente")
+    void coalescesAndValidatesAgainstPendingState() {
+        buffer = startBuffer(false, 100);
+
+        buffer.submit(1L, 10L, SwipeAction.DISLIKE, () -> InteractionType.LIKE);
+        buffer.submit(2L, 10L, SwipeAction.LIKE, () -> null);
+        assertThrows(IllegalArgumentException.class,
+                () -> buffer.submit(1L, 10L, SwipeAction.DISLIKE, () -> InteractionType.LIKE));
+
+        assertEquals(2, buffer.size());
+        assertEquals(2.0, meterRegistry.get("tombers.swipes.buffer.depth").gauge().value());
+
+        buffer.flush();
+
+        List<PendingSwipe> batch = lastWrittenBatch();
+        assertEquals(2, batch.size());
+        PendingSwipe replaced = batch.stream().filter(swipe -> swipe.userId() == 1L).findFirst().orElseThrow();
+        assertEquals(InteractionType.LIKE, replaced.baseline());
+        assertEquals(InteractionType.DISLIKE, replaced.target());
+        assertEquals(0, buffer.size());
+        assertEquals(1L, meterRegistry.get("tombers.swipes.flush.latency").timer().count());
+    }
+
+    @Test
+    @DisplayName("Si el flush falla los cambios vuelven al buffer")
+    void failedFlushRequeues() {
+        buffer = startBuffer(false, 100);
+        doThrow(new IllegalStateException("db caida")).doNothing().when(writer).write(anyList());
+
+        buffer.submit(1L, 10L, SwipeAction.LIKE, () -> null);
+        buffer.flush();
+        assertEquals(1, buffer.size());
+
+        buffer.flush();
+        assertEquals(0, buffer.size());
+        verify(writer, times(2)).write(anyList());
+    }
+
+    @Test
+    @DisplayName("Con el buffer lleno se rechazan pares nuevos")
+    void rejectsWhenFull() {
+        buffer = startBuffer(false, 1);
+
+        buffer.submit(1L, 10L, SwipeAction.LIKE, () -> null);
+
+        assertThrows(SwipeBufferFullException.class,
+                () -> buffer.submit(2L, 10L, SwipeAction.LIKE, () -> null));
+    }
+
+    @Test
+    @DisplayName("Al completar un lote se pide un flush inmediato al scheduler compartido, una sola vez")
+    void fullBatchRequestsFlushOnSharedScheduler() {
+        buffer = startBuffer(false, 100, 2);
+
+        buffer.submit(1L, 10L, SwipeAction.LIKE, () -> null);
+        verify(taskScheduler, never()).schedule(any(Runnable.class), any(Instant.class));
+        buffer.submit(2L, 10L, SwipeAction.LIKE, () -> null);
+        buffer.submit(3L, 10L, SwipeAction.LIKE, () -> null);
+
+        ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+        verify(taskScheduler, times(1)).schedule(task.capture(), any(Instant.class));
+        task.getValue().run();
+        assertEquals(0, buffer.size());
+        assertEquals(3, lastWrittenBatch().size());
+    }
+
+    @Test
+    @DisplayName("Los swipes no escritos se recuperan del journal al reiniciar")
+    void recoversFromJournal() {
+        SwipeWriteBuffer crashed = startBuffer(true, 100);
+        crashed.submit(1L, 10L, SwipeAction.LIKE, () -> null);
+        crashed.submit(2L, 11L, SwipeAction.DISLIKE, () -> null);
+        crashed.submit(2L, 11L, SwipeAction.UNDISLIKE, () -> null);
+
+        // Simula una caida: el primer buffer nunca llega a hacer flush
+        buffer = startBuffer(true, 100);
+        assertEquals(1, buffer.size());
+
+        buffer.flush();
+        List<PendingSwipe> batch = lastWrittenBatch();
+        assertEquals(1, batch.size());
+        assertEquals(10L, batch.get(0).projectId());
+        assertNull(batch.get(0).baseline());
+        assertEquals(InteractionType.LIKE, batch.get(0).target());
+    }
+}
@@ -0,0 +1,116 @@
+package ar.edu.huergo.tombers.service.trending;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import static org.mockito.Mockito.*;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import ar.edu.huergo.tombers.config.TrendingProperties;
+import ar.edu.huergo.tombers.entity.ProjectTrendingScore;
+import ar.edu.huergo.tombers.service.event.ProjectDeletedEvent;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Tests de Servicio - TrendingScoreboard")
+class TrendingScoreboardTest {
+
+    private static final Instant NOW = Instant.parse("2026-10-01T12:00:00Z");
+
+    @Mock private TrendingCheckpointStore checkpointStore;
+
+    private TrendingProperties properties;
+    private TrendingScoreboard scoreboard;
+
+    @BeforeEach
+    void createScoreboard() {
+        properties = new TrendingProperties();
+        properties.setHalfLife(Duration.ofHours(1));
+        properties.setWindow(Duration.ofDays(1));
+        properties.setTopSize(3);
+        scoreboard = new TrendingScoreboard(properties, checkpointStore);
+    }
+
+    private List<Long> topIds(int limit) {
+        return scoreboard.top(limit, NOW).stream().map(TrendingScoreboard.TrendingProject::projectId).toList();
+    }
+
+    private void like(long projectId, int times, Duration ago) {
+        for (int i = 0; i < times; i++) {
+            scoreboard.recordLike(projectId, NOW.minus(ago));
+        }
+    }
+
+    @Test
+    @DisplayName("Los likes pierden la mitad de su peso cada half-life")
+    void scoresDecayByHalfLife() {
+        like(1L, 6, Duration.ofHours(2));
+        like(2L, 1, Duration.ZERO);
+
+        List<TrendingScoreboard.TrendingProject> top = scoreboard.top(3, NOW);
+        assertEquals(List.of(1L, 2L), top.stream().map(TrendingScoreboard.TrendingProject::projectId).toList());
+        assertEquals(1.5, top.get(0).score(), 1e-9);
+        assertEquals(1.0, top.get(1).score(), 1e-9);
+
+        // Dos likes recientes superan a seis de hace dos horas
+        like(2L, 1, Duration.ZERO);
+        assertEquals(List.of(2L, 1L), topIds(3));
+        assertEquals(2.0, scoreboard.top(1, NOW).get(0).score(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("El ranking conserva solo los K mejores y recupera el siguiente al eliminar uno")
+    void rankingKeepsTopK() {
+        like(1L, 5, Duration.ZERO);
+        like(2L, 4, Duration.ZERO);
+        like(3L, 3, Duration.ZERO);
+        like(4L, 2, Duration.ZERO);
+        assertEquals(List.of(1L, 2L, 3L), topIds(10));
+
+        // El 4 entra al ranking cuando supera al ultimo
+        like(4L, 2, Duration.ZERO);
+        assertEquals(List.of(1L, 2L, 4L), topIds(10));
+        assertEquals(List.of(1L), topIds(1));
+
+        scoreboard.onProjectDeleted(new ProjectDeletedEvent(2L));
+        assertEquals(List.of(1L, 4L, 3L), topIds(10));
+    }
+
+    @Test
+    @DisplayName("El checkpoint descarta proyectos fuera de la ventana y se recupera al reiniciar")
+    @SuppressWarnings("unchecked")
+    void checkpointRoundTrip() {
+        like(1L, 3, Duration.ofHours(1));
+        like(2L, 1, Duration.ZERO);
+        like(3L, 8, Duration.ofDays(2));
+
+        scoreboard.checkpoint(NOW);
+
+        ArgumentCaptor<List<ProjectTrendingScore>> captor = ArgumentCaptor.forClass(List.class);
+        verify(checkpointStore).replaceAll(captor.capture());
+        List<ProjectTrendingScore> saved = captor.getValue();
+        assertEquals(2, saved.size());
+        assertTrue(saved.stream().allMatch(score -> score.getScoredAt().equals(NOW)));
+        assertEquals(List.of(1L, 2L), topIds(10));
+
+        // Un nuevo half-life se aplica desde el momento del checkpoint
+        properties.setHalfLife(Duration.ofHours(2));
+        properties.setWindow(Duration.ofDays(36500));
+        TrendingScoreboard restarted = new TrendingScoreboard(properties, checkpointStore);
+        when(checkpointStore.loadAll()).thenReturn(saved);
+        restarted.restore();
+
+        List<TrendingScoreboard.TrendingProject> top = restarted.top(10, NOW);
+        assertEquals(List.of(1L, 2L), top.stream().map(TrendingScoreboard.TrendingProject::projectId).toList());
+        assertEquals(1.5, top.get(0).score(), 1e-9);
+        assertEquals(0.75, restarted.top(10, NOW.plus(Duration.ofHours(2))).get(0).score(), 1e-9);
+    }
+}